@@ -0,0 +1,20 @@
+package io.github.dagri.GeospatialPDF4J.draw.drawers;
+
+import java.util.Enumeration;
+
+/**
+ * {@link Enumeration} that is containing the possible ways a {@link PdfDrawer}
+ * structures its content in the structure tree of the tagged PDF.
+ *
+ * o FEATURE : One structure element with the user properties per feature. o
+ * LAYER : One structure element per drawn PDF-layer, without user properties.
+ * o NONE : No structure elements at all.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public enum EStructureMode {
+
+	FEATURE, LAYER, NONE
+
+}
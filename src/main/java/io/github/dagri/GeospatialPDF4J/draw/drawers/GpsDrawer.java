@@ -5,8 +5,10 @@ import com.lowagie.text.pdf.PdfStructureElement;
 import com.lowagie.text.pdf.PdfWriter;
 
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
+import io.github.dagri.GeospatialPDF4J.draw.styles.PointStyle;
 import io.github.dagri.GeospatialPDF4J.map.layers.gps.GpsLayer;
-import io.github.dagri.GeospatialPDF4J.map.layers.gps.GpsPoint;
+import io.github.dagri.GeospatialPDF4J.map.layers.gps.GpsTrack;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -24,7 +26,13 @@ public class GpsDrawer extends PdfDrawer {
 	/**
 	 * The {@link GpsLayer} this {@link GpsDrawer} is drawing.
 	 */
-	private GpsLayer gpsLayer;
+	private GpsLayer			gpsLayer;
+
+	/**
+	 * The {@link AdditionalInfo}s of the points of the {@link GpsTrack},
+	 * created on request.
+	 */
+	private AdditionalInfo[]	pointInfos;
 
 	// TODO ABSCHNEIDEN DER GEOMETRIEN DURCH DEN GEOMETRYCOTNAINER
 
@@ -62,8 +70,10 @@ public class GpsDrawer extends PdfDrawer {
 		PdfLayer lineString = new PdfLayer("GPS-Track", this.getWriter());
 		// BEGIN LAYER
 		this.getContByte().beginLayer(lineString);
+		this.beginGroup("GPS-Track");
 		// DRAW
 		this.drawLineString();
+		this.endGroup();
 		// END LAYER
 		this.getContByte().endLayer();
 		// ADD LAYER TO PARENT LAYER
@@ -75,8 +85,10 @@ public class GpsDrawer extends PdfDrawer {
 		PdfLayer gpsPoints = new PdfLayer("GPS-Points", this.getWriter());
 		// BEGIN LAYER
 		this.getContByte().beginLayer(gpsPoints);
+		this.beginGroup("GPS-Points");
 		// DRAW
 		this.drawPoints();
+		this.endGroup();
 		// END LAYER
 		this.getContByte().endLayer();
 		// ADD LAYER TO PARENT LAYER
@@ -88,48 +100,71 @@ public class GpsDrawer extends PdfDrawer {
 		PdfLayer colorPoints = new PdfLayer("Colored GPS-Points", this.getWriter());
 		// BEGIN LAYER
 		this.getContByte().beginLayer(colorPoints);
+		this.beginGroup("Colored GPS-Points");
 		// DRAW
 		this.drawColoredPoints();
+		this.endGroup();
 		// END LAYER
 		this.getContByte().endLayer();
 		// ADD LAYER TO PARENTAL LAYER
 		this.getParentalLayer().addChild(colorPoints);
 		log.debug("Drawing of the colored GpsPoints finished.");
+		// THE POINTS AND COLORED POINTS OF A ROW SHARE ONE ROW OF THE TABLE
+		this.attachAttributes("GPS-Layer");
 		log.info("All elements of the GPS-Layer drawn.");
 	}
 
 	// METHODS
 
 	/**
-	 * Draws the {@link GpsPoint}s of the {@link GpsLayer}.
+	 * Draws the points of the {@link GpsTrack} of the {@link GpsLayer} with
+	 * the {@link PointStyle} of the {@link GpsLayer}.
 	 */
 	private void drawPoints() {
 		log.debug("Drawing GpsPoints...");
-		for (int a = 0; a < this.getGpsLayer().getGpsPoints().size(); a++) {
-			log.debug("Drawing GpsPoint " + a + "...");
-			GpsPoint temp = this.getGpsLayer().getGpsPoints().get(a);
-			this.getContByte().beginMarkedContentSequence(this.createStructureElement(temp.getInfo(), "GPS-Point"));
-			this.drawDrawPoint(temp.getDp(), this.getGpsLayer().getPointStyle());
-			this.getContByte().endMarkedContentSequence();
-			log.debug("Drawn GpsPoint " + a + ".");
+		GpsTrack track = this.getGpsLayer().getTrack();
+		for (int a = 0; a < track.size(); a++) {
+			this.beginFeature(this.getPointInfo(a), "GPS-Point");
+			this.drawPoint(track.getEasting(a), track.getNorthing(a), this.getGpsLayer().getPointStyle());
+			this.endFeature();
 		}
-		log.debug("GpsPoints drawn.");
+		log.debug(track.size() + " GpsPoints drawn.");
 	}
 
 	/**
-	 * Draws the colored {@link GpsPoint}s of the {@link GpsLayer}.
+	 * Draws the points of the {@link GpsTrack} of the {@link GpsLayer},
+	 * colored by their height.
 	 */
 	private void drawColoredPoints() {
 		log.debug("Drawing colored GpsPoints...");
-		for (int a = 0; a < this.getGpsLayer().getGpsColoredPoints().size(); a++) {
-			log.debug("Drawing colored GpsPoint " + a + "...");
-			GpsPoint temp = this.getGpsLayer().getGpsColoredPoints().get(a);
-			this.getContByte().beginMarkedContentSequence(this.createStructureElement(temp.getInfo(), "Colored GPS-Point"));
-			this.drawDrawPoint(temp.getDp(), temp.getStyle());
-			this.getContByte().endMarkedContentSequence();
-			log.debug("Drawn Colored GpsPoint " + a + ".");
+		GpsTrack track = this.getGpsLayer().getTrack();
+		for (int a = 0; a < track.size(); a++) {
+			this.beginFeature(this.getPointInfo(a), "Colored GPS-Point");
+			this.drawPoint(track.getEasting(a), track.getNorthing(a), this.getGpsLayer().getColoredStyle(track.getHeight(a)));
+			this.endFeature();
 		}
-		log.debug("Colored GpsPoints drawn.");
+		log.debug(track.size() + " colored GpsPoints drawn.");
+	}
+
+	/**
+	 * Returns the {@link AdditionalInfo} of the point at the given index,
+	 * created on the first request and shared by the point and the colored
+	 * point. Returns <code>null</code> if neither user properties nor an
+	 * {@link io.github.dagri.GeospatialPDF4J.res.AttributeTable} are written,
+	 * so no objects are created per point.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the {@link AdditionalInfo} or <code>null</code>
+	 */
+	private AdditionalInfo getPointInfo(int index) {
+		if (this.getStructureMode() != EStructureMode.FEATURE && this.getAttributeTable() == null)
+			return null;
+		if (this.pointInfos == null)
+			this.pointInfos = new AdditionalInfo[this.getGpsLayer().getTrack().size()];
+		if (this.pointInfos[index] == null)
+			this.pointInfos[index] = this.getGpsLayer().getTrack().createInfo(index);
+		return this.pointInfos[index];
 	}
 
 	/**
@@ -137,10 +172,12 @@ public class GpsDrawer extends PdfDrawer {
 	 */
 	private void drawLineString() {
 		log.debug("Drawing LineString...");
-		DrawLineString temp = this.getGpsLayer().getDrawLine();
-		this.getContByte().beginMarkedContentSequence(this.createStructureElement(temp.getInfo(), "GPS-Track"));
+		DrawLineString temp = this.getGpsLayer().getReducedLine();
+		if (temp == null)
+			return;
+		this.beginFeature(temp.getInfo(), "GPS-Track");
 		this.drawLineString(temp, this.getGpsLayer().getLineStringStyle());
-		this.getContByte().endMarkedContentSequence();
+		this.endFeature();
 		log.debug("Linestring drawn.");
 	}
 
@@ -0,0 +1,201 @@
+package io.github.dagri.GeospatialPDF4J.draw.drawers;
+
+import com.lowagie.text.pdf.ByteBuffer;
+import com.lowagie.text.pdf.PdfContentByte;
+
+/**
+ * Class to write path operators (moveTo, lineTo, rectangle) with page
+ * coordinates directly into the internal {@link ByteBuffer} of a
+ * {@link PdfContentByte}.
+ * 
+ * The numbers are rounded to a fixed number of decimals and formatted digit by
+ * digit into a reusable byte array, without creating {@link String}s or other
+ * objects per number. Trailing zeros and the decimal point are left out (e.g.
+ * 12.5 instead of 12.50, 3 instead of 3.00), so a coordinate uses as few bytes
+ * as possible. At 72 units per inch 2 decimals are far below the resolution of
+ * any output device.
+ * 
+ * A {@link PathWriter} is not thread-safe.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class PathWriter {
+
+	// ATTRIBUTES
+
+	/**
+	 * The operator to begin a new sub-path.
+	 */
+	private static final byte[]	MOVE_TO		= { ' ', 'm', '\n' };
+
+	/**
+	 * The operator to append a straight line.
+	 */
+	private static final byte[]	LINE_TO		= { ' ', 'l', '\n' };
+
+	/**
+	 * The operator to append a rectangle.
+	 */
+	private static final byte[]	RECTANGLE	= { ' ', 'r', 'e', '\n' };
+
+	/**
+	 * The number of decimals written per number.
+	 */
+	private final int			decimals;
+
+	/**
+	 * The factor to shift the decimals in front of the decimal point
+	 * (10^decimals).
+	 */
+	private final long			factor;
+
+	/**
+	 * The reusable byte array to format the digits of a number into.
+	 */
+	private final byte[]		digits		= new byte[32];
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link PathWriter} using the number of decimals to
+	 * write per number.
+	 *
+	 * @param decimals
+	 *            the number of decimals (0 to 6)
+	 */
+	public PathWriter(int decimals) {
+		if (decimals < 0)
+			decimals = 0;
+		if (decimals > 6)
+			decimals = 6;
+		this.decimals = decimals;
+		long f = 1;
+		for (int a = 0; a < decimals; a++)
+			f *= 10;
+		this.factor = f;
+	}
+
+	// METHODS
+
+	/**
+	 * Writes a moveTo operator (x y m) into the given {@link PdfContentByte}.
+	 *
+	 * @param cb
+	 *            the {@link PdfContentByte} to write into
+	 * @param x
+	 *            the X-value on the page
+	 * @param y
+	 *            the Y-value on the page
+	 */
+	public void moveTo(PdfContentByte cb, double x, double y) {
+		ByteBuffer buf = cb.getInternalBuffer();
+		this.appendNumber(buf, x);
+		buf.append((byte) ' ');
+		this.appendNumber(buf, y);
+		buf.append(MOVE_TO);
+	}
+
+	/**
+	 * Writes a lineTo operator (x y l) into the given {@link PdfContentByte}.
+	 *
+	 * @param cb
+	 *            the {@link PdfContentByte} to write into
+	 * @param x
+	 *            the X-value on the page
+	 * @param y
+	 *            the Y-value on the page
+	 */
+	public void lineTo(PdfContentByte cb, double x, double y) {
+		ByteBuffer buf = cb.getInternalBuffer();
+		this.appendNumber(buf, x);
+		buf.append((byte) ' ');
+		this.appendNumber(buf, y);
+		buf.append(LINE_TO);
+	}
+
+	/**
+	 * Writes a rectangle operator (x y w h re) into the given
+	 * {@link PdfContentByte}. One operator replaces a moveTo, three lineTos and
+	 * a closePath.
+	 *
+	 * @param cb
+	 *            the {@link PdfContentByte} to write into
+	 * @param x
+	 *            the X-value of the lower left corner on the page
+	 * @param y
+	 *            the Y-value of the lower left corner on the page
+	 * @param w
+	 *            the width
+	 * @param h
+	 *            the height
+	 */
+	public void rectangle(PdfContentByte cb, double x, double y, double w, double h) {
+		ByteBuffer buf = cb.getInternalBuffer();
+		this.appendNumber(buf, x);
+		buf.append((byte) ' ');
+		this.appendNumber(buf, y);
+		buf.append((byte) ' ');
+		this.appendNumber(buf, w);
+		buf.append((byte) ' ');
+		this.appendNumber(buf, h);
+		buf.append(RECTANGLE);
+	}
+
+	/**
+	 * Appends the given number, rounded to the number of decimals, to the
+	 * given {@link ByteBuffer}.
+	 *
+	 * @param buf
+	 *            the {@link ByteBuffer} to append to
+	 * @param value
+	 *            the number to append
+	 */
+	void appendNumber(ByteBuffer buf, double value) {
+		long scaled = Math.round(value * this.factor);
+		if (scaled < 0) {
+			buf.append((byte) '-');
+			scaled = -scaled;
+		}
+		long intPart = scaled / this.factor;
+		long fracPart = scaled % this.factor;
+
+		// INTEGER PART, DIGITS WRITTEN FROM THE BACK
+		int pos = this.digits.length;
+		do {
+			this.digits[--pos] = (byte) ('0' + intPart % 10);
+			intPart /= 10;
+		} while (intPart > 0);
+		buf.append(this.digits, pos, this.digits.length - pos);
+
+		if (fracPart == 0)
+			return;
+
+		// FRACTIONAL PART WITH LEADING ZEROS, WITHOUT TRAILING ZEROS
+		int count = this.decimals;
+		while (fracPart % 10 == 0) {
+			fracPart /= 10;
+			count--;
+		}
+		pos = this.digits.length;
+		for (int a = 0; a < count; a++) {
+			this.digits[--pos] = (byte) ('0' + fracPart % 10);
+			fracPart /= 10;
+		}
+		buf.append((byte) '.');
+		buf.append(this.digits, pos, this.digits.length - pos);
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the number of decimals written per number.
+	 *
+	 * @return the number of decimals
+	 */
+	public int getDecimals() {
+		return decimals;
+	}
+
+	// OTHERS
+}
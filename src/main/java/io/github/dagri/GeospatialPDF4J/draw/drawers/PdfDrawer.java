@@ -1,19 +1,38 @@
 package io.github.dagri.GeospatialPDF4J.draw.drawers;
 
+import java.awt.Color;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.Image;
 import com.lowagie.text.pdf.PdfArray;
 import com.lowagie.text.pdf.PdfContentByte;
 import com.lowagie.text.pdf.PdfDictionary;
+import com.lowagie.text.pdf.PdfFileSpecification;
+import com.lowagie.text.pdf.PdfIndirectReference;
 import com.lowagie.text.pdf.PdfLayer;
 import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfObject;
 import com.lowagie.text.pdf.PdfString;
 import com.lowagie.text.pdf.PdfStructureElement;
+import com.lowagie.text.pdf.PdfTemplate;
 import com.lowagie.text.pdf.PdfWriter;
+import com.vividsolutions.jts.algorithm.CGAlgorithms;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.MultiLineString;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Polygon;
 
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiPolygon;
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPoint;
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
 import io.github.dagri.GeospatialPDF4J.draw.styles.Icon;
@@ -21,8 +40,12 @@ import io.github.dagri.GeospatialPDF4J.draw.styles.LineStringStyle;
 import io.github.dagri.GeospatialPDF4J.draw.styles.PointStyle;
 import io.github.dagri.GeospatialPDF4J.draw.styles.PolygonStyle;
 import io.github.dagri.GeospatialPDF4J.exceptions.ImageCovertingException;
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.PageTransform;
 import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
-import io.github.dagri.GeospatialPDF4J.res.ImageHandler;
+import io.github.dagri.GeospatialPDF4J.res.AttributeTable;
+import io.github.dagri.GeospatialPDF4J.res.IconCache;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Abstract class to be used as parental class for all drawers for a PDF file.
@@ -33,6 +56,7 @@ import io.github.dagri.GeospatialPDF4J.res.ImageHandler;
  * @author DaGri
  * @since 20.02.2017
  */
+@Slf4j
 public abstract class PdfDrawer {
 
 	// ATTRIBUTES
@@ -59,6 +83,95 @@ public abstract class PdfDrawer {
 	 */
 	private PdfLayer			parentalLayer;
 
+	/**
+	 * The {@link PageTransform} to convert the world coordinates of the drawn
+	 * geometries into the coordinate system of the PDF page. Identity by
+	 * default.
+	 */
+	private PageTransform		pageTransform	= new PageTransform();
+
+	/**
+	 * The size of one device pixel of the output device in page units.
+	 * Consecutive vertices on the same device pixel are not drawn. 0 draws
+	 * every vertex.
+	 */
+	private double				devicePixelSize	= 0;
+
+	/**
+	 * The number of vertices written into the {@link PdfContentByte} by this
+	 * {@link PdfDrawer}.
+	 */
+	private long				drawnVertices	= 0;
+
+	/**
+	 * The line width last set on the {@link PdfContentByte}. NaN if unknown.
+	 */
+	private float				stateLineWidth	= Float.NaN;
+
+	/**
+	 * The stroke {@link Color} last set on the {@link PdfContentByte}.
+	 * <code>null</code> if unknown.
+	 */
+	private Color				stateStrokeColor;
+
+	/**
+	 * The fill {@link Color} last set on the {@link PdfContentByte}.
+	 * <code>null</code> if unknown.
+	 */
+	private Color				stateFillColor;
+
+	/**
+	 * The number of vertices after which a batched path is painted and a new
+	 * one is started, to keep the paths readable for PDF viewers.
+	 */
+	public static final int		MAX_BATCH_VERTICES	= 100000;
+
+	/**
+	 * The {@link PdfTemplate}s of the already drawn point symbols, identified
+	 * by the values of their {@link PointStyle}.
+	 */
+	private Map<String, PdfTemplate>	symbolTemplates	= new HashMap<>();
+
+	/**
+	 * The {@link PathWriter} to write the path operators of the geometries
+	 * with. Writes 2 decimals by default.
+	 */
+	private PathWriter					pathWriter		= new PathWriter(2);
+
+	/**
+	 * The {@link PdfName}s of the keys and structure element names, created
+	 * once per {@link PdfDrawer}.
+	 */
+	private Map<String, PdfName>						pdfNames		= new HashMap<>();
+
+	/**
+	 * The user properties of the {@link AdditionalInfo}s already written: the
+	 * {@link PdfDictionary} after the first use, its
+	 * {@link PdfIndirectReference} after the second one.
+	 */
+	private Map<AdditionalInfo, PdfObject>				attributes		= new IdentityHashMap<>();
+
+	/**
+	 * The {@link PdfStructureElement}s that used the user properties of an
+	 * {@link AdditionalInfo} first, until they are referenced.
+	 */
+	private Map<AdditionalInfo, PdfStructureElement>	firstElements	= new IdentityHashMap<>();
+
+	/**
+	 * The way this {@link PdfDrawer} structures its content in the structure
+	 * tree.
+	 * 
+	 * The standard value is {@link EStructureMode#FEATURE}.
+	 */
+	private EStructureMode								structureMode	= EStructureMode.FEATURE;
+
+	/**
+	 * The {@link AttributeTable} collecting the {@link AdditionalInfo}s of the
+	 * drawn features, to be embedded as CSV-file. <code>null</code> if no
+	 * table is embedded.
+	 */
+	private AttributeTable								attributeTable;
+
 	// CONSTRUCTORS
 
 	/**
@@ -91,21 +204,40 @@ public abstract class PdfDrawer {
 	public void drawDrawPoint(DrawPoint dp, PointStyle style) {
 		if (dp == null)
 			return;
+		this.drawPoint(dp.getJtsGeometry().getX(), dp.getJtsGeometry().getY(), style);
+	}
+
+	/**
+	 * Draws a point at the given world position with the given
+	 * {@link PointStyle}, without the need of a {@link DrawPoint}.
+	 *
+	 * @param easting
+	 *            the easting of the position
+	 * @param northing
+	 *            the northing of the position
+	 * @param style
+	 *            the {@link PointStyle}
+	 */
+	public void drawPoint(double easting, double northing, PointStyle style) {
 		if (style == null)
 			style = new PointStyle();
 
+		// TRANSFORM THE WORLD POSITION INTO THE PAGE POSITION ONCE
+		float x = (float) this.getPageTransform().toPageX(easting);
+		float y = (float) this.getPageTransform().toPageY(northing);
+
 		if (style.pointIcon != null) {
 			// THERE IS A POINT ICON GIVEN
 			try {
-				this.drawIcon(dp, style);
+				this.drawIcon(x, y, style);
 			} catch (ImageCovertingException | DocumentException e) {
 				// ICON ERROR : DRAW GEOMETRY INSTEAD
 				e.printStackTrace();
-				drawPointGeometry(dp, style);
+				drawPointGeometry(x, y, style);
 			}
 		} else {
 			// THERE IS NO POINT ICON GIVEN : DRAW A GEOMETRY INSTEAD
-			drawPointGeometry(dp, style);
+			drawPointGeometry(x, y, style);
 		}
 	}
 
@@ -124,21 +256,55 @@ public abstract class PdfDrawer {
 		if (style == null)
 			style = new LineStringStyle();
 
-		this.getContByte().setLineWidth(style.lineStringStrength);
-		this.getContByte().setColorStroke(style.lineStringColor);
-
-		if (dls.getJtsPointNumber() > 0)
-			this.getContByte().moveTo((float) dls.getJtsGeometry().getPointN(0).getX(), (float) dls.getJtsGeometry().getPointN(0).getY());
+		this.applyStroke(style.lineStringStrength, style.lineStringColor);
 
-		for (int a = 0; a < dls.getJtsPointNumber(); a++) {
-			this.getContByte().lineTo((float) dls.getJtsGeometry().getPointN(a).getX(), (float) dls.getJtsGeometry().getPointN(a).getY());
-		}
+		this.appendPath(dls.getJtsGeometry().getCoordinateSequence(), false);
 
 		this.getContByte().stroke();
 	}
 
 	/**
-	 * Draws a {@link DrawPolygon} with the given {@link PolygonStyle}.
+	 * Draws all {@link DrawLineString}s or {@link DrawMultiLineString}s of the
+	 * given {@link List} with the same {@link LineStringStyle}. The graphics
+	 * state is set once and all lines (also all parts of multipart lines) are
+	 * merged into one path that is stroked once (split after
+	 * {@link #MAX_BATCH_VERTICES} vertices).
+	 * 
+	 * Lines of one color and width look the same in any order, so this
+	 * equals drawing them one by one.
+	 *
+	 * @param lines
+	 *            the {@link List} of {@link DrawLineString}s or
+	 *            {@link DrawMultiLineString}s to draw
+	 * @param style
+	 *            the {@link LineStringStyle}
+	 */
+	public void drawLineStrings(List<? extends DrawGeometry> lines, LineStringStyle style) {
+		if (lines == null || lines.isEmpty())
+			return;
+		if (style == null)
+			style = new LineStringStyle();
+
+		this.applyStroke(style.lineStringStrength, style.lineStringColor);
+
+		long start = this.getDrawnVertices();
+		for (int a = 0; a < lines.size(); a++) {
+			if (lines.get(a) == null)
+				continue;
+			this.appendLines(lines.get(a).getJtsGeometry());
+			if (this.getDrawnVertices() - start >= MAX_BATCH_VERTICES) {
+				this.getContByte().stroke();
+				start = this.getDrawnVertices();
+			}
+		}
+		if (this.getDrawnVertices() > start)
+			this.getContByte().stroke();
+	}
+
+	/**
+	 * Draws a {@link DrawPolygon} with the given {@link PolygonStyle}. The
+	 * exterior ring and all interior rings (holes) are written into one path
+	 * that is filled using the even-odd rule, so the holes stay empty.
 	 *
 	 * @param dp
 	 *            the {@link DrawPolygon} to be drawn
@@ -151,28 +317,128 @@ public abstract class PdfDrawer {
 		if (style == null)
 			style = new PolygonStyle();
 
-		this.getContByte().setLineWidth(style.polygonStrokeWidth);
-		this.getContByte().setColorStroke(style.polygonColor);
-		this.getContByte().setColorFill(style.polygonFillColor);
+		this.applyPolygonStyle(style);
+
+		this.appendPolygons(dp.getJtsGeometry(), false);
 
-		if (dp.getJtsGeometry().getCoordinates().length > 0)
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getCoordinates()[0].x, (float) dp.getJtsGeometry().getCoordinates()[0].x);
+		this.paintPolygonPath(style, true);
+	}
 
-		for (int a = 0; a < dp.getJtsGeometry().getCoordinates().length; a++) {
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getCoordinates()[a].x, (float) dp.getJtsGeometry().getCoordinates()[a].y);
+	/**
+	 * Draws a {@link DrawMultiPolygon} with the given {@link PolygonStyle}.
+	 * All rings of all parts are written into one path that is filled and
+	 * stroked once using the even-odd rule. The parts of a valid
+	 * {@link MultiPolygon} do not overlap, so even-odd fills them correctly.
+	 *
+	 * @param dmp
+	 *            the {@link DrawMultiPolygon} to be drawn
+	 * @param style
+	 *            the {@link PolygonStyle} to draw the {@link DrawMultiPolygon}
+	 *            with
+	 */
+	public void drawMultiPolygon(DrawMultiPolygon dmp, PolygonStyle style) {
+		if (dmp == null)
+			return;
+		if (style == null)
+			style = new PolygonStyle();
+
+		this.applyPolygonStyle(style);
+
+		this.appendPolygons(dmp.getJtsGeometry(), false);
+
+		this.paintPolygonPath(style, true);
+	}
+
+	/**
+	 * Draws all {@link DrawPolygon}s or {@link DrawMultiPolygon}s of the given
+	 * {@link List} with the same {@link PolygonStyle}. The graphics state is
+	 * set once and all rings of all polygons are merged into one path that is
+	 * filled and stroked once (split after {@link #MAX_BATCH_VERTICES}
+	 * vertices).
+	 * 
+	 * Different polygons of the batch may overlap, which the even-odd rule
+	 * would cut out. The rings are therefore written with normalized
+	 * orientation (exterior rings counter-clockwise, holes clockwise) and
+	 * filled using the nonzero winding rule: holes stay empty unless another
+	 * polygon covers them.
+	 * 
+	 * Because all polygons share the fill color, the only difference to
+	 * drawing them one by one is that the outlines are drawn on top of all
+	 * fillings of the path. An outline inside of an overlapping later polygon
+	 * stays visible.
+	 *
+	 * @param polygons
+	 *            the {@link List} of {@link DrawPolygon}s or
+	 *            {@link DrawMultiPolygon}s to draw
+	 * @param style
+	 *            the {@link PolygonStyle}
+	 */
+	public void drawPolygons(List<? extends DrawGeometry> polygons, PolygonStyle style) {
+		if (polygons == null || polygons.isEmpty())
+			return;
+		if (style == null)
+			style = new PolygonStyle();
+
+		this.applyPolygonStyle(style);
+
+		long start = this.getDrawnVertices();
+		for (int a = 0; a < polygons.size(); a++) {
+			if (polygons.get(a) == null)
+				continue;
+			this.appendPolygons(polygons.get(a).getJtsGeometry(), true);
+			if (this.getDrawnVertices() - start >= MAX_BATCH_VERTICES) {
+				this.paintPolygonPath(style, false);
+				start = this.getDrawnVertices();
+			}
 		}
+		if (this.getDrawnVertices() > start)
+			this.paintPolygonPath(style, false);
+	}
 
-		this.getContByte().closePath();
-		if (style.polygonFilled)
-			this.getContByte().fill();
+	/**
+	 * Fills all {@link DrawPolygon}s or {@link DrawMultiPolygon}s of the given
+	 * {@link List} with the fill {@link Color} of the given
+	 * {@link PolygonStyle} without stroking their outlines, like
+	 * {@link #drawPolygons(List, PolygonStyle)} using the nonzero winding
+	 * rule. Nothing is drawn if the {@link PolygonStyle} is not filled.
+	 * 
+	 * Used together with an outline network that draws every shared border
+	 * only once.
+	 *
+	 * @param polygons
+	 *            the {@link List} of {@link DrawPolygon}s or
+	 *            {@link DrawMultiPolygon}s to fill
+	 * @param style
+	 *            the {@link PolygonStyle}
+	 */
+	public void fillPolygons(List<? extends DrawGeometry> polygons, PolygonStyle style) {
+		if (polygons == null || polygons.isEmpty())
+			return;
+		if (style == null)
+			style = new PolygonStyle();
+		if (!style.polygonFilled)
+			return;
 
-		this.getContByte().stroke();
+		this.applyFill(style.polygonFillColor);
 
+		long start = this.getDrawnVertices();
+		for (int a = 0; a < polygons.size(); a++) {
+			if (polygons.get(a) == null)
+				continue;
+			this.appendPolygons(polygons.get(a).getJtsGeometry(), true);
+			if (this.getDrawnVertices() - start >= MAX_BATCH_VERTICES) {
+				this.getContByte().fill();
+				start = this.getDrawnVertices();
+			}
+		}
+		if (this.getDrawnVertices() > start)
+			this.getContByte().fill();
 	}
 
 	/**
 	 * Draws a {@link DrawMultiLineString} with the given
-	 * {@link LineStringStyle}.
+	 * {@link LineStringStyle}. All parts are written into one path that is
+	 * stroked once.
 	 *
 	 * @param dls
 	 *            the {@link DrawMultiLineString} to draw
@@ -185,39 +451,235 @@ public abstract class PdfDrawer {
 		if (style == null)
 			style = new LineStringStyle();
 
-		this.getContByte().setLineWidth(style.lineStringStrength);
-		this.getContByte().setColorStroke(style.lineStringColor);
+		this.applyStroke(style.lineStringStrength, style.lineStringColor);
 
-		for (int a = 0; a < dmls.getJtsGeometry().getNumGeometries(); a++) {
-			try {
-				LineString actLS = (LineString) dmls.getJtsGeometry().getGeometryN(a);
-				if (actLS.getNumPoints() > 0)
-					this.getContByte().lineTo((float) actLS.getPointN(0).getX(), (float) actLS.getPointN(0).getY());
+		this.appendLines(dmls.getJtsGeometry());
+
+		this.getContByte().stroke();
+	}
 
-				for (int b = 0; b < actLS.getNumPoints(); b++) {
-					this.getContByte().lineTo((float) actLS.getPointN(b).getX(), (float) actLS.getPointN(b).getY());
-				}
+	/**
+	 * Appends all {@link LineString}s of the given {@link Geometry} (a
+	 * {@link LineString} or the parts of a {@link MultiLineString}) as
+	 * sub-paths.
+	 *
+	 * @param g
+	 *            the {@link Geometry} to append
+	 */
+	private void appendLines(Geometry g) {
+		for (int a = 0; a < g.getNumGeometries(); a++) {
+			Geometry part = g.getGeometryN(a);
+			if (part instanceof LineString)
+				this.appendPath(((LineString) part).getCoordinateSequence(), false);
+			else
+				log.warn("Can not draw a " + part.getGeometryType() + " as line!");
+		}
+	}
 
-			} catch (Exception e) {
-				e.printStackTrace();
+	/**
+	 * Appends all rings of all {@link Polygon}s of the given {@link Geometry}
+	 * (a {@link Polygon} or the parts of a {@link MultiPolygon}) as closed
+	 * sub-paths.
+	 *
+	 * @param g
+	 *            the {@link Geometry} to append
+	 * @param normalize
+	 *            <code>true</code> to write exterior rings counter-clockwise
+	 *            and holes clockwise (for the nonzero winding rule);
+	 *            <code>false</code> to keep the orientation (for the even-odd
+	 *            rule)
+	 */
+	private void appendPolygons(Geometry g, boolean normalize) {
+		for (int a = 0; a < g.getNumGeometries(); a++) {
+			Geometry part = g.getGeometryN(a);
+			if (!(part instanceof Polygon)) {
+				log.warn("Can not draw a " + part.getGeometryType() + " as polygon!");
+				continue;
 			}
+			Polygon p = (Polygon) part;
+			this.appendRing(p.getExteriorRing().getCoordinateSequence(), normalize ? 1 : 0);
+			for (int b = 0; b < p.getNumInteriorRing(); b++)
+				this.appendRing(p.getInteriorRingN(b).getCoordinateSequence(), normalize ? -1 : 0);
 		}
 	}
 
+	/**
+	 * Sets the line width and stroke {@link Color} of the given
+	 * {@link PolygonStyle} and the fill {@link Color} if the polygons are
+	 * filled.
+	 *
+	 * @param style
+	 *            the {@link PolygonStyle} to apply
+	 */
+	private void applyPolygonStyle(PolygonStyle style) {
+		this.applyStroke(style.polygonStrokeWidth, style.polygonColor);
+		if (style.polygonFilled)
+			this.applyFill(style.polygonFillColor);
+	}
+
+	/**
+	 * Paints the actual path as polygon: filled and stroked or only stroked,
+	 * as indicated by the given {@link PolygonStyle}.
+	 *
+	 * @param style
+	 *            the {@link PolygonStyle} to paint with
+	 * @param evenOdd
+	 *            <code>true</code> to fill using the even-odd rule;
+	 *            <code>false</code> to use the nonzero winding rule
+	 */
+	private void paintPolygonPath(PolygonStyle style, boolean evenOdd) {
+		if (!style.polygonFilled)
+			this.getContByte().stroke();
+		else if (evenOdd)
+			this.getContByte().eoFillStroke();
+		else
+			this.getContByte().fillStroke();
+	}
+
+	/**
+	 * Sets the line width and the stroke {@link Color} of the
+	 * {@link PdfContentByte}. The operators are only written if the values
+	 * differ from the last set ones.
+	 *
+	 * @param width
+	 *            the line width
+	 * @param color
+	 *            the stroke {@link Color}
+	 */
+	protected void applyStroke(float width, Color color) {
+		// NaN (UNKNOWN STATE) IS NOT EQUAL TO ANY WIDTH
+		if (width != this.getStateLineWidth()) {
+			this.getContByte().setLineWidth(width);
+			this.setStateLineWidth(width);
+		}
+		if (!color.equals(this.getStateStrokeColor())) {
+			this.getContByte().setColorStroke(color);
+			this.setStateStrokeColor(color);
+		}
+	}
+
+	/**
+	 * Sets the fill {@link Color} of the {@link PdfContentByte}. The operator
+	 * is only written if the {@link Color} differs from the last set one.
+	 *
+	 * @param color
+	 *            the fill {@link Color}
+	 */
+	protected void applyFill(Color color) {
+		if (!color.equals(this.getStateFillColor())) {
+			this.getContByte().setColorFill(color);
+			this.setStateFillColor(color);
+		}
+	}
+
+	/**
+	 * Forgets the graphics state set by {@link #applyStroke(float, Color)} and
+	 * {@link #applyFill(Color)}. Has to be called whenever the graphics state
+	 * of the {@link PdfContentByte} is changed in another way (e.g. by
+	 * restoreState).
+	 */
+	protected void resetState() {
+		this.setStateLineWidth(Float.NaN);
+		this.setStateStrokeColor(null);
+		this.setStateFillColor(null);
+	}
+
 	/**
 	 * Draw a geometry for the {@link DrawPoint} indicated by the
 	 * {@link PointStyle}.
+	 * 
+	 * The geometry of every distinct {@link PointStyle} is drawn only once
+	 * into a {@link PdfTemplate} (Form XObject), see
+	 * {@link #getSymbolTemplate(PointStyle)}. Every point only places this
+	 * {@link PdfTemplate} at its position.
+	 *
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
+	 * @param style
+	 *            the {@link PointStyle} containing the style informations
+	 */
+	private void drawPointGeometry(float x, float y, PointStyle style) {
+		float offset = this.calcSymbolOffset(style);
+		this.getContByte().addTemplate(this.getSymbolTemplate(style), x - offset, y - offset);
+	}
+
+	/**
+	 * Returns the {@link PdfTemplate} containing the geometry of the given
+	 * {@link PointStyle}. The {@link PdfTemplate} is created on the first
+	 * request and reused for all {@link PointStyle}s with the same values.
+	 *
+	 * @param style
+	 *            the {@link PointStyle} to get the {@link PdfTemplate} for
+	 * @return the {@link PdfTemplate}
+	 */
+	protected PdfTemplate getSymbolTemplate(PointStyle style) {
+		String key = this.createSymbolKey(style);
+		PdfTemplate template = this.getSymbolTemplates().get(key);
+		if (template == null) {
+			log.debug("Creating the symbol template for " + key + "...");
+			float offset = this.calcSymbolOffset(style);
+			template = this.getContByte().createTemplate(2 * offset, 2 * offset);
+
+			// DRAW THE SYMBOL INTO THE TEMPLATE INSTEAD OF THE PAGE
+			PdfContentByte page = this.getContByte();
+			this.setContByte(template);
+			this.resetState();
+			this.drawSymbol(offset, offset, style);
+			this.setContByte(page);
+			this.resetState();
+
+			this.getSymbolTemplates().put(key, template);
+		}
+		return template;
+	}
+
+	/**
+	 * Calculates the distance between the position of a point and the lower
+	 * left corner of its {@link PdfTemplate}. All symbols lay inside of the
+	 * point radius around the position, the line width is added as border.
+	 *
+	 * @param style
+	 *            the {@link PointStyle}
+	 * @return the offset in page units
+	 */
+	private float calcSymbolOffset(PointStyle style) {
+		return style.pointRadius + style.pointLineWidth;
+	}
+
+	/**
+	 * Creates a {@link String} containing all values of the given
+	 * {@link PointStyle} that influence the drawn geometry. The fill
+	 * {@link Color} is only part of the key if the symbol is filled, it may be
+	 * <code>null</code> otherwise.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param style
+	 *            the {@link PointStyle}
+	 * @return the key as {@link String}
+	 */
+	private String createSymbolKey(PointStyle style) {
+		String fill = style.pointFilled && style.pointFillColor != null ? "" + style.pointFillColor.getRGB() : "-";
+		return style.pointSymbol + "|" + style.centered + "|" + style.pointRadius + "|" + style.pointLineWidth + "|" + style.pointColor.getRGB() + "|" + style.pointFilled + "|"
+				+ fill;
+	}
+
+	/**
+	 * Draws the geometry indicated by the {@link PointStyle} at the given
+	 * position into the actual {@link PdfContentByte}.
+	 *
+	 * @param x
+	 *            the X-value of the position
+	 * @param y
+	 *            the Y-value of the position
 	 * @param style
 	 *            the {@link PointStyle} containing the style informations
 	 */
-	private void drawPointGeometry(DrawPoint dp, PointStyle style) {
+	private void drawSymbol(float x, float y, PointStyle style) {
 		// SET CONTENTBYTE PROPERTIES
-		this.getContByte().setLineWidth(style.pointLineWidth);
-		this.getContByte().setColorStroke(style.pointColor);
-		this.getContByte().setColorFill(style.pointFillColor);
+		this.applyStroke(style.pointLineWidth, style.pointColor);
+		if (style.pointFilled && style.pointFillColor != null)
+			this.applyFill(style.pointFillColor);
 
 		// GEOMETRY
 		/*
@@ -225,47 +687,47 @@ public abstract class PdfDrawer {
 		 */
 		switch (style.pointSymbol) {
 			case CIRCLE:
-				this.drawCircle(dp, style);
+				this.drawCircle(x, y, style);
 				break;
 			case SQUARE:
-				this.drawSquare(dp, style);
+				this.drawSquare(x, y, style);
 				break;
 			case TRIANGLE:
-				this.drawTriangle(dp, style);
+				this.drawTriangle(x, y, style);
 				break;
 			case TRIANGLE_UPSIDE:
-				this.drawTriangleUpside(dp, style);
+				this.drawTriangleUpside(x, y, style);
 				break;
 			case TRIANGLE_LYING_LEFT:
-				this.drawTriangleLyingLeft(dp, style);
+				this.drawTriangleLyingLeft(x, y, style);
 				break;
 			case DIAMOND:
-				this.drawDiamond(dp, style);
+				this.drawDiamond(x, y, style);
 				break;
 			case CROSS:
-				this.drawCross(dp, style);
+				this.drawCross(x, y, style);
 				break;
 			case STAR:
-				this.drawStar(dp, style);
+				this.drawStar(x, y, style);
 				break;
 			case X:
-				this.drawX(dp, style);
+				this.drawX(x, y, style);
 				break;
 			case HOURGLASS:
-				this.drawHourglass(dp, style);
+				this.drawHourglass(x, y, style);
 				break;
 			case HOURGLASS_LYING:
-				this.drawHourglassLying(dp, style);
+				this.drawHourglassLying(x, y, style);
 				break;
 			case HOURGLASS_LEFT:
-				this.drawHourglassLeft(dp, style);
+				this.drawHourglassLeft(x, y, style);
 				break;
 			case HOURGLASS_RIGHT:
-				this.drawHourglassRight(dp, style);
+				this.drawHourglassRight(x, y, style);
 				break;
 
 			default:
-				this.drawCircle(dp, style);
+				this.drawCircle(x, y, style);
 		}
 
 		/*
@@ -273,34 +735,34 @@ public abstract class PdfDrawer {
 		 * the next version.
 		 */
 		// if (style.pointSymbol == EPointAppearance.CIRCLE) {
-		// this.drawCircle(dp, style);
+		// this.drawCircle(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.SQUARE) {
-		// this.drawSquare(dp, style);
+		// this.drawSquare(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.TRIANGLE) {
-		// this.drawTriangle(dp, style);
+		// this.drawTriangle(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.TRIANGLE_UPSIDE) {
-		// this.drawTriangleUpside(dp, style);
+		// this.drawTriangleUpside(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.TRIANGLE_LYING_LEFT)
 		// {
-		// this.drawTriangleLyingLeft(dp, style);
+		// this.drawTriangleLyingLeft(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.DIAMOND) {
-		// this.drawDiamond(dp, style);
+		// this.drawDiamond(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.CROSS) {
-		// this.drawCross(dp, style);
+		// this.drawCross(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.STAR) {
-		// this.drawStar(dp, style);
+		// this.drawStar(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.X) {
-		// this.drawX(dp, style);
+		// this.drawX(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.HOURGLASS) {
-		// this.drawHourglass(dp, style);
+		// this.drawHourglass(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.HOURGLASS_LYING) {
-		// this.drawHourglassLying(dp, style);
+		// this.drawHourglassLying(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.HOURGLASS_LEFT) {
-		// this.drawHourglassLeft(dp, style);
+		// this.drawHourglassLeft(x, y, style);
 		// } else if (style.pointSymbol == EPointAppearance.HOURGLASS_RIGHT) {
-		// this.drawHourglassRight(dp, style);
+		// this.drawHourglassRight(x, y, style);
 		// } else
-		// this.drawCircle(dp, style);
+		// this.drawCircle(x, y, style);
 
 		// FINISH THE DRAWING
 		this.getContByte().stroke();
@@ -315,8 +777,10 @@ public abstract class PdfDrawer {
 	 * converted to an iText-Image Throws an {@link DocumentException} if the
 	 * converted iText-Image could not be added to the document
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 * 
@@ -326,63 +790,63 @@ public abstract class PdfDrawer {
 	 *             if the converted iText-Image could not be added to the
 	 *             document
 	 */
-	private void drawIcon(DrawPoint dp, PointStyle style) throws ImageCovertingException, DocumentException {
-		ImageHandler handler = ImageHandler.getInstance();
-		// TODO : ICONS MIT OPACITY
-		Image img = handler.convertToImage(style.pointIcon.getImage(), 255);
-		// IF THE POINT ICON HAS NOT ESPECIALLY SET WIDTH
-		if (style.pointIcon.getWidth() == Float.MIN_VALUE)
-			// USE THE WIDTH OF THE STYLE
-			img.scaleToFit(style.pointRadius, style.pointRadius);
-		else
-			// ELSE USE THE POINT ICON WIDTH INSIDE THE POINT ICON
-			img.scaleToFit(style.pointIcon.getWidth(), style.pointIcon.getWidth());
+	private void drawIcon(float x, float y, PointStyle style) throws ImageCovertingException, DocumentException {
+		// IF THE POINT ICON HAS NOT ESPECIALLY SET WIDTH USE THE WIDTH OF THE
+		// STYLE, ELSE THE POINT ICON WIDTH (INCHES) INSIDE THE POINT ICON
+		float size = style.pointIcon.getWidth() == Float.MIN_VALUE ? style.pointRadius : style.pointIcon.getWidth() * 72;
+		// CONVERTED ONCE PER DOCUMENT AND EMBEDDED ONCE, ONLY REFERENCED HERE
+		Image img = IconCache.getInstance(this.getWriter()).getImage(style.pointIcon, size);
+		float w = img.getScaledWidth();
+		float h = img.getScaledHeight();
 		if (style.centered) {
 			// CENTERED
-			img.setAbsolutePosition((float) (dp.getJtsGeometry().getX() - img.getScaledWidth() / 2), (float) (dp.getJtsGeometry().getY() - img.getScaledHeight() / 2));
+			this.getContByte().addImage(img, w, 0, 0, h, x - w / 2, y - h / 2);
 		} else {
 			// NOT CENTERED
-			img.setAbsolutePosition((float) (dp.getJtsGeometry().getX()), (float) (dp.getJtsGeometry().getY()));
+			this.getContByte().addImage(img, w, 0, 0, h, x, y);
 		}
-		this.getContByte().addImage(img);
 	}
 
 	/**
 	 * Draws a star.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawStar(DrawPoint dp, PointStyle style) {
-		this.drawX(dp, style);
-		this.drawCross(dp, style);
+	private void drawStar(float x, float y, PointStyle style) {
+		this.drawX(x, y, style);
+		this.drawCross(x, y, style);
 	}
 
 	/**
 	 * Draws a standing hourglass.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawHourglass(DrawPoint dp, PointStyle style) {
+	private void drawHourglass(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
+			this.getContByte().moveTo(x, y);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius);
+			this.getContByte().lineTo(x, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y);
+			this.getContByte().lineTo(x, y);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -391,26 +855,28 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws a lying hourglass.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawHourglassLying(DrawPoint dp, PointStyle style) {
+	private void drawHourglassLying(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
+			this.getContByte().moveTo(x, y);
+			this.getContByte().lineTo(x, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius);
+			this.getContByte().lineTo(x, y);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -420,26 +886,28 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws a left lying hourglass.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawHourglassLeft(DrawPoint dp, PointStyle style) {
+	private void drawHourglassLeft(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
+			this.getContByte().moveTo(x, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y);
+			this.getContByte().lineTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x, y - style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
+			this.getContByte().moveTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x, y + style.pointRadius / 2);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -448,26 +916,28 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws an right lying hourglass.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawHourglassRight(DrawPoint dp, PointStyle style) {
+	private void drawHourglassRight(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
+			this.getContByte().moveTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y);
+			this.getContByte().lineTo(x, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x, y + style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius);
+			this.getContByte().moveTo(x + style.pointRadius / 2, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -477,74 +947,80 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws an X.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawX(DrawPoint dp, PointStyle style) {
+	private void drawX(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y - style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY());
+			this.getContByte().moveTo(x, y);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius);
+			this.getContByte().moveTo(x, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y);
 		}
 	}
 
 	/**
 	 * Draws a cross.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawCross(DrawPoint dp, PointStyle style) {
+	private void drawCross(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().moveTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x, y - style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
+			this.getContByte().moveTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius / 2);
+			this.getContByte().moveTo(x + style.pointRadius / 2, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
 		}
 	}
 
 	/**
 	 * Draws a diamond.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawDiamond(DrawPoint dp, PointStyle style) {
+	private void drawDiamond(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
+			this.getContByte().moveTo(x - style.pointRadius / 2, y);
+			this.getContByte().lineTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().lineTo(x, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
+			this.getContByte().moveTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().lineTo(x, y + style.pointRadius / 2);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -553,24 +1029,26 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws a left lying triangle.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawTriangleLyingLeft(DrawPoint dp, PointStyle style) {
+	private void drawTriangleLyingLeft(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
+			this.getContByte().moveTo(x, y);
+			this.getContByte().lineTo(x, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y);
+			this.getContByte().lineTo(x, y);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -579,24 +1057,26 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws a upside triangle.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawTriangleUpside(DrawPoint dp, PointStyle style) {
+	private void drawTriangleUpside(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y + style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius);
+			this.getContByte().moveTo(x, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y);
+			this.getContByte().lineTo(x, y + style.pointRadius);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -605,24 +1085,26 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws a standing triangle.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawTriangle(DrawPoint dp, PointStyle style) {
+	private void drawTriangle(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY() + style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2);
+			this.getContByte().moveTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x, y + style.pointRadius / 2);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y - style.pointRadius / 2);
+			this.getContByte().lineTo(x - style.pointRadius / 2, y - style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().moveTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius / 2, (float) dp.getJtsGeometry().getY() + style.pointRadius);
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX() + style.pointRadius, (float) dp.getJtsGeometry().getY());
-			this.getContByte().lineTo((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY());
+			this.getContByte().moveTo(x, y);
+			this.getContByte().lineTo(x + style.pointRadius / 2, y + style.pointRadius);
+			this.getContByte().lineTo(x + style.pointRadius, y);
+			this.getContByte().lineTo(x, y);
 		}
 		this.getContByte().closePath();
 		this.fillOrNot(style);
@@ -631,19 +1113,21 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws a square.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawSquare(DrawPoint dp, PointStyle style) {
+	private void drawSquare(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
 			this.getContByte().rectangle(
 					// X
-					(float) dp.getJtsGeometry().getX() - style.pointRadius / 2,
+					x - style.pointRadius / 2,
 					// Y
-					(float) dp.getJtsGeometry().getY() - style.pointRadius / 2,
+					y - style.pointRadius / 2,
 					// W
 					style.pointRadius,
 					// H
@@ -652,9 +1136,9 @@ public abstract class PdfDrawer {
 			// NOT CENTERED
 			this.getContByte().rectangle(
 					// X
-					(float) dp.getJtsGeometry().getX(),
+					x,
 					// Y
-					(float) dp.getJtsGeometry().getY(),
+					y,
 					// W
 					style.pointRadius,
 					// H
@@ -667,23 +1151,162 @@ public abstract class PdfDrawer {
 	/**
 	 * Draws a circle.
 	 *
-	 * @param dp
-	 *            the {@link DrawPoint} to draw
+	 * @param x
+	 *            the X-value of the {@link DrawPoint} on the page
+	 * @param y
+	 *            the Y-value of the {@link DrawPoint} on the page
 	 * @param style
 	 *            the {@link PointStyle} to draw the {@link DrawPoint} with
 	 */
-	private void drawCircle(DrawPoint dp, PointStyle style) {
+	private void drawCircle(float x, float y, PointStyle style) {
 		if (style.centered) {
 			// CENTERED
-			this.getContByte().circle((float) dp.getJtsGeometry().getX() - style.pointRadius / 2, (float) dp.getJtsGeometry().getY() - style.pointRadius / 2, style.pointRadius / 2);
+			this.getContByte().circle(x - style.pointRadius / 2, y - style.pointRadius / 2, style.pointRadius / 2);
 		} else {
 			// NOT CENTERED
-			this.getContByte().circle((float) dp.getJtsGeometry().getX(), (float) dp.getJtsGeometry().getY(), style.pointRadius / 2);
+			this.getContByte().circle(x, y, style.pointRadius / 2);
 		}
 		// this.getContByte().closePath();
 		this.fillOrNot(style);
 	}
 
+	/**
+	 * Appends the given closed ring as a closed sub-path to the
+	 * {@link PdfContentByte}. An axis-parallel rectangle (like a tile or a
+	 * simple building) is written as a single rectangle operator instead.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} of the closed ring
+	 * @param orientation
+	 *            the orientation to write the ring with: 1 for
+	 *            counter-clockwise, -1 for clockwise, 0 to keep the given
+	 *            orientation
+	 */
+	protected void appendRing(CoordinateSequence seq, int orientation) {
+		if (seq.size() == 5 && this.isAxisParallelRectangle(seq)) {
+			PageTransform t = this.getPageTransform();
+			double x0 = t.toPageX(Math.min(seq.getX(0), seq.getX(2)));
+			double y0 = t.toPageY(Math.min(seq.getY(0), seq.getY(2)));
+			double x1 = t.toPageX(Math.max(seq.getX(0), seq.getX(2)));
+			double y1 = t.toPageY(Math.max(seq.getY(0), seq.getY(2)));
+			if (orientation < 0)
+				// A NEGATIVE WIDTH REVERSES THE RECTANGLE TO CLOCKWISE
+				this.getPathWriter().rectangle(this.getContByte(), x1, y0, x0 - x1, y1 - y0);
+			else
+				this.getPathWriter().rectangle(this.getContByte(), x0, y0, x1 - x0, y1 - y0);
+			this.setDrawnVertices(this.getDrawnVertices() + 4);
+			return;
+		}
+		boolean reverse = false;
+		if (orientation != 0) {
+			// THE SIGNED AREA IS POSITIVE FOR CLOCKWISE RINGS
+			boolean clockwise = CGAlgorithms.signedArea(seq) > 0;
+			reverse = clockwise != (orientation < 0);
+		}
+		this.appendPath(seq, reverse);
+		this.getContByte().closePath();
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the given closed ring of
+	 * four positions is a rectangle with edges parallel to the axes.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} of the closed ring with five
+	 *            positions
+	 * @return <code>true</code> if it is an axis-parallel rectangle;
+	 *         <code>false</code> if not
+	 */
+	private boolean isAxisParallelRectangle(CoordinateSequence seq) {
+		// EDGES ALTERNATE BETWEEN HORIZONTAL AND VERTICAL, STARTING WITH ONE
+		// OF BOTH
+		boolean firstHorizontal = seq.getY(0) == seq.getY(1);
+		for (int a = 0; a < 4; a++) {
+			boolean horizontal = (a % 2 == 0) == firstHorizontal;
+			if (horizontal ? seq.getY(a) != seq.getY(a + 1) : seq.getX(a) != seq.getX(a + 1))
+				return false;
+		}
+		return seq.getX(0) != seq.getX(2) && seq.getY(0) != seq.getY(2);
+	}
+
+	/**
+	 * Appends the positions of the given {@link CoordinateSequence} as a new
+	 * sub-path (one moveTo followed by lineTos) to the
+	 * {@link PdfContentByte}, transformed by the {@link PageTransform}.
+	 * 
+	 * The ordinates are read directly from the {@link CoordinateSequence}, so
+	 * no coordinates or points are created per vertex. The operators are
+	 * written by the {@link PathWriter}. If a device pixel size is set,
+	 * vertices that land on the same device pixel as the previous drawn one
+	 * are skipped. The last vertex is always drawn.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} to append
+	 * @param reverse
+	 *            <code>true</code> to append the positions in reversed order
+	 */
+	protected void appendPath(CoordinateSequence seq, boolean reverse) {
+		int size = seq.size();
+		if (size == 0)
+			return;
+		PageTransform t = this.getPageTransform();
+		PdfContentByte cb = this.getContByte();
+		PathWriter pw = this.getPathWriter();
+		double pixel = this.getDevicePixelSize();
+		int i = reverse ? size - 1 : 0;
+		double x = t.toPageX(seq.getX(i));
+		double y = t.toPageY(seq.getY(i));
+		pw.moveTo(cb, x, y);
+		long lastCol = pixel > 0 ? (long) Math.floor(x / pixel) : 0;
+		long lastRow = pixel > 0 ? (long) Math.floor(y / pixel) : 0;
+		long drawn = 1;
+		for (int a = 1; a < size; a++) {
+			i = reverse ? size - 1 - a : a;
+			x = t.toPageX(seq.getX(i));
+			y = t.toPageY(seq.getY(i));
+			if (pixel > 0) {
+				long col = (long) Math.floor(x / pixel);
+				long row = (long) Math.floor(y / pixel);
+				// SAME DEVICE PIXEL AS THE PREVIOUS DRAWN VERTEX
+				if (col == lastCol && row == lastRow && a < size - 1)
+					continue;
+				lastCol = col;
+				lastRow = row;
+			}
+			pw.lineTo(cb, x, y);
+			drawn++;
+		}
+		this.setDrawnVertices(this.getDrawnVertices() + drawn);
+	}
+
+	/**
+	 * Sets the rectangle of the given {@link BoundingBox}, transformed by the
+	 * {@link PageTransform}, as clipping path for all following drawings. Has
+	 * to be closed by {@link #endClip()}.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} to clip with
+	 */
+	protected void beginClip(BoundingBox bbox) {
+		PageTransform t = this.getPageTransform();
+		double x = t.toPageX(bbox.getMinEasting());
+		double y = t.toPageY(bbox.getMinNorthing());
+		PdfContentByte cb = this.getContByte();
+		cb.saveState();
+		this.resetState();
+		this.getPathWriter().rectangle(cb, x, y, t.toPageX(bbox.getMaxEasting()) - x, t.toPageY(bbox.getMaxNorthing()) - y);
+		cb.clip();
+		cb.newPath();
+	}
+
+	/**
+	 * Removes the clipping path set by {@link #beginClip(BoundingBox)}.
+	 */
+	protected void endClip() {
+		this.getContByte().restoreState();
+		this.resetState();
+	}
+
 	/**
 	 * Fills a draw geometry if the given {@link PointStyle} indicates that it
 	 * should be filled, or not.
@@ -712,29 +1335,152 @@ public abstract class PdfDrawer {
 	 * Creates a {@link PdfStructureElement} filled with the informations
 	 * contained in the {@link AdditionalInfo}-object and with the given
 	 * {@link String} as name.
+	 * 
+	 * The {@link PdfName}s of the keys and names are created once per
+	 * {@link PdfDrawer}. The user properties of an {@link AdditionalInfo} are
+	 * created once as well: If several {@link PdfStructureElement}s refer to
+	 * the same {@link AdditionalInfo} (e.g. the parts of a feature), they are
+	 * written once as indirect object and referenced.
 	 *
 	 * @param info
 	 *            the {@link AdditionalInfo} containing the informations
 	 * @param name
 	 *            the name to set
+	 * @param fid
+	 *            the feature id of the {@link AdditionalInfo} in the
+	 *            {@link AttributeTable}, written as first user property, or
+	 *            <code>null</code>
 	 * @return a {@link PdfStructureElement}
 	 */
-	protected PdfStructureElement createStructureElement(AdditionalInfo info, String name) {
-		PdfDictionary partentDic = new PdfDictionary();
-		partentDic.put(PdfName.O, PdfName.USERPROPERTIES);
-		PdfStructureElement elem = new PdfStructureElement(this.getTop(), new PdfName(name));
-		PdfArray array = new PdfArray();
-		for (int a = 0; a < info.infoCount(); a++) {
-			PdfDictionary childDict = new PdfDictionary();
-			childDict.put(PdfName.N, new PdfName(info.getInfo(a).getKey()));
-			childDict.put(PdfName.V, new PdfString(info.getInfo(a).getValue()));
-			array.add(childDict);
-		}
-		partentDic.put(PdfName.P, array);
-		elem.put(PdfName.A, partentDic);
+	protected PdfStructureElement createStructureElement(AdditionalInfo info, String name, String fid) {
+		PdfStructureElement elem = new PdfStructureElement(this.getTop(), this.getPdfName(name));
+		PdfObject attributes = this.getAttributes().get(info);
+		if (attributes == null) {
+			// FIRST USE : A DIRECT DICTIONARY
+			PdfDictionary partentDic = new PdfDictionary();
+			partentDic.put(PdfName.O, PdfName.USERPROPERTIES);
+			PdfArray array = new PdfArray();
+			if (fid != null) {
+				PdfDictionary idDict = new PdfDictionary();
+				idDict.put(PdfName.N, this.getPdfName(AttributeTable.ID_COLUMN));
+				idDict.put(PdfName.V, new PdfString(fid));
+				array.add(idDict);
+			}
+			for (int a = 0; a < info.infoCount(); a++) {
+				PdfDictionary childDict = new PdfDictionary();
+				childDict.put(PdfName.N, this.getPdfName(info.getInfo(a).getKey()));
+				childDict.put(PdfName.V, new PdfString(info.getInfo(a).getValue()));
+				array.add(childDict);
+			}
+			partentDic.put(PdfName.P, array);
+			this.getAttributes().put(info, partentDic);
+			this.getFirstElements().put(info, elem);
+			attributes = partentDic;
+		} else if (attributes.isDictionary()) {
+			// SECOND USE : THE DICTIONARY IS WRITTEN ONCE AND REFERENCED
+			try {
+				PdfIndirectReference ref = this.getWriter().addToBody(attributes).getIndirectReference();
+				this.getFirstElements().remove(info).put(PdfName.A, ref);
+				this.getAttributes().put(info, ref);
+				attributes = ref;
+			} catch (IOException e) {
+				log.warn("Could not write the user properties as indirect object: " + e.getMessage());
+			}
+		}
+		elem.put(PdfName.A, attributes);
 		return elem;
 	}
 
+	/**
+	 * Returns the {@link PdfName} of the given {@link String}. Every
+	 * {@link PdfName} is created once per {@link PdfDrawer}.
+	 *
+	 * @param name
+	 *            the name as {@link String}
+	 * @return the {@link PdfName}
+	 */
+	protected PdfName getPdfName(String name) {
+		PdfName pdfName = this.getPdfNames().get(name);
+		if (pdfName == null) {
+			pdfName = new PdfName(name);
+			this.getPdfNames().put(name, pdfName);
+		}
+		return pdfName;
+	}
+
+	/**
+	 * Begins the content of a feature with the given {@link AdditionalInfo}:
+	 * Adds the {@link AdditionalInfo} to the {@link AttributeTable}, if one is
+	 * set, and begins a marked content sequence of a
+	 * {@link PdfStructureElement} with the given name, if the
+	 * {@link EStructureMode} is {@link EStructureMode#FEATURE}. The
+	 * {@link PdfStructureElement} carries the feature id of the
+	 * {@link AttributeTable}, so the row of the drawn feature can be found.
+	 * Has to be followed by {@link #endFeature()}.
+	 *
+	 * @param info
+	 *            the {@link AdditionalInfo} of the feature
+	 * @param name
+	 *            the name of the {@link PdfStructureElement}
+	 */
+	protected void beginFeature(AdditionalInfo info, String name) {
+		String fid = this.getAttributeTable() != null ? this.getAttributeTable().add(info) : null;
+		if (this.getStructureMode() == EStructureMode.FEATURE)
+			this.getContByte().beginMarkedContentSequence(this.createStructureElement(info, name, fid));
+	}
+
+	/**
+	 * Ends the content of a feature begun by
+	 * {@link #beginFeature(AdditionalInfo, String)}.
+	 */
+	protected void endFeature() {
+		if (this.getStructureMode() == EStructureMode.FEATURE)
+			this.getContByte().endMarkedContentSequence();
+	}
+
+	/**
+	 * Begins a marked content sequence of one {@link PdfStructureElement}
+	 * without user properties for all following content, if the
+	 * {@link EStructureMode} is {@link EStructureMode#LAYER}. Has to be
+	 * followed by {@link #endGroup()}.
+	 *
+	 * @param name
+	 *            the name of the {@link PdfStructureElement}
+	 */
+	protected void beginGroup(String name) {
+		if (this.getStructureMode() == EStructureMode.LAYER)
+			this.getContByte().beginMarkedContentSequence(new PdfStructureElement(this.getTop(), this.getPdfName(name)));
+	}
+
+	/**
+	 * Ends the marked content sequence begun by {@link #beginGroup(String)}.
+	 */
+	protected void endGroup() {
+		if (this.getStructureMode() == EStructureMode.LAYER)
+			this.getContByte().endMarkedContentSequence();
+	}
+
+	/**
+	 * Embeds the {@link AttributeTable} as CSV-file attachment into the PDF,
+	 * if one is set and not empty. The file is compressed like every other
+	 * stream of the PDF.
+	 *
+	 * @param name
+	 *            the name of the drawn layer, used as file name and
+	 *            description
+	 */
+	protected void attachAttributes(String name) {
+		if (this.getAttributeTable() == null || this.getAttributeTable().size() == 0)
+			return;
+		try {
+			PdfFileSpecification fs = PdfFileSpecification.fileEmbedded(this.getWriter(), null, name + ".csv", this.getAttributeTable().toCsv());
+			this.getWriter().addFileAttachment(name + " attributes", fs);
+			log.debug("Attributes of " + this.getAttributeTable().size() + " features embedded as " + name + ".csv.");
+		} catch (IOException e) {
+			log.warn("Could not embed the attributes of " + name + ": " + e.getMessage());
+		}
+	}
+
 	// GETTERS AND SETTERS
 
 	/**
@@ -813,5 +1559,237 @@ public abstract class PdfDrawer {
 		this.parentalLayer = parentalLayer;
 	}
 
+	/**
+	 * Returns the {@link PageTransform} of this {@link PdfDrawer}.
+	 *
+	 * @return the {@link PageTransform}
+	 */
+	public PageTransform getPageTransform() {
+		return pageTransform;
+	}
+
+	/**
+	 * Sets the {@link PageTransform} of this {@link PdfDrawer}. All following
+	 * drawing operations transform the world coordinates with it.
+	 *
+	 * @param pageTransform
+	 *            the {@link PageTransform} to set
+	 */
+	public void setPageTransform(PageTransform pageTransform) {
+		this.pageTransform = pageTransform;
+	}
+
+	/**
+	 * Returns the size of one device pixel in page units.
+	 *
+	 * @return the device pixel size
+	 */
+	public double getDevicePixelSize() {
+		return devicePixelSize;
+	}
+
+	/**
+	 * Sets the size of one device pixel in page units. Consecutive vertices on
+	 * the same device pixel are not drawn. 0 draws every vertex.
+	 *
+	 * @param devicePixelSize
+	 *            the device pixel size to set
+	 */
+	public void setDevicePixelSize(double devicePixelSize) {
+		this.devicePixelSize = devicePixelSize;
+	}
+
+	/**
+	 * Returns the number of vertices written into the {@link PdfContentByte}
+	 * by this {@link PdfDrawer}.
+	 *
+	 * @return the number of drawn vertices
+	 */
+	public long getDrawnVertices() {
+		return drawnVertices;
+	}
+
+	/**
+	 * Sets the number of vertices written into the {@link PdfContentByte} by
+	 * this {@link PdfDrawer}.
+	 *
+	 * @param drawnVertices
+	 *            the number of drawn vertices to set
+	 */
+	protected void setDrawnVertices(long drawnVertices) {
+		this.drawnVertices = drawnVertices;
+	}
+
+	/**
+	 * Returns the line width last set on the {@link PdfContentByte}.
+	 *
+	 * @return the line width or NaN if unknown
+	 */
+	private float getStateLineWidth() {
+		return stateLineWidth;
+	}
+
+	/**
+	 * Sets the line width last set on the {@link PdfContentByte}.
+	 *
+	 * @param stateLineWidth
+	 *            the line width to set
+	 */
+	private void setStateLineWidth(float stateLineWidth) {
+		this.stateLineWidth = stateLineWidth;
+	}
+
+	/**
+	 * Returns the stroke {@link Color} last set on the {@link PdfContentByte}.
+	 *
+	 * @return the stroke {@link Color} or <code>null</code> if unknown
+	 */
+	private Color getStateStrokeColor() {
+		return stateStrokeColor;
+	}
+
+	/**
+	 * Sets the stroke {@link Color} last set on the {@link PdfContentByte}.
+	 *
+	 * @param stateStrokeColor
+	 *            the stroke {@link Color} to set
+	 */
+	private void setStateStrokeColor(Color stateStrokeColor) {
+		this.stateStrokeColor = stateStrokeColor;
+	}
+
+	/**
+	 * Returns the fill {@link Color} last set on the {@link PdfContentByte}.
+	 *
+	 * @return the fill {@link Color} or <code>null</code> if unknown
+	 */
+	private Color getStateFillColor() {
+		return stateFillColor;
+	}
+
+	/**
+	 * Sets the fill {@link Color} last set on the {@link PdfContentByte}.
+	 *
+	 * @param stateFillColor
+	 *            the fill {@link Color} to set
+	 */
+	private void setStateFillColor(Color stateFillColor) {
+		this.stateFillColor = stateFillColor;
+	}
+
+	/**
+	 * Returns the {@link Map} of the {@link PdfTemplate}s of the already drawn
+	 * point symbols.
+	 *
+	 * @return the {@link Map} of {@link PdfTemplate}s
+	 */
+	private Map<String, PdfTemplate> getSymbolTemplates() {
+		return symbolTemplates;
+	}
+
+	/**
+	 * Returns the {@link Map} of the created {@link PdfName}s.
+	 *
+	 * @return the {@link Map} of {@link PdfName}s
+	 */
+	private Map<String, PdfName> getPdfNames() {
+		return pdfNames;
+	}
+
+	/**
+	 * Returns the {@link Map} of the user properties per
+	 * {@link AdditionalInfo}.
+	 *
+	 * @return the {@link Map} of user properties
+	 */
+	private Map<AdditionalInfo, PdfObject> getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Returns the {@link Map} of the {@link PdfStructureElement}s that used
+	 * the user properties of an {@link AdditionalInfo} first.
+	 *
+	 * @return the {@link Map} of {@link PdfStructureElement}s
+	 */
+	private Map<AdditionalInfo, PdfStructureElement> getFirstElements() {
+		return firstElements;
+	}
+
+	/**
+	 * Returns the way this {@link PdfDrawer} structures its content in the
+	 * structure tree.
+	 *
+	 * @return the {@link EStructureMode}
+	 */
+	public EStructureMode getStructureMode() {
+		return structureMode;
+	}
+
+	/**
+	 * Sets the way this {@link PdfDrawer} structures its content in the
+	 * structure tree.
+	 *
+	 * @param structureMode
+	 *            the {@link EStructureMode} to set
+	 */
+	public void setStructureMode(EStructureMode structureMode) {
+		this.structureMode = structureMode;
+	}
+
+	/**
+	 * Returns the {@link AttributeTable} collecting the {@link AdditionalInfo}s
+	 * of the drawn features.
+	 *
+	 * @return the {@link AttributeTable}, <code>null</code> if no table is
+	 *         embedded
+	 */
+	public AttributeTable getAttributeTable() {
+		return attributeTable;
+	}
+
+	/**
+	 * Sets the {@link AttributeTable} collecting the {@link AdditionalInfo}s
+	 * of the drawn features.
+	 *
+	 * @param attributeTable
+	 *            the {@link AttributeTable} to set, <code>null</code> to embed
+	 *            no table
+	 */
+	public void setAttributeTable(AttributeTable attributeTable) {
+		this.attributeTable = attributeTable;
+	}
+
+	/**
+	 * Returns the {@link PathWriter} of this {@link PdfDrawer}.
+	 *
+	 * @return the {@link PathWriter}
+	 */
+	protected PathWriter getPathWriter() {
+		return pathWriter;
+	}
+
+	/**
+	 * Returns the number of decimals the page coordinates of the geometries
+	 * are written with.
+	 *
+	 * @return the number of decimals
+	 */
+	public int getCoordinateDecimals() {
+		return this.getPathWriter().getDecimals();
+	}
+
+	/**
+	 * Sets the number of decimals the page coordinates of the geometries are
+	 * written with (0 to 6). 2 decimals (1/7200 inch) are enough for every
+	 * output device.
+	 *
+	 * @param decimals
+	 *            the number of decimals to set
+	 */
+	public void setCoordinateDecimals(int decimals) {
+		this.pathWriter = new PathWriter(decimals);
+	}
+
 	// OTHERS
 }
@@ -1,5 +1,6 @@
 package io.github.dagri.GeospatialPDF4J.draw.geometries;
 
+import com.vividsolutions.jts.geom.Envelope;
 import com.vividsolutions.jts.geom.Geometry;
 
 import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
@@ -30,30 +31,6 @@ public abstract class DrawGeometry extends PdfObject {
 	 */
 	public abstract String getGeometryName();
 
-	// TODO : KOENNTE NOCH METHODEN NUTZEN, DIE DIREKT EINE COORDINATE2D ODER
-	// EINE BOUNDINGBOX ZUM REDUZIEREN NUTZT
-	// TODO : EINTEILUNG IN X UND Y RICHTUNG IST IRREFUEHREND UND SOLLTE
-	// ABGEAENDERT WERDEN
-
-	/**
-	 * Reduces the internal coordinates by the given values in X- and Y-
-	 * direction.
-	 *
-	 * @param ord0
-	 *            the reduction of the Ordinate 0
-	 * @param ord1
-	 *            the reduction of the Ordinate 1
-	 */
-	public abstract void reduce(double ord0, double ord1);
-
-	/**
-	 * Scales the internal coordinates by the given factor.
-	 *
-	 * @param the
-	 *            factor to stale about
-	 */
-	public abstract void scale(double factor);
-
 	/**
 	 * Returns a {@link Boolean} that indicates if this {@link DrawGeometry}
 	 * intersects the given {@link Geometry}.
@@ -68,12 +45,25 @@ public abstract class DrawGeometry extends PdfObject {
 	/**
 	 * Returns a {@link Boolean} that indicates if this {@link DrawGeometry}
 	 * intersects the given {@link BoundingBox}.
+	 * 
+	 * The envelopes are compared first: A {@link DrawGeometry} whose envelope
+	 * lays outside of the {@link BoundingBox} is rejected and one whose
+	 * envelope is covered by the {@link BoundingBox} is accepted without any
+	 * exact intersection test.
 	 *
 	 * @param bbox
+	 *            the {@link BoundingBox} to test
 	 * @return <code>true</code> if it intersects the {@link BoundingBox};
 	 *         <code>false</code> if not
 	 */
-	public abstract boolean intersectsBBox(BoundingBox bbox);
+	public boolean intersectsBBox(BoundingBox bbox) {
+		Envelope env = this.getJtsGeometry().getEnvelopeInternal();
+		if (!bbox.intersects(env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY()))
+			return false;
+		if (bbox.contains(env.getMinX(), env.getMinY()) && bbox.contains(env.getMaxX(), env.getMaxY()))
+			return true;
+		return this.intersectsGeometry(bbox.toPolygon());
+	}
 
 	/**
 	 * Returns the area of this {@link DrawGeometry} as {@link Double}.
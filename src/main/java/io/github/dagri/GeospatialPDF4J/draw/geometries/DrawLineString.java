@@ -11,7 +11,6 @@ import com.vividsolutions.jts.geom.LineString;
 
 import io.github.dagri.GeospatialPDF4J.exceptions.CoordinateTransformException;
 import io.github.dagri.GeospatialPDF4J.exceptions.MissingCrsException;
-import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
 import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
 import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
 import lombok.extern.slf4j.Slf4j;
@@ -105,34 +104,6 @@ public class DrawLineString extends DrawGeometry {
 		return "DRAWLINESTRING";
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#reduce(
-	 * double, double)
-	 */
-	@Override
-	public void reduce(double xRed, double yRed) {
-		for (int a = 0; a < this.getJtsGeometry().getCoordinates().length; a++) {
-			this.getJtsGeometry().getCoordinateN(a).x = this.getJtsGeometry().getCoordinateN(a).x - xRed;
-			this.getJtsGeometry().getCoordinateN(a).y = this.getJtsGeometry().getCoordinateN(a).y - yRed;
-		}
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#scale(
-	 * double)
-	 */
-	@Override
-	public void scale(double factor) {
-		for (int a = 0; a < this.getJtsGeometry().getCoordinates().length; a++) {
-			this.getJtsGeometry().getCoordinateN(a).x = this.getJtsGeometry().getCoordinateN(a).x * factor;
-			this.getJtsGeometry().getCoordinateN(a).y = this.getJtsGeometry().getCoordinateN(a).y * factor;
-		}
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -144,18 +115,6 @@ public class DrawLineString extends DrawGeometry {
 		return this.getJtsGeometry().intersects(g);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#
-	 * intersectsBBox(io.github.dagri.GeospatialPDF4J.geo.BoundingBox)
-	 */
-	@Override
-	public boolean intersectsBBox(BoundingBox bbox) {
-		DrawPolygon intersect = new DrawPolygon(bbox.getCoordsAsArrayList());
-		return this.intersectsGeometry(intersect.getJtsGeometry());
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
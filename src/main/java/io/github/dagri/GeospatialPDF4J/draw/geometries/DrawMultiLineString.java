@@ -3,7 +3,6 @@ package io.github.dagri.GeospatialPDF4J.draw.geometries;
 import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.MultiLineString;
 
-import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
 import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
 
 /**
@@ -47,44 +46,6 @@ public class DrawMultiLineString extends DrawGeometry {
 		return "DRAWMULTILINESTRING";
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#reduce(
-	 * double, double)
-	 */
-	@Override
-	public void reduce(double xRed, double yRed) {
-		// RUN THROUGH CONTAINED GEOMETRIES
-		for (int a = 0; a < this.getJtsGeometry().getNumGeometries(); a++) {
-			// RUN THROUGH THE COORDINATES OF THE NTH GEOMETY
-			for (int b = 0; b < this.getJtsGeometry().getGeometryN(a).getCoordinates().length; b++) {
-				this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].x = this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].x + xRed;
-				this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].y = this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].y + yRed;
-
-			}
-		}
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#scale(
-	 * double)
-	 */
-	@Override
-	public void scale(double factor) {
-		// RUN THROUGH CONTAINED GEOMETRIES
-		for (int a = 0; a < this.getJtsGeometry().getNumGeometries(); a++) {
-			// RUN THROUGH THE COORDINATES OF THE NTH GEOMETY
-			for (int b = 0; b < this.getJtsGeometry().getGeometryN(a).getCoordinates().length; b++) {
-				this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].x = this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].x * factor;
-				this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].y = this.getJtsGeometry().getGeometryN(a).getCoordinates()[b].y * factor;
-
-			}
-		}
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -96,18 +57,6 @@ public class DrawMultiLineString extends DrawGeometry {
 		return this.getJtsGeometry().intersects(g);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#
-	 * intersectsBBox(io.github.dagri.GeospatialPDF4J.geo.BoundingBox)
-	 */
-	@Override
-	public boolean intersectsBBox(BoundingBox bbox) {
-		DrawPolygon intersect = new DrawPolygon(bbox.getCoordsAsArrayList());
-		return this.intersectsGeometry(intersect.getJtsGeometry());
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
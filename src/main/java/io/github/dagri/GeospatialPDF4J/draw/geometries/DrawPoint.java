@@ -7,7 +7,6 @@ import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.Point;
 
-import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
 import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
 
 /**
@@ -62,30 +61,6 @@ public class DrawPoint extends DrawGeometry {
 		return "DRAWPOINT";
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#reduce(
-	 * double, double)
-	 */
-	@Override
-	public void reduce(double xRed, double yRed) {
-		this.getJtsGeometry().getCoordinate().x = this.getJtsGeometry().getCoordinate().x - xRed;
-		this.getJtsGeometry().getCoordinate().y = this.getJtsGeometry().getCoordinate().y - yRed;
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#scale(
-	 * double)
-	 */
-	@Override
-	public void scale(double factor) {
-		this.getJtsGeometry().getCoordinate().x = this.getJtsGeometry().getCoordinate().x * factor;
-		this.getJtsGeometry().getCoordinate().y = this.getJtsGeometry().getCoordinate().y * factor;
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -97,18 +72,6 @@ public class DrawPoint extends DrawGeometry {
 		return this.getJtsGeometry().intersects(g);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#
-	 * intersectsBBox(io.github.dagri.GeospatialPDF4J.geo.BoundingBox)
-	 */
-	@Override
-	public boolean intersectsBBox(BoundingBox bbox) {
-		DrawPolygon intersect = new DrawPolygon(bbox.getCoordsAsArrayList());
-		return this.intersectsGeometry(intersect.getJtsGeometry());
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
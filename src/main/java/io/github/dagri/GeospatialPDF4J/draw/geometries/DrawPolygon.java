@@ -12,7 +12,6 @@ import com.vividsolutions.jts.geom.Polygon;
 
 import io.github.dagri.GeospatialPDF4J.exceptions.CoordinateTransformException;
 import io.github.dagri.GeospatialPDF4J.exceptions.MissingCrsException;
-import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
 import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
 import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
 import lombok.extern.slf4j.Slf4j;
@@ -120,18 +119,6 @@ public class DrawPolygon extends DrawGeometry {
 		return this.getJtsGeometry().intersects(g);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#
-	 * intersectsBBox(io.github.dagri.GeospatialPDF4J.geo.BoundingBox)
-	 */
-	@Override
-	public boolean intersectsBBox(BoundingBox bbox) {
-		DrawPolygon intersect = new DrawPolygon(bbox.getCoordsAsArrayList());
-		return this.intersectsGeometry(intersect.getJtsGeometry());
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -165,38 +152,6 @@ public class DrawPolygon extends DrawGeometry {
 		return "DRAWPOLYGON";
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#reduce(
-	 * double, double)
-	 */
-	@Override
-	public void reduce(double xRed, double yRed) {
-		log.debug("Reducing DrawPolygon...");
-		for (int a = 0; a < this.getJtsGeometry().getCoordinates().length; a++) {
-			this.getJtsGeometry().getCoordinates()[a].x = this.getJtsGeometry().getCoordinates()[a].x - xRed;
-			this.getJtsGeometry().getCoordinates()[a].y = this.getJtsGeometry().getCoordinates()[a].y - yRed;
-		}
-		log.debug("DrawPolygon reduced.");
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry#scale(
-	 * double)
-	 */
-	@Override
-	public void scale(double factor) {
-		log.debug("Scaling DrawPolygon...");
-		for (int a = 0; a < this.getJtsGeometry().getCoordinates().length; a++) {
-			this.getJtsGeometry().getCoordinates()[a].x = this.getJtsGeometry().getCoordinates()[a].x * factor;
-			this.getJtsGeometry().getCoordinates()[a].y = this.getJtsGeometry().getCoordinates()[a].y * factor;
-		}
-		log.debug("DrawPolygon scaled.");
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
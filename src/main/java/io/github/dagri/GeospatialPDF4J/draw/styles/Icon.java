@@ -25,6 +25,12 @@ public class Icon {
 	 * The {@link BufferedImage} of this {@link Icon}.
 	 */
 	private BufferedImage image = null;
+
+	/**
+	 * The file to load the {@link BufferedImage} of this {@link Icon} from.
+	 * Decoded on the first request of the {@link BufferedImage}.
+	 */
+	private File file = null;
 	
 	/**
 	 * The width of this {@link Icon} to display in the PDF in inches.
@@ -42,13 +48,13 @@ public class Icon {
 
 	/**
 	 * Constructor for an {@link Icon} using a {@link String} that contains the
-	 * path to the file to load.
+	 * path to the file to load. The file is not read until the
+	 * {@link BufferedImage} is requested the first time.
 	 * 
 	 * @param path the path to the image-file
 	 */
 	public Icon(String path) {
-		File f = new File(path);
-		this.loadImage(f);
+		this.file = new File(path);
 	}
 
 	// METHODS
@@ -112,11 +118,18 @@ public class Icon {
 
 	/**
 	 * Returns the {@link BufferedImage} of this {@link Icon} as
-	 * {@link BufferedImage}.
+	 * {@link BufferedImage}. The file given in the constructor is decoded on
+	 * the first call only.
 	 *
 	 * @return the {@link BufferedImage} of this {@link Icon}
 	 */
-	public BufferedImage getImage() {
+	public synchronized BufferedImage getImage() {
+		if (image == null && file != null) {
+			log.debug("Decoding the Icon file " + file + "...");
+			this.loadImage(file);
+			// DECODE ONLY ONCE, ALSO IF THE STANDARD IMAGE WAS SET
+			file = null;
+		}
 		return image;
 	}
 
@@ -126,8 +139,9 @@ public class Icon {
 	 * @param image
 	 *            the {@link BufferedImage} to set
 	 */
-	public void setImage(BufferedImage image) {
+	public synchronized void setImage(BufferedImage image) {
 		this.image = image;
+		this.file = null;
 	}
 	
 	/**
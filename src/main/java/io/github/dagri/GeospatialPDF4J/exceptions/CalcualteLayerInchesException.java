@@ -17,7 +17,7 @@ public class CalcualteLayerInchesException extends Exception {
 	private static final long serialVersionUID = -3762955693527743599L;
 
 	/**
-	 * Constructor for a {@link ImpossibleCoordinateOrderException}.
+	 * Constructor for a {@link CalcualteLayerInchesException}.
 	 */
 	public CalcualteLayerInchesException() {
 		super("Error while calculating the MapLayers inches in widht and height because of missing data!");
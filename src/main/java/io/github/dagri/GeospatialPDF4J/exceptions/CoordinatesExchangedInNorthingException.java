@@ -1,12 +0,0 @@
-/**
- * 
- */
-package io.github.dagri.GeospatialPDF4J.exceptions;
-
-/**
- * @author b201306
- *
- */
-public class CoordinatesExchangedInNorthingException extends Exception {
-
-}
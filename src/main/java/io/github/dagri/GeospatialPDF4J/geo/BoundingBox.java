@@ -3,16 +3,16 @@ package io.github.dagri.GeospatialPDF4J.geo;
 import java.util.ArrayList;
 
 import org.geotools.geometry.DirectPosition2D;
+import org.opengis.geometry.DirectPosition;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Polygon;
 
 import io.github.dagri.GeospatialPDF4J.exceptions.BoundingboxNotCreatableException;
-import io.github.dagri.GeospatialPDF4J.exceptions.ChangedCoordinateOrderException;
 import io.github.dagri.GeospatialPDF4J.exceptions.CoordinateTransformException;
-import io.github.dagri.GeospatialPDF4J.exceptions.CoordinatesExchangedInEastingtException;
-import io.github.dagri.GeospatialPDF4J.exceptions.CoordinatesExchangedInNorthingException;
-import io.github.dagri.GeospatialPDF4J.exceptions.ImpossibleCoordinateOrderException;
-import io.github.dagri.GeospatialPDF4J.exceptions.MissingCrsException;
 import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
-import io.github.dagri.GeospatialPDF4J.res.GeoCalculator;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,6 +21,12 @@ import lombok.extern.slf4j.Slf4j;
  * This class can be used to define an area to be requested from a server, to
  * display it inside a PDF document.
  * 
+ * The {@link BoundingBox} is backed by four primitive values (the minimal and
+ * maximal easting and northing in the internal used UTM-CRS) and a reference
+ * to the {@link CoordinateReferenceSystem}. A {@link BoundingBox} can not be
+ * changed after its creation: The corner {@link DirectPosition2D}s are created
+ * as new copies on every request.
+ * 
  * @author DaGri
  * @since 10.01.2017
  */
@@ -30,39 +36,36 @@ public class BoundingBox {
 	// ATTRIBUTES
 
 	/**
-	 * The lower left {@link DirectPosition2D} of this {@link BoundingBox}
-	 */
-	private DirectPosition2D	ll;
-
-	/**
-	 * The upper right {@link DirectPosition2D} of this {@link BoundingBox}.
+	 * The {@link CoordinateReferenceSystem} of this {@link BoundingBox}
+	 * (always the internal used UTM-CRS).
 	 */
-	private DirectPosition2D	ur;
+	private final CoordinateReferenceSystem	crs;
 
 	/**
-	 * The upper left {@link DirectPosition2D} of this {@link BoundingBox}.
+	 * The minimal easting (UTM --> ORDINATE 0) of this {@link BoundingBox}.
 	 */
-	private DirectPosition2D	ul;
+	private final double					minEasting;
 
 	/**
-	 * The lower right {@link DirectPosition2D} of this {@link BoundingBox}.
+	 * The minimal northing (UTM --> ORDINATE 1) of this {@link BoundingBox}.
 	 */
-	private DirectPosition2D	lr;
+	private final double					minNorthing;
 
 	/**
-	 * The centered {@link DirectPosition2D} of this {@link BoundingBox}.
+	 * The maximal easting (UTM --> ORDINATE 0) of this {@link BoundingBox}.
 	 */
-	private DirectPosition2D	center;
+	private final double					maxEasting;
 
 	/**
-	 * The geographical width of this {@link BoundingBox} in meters.
+	 * The maximal northing (UTM --> ORDINATE 1) of this {@link BoundingBox}.
 	 */
-	private double				geoWidth;
+	private final double					maxNorthing;
 
 	/**
-	 * The geographical height of this {@link BoundingBox} in meters.
+	 * The JTS {@link Polygon} covering this {@link BoundingBox}. Created on the
+	 * first request.
 	 */
-	private double				geoHeight;
+	private Polygon							jtsPolygon;
 
 	// CONSTRUCTORS
 
@@ -70,6 +73,10 @@ public class BoundingBox {
 	 * Constructor for a {@link BoundingBox} using two {@link DirectPosition2D}
 	 * s: The lower left and the upper right.
 	 * 
+	 * If the {@link DirectPosition2D}s are not in the internal used UTM-CRS
+	 * they will be transformed. Exchanged ordinates (in northing, easting or
+	 * both) will be put into the correct order.
+	 * 
 	 * Throws {@link BoundingboxNotCreatableException} if the
 	 * {@link BoundingBox} could not be created.
 	 * 
@@ -81,198 +88,82 @@ public class BoundingBox {
 	 */
 	public BoundingBox(DirectPosition2D ll, DirectPosition2D ur) throws BoundingboxNotCreatableException {
 		log.debug("Creating a new BoundingBox2D from two DirectPosition2Ds...");
-		log.debug("Checking the CRS of the Coordinate2Ds...");
+		if (ll == null || ur == null)
+			throw new BoundingboxNotCreatableException();
+
 		CoordinateTransformer t = CoordinateTransformer.getInstance();
+		CoordinateReferenceSystem utm;
+		DirectPosition llUtm = ll;
+		DirectPosition urUtm = ur;
 		try {
-			log.debug("Looking at the lower left DirectPosition...");
-			if (ll.getCoordinateReferenceSystem() != t.getUtmCrs())
-				t.transform(ll, 25832);
-			log.debug("Looking at the upper right DirectPosition...");
-			if (ur.getCoordinateReferenceSystem() != t.getUtmCrs())
-				t.transform(ur, 25832);
+			utm = t.getUtmCrs();
+			if (ll.getCoordinateReferenceSystem() != utm)
+				llUtm = t.transform(ll, 25832);
+			if (ur.getCoordinateReferenceSystem() != utm)
+				urUtm = t.transform(ur, 25832);
 		} catch (CoordinateTransformException e) {
 			log.error(e.getMessage());
 			throw new BoundingboxNotCreatableException();
 		}
-		log.debug("DirectPosition2Ds transformed to internal used UTM-CRS!");
-
-		try {
-			log.debug("Checking the coordinate order...");
-			this.checkCoordinateOrder(ll, ur);
-		} catch (ImpossibleCoordinateOrderException e) {
-			log.error(e.getMessage().toString());
-			throw new BoundingboxNotCreatableException();
-		} catch (ChangedCoordinateOrderException e) {
-			log.debug("Coordinates need to be exchanged...");
-			DirectPosition2D temp = ll;
-			ll = ur;
-			ur = temp;
-			log.debug("Coordinates exchanged. Checking again...");
-			try {
-				this.checkCoordinateOrder(ll, ur);
-			} catch (ImpossibleCoordinateOrderException | ChangedCoordinateOrderException | CoordinatesExchangedInNorthingException | CoordinatesExchangedInEastingtException e1) {
-				log.error(e.getMessage().toString());
-				throw new BoundingboxNotCreatableException();
-			}
-		} catch (CoordinatesExchangedInNorthingException e) {
-			double temp = ll.getOrdinate(1);
-			ll.setOrdinate(1, ur.getOrdinate(1));
-			ur.setOrdinate(1, temp);
-			log.debug("Coordinates exchanged. Checking again...");
-			try {
-				this.checkCoordinateOrder(ll, ur);
-			} catch (ImpossibleCoordinateOrderException | ChangedCoordinateOrderException | CoordinatesExchangedInNorthingException | CoordinatesExchangedInEastingtException e1) {
-				log.error(e.getMessage().toString());
-				throw new BoundingboxNotCreatableException();
-			}
-		} catch (CoordinatesExchangedInEastingtException e) {
-			double temp = ll.getOrdinate(0);
-			ll.setOrdinate(0, ur.getOrdinate(0));
-			ur.setOrdinate(0, temp);
-			log.debug("Coordinates exchanged. Checking again...");
-			try {
-				this.checkCoordinateOrder(ll, ur);
-			} catch (ImpossibleCoordinateOrderException | ChangedCoordinateOrderException | CoordinatesExchangedInNorthingException | CoordinatesExchangedInEastingtException e1) {
-				log.error(e.getMessage().toString());
-				throw new BoundingboxNotCreatableException();
-			}
-		}
-		log.debug("Coordinate order checked.");
 
-		log.debug("Setting lower left Coordinate2D");
-		this.setLl(ll);
-		log.debug("Setting upper right Coordinate2D");
-		this.setUr(ur);
+		// ALL POSITIONS ARE IN UTM SYSTEM NOW
+		// ORDINATE 0 --> EAST VALUE
+		// ORDINATE 1 --> NORTH VALUE
+		double e0 = llUtm.getOrdinate(0);
+		double n0 = llUtm.getOrdinate(1);
+		double e1 = urUtm.getOrdinate(0);
+		double n1 = urUtm.getOrdinate(1);
 
-		log.debug("Calculating other values...");
-		try {
-			this.calcValues();
-		} catch (CoordinateTransformException | MissingCrsException e) {
-			log.error(e.getMessage());
+		// EQUAL ORDINATES CAN NOT SPAN AN AREA, NOT EVEN IF THEY ARE EXCHANGED
+		if (!(e0 != e1 && n0 != n1)) {
+			log.error("Coordinate2D order impossible!");
 			throw new BoundingboxNotCreatableException();
 		}
-		log.debug("BoundingBox created.");
-	}
-
-	// METHODS
 
-	/**
-	 * Sets the lower right and the upper left {@link DirectPosition2D},
-	 * calculates the centered {@link DirectPosition2D}, and calculates the
-	 * geographical width and height by calling the internal methods
-	 * 'calcCenterCoordinate()' and 'calcgeoWidthAndHeight()'.
-	 * 
-	 * @throws CoordinateTransformException
-	 * @throws MissingCrsException
-	 */
-	private void calcValues() throws CoordinateTransformException, MissingCrsException {
-		log.debug("Setting lower right and upper left Coordinate2D...");
-		this.setLrAndUl();
-		log.debug("Calculating width and height in meters...");
-		this.calcWidthAndHeight();
-		log.debug("Calculating centered Coordinate2D...");
-		this.calcCenterCoordinate();
-	}
-
-	/**
-	 * Calculates the values for the lower right and the upper left
-	 * {@link DirectPosition2D} of this {@link BoundingBox}.
-	 */
-	private void setLrAndUl() {
-		log.debug("Setting lower right DirectPosition2D...");
-		this.setLr(new DirectPosition2D(
-				// CRS (UTM)
-				this.getLl().getCoordinateReferenceSystem(),
-				// ORDINATE 0 FROM UR (UTM --> EAST)
-				this.getUr().getOrdinate(0),
-				// ORDIANTE 1 FROM LL (UTM --> NORTH
-				this.getLl().getOrdinate(1)));
-		log.debug("Setting upper left DirectPosition2D...");
-		this.setUl(new DirectPosition2D(this.getLl().getCoordinateReferenceSystem(), this.getLl().getOrdinate(0), this.getUr().getOrdinate(1)));
-
-		log.debug("Lower right and upper left Coordinate2D set.");
+		this.crs = utm;
+		this.minEasting = Math.min(e0, e1);
+		this.minNorthing = Math.min(n0, n1);
+		this.maxEasting = Math.max(e0, e1);
+		this.maxNorthing = Math.max(n0, n1);
+		log.debug("BoundingBox created.");
 	}
 
 	/**
-	 * Checks the order of the given {@link DirectPosition2D}s.
+	 * Constructor for a {@link BoundingBox} using the
+	 * {@link CoordinateReferenceSystem} the ordinates are given in (has to be
+	 * the internal used UTM-CRS) and two eastings and northings.
 	 * 
-	 * The initial {@link DirectPosition2D}s have to be in a specific geometry:
-	 * The lower left {@link DirectPosition2D} has to lay below and to the left
-	 * against the upper right one.
+	 * The order of the ordinates does not matter: The minimal and maximal
+	 * values will be sorted in.
 	 * 
-	 * Throws {@link ImpossibleCoordinateOrderException} if the geometry of the
-	 * {@link DirectPosition2D}s is impossible, even if they would be exchanged
-	 * with one another. Throws {@link ChangedCoordinateOrderException} if the
-	 * geometry of the {@link DirectPosition2D}s is possible, if they would be
-	 * exchanged with one another.
-	 * 
-	 * TODO : WEITERE BESCHREIBUNGEN EINFUEGEN
+	 * Throws {@link BoundingboxNotCreatableException} if the
+	 * {@link BoundingBox} could not be created.
 	 *
-	 * @param ll
-	 *            the lower left {@link DirectPosition2D}
-	 * @param ur
-	 *            the upper right {@link DirectPosition2D}
-	 * @throws ImpossibleCoordinateOrderException
-	 * @throws ChangedCoordinateOrderException
-	 * @throws CoordinatesExchangedInNorthingException 
-	 * @throws CoordinatesExchangedInEastingtException 
+	 * @param crs
+	 *            the UTM {@link CoordinateReferenceSystem}
+	 * @param easting0
+	 *            the first easting
+	 * @param northing0
+	 *            the first northing
+	 * @param easting1
+	 *            the second easting
+	 * @param northing1
+	 *            the second northing
+	 * @throws BoundingboxNotCreatableException
 	 */
-	private void checkCoordinateOrder(DirectPosition2D ll, DirectPosition2D ur) throws ImpossibleCoordinateOrderException, ChangedCoordinateOrderException, CoordinatesExchangedInNorthingException, CoordinatesExchangedInEastingtException {
-		// ALL DIRECTPOSITIONS ARE IN UTM SYSTEM ALREADY
-		// ORDINATE 0 --> EAST VALUE
-		// ORDINATE 1 --> NORTH VALUE
-		if (ll.getOrdinate(1) < ur.getOrdinate(1) && ll.getOrdinate(0) < ur.getOrdinate(0)) {
-			log.debug("Coordinate2D order okay.");
-		}
-		// ELSE IF THEY ARE EXCANGED: LL ABOVE RIGHT UR
-		else if (ll.getOrdinate(1) > ur.getOrdinate(1) && ll.getOrdinate(0) > ur.getOrdinate(0)) {
-			log.error("Coordinate2D order exchanged. ");
-			throw new ChangedCoordinateOrderException();
-		} 
-		// ELSE IF THE COORDINATES ARE EXCHANGED IN THEIR NORTH VALUE (LL = UL && UR == LR)
-		else if(ll.getOrdinate(1) > ur.getOrdinate(1) && ll.getOrdinate(0) < ur.getOrdinate(0)){
-			throw new CoordinatesExchangedInNorthingException();
-		}
-		// ELSE IF THE COORDINATES ARE EXCHANGED IN THEIR EAST VALUE (LL = LR && UR == UL)
-		else if(ll.getOrdinate(1) < ur.getOrdinate(1) && ll.getOrdinate(0) > ur.getOrdinate(0)){
-			throw new CoordinatesExchangedInEastingtException();
-		} 
-		// ELSE THROW EXCEPTION
-		else {
+	public BoundingBox(CoordinateReferenceSystem crs, double easting0, double northing0, double easting1, double northing1) throws BoundingboxNotCreatableException {
+		if (crs == null || easting0 == easting1 || northing0 == northing1 || Double.isNaN(easting0 + northing0 + easting1 + northing1)) {
 			log.error("Coordinate2D order impossible!");
-			throw new ImpossibleCoordinateOrderException();
+			throw new BoundingboxNotCreatableException();
 		}
+		this.crs = crs;
+		this.minEasting = Math.min(easting0, easting1);
+		this.minNorthing = Math.min(northing0, northing1);
+		this.maxEasting = Math.max(easting0, easting1);
+		this.maxNorthing = Math.max(northing0, northing1);
 	}
 
-	/**
-	 * Calculates and sets the centered {@link DirectPosition2D} of this
-	 * {@link BoundingBox}.
-	 */
-	private void calcCenterCoordinate() {
-		this.setCenter(new DirectPosition2D(
-				// CRS
-				this.getLl().getCoordinateReferenceSystem(),
-				// ORDAINTE 0 (UTM --> EAST)
-				(this.getLl().getOrdinate(0) + this.getUr().getOrdinate(0)) / 2,
-				// ORDINATE 1 (UTM --> NORTH)
-				(this.getLl().getOrdinate(1) + this.getUr().getOrdinate(1)) / 2));
-		log.debug("Centered Coordinate2D set.");
-	}
-
-	/**
-	 * Calculates the geographical width and height of this {@link BoundingBox}
-	 * in meters and sets it.
-	 * 
-	 * @throws CoordinateTransformException
-	 * @throws MissingCrsException
-	 */
-	private void calcWidthAndHeight() throws CoordinateTransformException, MissingCrsException {
-		// SET THE GEOWIDTH
-		this.setGeoWidth(GeoCalculator.getInstance().pythagoras2D(this.getLl(), this.getLr()));
-		// SET THE GEOHEIGHTS
-		this.setGeoHeight(GeoCalculator.getInstance().pythagoras2D(this.getLl(), this.getUl()));
-		log.debug("Width and height set.");
-	}
+	// METHODS
 
 	/**
 	 * Returns a {@link BoundingBox} with the given width (in meters) aligning
@@ -287,17 +178,7 @@ public class BoundingBox {
 	 * @throws BoundingboxNotCreatableException
 	 */
 	public BoundingBox getBboxRight(double width) throws BoundingboxNotCreatableException {
-		return new BoundingBox(
-				// LOWER LEFT CORNER
-				this.getLr(),
-				// UPPER RIGHT CORNER
-				new DirectPosition2D(
-						// CRS
-						this.getLl().getCoordinateReferenceSystem(),
-						// UPPER RIGHT ORDINATE 0 (UTM --> EAST)
-						this.getUr().getOrdinate(0) + width,
-						// UPPER RIGHT ORDINATE 1 (UTM --> NORTH)
-						this.getUr().getOrdinate(1)));
+		return new BoundingBox(this.getCrs(), this.getMaxEasting(), this.getMinNorthing(), this.getMaxEasting() + width, this.getMaxNorthing());
 	}
 
 	/**
@@ -313,7 +194,7 @@ public class BoundingBox {
 	 * @throws BoundingboxNotCreatableException
 	 */
 	public BoundingBox getBboxLeft(double width) throws BoundingboxNotCreatableException {
-		return new BoundingBox(new DirectPosition2D(this.getLl().getCoordinateReferenceSystem(), this.getLl().getOrdinate(0) - width, this.getLl().getOrdinate(1)), this.getUl());
+		return new BoundingBox(this.getCrs(), this.getMinEasting() - width, this.getMinNorthing(), this.getMinEasting(), this.getMaxNorthing());
 	}
 
 	/**
@@ -330,7 +211,7 @@ public class BoundingBox {
 	 * @throws BoundingboxNotCreatableException
 	 */
 	public BoundingBox getBboxAbove(double height) throws BoundingboxNotCreatableException {
-		return new BoundingBox(this.getUl(), new DirectPosition2D(this.getLl().getCoordinateReferenceSystem(), this.getUr().getOrdinate(0), this.getUr().getOrdinate(1) + height));
+		return new BoundingBox(this.getCrs(), this.getMinEasting(), this.getMaxNorthing(), this.getMaxEasting(), this.getMaxNorthing() + height);
 	}
 
 	/**
@@ -347,20 +228,109 @@ public class BoundingBox {
 	 * @throws BoundingboxNotCreatableException
 	 */
 	public BoundingBox getBboxBelow(double height) throws BoundingboxNotCreatableException {
-		return new BoundingBox(new DirectPosition2D(this.getLl().getCoordinateReferenceSystem(), this.getLl().getOrdinate(0), this.getLl().getOrdinate(1) - height), this.getLr());
+		return new BoundingBox(this.getCrs(), this.getMinEasting(), this.getMinNorthing() - height, this.getMaxEasting(), this.getMinNorthing());
+	}
+
+	/**
+	 * Returns the four quadrants of this {@link BoundingBox} (lower left,
+	 * lower right, upper left, upper right) in an {@link ArrayList}.
+	 * 
+	 * Throws {@link BoundingboxNotCreatableException} if the quadrants could
+	 * not be created.
+	 *
+	 * @return an {@link ArrayList} containing the four quadrants
+	 * @throws BoundingboxNotCreatableException
+	 */
+	public ArrayList<BoundingBox> getQuadrants() throws BoundingboxNotCreatableException {
+		double midE = (this.getMinEasting() + this.getMaxEasting()) / 2;
+		double midN = (this.getMinNorthing() + this.getMaxNorthing()) / 2;
+		ArrayList<BoundingBox> list = new ArrayList<>(4);
+		list.add(new BoundingBox(this.getCrs(), this.getMinEasting(), this.getMinNorthing(), midE, midN));
+		list.add(new BoundingBox(this.getCrs(), midE, this.getMinNorthing(), this.getMaxEasting(), midN));
+		list.add(new BoundingBox(this.getCrs(), this.getMinEasting(), midN, midE, this.getMaxNorthing()));
+		list.add(new BoundingBox(this.getCrs(), midE, midN, this.getMaxEasting(), this.getMaxNorthing()));
+		return list;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if this {@link BoundingBox} and
+	 * the given one share at least one position (touching edges count).
+	 *
+	 * @param other
+	 *            the other {@link BoundingBox}
+	 * @return <code>true</code> if they intersect; <code>false</code> if not
+	 */
+	public boolean intersects(BoundingBox other) {
+		return other != null && this.intersects(other.getMinEasting(), other.getMinNorthing(), other.getMaxEasting(), other.getMaxNorthing());
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if this {@link BoundingBox}
+	 * intersects the rectangle given by its minimal and maximal ordinates.
+	 *
+	 * @param minE
+	 *            the minimal easting
+	 * @param minN
+	 *            the minimal northing
+	 * @param maxE
+	 *            the maximal easting
+	 * @param maxN
+	 *            the maximal northing
+	 * @return <code>true</code> if they intersect; <code>false</code> if not
+	 */
+	public boolean intersects(double minE, double minN, double maxE, double maxN) {
+		return !(minE > this.getMaxEasting() || maxE < this.getMinEasting() || minN > this.getMaxNorthing() || maxN < this.getMinNorthing());
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the given position lays
+	 * inside of or on the border of this {@link BoundingBox}.
+	 *
+	 * @param easting
+	 *            the easting of the position
+	 * @param northing
+	 *            the northing of the position
+	 * @return <code>true</code> if the position is covered; <code>false</code>
+	 *         if not
+	 */
+	public boolean contains(double easting, double northing) {
+		return easting >= this.getMinEasting() && easting <= this.getMaxEasting() && northing >= this.getMinNorthing() && northing <= this.getMaxNorthing();
+	}
+
+	/**
+	 * Returns a new JTS {@link Envelope} covering the same area as this
+	 * {@link BoundingBox}.
+	 *
+	 * @return a new {@link Envelope}
+	 */
+	public Envelope toEnvelope() {
+		return new Envelope(this.getMinEasting(), this.getMaxEasting(), this.getMinNorthing(), this.getMaxNorthing());
+	}
 
+	/**
+	 * Returns a JTS {@link Polygon} covering the same area as this
+	 * {@link BoundingBox}. The {@link Polygon} is created only once and is a
+	 * rectangle, so JTS uses its optimized rectangle predicates on it. It is
+	 * shared and must not be changed.
+	 *
+	 * @return the {@link Polygon} of this {@link BoundingBox}
+	 */
+	public Polygon toPolygon() {
+		if (jtsPolygon == null)
+			jtsPolygon = (Polygon) new GeometryFactory().toGeometry(this.toEnvelope());
+		return jtsPolygon;
 	}
 
 	/**
 	 * Returns a {@link String} containing these informations:
 	 * 
-	 * o lower left northing + "," o lower left easting + "," o upper right
-	 * northing + "," o upper right easting
+	 * o lower left easting + "," o lower left northing + "," o upper right
+	 * easting + "," o upper right northing
 	 *
 	 * @return a {@link String}
 	 */
 	public String getCornersForRequestUTM() {
-		return this.getLl().getOrdinate(0) + "," + this.getLl().getOrdinate(1) + "," + this.getUr().getOrdinate(0) + "," + this.getUr().getOrdinate(1);
+		return this.getMinEasting() + "," + this.getMinNorthing() + "," + this.getMaxEasting() + "," + this.getMaxNorthing();
 	}
 
 	/**
@@ -375,7 +345,7 @@ public class BoundingBox {
 	 * @return an {@link ArrayList} containing all four {@link DirectPosition2D}
 	 */
 	public ArrayList<DirectPosition2D> getCoordsAsArrayList() {
-		ArrayList<DirectPosition2D> list = new ArrayList<>();
+		ArrayList<DirectPosition2D> list = new ArrayList<>(5);
 		list.add(0, this.getLl());
 		list.add(1, this.getUl());
 		list.add(2, this.getUr());
@@ -386,149 +356,127 @@ public class BoundingBox {
 	// GETTERS AND SETTERS
 
 	/**
-	 * Returns the geographical width of this {@link BoundingBox} as
-	 * {@link Double} in meters.
+	 * Returns the {@link CoordinateReferenceSystem} of this {@link BoundingBox}
+	 * .
 	 *
-	 * @return the geoWidth as {@link Double} in meters
+	 * @return the {@link CoordinateReferenceSystem}
 	 */
-	public double getGeoWidth() {
-		return geoWidth;
+	public CoordinateReferenceSystem getCrs() {
+		return crs;
 	}
 
 	/**
-	 * Sets the geographical width of this {@link BoundingBox}.
+	 * Returns the minimal easting of this {@link BoundingBox} as
+	 * {@link Double}.
 	 *
-	 * @param geoWidth
-	 *            the geoWidth to set
+	 * @return the minimal easting
 	 */
-	private void setGeoWidth(double geoWidth) {
-		this.geoWidth = geoWidth;
+	public double getMinEasting() {
+		return minEasting;
 	}
 
 	/**
-	 * Returns the geographical height of this {@link BoundingBox} as
-	 * {@link Double} in meters.
+	 * Returns the minimal northing of this {@link BoundingBox} as
+	 * {@link Double}.
 	 *
-	 * @return the geoHeight as {@link Double} in meters
+	 * @return the minimal northing
 	 */
-	public double getGeoHeight() {
-		return geoHeight;
+	public double getMinNorthing() {
+		return minNorthing;
 	}
 
 	/**
-	 * Sets the geographical height of this {@link BoundingBox}.
+	 * Returns the maximal easting of this {@link BoundingBox} as
+	 * {@link Double}.
 	 *
-	 * @param geoHeight
-	 *            the geoHeight to set
+	 * @return the maximal easting
 	 */
-	private void setGeoHeight(double geoHeight) {
-		this.geoHeight = geoHeight;
+	public double getMaxEasting() {
+		return maxEasting;
 	}
 
 	/**
-	 * Returns the lower left {@link DirectPosition2D} of this
-	 * {@link BoundingBox}.
+	 * Returns the maximal northing of this {@link BoundingBox} as
+	 * {@link Double}.
 	 *
-	 * @return the lower left {@link DirectPosition2D} of this
-	 *         {@link BoundingBox}
+	 * @return the maximal northing
 	 */
-	public DirectPosition2D getLl() {
-		return ll;
+	public double getMaxNorthing() {
+		return maxNorthing;
 	}
 
 	/**
-	 * Sets the lower left {@link DirectPosition2D} of this {@link BoundingBox}.
+	 * Returns the geographical width of this {@link BoundingBox} as
+	 * {@link Double} in meters.
 	 *
-	 * @param ll
-	 *            the {@link DirectPosition2D} to set
+	 * @return the geoWidth as {@link Double} in meters
 	 */
-	private void setLl(DirectPosition2D ll) {
-		this.ll = ll;
+	public double getGeoWidth() {
+		return this.getMaxEasting() - this.getMinEasting();
 	}
 
 	/**
-	 * Returns the upper right {@link DirectPosition2D} of this
-	 * {@link BoundingBox}.
+	 * Returns the geographical height of this {@link BoundingBox} as
+	 * {@link Double} in meters.
 	 *
-	 * @return the upper right {@link DirectPosition2D} of this
-	 *         {@link BoundingBox}
+	 * @return the geoHeight as {@link Double} in meters
 	 */
-	public DirectPosition2D getUr() {
-		return ur;
+	public double getGeoHeight() {
+		return this.getMaxNorthing() - this.getMinNorthing();
 	}
 
 	/**
-	 * Sets the upper right {@link DirectPosition2D} of this {@link BoundingBox}
-	 * .
+	 * Returns the lower left {@link DirectPosition2D} of this
+	 * {@link BoundingBox} as new copy.
 	 *
-	 * @param ur
-	 *            the {@link DirectPosition2D} to set
+	 * @return the lower left {@link DirectPosition2D} of this
+	 *         {@link BoundingBox}
 	 */
-	private void setUr(DirectPosition2D ur) {
-		this.ur = ur;
+	public DirectPosition2D getLl() {
+		return new DirectPosition2D(this.getCrs(), this.getMinEasting(), this.getMinNorthing());
 	}
 
 	/**
-	 * Returns the upper left {@link DirectPosition2D} of this
-	 * {@link BoundingBox}.
+	 * Returns the upper right {@link DirectPosition2D} of this
+	 * {@link BoundingBox} as new copy.
 	 *
-	 * @return the upper left {@link DirectPosition2D} of this
+	 * @return the upper right {@link DirectPosition2D} of this
 	 *         {@link BoundingBox}
 	 */
-	public DirectPosition2D getUl() {
-		return ul;
+	public DirectPosition2D getUr() {
+		return new DirectPosition2D(this.getCrs(), this.getMaxEasting(), this.getMaxNorthing());
 	}
 
 	/**
-	 * Sets the upper left {@link DirectPosition2D} of this {@link BoundingBox}.
+	 * Returns the upper left {@link DirectPosition2D} of this
+	 * {@link BoundingBox} as new copy.
 	 *
-	 * @param ul
-	 *            the {@link DirectPosition2D} to set
+	 * @return the upper left {@link DirectPosition2D} of this
+	 *         {@link BoundingBox}
 	 */
-	private void setUl(DirectPosition2D ul) {
-		this.ul = ul;
+	public DirectPosition2D getUl() {
+		return new DirectPosition2D(this.getCrs(), this.getMinEasting(), this.getMaxNorthing());
 	}
 
 	/**
 	 * Returns the lower right {@link DirectPosition2D} of this
-	 * {@link BoundingBox}.
+	 * {@link BoundingBox} as new copy.
 	 *
 	 * @return the lower right {@link DirectPosition2D} of this
 	 *         {@link BoundingBox}
 	 */
 	public DirectPosition2D getLr() {
-		return lr;
-	}
-
-	/**
-	 * Sets the lower right {@link DirectPosition2D} if this {@link BoundingBox}
-	 * .
-	 *
-	 * @param lr
-	 *            the {@link DirectPosition2D} to set
-	 */
-	private void setLr(DirectPosition2D lr) {
-		this.lr = lr;
+		return new DirectPosition2D(this.getCrs(), this.getMaxEasting(), this.getMinNorthing());
 	}
 
 	/**
 	 * Returns the centered {@link DirectPosition2D} of this {@link BoundingBox}
-	 * .
+	 * as new copy.
 	 *
 	 * @return the centered {@link DirectPosition2D} of this {@link BoundingBox}
 	 */
 	public DirectPosition2D getCenter() {
-		return center;
-	}
-
-	/**
-	 * Sets the centered {@link DirectPosition2D} of this {@link BoundingBox}.
-	 *
-	 * @param center
-	 *            the {@link DirectPosition2D} to set
-	 */
-	private void setCenter(DirectPosition2D center) {
-		this.center = center;
+		return new DirectPosition2D(this.getCrs(), (this.getMinEasting() + this.getMaxEasting()) / 2, (this.getMinNorthing() + this.getMaxNorthing()) / 2);
 	}
 
 	// OTHERS
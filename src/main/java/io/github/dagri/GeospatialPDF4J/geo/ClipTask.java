@@ -0,0 +1,120 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.List;
+import java.util.Set;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+
+/**
+ * {@link GeometryTask} to clip a range of {@link DrawGeometry}s with a
+ * {@link RectangleClipper}. A {@link DrawGeometry} is kept unchanged if it is
+ * covered by the rectangle, replaced by its clipped {@link Geometry} or removed
+ * if nothing is left of it.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class ClipTask extends GeometryTask {
+
+	// ATTRIBUTES
+
+	/**
+	 * The serial version UID.
+	 */
+	private static final long			serialVersionUID	= 1L;
+
+	/**
+	 * The {@link RectangleClipper} to clip with.
+	 */
+	private final RectangleClipper		clipper;
+
+	/**
+	 * The {@link Set} of {@link DrawGeometry}s whose envelopes intersect the
+	 * rectangle.
+	 */
+	private final Set<DrawGeometry>		candidates;
+
+	/**
+	 * The number of vertices from which on a {@link Geometry} is kept
+	 * unclipped.
+	 */
+	private final int					keepVertices;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link ClipTask} using the {@link List} of
+	 * {@link DrawGeometry}s, the result array, the range and the parameters of
+	 * the clipping.
+	 *
+	 * @param geoms
+	 *            the {@link List} of {@link DrawGeometry}s to clip
+	 * @param results
+	 *            the array to write the results into, at least as large as the
+	 *            {@link List}
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param clipper
+	 *            the {@link RectangleClipper} to clip with
+	 * @param candidates
+	 *            the {@link Set} of {@link DrawGeometry}s whose envelopes
+	 *            intersect the rectangle
+	 * @param keepVertices
+	 *            the number of vertices from which on a {@link Geometry} is
+	 *            kept unclipped ({@link Integer#MAX_VALUE} to clip all)
+	 */
+	public ClipTask(List<? extends DrawGeometry> geoms, Geometry[] results, int from, int to, RectangleClipper clipper, Set<DrawGeometry> candidates, int keepVertices) {
+		super(geoms, results, from, to);
+		this.clipper = clipper;
+		this.candidates = candidates;
+		this.keepVertices = keepVertices;
+	}
+
+	// INHERITED METHODS
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.github.dagri.GeospatialPDF4J.geo.GeometryTask#process(io.github.dagri.
+	 * GeospatialPDF4J.draw.geometries.DrawGeometry)
+	 */
+	@Override
+	protected Geometry process(DrawGeometry actual) {
+		Geometry jts = actual.getJtsGeometry();
+		Envelope env = jts.getEnvelopeInternal();
+		Envelope clip = this.clipper.getEnvelope();
+		// COVERED BY THE RECTANGLE (ALSO HOLDS FOR PARTS ADDED AFTER THE INDEX
+		// WAS BUILT, THEY ARE ALREADY CLIPPED)
+		if (clip.contains(env))
+			return jts;
+		if (jts.getNumPoints() >= this.keepVertices && clip.intersects(env))
+			return jts;
+		if (!this.candidates.contains(actual))
+			return null;
+		Geometry g = this.clipper.clip(jts);
+		return g.isEmpty() ? null : g;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.github.dagri.GeospatialPDF4J.geo.GeometryTask#createSubtask(int,
+	 * int)
+	 */
+	@Override
+	protected GeometryTask createSubtask(int from, int to) {
+		return new ClipTask(this.getGeoms(), this.getResults(), from, to, this.clipper, this.candidates, this.keepVertices);
+	}
+
+	// METHODS
+
+	// GETTERS AND SETTERS
+
+	// OTHERS
+}
@@ -0,0 +1,20 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.Enumeration;
+
+/**
+ * {@link Enumeration} that is containing the possible ways to clip the content
+ * of a {@link GeometryContainer} to a {@link BoundingBox}.
+ * 
+ * o GEOMETRIC : All geometries are clipped by a {@link RectangleClipper}. o
+ * PDF_CLIPPING_PATH : Large polygons are kept unclipped and a clipping path is
+ * set on the PDF page instead.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public enum EClipMode {
+
+	GEOMETRIC, PDF_CLIPPING_PATH
+
+}
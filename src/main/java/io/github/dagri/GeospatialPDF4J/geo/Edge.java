@@ -0,0 +1,149 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+/**
+ * Class to represent an undirected straight edge between two positions, used
+ * to find the borders shared by neighbouring polygons.
+ * 
+ * The positions are stored in a normalized order (the lexicographic smaller
+ * one first), so the edges A-B and B-A are equal.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public final class Edge {
+
+	// ATTRIBUTES
+
+	/**
+	 * The X-value of the first position.
+	 */
+	private final double	x0;
+
+	/**
+	 * The Y-value of the first position.
+	 */
+	private final double	y0;
+
+	/**
+	 * The X-value of the second position.
+	 */
+	private final double	x1;
+
+	/**
+	 * The Y-value of the second position.
+	 */
+	private final double	y1;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for an {@link Edge} using the ordinates of its two
+	 * positions in any order.
+	 *
+	 * @param ax
+	 *            the X-value of the first position
+	 * @param ay
+	 *            the Y-value of the first position
+	 * @param bx
+	 *            the X-value of the second position
+	 * @param by
+	 *            the Y-value of the second position
+	 */
+	public Edge(double ax, double ay, double bx, double by) {
+		if (ax < bx || (ax == bx && ay <= by)) {
+			this.x0 = ax;
+			this.y0 = ay;
+			this.x1 = bx;
+			this.y1 = by;
+		} else {
+			this.x0 = bx;
+			this.y0 = by;
+			this.x1 = ax;
+			this.y1 = ay;
+		}
+	}
+
+	// INHERITED METHODS
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof Edge))
+			return false;
+		Edge other = (Edge) obj;
+		return this.x0 == other.x0 && this.y0 == other.y0 && this.x1 == other.x1 && this.y1 == other.y1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		long h = Double.doubleToLongBits(this.x0);
+		h = 31 * h + Double.doubleToLongBits(this.y0);
+		h = 31 * h + Double.doubleToLongBits(this.x1);
+		h = 31 * h + Double.doubleToLongBits(this.y1);
+		return (int) (h ^ (h >>> 32));
+	}
+
+	// METHODS
+
+	/**
+	 * Returns a {@link Boolean} that indicates if both positions of this
+	 * {@link Edge} are equal.
+	 *
+	 * @return <code>true</code> if the {@link Edge} has no length;
+	 *         <code>false</code> if not
+	 */
+	public boolean isDegenerate() {
+		return this.x0 == this.x1 && this.y0 == this.y1;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the X-value of the first position.
+	 *
+	 * @return the X-value of the first position
+	 */
+	public double getX0() {
+		return x0;
+	}
+
+	/**
+	 * Returns the Y-value of the first position.
+	 *
+	 * @return the Y-value of the first position
+	 */
+	public double getY0() {
+		return y0;
+	}
+
+	/**
+	 * Returns the X-value of the second position.
+	 *
+	 * @return the X-value of the second position
+	 */
+	public double getX1() {
+		return x1;
+	}
+
+	/**
+	 * Returns the Y-value of the second position.
+	 *
+	 * @return the Y-value of the second position
+	 */
+	public double getY1() {
+		return y1;
+	}
+
+	// OTHERS
+}
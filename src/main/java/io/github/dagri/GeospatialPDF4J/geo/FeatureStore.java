@@ -0,0 +1,721 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.LinearRing;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiPolygon;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPoint;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.res.InfoTupel;
+
+/**
+ * Class to store {@link DrawGeometry}s and their {@link AdditionalInfo}s in
+ * columns of primitive arrays instead of objects, e.g. to keep large layers
+ * between receiving and drawing.
+ *
+ * All coordinates are stored in one buffer (easting and northing
+ * alternating). A geometry consists of parts (the polygons of a multipolygon,
+ * the lines of a multilinestring), a part of rings (the shell and the holes of
+ * a polygon) and a ring of vertices; the ends of each level are stored as
+ * offsets into the next one. The envelopes of the geometries are stored as
+ * well, so a {@link BoundingBox} can be filtered without any JTS object.
+ *
+ * The geometries of a feature share one {@link AdditionalInfo}. The
+ * attributes are stored per feature as key indices (into a dictionary of the
+ * keys) and values, together with the id of the feature in its source (e.g.
+ * the gml:id), if known.
+ *
+ * The decoders write into the store through a {@link GeometryContainer}
+ * backed by it (see {@link GeometryContainer#GeometryContainer(FeatureStore)}
+ * ), so a received {@link DrawGeometry} is released as soon as it is added.
+ * The features stay open until {@link #closeFeatures()}: their attributes may
+ * still be decoded after their geometries and are stored on closing.
+ * {@link #discardFeatures()} drops the open features of a failed response.
+ *
+ * JTS {@link Geometry}s are created on demand only, see
+ * {@link #toContainer(BoundingBox)}. They read the coordinate buffer through
+ * {@link StoreCoordinateSequence}s, so clipping and drawing work on the
+ * columns without copying a vertex.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class FeatureStore {
+
+	// ATTRIBUTES
+
+	/**
+	 * The type tag of a {@link DrawPoint}.
+	 */
+	public static final byte				POINT				= 0;
+
+	/**
+	 * The type tag of a {@link DrawLineString}.
+	 */
+	public static final byte				LINESTRING			= 1;
+
+	/**
+	 * The type tag of a {@link DrawPolygon}.
+	 */
+	public static final byte				POLYGON				= 2;
+
+	/**
+	 * The type tag of a {@link DrawMultiLineString}.
+	 */
+	public static final byte				MULTILINESTRING		= 3;
+
+	/**
+	 * The type tag of a {@link DrawMultiPolygon}.
+	 */
+	public static final byte				MULTIPOLYGON		= 4;
+
+	/**
+	 * The coordinates of all vertices (easting and northing alternating).
+	 */
+	private double[]						coords				= new double[1024];
+
+	/**
+	 * The number of vertices.
+	 */
+	private int								vertexCount			= 0;
+
+	/**
+	 * The end (exclusive vertex index) of every ring.
+	 */
+	private int[]							ringEnds			= new int[64];
+
+	/**
+	 * The number of rings.
+	 */
+	private int								ringCount			= 0;
+
+	/**
+	 * The end (exclusive ring index) of every part.
+	 */
+	private int[]							partEnds			= new int[64];
+
+	/**
+	 * The number of parts.
+	 */
+	private int								partCount			= 0;
+
+	/**
+	 * The type tag of every geometry.
+	 */
+	private byte[]							types				= new byte[64];
+
+	/**
+	 * The end (exclusive part index) of every geometry.
+	 */
+	private int[]							geometryEnds		= new int[64];
+
+	/**
+	 * The feature index of every geometry.
+	 */
+	private int[]							features			= new int[64];
+
+	/**
+	 * The envelope of every geometry as minE, minN, maxE, maxN.
+	 */
+	private double[]						envelopes			= new double[256];
+
+	/**
+	 * The number of geometries.
+	 */
+	private int								geometryCount		= 0;
+
+	/**
+	 * The end (exclusive attribute index) of the attributes of every feature.
+	 */
+	private int[]							attributeEnds		= new int[64];
+
+	/**
+	 * The source id of every feature or <code>null</code> if unknown.
+	 */
+	private String[]						featureIds			= new String[64];
+
+	/**
+	 * The number of features.
+	 */
+	private int								featureCount		= 0;
+
+	/**
+	 * The key index of every attribute.
+	 */
+	private int[]							attributeKeys		= new int[256];
+
+	/**
+	 * The value of every attribute.
+	 */
+	private String[]						attributeValues		= new String[256];
+
+	/**
+	 * The number of attributes.
+	 */
+	private int								attributeCount		= 0;
+
+	/**
+	 * The dictionary of the attribute keys.
+	 */
+	private ArrayList<String>				keys				= new ArrayList<>();
+
+	/**
+	 * The indices of the attribute keys.
+	 */
+	private HashMap<String, Integer>		keyIndices			= new HashMap<>();
+
+	/**
+	 * The {@link AdditionalInfo}s of the open features, whose attributes are
+	 * stored on closing.
+	 */
+	private ArrayList<AdditionalInfo>		openInfos			= new ArrayList<>();
+
+	/**
+	 * The feature indices of the open features by their
+	 * {@link AdditionalInfo}s.
+	 */
+	private IdentityHashMap<AdditionalInfo, Integer>	openFeatures	= new IdentityHashMap<>();
+
+	/**
+	 * The number of geometries of the closed features.
+	 */
+	private int								closedGeometryCount	= 0;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Empty constructor for a {@link FeatureStore}.
+	 */
+	public FeatureStore() {
+		// NOTHING
+	}
+
+	// METHODS
+
+	/**
+	 * Adds all {@link DrawGeometry}s of the given {@link GeometryContainer}
+	 * and closes their features.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to add
+	 */
+	public void addAll(GeometryContainer container) {
+		this.addAll(container, null);
+	}
+
+	/**
+	 * Adds all {@link DrawGeometry}s of the given {@link GeometryContainer}
+	 * and closes their features with their source ids.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to add
+	 * @param ids
+	 *            the source ids of the features by their
+	 *            {@link AdditionalInfo}s or <code>null</code> if unknown
+	 */
+	public void addAll(GeometryContainer container, Map<AdditionalInfo, String> ids) {
+		this.addAll(container.getDrawPoints());
+		this.addAll(container.getDrawLineStrings());
+		this.addAll(container.getMutliLineStrings());
+		this.addAll(container.getDrawPolygons());
+		this.addAll(container.getMultiPolygons());
+		this.closeFeatures(ids);
+	}
+
+	/**
+	 * Adds the given {@link DrawGeometry}s to the open features.
+	 *
+	 * @param geoms
+	 *            the {@link DrawGeometry}s to add
+	 */
+	public void addAll(ArrayList<? extends DrawGeometry> geoms) {
+		for (int a = 0; a < geoms.size(); a++)
+			this.add(geoms.get(a));
+	}
+
+	/**
+	 * Adds the given {@link DrawGeometry} to the open feature of its
+	 * {@link AdditionalInfo}. The feature is opened on its first
+	 * {@link DrawGeometry}; the geometries of a feature share its
+	 * {@link AdditionalInfo}.
+	 *
+	 * @param g
+	 *            the {@link DrawGeometry} to add
+	 */
+	public void add(DrawGeometry g) {
+		byte type;
+		if (g instanceof DrawPoint)
+			type = POINT;
+		else if (g instanceof DrawLineString)
+			type = LINESTRING;
+		else if (g instanceof DrawPolygon)
+			type = POLYGON;
+		else if (g instanceof DrawMultiLineString)
+			type = MULTILINESTRING;
+		else if (g instanceof DrawMultiPolygon)
+			type = MULTIPOLYGON;
+		else
+			return;
+		Integer feature = this.openFeatures.get(g.getInfo());
+		if (feature == null) {
+			feature = this.featureCount++;
+			this.openFeatures.put(g.getInfo(), feature);
+			this.openInfos.add(g.getInfo());
+		}
+		this.add(g.getJtsGeometry(), type, feature);
+	}
+
+	/**
+	 * Closes the open features: their attributes are stored and their
+	 * {@link AdditionalInfo}s released. Only closed features are returned by
+	 * {@link #toContainer(BoundingBox)}.
+	 */
+	public void closeFeatures() {
+		this.closeFeatures(null);
+	}
+
+	/**
+	 * Closes the open features with their source ids, see
+	 * {@link #closeFeatures()}.
+	 *
+	 * @param ids
+	 *            the source ids of the features by their
+	 *            {@link AdditionalInfo}s or <code>null</code> if unknown
+	 */
+	public void closeFeatures(Map<AdditionalInfo, String> ids) {
+		this.attributeEnds = grow(this.attributeEnds, this.featureCount);
+		if (this.featureIds.length < this.featureCount)
+			this.featureIds = Arrays.copyOf(this.featureIds, Math.max(this.featureIds.length * 2, this.featureCount));
+		int first = this.featureCount - this.openInfos.size();
+		for (int a = 0; a < this.openInfos.size(); a++) {
+			AdditionalInfo info = this.openInfos.get(a);
+			int count = info == null ? 0 : info.infoCount();
+			this.attributeKeys = grow(this.attributeKeys, this.attributeCount + count);
+			if (this.attributeValues.length < this.attributeCount + count)
+				this.attributeValues = Arrays.copyOf(this.attributeValues, Math.max(this.attributeValues.length * 2, this.attributeCount + count));
+			for (int b = 0; b < count; b++) {
+				InfoTupel t = info.getInfos().get(b);
+				this.attributeKeys[this.attributeCount] = this.keyIndex(t.getKey());
+				this.attributeValues[this.attributeCount] = t.getValue();
+				this.attributeCount++;
+			}
+			this.attributeEnds[first + a] = this.attributeCount;
+			this.featureIds[first + a] = ids == null ? null : ids.get(info);
+		}
+		this.openInfos.clear();
+		this.openFeatures.clear();
+		this.closedGeometryCount = this.geometryCount;
+	}
+
+	/**
+	 * Drops the open features and their geometries, e.g. of a response that
+	 * failed while it was decoded.
+	 */
+	public void discardFeatures() {
+		this.featureCount -= this.openInfos.size();
+		this.geometryCount = this.closedGeometryCount;
+		this.partCount = this.geometryCount == 0 ? 0 : this.geometryEnds[this.geometryCount - 1];
+		this.ringCount = this.partCount == 0 ? 0 : this.partEnds[this.partCount - 1];
+		this.vertexCount = this.ringCount == 0 ? 0 : this.ringEnds[this.ringCount - 1];
+		this.openInfos.clear();
+		this.openFeatures.clear();
+	}
+
+	/**
+	 * Returns the index of the given key in the dictionary of the attribute
+	 * keys. The key is added on the first request.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the index of the key
+	 */
+	private int keyIndex(String key) {
+		Integer index = this.keyIndices.get(key);
+		if (index == null) {
+			index = this.keys.size();
+			this.keys.add(key);
+			this.keyIndices.put(key, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Adds the given {@link Geometry} of the given feature.
+	 *
+	 * @param g
+	 *            the {@link Geometry} to add
+	 * @param type
+	 *            the type tag of the {@link Geometry}
+	 * @param feature
+	 *            the index of the feature
+	 */
+	private void add(Geometry g, byte type, int feature) {
+		int first = this.vertexCount;
+		double minE = Double.POSITIVE_INFINITY;
+		double minN = Double.POSITIVE_INFINITY;
+		double maxE = Double.NEGATIVE_INFINITY;
+		double maxN = Double.NEGATIVE_INFINITY;
+		for (int a = 0; a < g.getNumGeometries(); a++) {
+			Geometry part = g.getGeometryN(a);
+			if (part instanceof Polygon) {
+				Polygon p = (Polygon) part;
+				this.addRing(p.getExteriorRing().getCoordinateSequence());
+				for (int b = 0; b < p.getNumInteriorRing(); b++)
+					this.addRing(p.getInteriorRingN(b).getCoordinateSequence());
+			} else if (part instanceof LineString) {
+				this.addRing(((LineString) part).getCoordinateSequence());
+			} else if (part instanceof Point) {
+				this.addRing(((Point) part).getCoordinateSequence());
+			}
+			this.partEnds = grow(this.partEnds, this.partCount + 1);
+			this.partEnds[this.partCount++] = this.ringCount;
+		}
+		// THE ENVELOPE OF THE NEW VERTICES
+		for (int a = first; a < this.vertexCount; a++) {
+			double e = this.coords[2 * a];
+			double n = this.coords[2 * a + 1];
+			minE = Math.min(minE, e);
+			minN = Math.min(minN, n);
+			maxE = Math.max(maxE, e);
+			maxN = Math.max(maxN, n);
+		}
+
+		int i = this.geometryCount;
+		if (this.types.length <= i)
+			this.types = Arrays.copyOf(this.types, Math.max(this.types.length * 2, i + 1));
+		this.geometryEnds = grow(this.geometryEnds, i + 1);
+		this.features = grow(this.features, i + 1);
+		if (this.envelopes.length < 4 * (i + 1))
+			this.envelopes = Arrays.copyOf(this.envelopes, Math.max(this.envelopes.length * 2, 4 * (i + 1)));
+		this.types[i] = type;
+		this.geometryEnds[i] = this.partCount;
+		this.features[i] = feature;
+		this.envelopes[4 * i] = minE;
+		this.envelopes[4 * i + 1] = minN;
+		this.envelopes[4 * i + 2] = maxE;
+		this.envelopes[4 * i + 3] = maxN;
+		this.geometryCount++;
+	}
+
+	/**
+	 * Adds the vertices of the given {@link CoordinateSequence} as ring.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} to add
+	 */
+	private void addRing(CoordinateSequence seq) {
+		int size = seq.size();
+		if (this.coords.length < 2 * (this.vertexCount + size))
+			this.coords = Arrays.copyOf(this.coords, Math.max(this.coords.length * 2, 2 * (this.vertexCount + size)));
+		for (int a = 0; a < size; a++) {
+			this.coords[2 * this.vertexCount] = seq.getX(a);
+			this.coords[2 * this.vertexCount + 1] = seq.getY(a);
+			this.vertexCount++;
+		}
+		this.ringEnds = grow(this.ringEnds, this.ringCount + 1);
+		this.ringEnds[this.ringCount++] = this.vertexCount;
+	}
+
+	/**
+	 * Returns the given array, enlarged if it is shorter than the given length.
+	 *
+	 * @param array
+	 *            the array
+	 * @param length
+	 *            the needed length
+	 * @return the array or an enlarged copy
+	 */
+	private static int[] grow(int[] array, int length) {
+		if (array.length >= length)
+			return array;
+		return Arrays.copyOf(array, Math.max(array.length * 2, length));
+	}
+
+	/**
+	 * Shrinks all arrays to their content. The open features are closed
+	 * before.
+	 */
+	public void trim() {
+		this.closeFeatures();
+		this.coords = Arrays.copyOf(this.coords, 2 * this.vertexCount);
+		this.ringEnds = Arrays.copyOf(this.ringEnds, this.ringCount);
+		this.partEnds = Arrays.copyOf(this.partEnds, this.partCount);
+		this.types = Arrays.copyOf(this.types, this.geometryCount);
+		this.geometryEnds = Arrays.copyOf(this.geometryEnds, this.geometryCount);
+		this.features = Arrays.copyOf(this.features, this.geometryCount);
+		this.envelopes = Arrays.copyOf(this.envelopes, 4 * this.geometryCount);
+		this.attributeEnds = Arrays.copyOf(this.attributeEnds, this.featureCount);
+		this.featureIds = Arrays.copyOf(this.featureIds, this.featureCount);
+		this.attributeKeys = Arrays.copyOf(this.attributeKeys, this.attributeCount);
+		this.attributeValues = Arrays.copyOf(this.attributeValues, this.attributeCount);
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the envelope of the
+	 * geometry at the given index intersects the given {@link BoundingBox}.
+	 *
+	 * @param index
+	 *            the index of the geometry
+	 * @param bbox
+	 *            the {@link BoundingBox} or <code>null</code> for all
+	 * @return <code>true</code> if they intersect; <code>false</code> if not
+	 */
+	public boolean intersects(int index, BoundingBox bbox) {
+		return bbox == null || bbox.intersects(this.envelopes[4 * index], this.envelopes[4 * index + 1], this.envelopes[4 * index + 2], this.envelopes[4 * index + 3]);
+	}
+
+	/**
+	 * Creates a new {@link GeometryContainer} of the geometries of the closed
+	 * features whose envelope intersects the given {@link BoundingBox}. Only
+	 * their JTS {@link Geometry}s and {@link AdditionalInfo}s are created; the
+	 * geometries read the coordinate buffer of this {@link FeatureStore}.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} or <code>null</code> for all
+	 *            geometries
+	 * @return the new {@link GeometryContainer}
+	 */
+	public GeometryContainer toContainer(BoundingBox bbox) {
+		return this.toContainer(bbox, null);
+	}
+
+	/**
+	 * Creates a new {@link GeometryContainer} of the geometries whose envelope
+	 * intersects the given {@link BoundingBox}, see
+	 * {@link #toContainer(BoundingBox)}. The known source ids of their
+	 * features are added to the given {@link Map}.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} or <code>null</code> for all
+	 *            geometries
+	 * @param ids
+	 *            the {@link Map} to fill with the source ids by the created
+	 *            {@link AdditionalInfo}s or <code>null</code>
+	 * @return the new {@link GeometryContainer}
+	 */
+	public GeometryContainer toContainer(BoundingBox bbox, Map<AdditionalInfo, String> ids) {
+		GeometryContainer container = new GeometryContainer();
+		GeometryFactory factory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+		AdditionalInfo[] infos = new AdditionalInfo[this.featureCount];
+		for (int a = 0; a < this.closedGeometryCount; a++) {
+			if (!this.intersects(a, bbox))
+				continue;
+			int feature = this.features[a];
+			if (infos[feature] == null) {
+				infos[feature] = this.createInfo(feature);
+				if (ids != null && this.featureIds[feature] != null)
+					ids.put(infos[feature], this.featureIds[feature]);
+			}
+			container.addDrawGeometry(this.createDrawGeometry(a, factory, infos[feature]));
+		}
+		return container;
+	}
+
+	/**
+	 * Creates a new {@link AdditionalInfo} of the feature at the given index.
+	 *
+	 * @param feature
+	 *            the index of the feature
+	 * @return the new {@link AdditionalInfo}
+	 */
+	public AdditionalInfo createInfo(int feature) {
+		AdditionalInfo info = new AdditionalInfo();
+		int start = feature == 0 ? 0 : this.attributeEnds[feature - 1];
+		for (int a = start; a < this.attributeEnds[feature]; a++)
+			info.addInfo(this.keys.get(this.attributeKeys[a]), this.attributeValues[a]);
+		return info;
+	}
+
+	/**
+	 * Creates a new {@link DrawGeometry} of the geometry at the given index.
+	 *
+	 * @param index
+	 *            the index of the geometry
+	 * @param factory
+	 *            the {@link GeometryFactory} to create the JTS
+	 *            {@link Geometry} with
+	 * @param info
+	 *            the {@link AdditionalInfo} of the new {@link DrawGeometry}
+	 * @return the new {@link DrawGeometry}
+	 */
+	public DrawGeometry createDrawGeometry(int index, GeometryFactory factory, AdditionalInfo info) {
+		int firstPart = index == 0 ? 0 : this.geometryEnds[index - 1];
+		int lastPart = this.geometryEnds[index];
+		switch (this.types[index]) {
+		case POINT:
+			return new DrawPoint(factory.createPoint(this.createSequence(this.partStart(firstPart))), info);
+		case LINESTRING:
+			return new DrawLineString(factory.createLineString(this.createSequence(this.partStart(firstPart))), info);
+		case POLYGON:
+			return new DrawPolygon(this.createPolygon(firstPart, factory), info);
+		case MULTILINESTRING:
+			LineString[] lines = new LineString[lastPart - firstPart];
+			for (int a = 0; a < lines.length; a++)
+				lines[a] = factory.createLineString(this.createSequence(this.partStart(firstPart + a)));
+			return new DrawMultiLineString(factory.createMultiLineString(lines), info);
+		default:
+			Polygon[] polygons = new Polygon[lastPart - firstPart];
+			for (int a = 0; a < polygons.length; a++)
+				polygons[a] = this.createPolygon(firstPart + a, factory);
+			return new DrawMultiPolygon(factory.createMultiPolygon(polygons), info);
+		}
+	}
+
+	/**
+	 * Returns the index of the first ring of the part at the given index.
+	 *
+	 * @param part
+	 *            the index of the part
+	 * @return the index of the first ring
+	 */
+	private int partStart(int part) {
+		return part == 0 ? 0 : this.partEnds[part - 1];
+	}
+
+	/**
+	 * Creates the {@link Polygon} of the part at the given index.
+	 *
+	 * @param part
+	 *            the index of the part
+	 * @param factory
+	 *            the {@link GeometryFactory} to use
+	 * @return the new {@link Polygon}
+	 */
+	private Polygon createPolygon(int part, GeometryFactory factory) {
+		int first = this.partStart(part);
+		LinearRing shell = factory.createLinearRing(this.createSequence(first));
+		LinearRing[] holes = new LinearRing[this.partEnds[part] - first - 1];
+		for (int a = 0; a < holes.length; a++)
+			holes[a] = factory.createLinearRing(this.createSequence(first + 1 + a));
+		return factory.createPolygon(shell, holes);
+	}
+
+	/**
+	 * Creates a new {@link StoreCoordinateSequence} of the ring at the given
+	 * index, reading the coordinate buffer without a copy.
+	 *
+	 * @param ring
+	 *            the index of the ring
+	 * @return the new {@link CoordinateSequence}
+	 */
+	private CoordinateSequence createSequence(int ring) {
+		int start = ring == 0 ? 0 : this.ringEnds[ring - 1];
+		return new StoreCoordinateSequence(this.coords, start, this.ringEnds[ring] - start);
+	}
+
+	/**
+	 * Returns the values of the given key per feature.
+	 *
+	 * @param key
+	 *            the key of the attribute
+	 * @return the values, <code>null</code> for the features without the
+	 *         attribute
+	 */
+	public String[] getColumn(String key) {
+		String[] erg = new String[this.featureCount];
+		Integer index = this.keyIndices.get(key);
+		if (index == null)
+			return erg;
+		// THE OPEN FEATURES HAVE NO STORED ATTRIBUTES YET
+		for (int a = 0; a < this.featureCount - this.openInfos.size(); a++) {
+			int start = a == 0 ? 0 : this.attributeEnds[a - 1];
+			for (int b = start; b < this.attributeEnds[a]; b++) {
+				if (this.attributeKeys[b] == index) {
+					erg[a] = this.attributeValues[b];
+					break;
+				}
+			}
+		}
+		return erg;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the number of geometries.
+	 *
+	 * @return the number of geometries
+	 */
+	public int size() {
+		return geometryCount;
+	}
+
+	/**
+	 * Returns the number of features.
+	 *
+	 * @return the number of features
+	 */
+	public int getFeatureCount() {
+		return featureCount;
+	}
+
+	/**
+	 * Returns the number of vertices.
+	 *
+	 * @return the number of vertices
+	 */
+	public int getVertexCount() {
+		return vertexCount;
+	}
+
+	/**
+	 * Returns the type tag of the geometry at the given index.
+	 *
+	 * @param index
+	 *            the index of the geometry
+	 * @return the type tag
+	 */
+	public byte getType(int index) {
+		return this.types[index];
+	}
+
+	/**
+	 * Returns the feature index of the geometry at the given index.
+	 *
+	 * @param index
+	 *            the index of the geometry
+	 * @return the index of the feature
+	 */
+	public int getFeature(int index) {
+		return this.features[index];
+	}
+
+	/**
+	 * Returns the source id of the feature at the given index.
+	 *
+	 * @param feature
+	 *            the index of the feature
+	 * @return the source id or <code>null</code> if unknown
+	 */
+	public String getFeatureId(int feature) {
+		return this.featureIds[feature];
+	}
+
+	/**
+	 * Returns the keys of all attributes in the order of their first
+	 * appearance.
+	 *
+	 * @return the {@link ArrayList} of keys
+	 */
+	public ArrayList<String> getKeys() {
+		return keys;
+	}
+
+	// OTHERS
+}
@@ -1,12 +1,22 @@
 package io.github.dagri.GeospatialPDF4J.geo;
 
 import java.util.ArrayList;
-
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequence;
 import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.LineString;
 import com.vividsolutions.jts.geom.MultiLineString;
 import com.vividsolutions.jts.geom.MultiPolygon;
 import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.index.strtree.STRtree;
+import com.vividsolutions.jts.operation.linemerge.LineMerger;
 
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
@@ -22,6 +32,10 @@ import lombok.extern.slf4j.Slf4j;
  * {@link DrawPolygon}s, {@link DrawMultiLineString} and
  * {@link DrawMultiPolygon}s and provide various actions on them.
  * 
+ * A {@link GeometryContainer} backed by a {@link FeatureStore} writes all
+ * added {@link DrawGeometry}s into the columns of the store instead of its
+ * {@link ArrayList}s, which stay empty.
+ * 
  * @author DaGri
  * @since 03.02.2017
  */
@@ -55,6 +69,30 @@ public class GeometryContainer {
 	 */
 	private ArrayList<DrawPoint>			drawPoints				= new ArrayList<>();
 
+	/**
+	 * The {@link STRtree} over the envelopes of all stored {@link DrawGeometry}
+	 * s. Built on the first request and dropped when the content changes.
+	 */
+	private STRtree							index;
+
+	/**
+	 * The number of {@link DrawGeometry}s the {@link STRtree} was built with.
+	 */
+	private int								indexedCount			= -1;
+
+	/**
+	 * The number of vertices from which on a {@link DrawPolygon} or
+	 * {@link DrawMultiPolygon} is not clipped geometrically using
+	 * {@link EClipMode#PDF_CLIPPING_PATH}.
+	 */
+	private int								largePolygonVertices	= 10000;
+
+	/**
+	 * The {@link FeatureStore} the added {@link DrawGeometry}s are written to
+	 * or <code>null</code> to keep them in the {@link ArrayList}s.
+	 */
+	private FeatureStore					featureStore			= null;
+
 	// CONSTRUCTORS
 
 	/**
@@ -64,6 +102,18 @@ public class GeometryContainer {
 		// NOTHING
 	}
 
+	/**
+	 * Constructor for a {@link GeometryContainer} backed by the given
+	 * {@link FeatureStore}: the added {@link DrawGeometry}s are written to the
+	 * store.
+	 *
+	 * @param featureStore
+	 *            the {@link FeatureStore} to write to
+	 */
+	public GeometryContainer(FeatureStore featureStore) {
+		this.setFeatureStore(featureStore);
+	}
+
 	// METHODS
 
 	/**
@@ -74,8 +124,13 @@ public class GeometryContainer {
 	 *            the {@link DrawPolygon} to add
 	 */
 	public void addDrawPolygon(DrawPolygon p) {
-		if (p != null)
-			this.getDrawPolygons().add(p);
+		if (p != null) {
+			if (this.getFeatureStore() != null)
+				this.getFeatureStore().add(p);
+			else
+				this.getDrawPolygons().add(p);
+			this.setIndex(null);
+		}
 	}
 
 	/**
@@ -86,8 +141,13 @@ public class GeometryContainer {
 	 *            the {@link DrawLineString} to add
 	 */
 	public void addDrawLineString(DrawLineString ls) {
-		if (ls != null)
-			this.getDrawLineStrings().add(ls);
+		if (ls != null) {
+			if (this.getFeatureStore() != null)
+				this.getFeatureStore().add(ls);
+			else
+				this.getDrawLineStrings().add(ls);
+			this.setIndex(null);
+		}
 	}
 
 	/**
@@ -98,8 +158,13 @@ public class GeometryContainer {
 	 *            the {@link DrawMultiPolygon} to add
 	 */
 	public void addDrawMultiPolygon(DrawMultiPolygon mp) {
-		if (mp != null)
-			this.getMultiPolygons().add(mp);
+		if (mp != null) {
+			if (this.getFeatureStore() != null)
+				this.getFeatureStore().add(mp);
+			else
+				this.getMultiPolygons().add(mp);
+			this.setIndex(null);
+		}
 	}
 
 	/**
@@ -110,8 +175,13 @@ public class GeometryContainer {
 	 *            the {@link DrawMultiLineString} to add
 	 */
 	public void addDrawMultiLineString(DrawMultiLineString mls) {
-		if (mls != null)
-			this.getMutliLineStrings().add(mls);
+		if (mls != null) {
+			if (this.getFeatureStore() != null)
+				this.getFeatureStore().add(mls);
+			else
+				this.getMutliLineStrings().add(mls);
+			this.setIndex(null);
+		}
 	}
 
 	/**
@@ -122,8 +192,13 @@ public class GeometryContainer {
 	 *            the {@link DrawPoint} to add
 	 */
 	public void addDrawPoint(DrawPoint dp) {
-		if (dp != null)
-			this.getDrawPoints().add(dp);
+		if (dp != null) {
+			if (this.getFeatureStore() != null)
+				this.getFeatureStore().add(dp);
+			else
+				this.getDrawPoints().add(dp);
+			this.setIndex(null);
+		}
 	}
 
 	/**
@@ -155,6 +230,10 @@ public class GeometryContainer {
 	 *            the {@link ArrayList} of {@link DrawGeometry}s.
 	 */
 	public void addDrawGeometrys(ArrayList<DrawGeometry> geomList) {
+		if (this.getFeatureStore() != null) {
+			this.getFeatureStore().addAll(geomList);
+			return;
+		}
 		for (int a = 0; a < geomList.size(); a++) {
 			DrawGeometry temp = geomList.get(a);
 			if (temp instanceof DrawPoint) {
@@ -171,230 +250,491 @@ public class GeometryContainer {
 				log.warn("Could not sort in the DrawGeometry at index " + a + "!");
 			}
 		}
+		this.setIndex(null);
 	}
 
 	/**
-	 * Intersects the internal stored {@link DrawPoint}s, {@link DrawLineString}
-	 * and {@link DrawPolygon}s with the given {@link BoundingBox}.
+	 * Appends all {@link DrawGeometry}s of the given {@link GeometryContainer}
+	 * to the internal {@link ArrayList}s, keeping their order.
+	 *
+	 * @param other
+	 *            the {@link GeometryContainer} to add the content of
+	 */
+	public void addGeometryContainer(GeometryContainer other) {
+		if (other == null)
+			return;
+		if (this.getFeatureStore() != null) {
+			this.getFeatureStore().addAll(other.getDrawPoints());
+			this.getFeatureStore().addAll(other.getDrawLineStrings());
+			this.getFeatureStore().addAll(other.getMutliLineStrings());
+			this.getFeatureStore().addAll(other.getDrawPolygons());
+			this.getFeatureStore().addAll(other.getMultiPolygons());
+			return;
+		}
+		this.getDrawPoints().addAll(other.getDrawPoints());
+		this.getDrawLineStrings().addAll(other.getDrawLineStrings());
+		this.getMutliLineStrings().addAll(other.getMutliLineStrings());
+		this.getDrawPolygons().addAll(other.getDrawPolygons());
+		this.getMultiPolygons().addAll(other.getMultiPolygons());
+		this.setIndex(null);
+	}
+
+	/**
+	 * Returns all {@link DrawGeometry}s whose envelopes intersect the given
+	 * {@link BoundingBox}, using the internal spatial index.
 	 * 
-	 * {@link DrawGeometry}s that do not intersect the {@link BoundingBox}
-	 * will not be touched. {@link DrawGeometry}s that intersect the
-	 * {@link BoundingBox} will be removed from the {@link ArrayList}s,
-	 * intersected and re-added to the right {@link ArrayList} of
-	 * {@link DrawGeometry}s.
+	 * The returned {@link DrawGeometry}s are only candidates: Their exact
+	 * geometries may still lay outside of the {@link BoundingBox}.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} to query
+	 * @return an {@link ArrayList} of {@link DrawGeometry}s
+	 */
+	public ArrayList<DrawGeometry> query(BoundingBox bbox) {
+		ArrayList<DrawGeometry> erg = new ArrayList<>();
+		for (Object o : this.getIndex().query(bbox.toEnvelope()))
+			erg.add((DrawGeometry) o);
+		return erg;
+	}
+
+	/**
+	 * Intersects the internal stored {@link DrawGeometry}s with the given
+	 * {@link BoundingBox}, clipping all of them geometrically.
 	 *
 	 * @param bbox
 	 *            the {@link BoundingBox} to intersect with
+	 * @see #intersect(BoundingBox, EClipMode)
 	 */
 	public void intersect(BoundingBox bbox) {
-		// CREATE A DRAW POLYGON BY THE COORDINATE2DS OF THE BOUNDINGBOX
-		DrawPolygon intersect = new DrawPolygon(bbox.getCoordsAsArrayList());
-		// FIRST : POLYGONS
-		for (int a = 0; a < this.getDrawPolygons().size(); a++) {
-			if (this.getDrawPolygons().get(a).intersectsGeometry(intersect.getJtsGeometry())) {
-				// TRUE
-				// CREATE A GEOMETRY BY THE INTERSECTION
-				Geometry g = this.getDrawPolygons().get(a).getJtsGeometry().intersection(intersect.getJtsGeometry());
-				// SORT IN THE GEOMETRY
-				boolean countDown = this.sortInPolygons(a, g, this.getDrawPolygons().get(a).getInfo());
-				if (countDown)
-					a--;
+		this.intersect(bbox, EClipMode.GEOMETRIC);
+	}
+
+	/**
+	 * Intersects the internal stored {@link DrawGeometry}s with the given
+	 * {@link BoundingBox}.
+	 * 
+	 * {@link DrawGeometry}s whose envelopes are not returned by the spatial
+	 * index are removed. {@link DrawGeometry}s whose envelopes are fully
+	 * covered by the {@link BoundingBox} will not be touched. Only the
+	 * remaining {@link DrawGeometry}s are clipped by a
+	 * {@link RectangleClipper} and re-added to the right {@link ArrayList} of
+	 * {@link DrawGeometry}s (or removed if nothing is left of them).
+	 * 
+	 * Using {@link EClipMode#PDF_CLIPPING_PATH} {@link DrawPolygon}s and
+	 * {@link DrawMultiPolygon}s with at least {@link #getLargePolygonVertices()}
+	 * vertices are not clipped: The drawer has to set a clipping path on the
+	 * PDF page instead.
+	 * 
+	 * The clipping of every {@link ArrayList} runs as {@link ClipTask} in the
+	 * common {@link ForkJoinPool}. The {@link ArrayList}s are compacted
+	 * afterwards in one sequential pass each, so the order of the remaining
+	 * {@link DrawGeometry}s is the same as in a single-threaded run.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} to intersect with
+	 * @param mode
+	 *            the {@link EClipMode} to use
+	 */
+	public void intersect(BoundingBox bbox, EClipMode mode) {
+		log.debug("Intersecting the content of the GeometryContainer...");
+		// COLLECT THE CANDIDATES BY THEIR ENVELOPES
+		Set<DrawGeometry> candidates = Collections.newSetFromMap(new IdentityHashMap<DrawGeometry, Boolean>());
+		candidates.addAll(this.query(bbox));
+		RectangleClipper clipper = new RectangleClipper(bbox);
+		int keepPolygons = mode == EClipMode.PDF_CLIPPING_PATH ? this.getLargePolygonVertices() : Integer.MAX_VALUE;
+
+		// FIRST : MULTIPOLYGONS (RESULTS OF SPLIT POLYGONS ARE ADDED LATER AND
+		// ARE ALREADY CLIPPED)
+		ArrayList<DrawMultiPolygon> multiPolygons = this.getMultiPolygons();
+		Geometry[] results = this.clipAll(multiPolygons, clipper, candidates, keepPolygons);
+		int w = 0;
+		for (int a = 0; a < multiPolygons.size(); a++) {
+			DrawMultiPolygon actual = multiPolygons.get(a);
+			Geometry g = results[a];
+			if (g == actual.getJtsGeometry()) {
+				multiPolygons.set(w++, actual);
+			} else if (g instanceof MultiPolygon) {
+				multiPolygons.set(w++, new DrawMultiPolygon((MultiPolygon) g, actual.getInfo()));
+			} else if (g instanceof Polygon) {
+				this.getDrawPolygons().add(new DrawPolygon((Polygon) g, actual.getInfo()));
 			}
-			// ELSE : FALSE = DO NOTHING
 		}
-
-		for (int a = 0; a < this.getDrawLineStrings().size(); a++) {
-			if (this.getDrawLineStrings().get(a).intersectsGeometry(intersect.getJtsGeometry())) {
-				// TRUE
-				Geometry g = this.getDrawLineStrings().get(a).getJtsGeometry().intersection(intersect.getJtsGeometry());
-				// SORT IN THE GEOMETRY
-				boolean countDown = this.sortInLineStrings(a, g, this.getDrawPolygons().get(a).getInfo());
-				if (countDown)
-					a--;
+		multiPolygons.subList(w, multiPolygons.size()).clear();
+
+		// SECOND : MULTILINESTRINGS
+		ArrayList<DrawMultiLineString> multiLineStrings = this.getMutliLineStrings();
+		results = this.clipAll(multiLineStrings, clipper, candidates, Integer.MAX_VALUE);
+		w = 0;
+		for (int a = 0; a < multiLineStrings.size(); a++) {
+			DrawMultiLineString actual = multiLineStrings.get(a);
+			Geometry g = results[a];
+			if (g == actual.getJtsGeometry()) {
+				multiLineStrings.set(w++, actual);
+			} else if (g instanceof MultiLineString) {
+				multiLineStrings.set(w++, new DrawMultiLineString((MultiLineString) g, actual.getInfo()));
+			} else if (g instanceof LineString) {
+				this.getDrawLineStrings().add(new DrawLineString((LineString) g, actual.getInfo()));
 			}
-			// ELSE : FALSE = DO NOTHING
 		}
-
-		for (int a = 0; a < this.getDrawPoints().size(); a++) {
-			if (this.getDrawPoints().get(a).intersectsGeometry(intersect.getJtsGeometry())) {
-				// NOTHING
-			} else {
-				// POINT IS OUTSIDE BOUNDINGBOX
-				this.getDrawPoints().remove(a);
-				a--;
+		multiLineStrings.subList(w, multiLineStrings.size()).clear();
+
+		// THIRD : POLYGONS (THE ONES ADDED FROM THE MULTIPOLYGONS ARE KEPT)
+		ArrayList<DrawPolygon> polygons = this.getDrawPolygons();
+		results = this.clipAll(polygons, clipper, candidates, keepPolygons);
+		w = 0;
+		for (int a = 0; a < polygons.size(); a++) {
+			DrawPolygon actual = polygons.get(a);
+			Geometry g = results[a];
+			if (g == actual.getJtsGeometry()) {
+				polygons.set(w++, actual);
+			} else if (g instanceof Polygon) {
+				polygons.set(w++, new DrawPolygon((Polygon) g, actual.getInfo()));
+			} else if (g instanceof MultiPolygon) {
+				this.getMultiPolygons().add(new DrawMultiPolygon((MultiPolygon) g, actual.getInfo()));
 			}
-
 		}
+		polygons.subList(w, polygons.size()).clear();
+
+		// FOURTH : LINESTRINGS (THE ONES ADDED FROM THE MULTILINESTRINGS ARE
+		// KEPT)
+		ArrayList<DrawLineString> lineStrings = this.getDrawLineStrings();
+		results = this.clipAll(lineStrings, clipper, candidates, Integer.MAX_VALUE);
+		w = 0;
+		for (int a = 0; a < lineStrings.size(); a++) {
+			DrawLineString actual = lineStrings.get(a);
+			Geometry g = results[a];
+			if (g == actual.getJtsGeometry()) {
+				lineStrings.set(w++, actual);
+			} else if (g instanceof LineString) {
+				lineStrings.set(w++, new DrawLineString((LineString) g, actual.getInfo()));
+			} else if (g instanceof MultiLineString) {
+				this.getMutliLineStrings().add(new DrawMultiLineString((MultiLineString) g, actual.getInfo()));
+			}
+		}
+		lineStrings.subList(w, lineStrings.size()).clear();
+
+		// FIFTH : POINTS (THE ENVELOPE OF A POINT IS THE POINT ITSELF)
+		ArrayList<DrawPoint> points = this.getDrawPoints();
+		w = 0;
+		for (int a = 0; a < points.size(); a++) {
+			if (candidates.contains(points.get(a)))
+				points.set(w++, points.get(a));
+		}
+		points.subList(w, points.size()).clear();
 
-		// DRAWMULTIPOLYGONS ARE ALREADY OKAY AT THIS STATE
-		// DRAWMULTILINESTRINGS ARE ALREADY OKAY AT THIS STATE
 		// MULTIPOINTS ARE NOT PLANNED FOR NOW
+
+		// THE CONTENT CHANGED : THE INDEX HAS TO BE REBUILT ON THE NEXT REQUEST
+		this.setIndex(null);
+		log.debug("Content of the GeometryContainer intersected.");
 	}
 
 	/**
-	 * Reduces all content, contained inside of this {@link GeometryContainer},
-	 * about the lower left corner of the given {@link BoundingBox}.
+	 * Creates a new {@link GeometryContainer} holding the content of this
+	 * {@link GeometryContainer} intersected with the given {@link BoundingBox}
+	 * like {@link #intersect(BoundingBox, EClipMode)} does.
+	 * 
+	 * This {@link GeometryContainer} is not changed, so its content can be
+	 * clipped again for another extent or resolution. Clipped
+	 * {@link DrawGeometry}s are new objects sharing the {@link AdditionalInfo}
+	 * of their source; the ones fully inside the {@link BoundingBox} are
+	 * shared.
 	 *
 	 * @param bbox
-	 *            the {@link BoundingBox} to reduce with
-	 */
-	public void reduceContent(BoundingBox bbox) {
-		for (int a = 0; a < this.getDrawPoints().size(); a++)
-			this.getDrawPoints().get(a).reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-		for (int b = 0; b < this.getDrawLineStrings().size(); b++)
-			this.getDrawLineStrings().get(b).reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-		for (int c = 0; c < this.getDrawPolygons().size(); c++)
-			this.getDrawPolygons().get(c).reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-		for (int d = 0; d < this.getMutliLineStrings().size(); d++)
-			this.getMutliLineStrings().get(d).reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-		for (int e = 0; e < this.getMultiPolygons().size(); e++)
-			this.getMultiPolygons().get(e).reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-	}
-
-	/**
-	 * Scales all content, contained inside of this {@link GeometryContainer},
-	 * with the given factor.
-	 *
-	 * @param factor
-	 *            the factor to scale with
-	 */
-	public void scaleContent(double factor) {
-		for (int a = 0; a < this.getDrawPoints().size(); a++)
-			this.getDrawPoints().get(a).scale(factor);
-		for (int b = 0; b < this.getDrawLineStrings().size(); b++)
-			this.getDrawLineStrings().get(b).scale(factor);
-		for (int c = 0; c < this.getDrawPolygons().size(); c++)
-			this.getDrawPolygons().get(c).scale(factor);
-		for (int d = 0; d < this.getMutliLineStrings().size(); d++)
-			this.getMutliLineStrings().get(d).scale(factor);
-		for (int e = 0; e < this.getMultiPolygons().size(); e++)
-			this.getMultiPolygons().get(e).scale(factor);
-	}
-
-	/**
-	 * Adds the offset of the margin in X- and Y- direction as well as the
-	 * offset to the lower left corner of the map-image.
-	 *
-	 * @param marginX
-	 *            the margin offset in X- direction
-	 * @param marginY
-	 *            the margin offset in Y- direction
-	 * @param offsetX
-	 *            the offset to the maps lower left corner in X- direction
-	 * @param offsetY
-	 *            the offset to the maps lower left corner in X- direction
-	 */
-	public void addMarginOffset(double marginX, double marginY, double offsetX, double offsetY) {
-		for (int a = 0; a < this.getDrawPoints().size(); a++)
-			this.getDrawPoints().get(a).reduce(-offsetX - marginX, -offsetY - marginY);
-		for (int b = 0; b < this.getDrawLineStrings().size(); b++)
-			this.getDrawLineStrings().get(b).reduce(-offsetX - marginX, -offsetY - marginY);
-		for (int c = 0; c < this.getDrawPolygons().size(); c++)
-			this.getDrawPolygons().get(c).reduce(-offsetX - marginX, -offsetY - marginY);
-		for (int d = 0; d < this.getMutliLineStrings().size(); d++)
-			this.getMutliLineStrings().get(d).reduce(-offsetX - marginX, -offsetY - marginY);
-		for (int e = 0; e < this.getMultiPolygons().size(); e++)
-			this.getMultiPolygons().get(e).reduce(-offsetX - marginX, -offsetY - marginY);
-	}
-
-	/**
-	 * Sorts the given {@link Geometry} (which is supposed to be a
-	 * {@link LineString} or {@link MultiLineString} in the right
-	 * {@link ArrayList}.
+	 *            the {@link BoundingBox} to intersect with
+	 * @param mode
+	 *            the {@link EClipMode} to use
+	 * @return the new {@link GeometryContainer}
+	 */
+	public GeometryContainer createIntersection(BoundingBox bbox, EClipMode mode) {
+		GeometryContainer erg = new GeometryContainer();
+		erg.setLargePolygonVertices(this.getLargePolygonVertices());
+		erg.getMultiPolygons().addAll(this.getMultiPolygons());
+		erg.getMutliLineStrings().addAll(this.getMutliLineStrings());
+		erg.getDrawPolygons().addAll(this.getDrawPolygons());
+		erg.getDrawLineStrings().addAll(this.getDrawLineStrings());
+		erg.getDrawPoints().addAll(this.getDrawPoints());
+		erg.intersect(bbox, mode);
+		return erg;
+	}
+
+	/**
+	 * Clips all {@link DrawGeometry}s of the given {@link ArrayList} in
+	 * parallel using a {@link ClipTask}.
+	 *
+	 * @param geoms
+	 *            the {@link ArrayList} of {@link DrawGeometry}s to clip
+	 * @param clipper
+	 *            the {@link RectangleClipper} to clip with
+	 * @param candidates
+	 *            the {@link Set} of {@link DrawGeometry}s whose envelopes
+	 *            intersect the rectangle
+	 * @param keepVertices
+	 *            the number of vertices from which on a {@link Geometry} is
+	 *            kept unclipped
+	 * @return the results per index, see {@link GeometryTask}
+	 */
+	private Geometry[] clipAll(ArrayList<? extends DrawGeometry> geoms, RectangleClipper clipper, Set<DrawGeometry> candidates, int keepVertices) {
+		Geometry[] results = new Geometry[geoms.size()];
+		ForkJoinPool.commonPool().invoke(new ClipTask(geoms, results, 0, geoms.size(), clipper, candidates, keepVertices));
+		return results;
+	}
+
+	/**
+	 * Creates a new {@link GeometryContainer} with the internal stored
+	 * {@link DrawGeometry}s reduced to a lower level of detail, see
+	 * {@link SimplifyTask}: {@link DrawGeometry}s smaller than the given
+	 * minimal size are left out, all others are simplified topology preserving
+	 * with the given tolerance.
 	 * 
-	 * Returns true, if the {@link Geometry} given was a {@link LineString} and
-	 * the {@link DrawLineString} at index a in the {@link ArrayList} of
-	 * {@link DrawLineString}s was replaced by a new, intersected,
-	 * {@link DrawLineString}.
+	 * This {@link GeometryContainer} is not changed, so its content can be
+	 * reduced again for another resolution. Simplified {@link DrawGeometry}s
+	 * are new objects sharing the {@link AdditionalInfo} of their source;
+	 * unchanged ones (like all {@link DrawPoint}s) are shared.
 	 * 
-	 * Returns false if the {@link Geometry} given was a {@link MultiLineString}
-	 * or no longer any kind of {@link LineString}. If it was a
-	 * {@link MultiLineString} the {@link DrawLineString} at the index a was
-	 * removed and a new {@link DrawMultiLineString} was added to the
-	 * {@link ArrayList} of {@link DrawMultiLineString}s. If the
-	 * {@link Geometry} was no longer any kind of {@link LineString} the
-	 * {@link DrawLineString} at index a was removed.
-	 *
-	 * @param a
-	 *            the index as {@link Integer}
-	 * @param g
-	 *            the {@link Geometry}; {@link Polygon} or {@link MultiPolygon}
-	 * @param info
-	 *            the {@link AdditionalInfo} to set to new {@link DrawGeometry}
-	 * @return true or false (look above)
-	 */
-	private boolean sortInLineStrings(int a, Geometry g, AdditionalInfo info) {
-		if (g.getClass().getClass().getCanonicalName() == MultiLineString.class.getCanonicalName()) {
-			// ADD A NEW DRAWMULTILINESTRING TO THE ARRAYLIST OF DML
-			// CREATE A DRAWMULTILINESTRING WITH THE CASTED MULTILINESTRING
-			DrawMultiLineString temp = new DrawMultiLineString((MultiLineString) g, info);
-			// ADD DRAWMULTILINESTRING
-			this.getMutliLineStrings().add(temp);
-			// REMOVE OLD LINESTRING
-			this.getDrawLineStrings().remove(a);
-			// RETURN FALSE BECAUSE THE OLD DRAWLINESTRING WAS REMOVED
-			return false;
-		} else if (g.getClass().getClass().getCanonicalName() == LineString.class.getCanonicalName()) {
-			this.getDrawLineStrings().remove(a);
-			DrawLineString temp = new DrawLineString((LineString) g, info);
-			this.getDrawLineStrings().add(a, temp);
-			// RETURN TRUE BECAUSE THE OLD DRAWLINESTRING WAS REPLACED
-			return true;
-		} else {
-			// NOT A POLYGON ANYMORE
-			this.getDrawLineStrings().remove(a);
-			// RETURN FALSE BECAUSE THE OLD DRAWLINESTRING WAS REMOVED
-			return false;
-		}
+	 * Like {@link #intersect(BoundingBox, EClipMode)} every {@link ArrayList}
+	 * is processed in the common {@link ForkJoinPool} and collected in its
+	 * original order afterwards. The number of vertices before and after is
+	 * logged.
+	 *
+	 * @param tolerance
+	 *            the tolerance of the simplification in world units
+	 * @param minSize
+	 *            the minimal size of a {@link DrawGeometry} in world units
+	 * @return the new {@link GeometryContainer}
+	 */
+	public GeometryContainer createSimplified(double tolerance, double minSize) {
+		return this.createSimplified(tolerance, minSize, null);
 	}
 
 	/**
-	 * Sorts the given {@link Geometry} (which is supposed to be a
-	 * {@link Polygon} or {@link MultiPolygon} in the right {@link ArrayList}.
+	 * Creates a new {@link GeometryContainer} with the internal stored
+	 * {@link DrawGeometry}s reduced to a lower level of detail, see
+	 * {@link #createSimplified(double, double)}.
 	 * 
-	 * Returns true, if the {@link Geometry} given was a {@link Polygon} and the
-	 * {@link DrawPolygon} at index a in the {@link ArrayList} of
-	 * {@link DrawPolygon}s was replaced by a new, intersected,
-	 * {@link DrawPolygon}.
+	 * If an {@link OutlineNetwork} is given, the {@link DrawPolygon}s and
+	 * {@link DrawMultiPolygon}s are not simplified on their own but rebuilt
+	 * from its lines (after culling). The network must have been created from
+	 * this {@link GeometryContainer} by {@link #createOutlineNetwork()} and
+	 * may be simplified, so the fills use the same vertices as the stroked
+	 * network.
+	 *
+	 * @param tolerance
+	 *            the tolerance of the simplification in world units
+	 * @param minSize
+	 *            the minimal size of a {@link DrawGeometry} in world units
+	 * @param network
+	 *            the {@link OutlineNetwork} to rebuild the polygons from,
+	 *            <code>null</code> to simplify them on their own
+	 * @return the new {@link GeometryContainer}
+	 */
+	public GeometryContainer createSimplified(double tolerance, double minSize, OutlineNetwork network) {
+		log.debug("Simplifying the content of the GeometryContainer...");
+		GeometryContainer erg = new GeometryContainer();
+		erg.setLargePolygonVertices(this.getLargePolygonVertices());
+		// POLYGONS REBUILT FROM THE NETWORK ARE ONLY CULLED HERE
+		double polygonTolerance = network == null ? tolerance : 0;
+		Geometry[] results = this.simplifyAll(this.getMultiPolygons(), polygonTolerance, minSize);
+		for (int a = 0; a < results.length; a++) {
+			DrawMultiPolygon actual = this.getMultiPolygons().get(a);
+			Geometry g = results[a] == null || network == null ? results[a] : network.rebuild((MultiPolygon) results[a]);
+			if (g != null)
+				erg.getMultiPolygons().add(g == actual.getJtsGeometry() ? actual : new DrawMultiPolygon((MultiPolygon) g, actual.getInfo()));
+		}
+		results = this.simplifyAll(this.getMutliLineStrings(), tolerance, minSize);
+		for (int a = 0; a < results.length; a++) {
+			DrawMultiLineString actual = this.getMutliLineStrings().get(a);
+			if (results[a] != null)
+				erg.getMutliLineStrings().add(results[a] == actual.getJtsGeometry() ? actual : new DrawMultiLineString((MultiLineString) results[a], actual.getInfo()));
+		}
+		results = this.simplifyAll(this.getDrawPolygons(), polygonTolerance, minSize);
+		for (int a = 0; a < results.length; a++) {
+			DrawPolygon actual = this.getDrawPolygons().get(a);
+			Geometry g = results[a] == null || network == null ? results[a] : network.rebuild((Polygon) results[a]);
+			if (g != null)
+				erg.getDrawPolygons().add(g == actual.getJtsGeometry() ? actual : new DrawPolygon((Polygon) g, actual.getInfo()));
+		}
+		results = this.simplifyAll(this.getDrawLineStrings(), tolerance, minSize);
+		for (int a = 0; a < results.length; a++) {
+			DrawLineString actual = this.getDrawLineStrings().get(a);
+			if (results[a] != null)
+				erg.getDrawLineStrings().add(results[a] == actual.getJtsGeometry() ? actual : new DrawLineString((LineString) results[a], actual.getInfo()));
+		}
+		erg.getDrawPoints().addAll(this.getDrawPoints());
+		log.info("Content of the GeometryContainer simplified: " + this.countVertices() + " vertices before, " + erg.countVertices() + " vertices after.");
+		return erg;
+	}
+
+	/**
+	 * Simplifies all {@link DrawGeometry}s of the given {@link ArrayList} in
+	 * parallel using a {@link SimplifyTask}. The simplification keeps the type
+	 * of the {@link Geometry}.
+	 *
+	 * @param geoms
+	 *            the {@link ArrayList} of {@link DrawGeometry}s to simplify
+	 * @param tolerance
+	 *            the tolerance of the simplification in world units
+	 * @param minSize
+	 *            the minimal size of a {@link DrawGeometry} in world units
+	 * @return the results per index, see {@link GeometryTask}
+	 */
+	private Geometry[] simplifyAll(ArrayList<? extends DrawGeometry> geoms, double tolerance, double minSize) {
+		Geometry[] results = new Geometry[geoms.size()];
+		ForkJoinPool.commonPool().invoke(new SimplifyTask(geoms, results, 0, geoms.size(), tolerance, minSize));
+		return results;
+	}
+
+	/**
+	 * Returns the number of vertices of all {@link DrawGeometry}s stored in
+	 * this {@link GeometryContainer}.
+	 *
+	 * @return the number of vertices as {@link Long}
+	 */
+	public long countVertices() {
+		long count = this.getDrawPoints().size();
+		count += this.countVertices(this.getDrawLineStrings());
+		count += this.countVertices(this.getDrawPolygons());
+		count += this.countVertices(this.getMutliLineStrings());
+		count += this.countVertices(this.getMultiPolygons());
+		return count;
+	}
+
+	/**
+	 * Returns the number of vertices of all {@link DrawGeometry}s of the
+	 * given {@link ArrayList}.
+	 *
+	 * @param geoms
+	 *            the {@link ArrayList} of {@link DrawGeometry}s
+	 * @return the number of vertices as {@link Long}
+	 */
+	private long countVertices(ArrayList<? extends DrawGeometry> geoms) {
+		long count = 0;
+		for (int a = 0; a < geoms.size(); a++)
+			count += geoms.get(a).getJtsGeometry().getNumPoints();
+		return count;
+	}
+
+	/**
+	 * Creates the outline network of all {@link DrawPolygon}s and
+	 * {@link DrawMultiPolygon}s: Every edge of every ring is collected once,
+	 * so a border shared by two neighbouring polygons (with the same
+	 * vertices) is only contained once. The unique edges are merged into
+	 * {@link LineString}s between the junctions of the network.
 	 * 
-	 * Returns false if the {@link Geometry} given was a {@link MultiPolygon} or
-	 * no longer any kind of {@link Polygon}. If it was a {@link MultiPolygon}
-	 * the {@link DrawPolygon} at the index a was removed and a new
-	 * {@link DrawMultiPolygon} was added to the {@link ArrayList} of
-	 * {@link DrawMultiPolygon}s. If the {@link Geometry} was no longer any kind
-	 * of {@link Polygon} the {@link DrawPolygon} at index a was removed.
-	 *
-	 * @param a
-	 *            the index as {@link Integer}
-	 * @param g
-	 *            the {@link Geometry}; {@link Polygon} or {@link MultiPolygon}
-	 * @param info
-	 *            the {@link AdditionalInfo} to set to new {@link DrawGeometry}
-	 * @return true or false (look above)
-	 */
-	private boolean sortInPolygons(int a, Geometry g, AdditionalInfo info) {
-		if (g.getClass().getClass().getCanonicalName() == MultiPolygon.class.getCanonicalName()) {
-			// ADD A NEW DRAWMULTIPOLYGON TO THE ARRAYLIST OF DMP
-			// CREATE A DRAWMULTIPOLYGON WITH THE CASTED MULTIPOLYGON
-			DrawMultiPolygon temp = new DrawMultiPolygon((MultiPolygon) g, info);
-			// ADD DRAWMULTIPOLYGON
-			this.getMultiPolygons().add(temp);
-			// REMOVE OLD POLYGON
-			this.getDrawPolygons().remove(a);
-			// RETURN FALSE BECAUSE THE OLD DRAWPOLYGON WAS REMOVED
-			return false;
-		} else if (g.getClass().getClass().getCanonicalName() == Polygon.class.getCanonicalName()) {
-			this.getDrawPolygons().remove(a);
-			DrawPolygon temp = new DrawPolygon((Polygon) g, info);
-			this.getDrawPolygons().add(a, temp);
-			// RETURN TRUE BECAUSE THE OLD DRAWPOLYGON WAS REPLACED
-			return true;
-		} else {
-			// NOT A POLYGON ANYMORE
-			this.getDrawPolygons().remove(a);
-			// RETURN FALSE BECAUSE THE OLD DRAWPOLYGON WAS REMOVED
-			return false;
+	 * Stroking the network instead of every polygon outline draws the inner
+	 * borders of a polygon coverage (parcels, administrative units) only
+	 * once.
+	 *
+	 * @return the {@link OutlineNetwork} of the merged {@link LineString}s
+	 */
+	public OutlineNetwork createOutlineNetwork() {
+		log.debug("Creating the outline network of the polygons...");
+		Set<Edge> edges = new LinkedHashSet<>();
+		long ringEdges = 0;
+		ringEdges += this.collectEdges(this.getDrawPolygons(), edges);
+		ringEdges += this.collectEdges(this.getMultiPolygons(), edges);
+
+		GeometryFactory factory = new GeometryFactory();
+		LineMerger merger = new LineMerger();
+		for (Edge e : edges)
+			merger.add(factory.createLineString(new Coordinate[] { new Coordinate(e.getX0(), e.getY0()), new Coordinate(e.getX1(), e.getY1()) }));
+
+		ArrayList<LineString> erg = new ArrayList<>();
+		for (Object o : merger.getMergedLineStrings())
+			erg.add((LineString) o);
+		log.info("Outline network created: " + ringEdges + " ring edges, " + edges.size() + " unique edges, merged into " + erg.size() + " lines.");
+		return new OutlineNetwork(erg);
+	}
+
+	/**
+	 * Adds the edges of all rings of the given {@link DrawGeometry}s to the
+	 * given {@link Set} of {@link Edge}s.
+	 *
+	 * @param geoms
+	 *            the {@link ArrayList} of {@link DrawPolygon}s or
+	 *            {@link DrawMultiPolygon}s
+	 * @param edges
+	 *            the {@link Set} to add the {@link Edge}s to
+	 * @return the number of visited edges (including the duplicates)
+	 */
+	private long collectEdges(ArrayList<? extends DrawGeometry> geoms, Set<Edge> edges) {
+		long count = 0;
+		for (int a = 0; a < geoms.size(); a++) {
+			Geometry g = geoms.get(a).getJtsGeometry();
+			for (int b = 0; b < g.getNumGeometries(); b++) {
+				Polygon p = (Polygon) g.getGeometryN(b);
+				count += this.collectEdges(p.getExteriorRing().getCoordinateSequence(), edges);
+				for (int c = 0; c < p.getNumInteriorRing(); c++)
+					count += this.collectEdges(p.getInteriorRingN(c).getCoordinateSequence(), edges);
+			}
 		}
+		return count;
+	}
+
+	/**
+	 * Adds the edges of the given ring to the given {@link Set} of
+	 * {@link Edge}s.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} of the ring
+	 * @param edges
+	 *            the {@link Set} to add the {@link Edge}s to
+	 * @return the number of visited edges (including the duplicates)
+	 */
+	private long collectEdges(CoordinateSequence seq, Set<Edge> edges) {
+		long count = 0;
+		for (int a = 0; a < seq.size() - 1; a++) {
+			Edge e = new Edge(seq.getX(a), seq.getY(a), seq.getX(a + 1), seq.getY(a + 1));
+			if (e.isDegenerate())
+				continue;
+			edges.add(e);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of all {@link DrawGeometry}s stored in this
+	 * {@link GeometryContainer}.
+	 *
+	 * @return the number of {@link DrawGeometry}s as {@link Integer}
+	 */
+	public int size() {
+		return this.getDrawPoints().size() + this.getDrawLineStrings().size() + this.getDrawPolygons().size() + this.getMutliLineStrings().size() + this.getMultiPolygons().size();
+	}
+
+	/**
+	 * Bulk-loads a new {@link STRtree} with the envelopes of all
+	 * {@link DrawGeometry}s of this {@link GeometryContainer}.
+	 *
+	 * @return the built {@link STRtree}
+	 */
+	private STRtree buildIndex() {
+		log.debug("Building the spatial index of the GeometryContainer...");
+		STRtree tree = new STRtree();
+		this.insertAll(tree, this.getDrawPoints());
+		this.insertAll(tree, this.getDrawLineStrings());
+		this.insertAll(tree, this.getDrawPolygons());
+		this.insertAll(tree, this.getMutliLineStrings());
+		this.insertAll(tree, this.getMultiPolygons());
+		tree.build();
+		this.setIndexedCount(this.size());
+		log.debug("Spatial index built.");
+		return tree;
+	}
+
+	/**
+	 * Inserts all given {@link DrawGeometry}s with their envelopes into the
+	 * given {@link STRtree}.
+	 *
+	 * @param tree
+	 *            the {@link STRtree} to insert into
+	 * @param geoms
+	 *            the {@link ArrayList} of {@link DrawGeometry}s to insert
+	 */
+	private void insertAll(STRtree tree, ArrayList<? extends DrawGeometry> geoms) {
+		for (int a = 0; a < geoms.size(); a++)
+			tree.insert(geoms.get(a).getJtsGeometry().getEnvelopeInternal(), geoms.get(a));
 	}
 
 	// GETTERS AND SETTERS
@@ -444,5 +784,94 @@ public class GeometryContainer {
 		return drawPoints;
 	}
 
+	/**
+	 * Returns the {@link STRtree} over the envelopes of all stored
+	 * {@link DrawGeometry}s. The {@link STRtree} is (re-)built if there is
+	 * none yet or the number of stored {@link DrawGeometry}s changed.
+	 *
+	 * @return the {@link STRtree}
+	 */
+	private STRtree getIndex() {
+		if (index == null || this.getIndexedCount() != this.size())
+			index = this.buildIndex();
+		return index;
+	}
+
+	/**
+	 * Sets the {@link STRtree} of this {@link GeometryContainer}.
+	 *
+	 * @param index
+	 *            the {@link STRtree} to set
+	 */
+	private void setIndex(STRtree index) {
+		this.index = index;
+	}
+
+	/**
+	 * Returns the number of {@link DrawGeometry}s the {@link STRtree} was
+	 * built with.
+	 *
+	 * @return the indexed count as {@link Integer}
+	 */
+	private int getIndexedCount() {
+		return indexedCount;
+	}
+
+	/**
+	 * Sets the number of {@link DrawGeometry}s the {@link STRtree} was built
+	 * with.
+	 *
+	 * @param indexedCount
+	 *            the indexed count to set
+	 */
+	private void setIndexedCount(int indexedCount) {
+		this.indexedCount = indexedCount;
+	}
+
+	/**
+	 * Returns the number of vertices from which on a {@link DrawPolygon} or
+	 * {@link DrawMultiPolygon} is not clipped geometrically using
+	 * {@link EClipMode#PDF_CLIPPING_PATH}.
+	 *
+	 * @return the number of vertices
+	 */
+	public int getLargePolygonVertices() {
+		return largePolygonVertices;
+	}
+
+	/**
+	 * Sets the number of vertices from which on a {@link DrawPolygon} or
+	 * {@link DrawMultiPolygon} is not clipped geometrically using
+	 * {@link EClipMode#PDF_CLIPPING_PATH}.
+	 *
+	 * @param largePolygonVertices
+	 *            the number of vertices to set
+	 */
+	public void setLargePolygonVertices(int largePolygonVertices) {
+		this.largePolygonVertices = largePolygonVertices;
+	}
+
+	/**
+	 * Returns the {@link FeatureStore} the added {@link DrawGeometry}s are
+	 * written to.
+	 *
+	 * @return the {@link FeatureStore} or <code>null</code> if they are kept
+	 *         in the {@link ArrayList}s
+	 */
+	public FeatureStore getFeatureStore() {
+		return featureStore;
+	}
+
+	/**
+	 * Sets the {@link FeatureStore} the added {@link DrawGeometry}s are
+	 * written to.
+	 *
+	 * @param featureStore
+	 *            the {@link FeatureStore} to set
+	 */
+	private void setFeatureStore(FeatureStore featureStore) {
+		this.featureStore = featureStore;
+	}
+
 	// OTHERS
 }
@@ -0,0 +1,166 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import com.vividsolutions.jts.geom.Geometry;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+
+/**
+ * Abstract fork-join task to process a range of {@link DrawGeometry}s one by
+ * one. The range is split in halves until it is not larger than
+ * {@link #BATCH_SIZE}.
+ * 
+ * The result for the {@link DrawGeometry} at index a is written into the
+ * result array at index a:
+ * 
+ * o the unchanged JTS {@link Geometry} if the {@link DrawGeometry} is kept as
+ * it is o a new {@link Geometry} o <code>null</code> if the
+ * {@link DrawGeometry} shall be removed
+ * 
+ * Every {@link DrawGeometry} is only visited by one thread and the results do
+ * not depend on the order of execution, so the caller can compact its lists in
+ * the original order afterwards.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public abstract class GeometryTask extends RecursiveAction {
+
+	// ATTRIBUTES
+
+	/**
+	 * The serial version UID.
+	 */
+	private static final long					serialVersionUID	= 1L;
+
+	/**
+	 * The number of {@link DrawGeometry}s that are processed in one batch
+	 * without further splitting.
+	 */
+	public static final int						BATCH_SIZE			= 256;
+
+	/**
+	 * The {@link List} of {@link DrawGeometry}s to process.
+	 */
+	private final List<? extends DrawGeometry>	geoms;
+
+	/**
+	 * The array to write the results into.
+	 */
+	private final Geometry[]					results;
+
+	/**
+	 * The first index of the range (inclusive).
+	 */
+	private final int							from;
+
+	/**
+	 * The last index of the range (exclusive).
+	 */
+	private final int							to;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link GeometryTask} using the {@link List} of
+	 * {@link DrawGeometry}s, the result array and the range to process.
+	 *
+	 * @param geoms
+	 *            the {@link List} of {@link DrawGeometry}s to process
+	 * @param results
+	 *            the array to write the results into, at least as large as the
+	 *            {@link List}
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 */
+	public GeometryTask(List<? extends DrawGeometry> geoms, Geometry[] results, int from, int to) {
+		this.geoms = geoms;
+		this.results = results;
+		this.from = from;
+		this.to = to;
+	}
+
+	// INHERITED METHODS
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.concurrent.RecursiveAction#compute()
+	 */
+	@Override
+	protected void compute() {
+		if (this.getTo() - this.getFrom() <= BATCH_SIZE) {
+			for (int a = this.getFrom(); a < this.getTo(); a++)
+				this.getResults()[a] = this.process(this.getGeoms().get(a));
+			return;
+		}
+		int mid = (this.getFrom() + this.getTo()) >>> 1;
+		invokeAll(this.createSubtask(this.getFrom(), mid), this.createSubtask(mid, this.getTo()));
+	}
+
+	// METHODS
+
+	/**
+	 * Processes a single {@link DrawGeometry}.
+	 *
+	 * @param actual
+	 *            the {@link DrawGeometry} to process
+	 * @return the unchanged or new {@link Geometry} or <code>null</code>
+	 */
+	protected abstract Geometry process(DrawGeometry actual);
+
+	/**
+	 * Creates a task of the same kind for the given part of the range.
+	 *
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @return the new {@link GeometryTask}
+	 */
+	protected abstract GeometryTask createSubtask(int from, int to);
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the {@link List} of {@link DrawGeometry}s to process.
+	 *
+	 * @return the {@link List} of {@link DrawGeometry}s
+	 */
+	protected List<? extends DrawGeometry> getGeoms() {
+		return geoms;
+	}
+
+	/**
+	 * Returns the array to write the results into.
+	 *
+	 * @return the result array
+	 */
+	protected Geometry[] getResults() {
+		return results;
+	}
+
+	/**
+	 * Returns the first index of the range (inclusive).
+	 *
+	 * @return the first index
+	 */
+	protected int getFrom() {
+		return from;
+	}
+
+	/**
+	 * Returns the last index of the range (exclusive).
+	 *
+	 * @return the last index
+	 */
+	protected int getTo() {
+		return to;
+	}
+
+	// OTHERS
+}
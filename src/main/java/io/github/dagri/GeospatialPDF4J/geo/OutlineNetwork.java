@@ -0,0 +1,282 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.LinearRing;
+import com.vividsolutions.jts.geom.MultiLineString;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.simplify.TopologyPreservingSimplifier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to store the outline network of the polygons of a
+ * {@link GeometryContainer}: the unique ring {@link Edge}s merged into
+ * {@link LineString}s between the junctions, see
+ * {@link GeometryContainer#createOutlineNetwork()}.
+ *
+ * Every {@link Edge} of the network is indexed with its line and its position
+ * in the line. A simplified copy of the network keeps this index, so the
+ * rings of the polygons can be rebuilt from the simplified lines. Fills and
+ * outlines then use the same vertices and neighbouring polygons do not drift
+ * apart.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class OutlineNetwork {
+
+	// ATTRIBUTES
+
+	/**
+	 * The {@link ArrayList} of the merged {@link LineString}s.
+	 */
+	private final ArrayList<LineString>		lines;
+
+	/**
+	 * The {@link ArrayList} of the merged {@link LineString}s the index was
+	 * built with, equal to the lines unless this {@link OutlineNetwork} is
+	 * simplified.
+	 */
+	private final ArrayList<LineString>		indexedLines;
+
+	/**
+	 * The {@link HashMap} storing the index of the line and the position of
+	 * the {@link Edge} in this line for every {@link Edge} of the network.
+	 */
+	private final HashMap<Edge, int[]>		index;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for an {@link OutlineNetwork} using the merged
+	 * {@link LineString}s. Every {@link Edge} must be contained in exactly one
+	 * of them.
+	 *
+	 * @param lines
+	 *            the {@link ArrayList} of the merged {@link LineString}s
+	 */
+	public OutlineNetwork(ArrayList<LineString> lines) {
+		this.lines = lines;
+		this.indexedLines = lines;
+		this.index = new HashMap<>();
+		for (int a = 0; a < lines.size(); a++) {
+			CoordinateSequence seq = lines.get(a).getCoordinateSequence();
+			for (int b = 0; b < seq.size() - 1; b++)
+				this.index.put(new Edge(seq.getX(b), seq.getY(b), seq.getX(b + 1), seq.getY(b + 1)), new int[] { a, b });
+		}
+	}
+
+	/**
+	 * Constructor for a simplified {@link OutlineNetwork} using the
+	 * simplified lines and the {@link OutlineNetwork} they were simplified
+	 * from.
+	 *
+	 * @param lines
+	 *            the simplified lines, in the order of the source
+	 * @param source
+	 *            the {@link OutlineNetwork} the lines were simplified from
+	 */
+	private OutlineNetwork(ArrayList<LineString> lines, OutlineNetwork source) {
+		this.lines = lines;
+		this.indexedLines = source.getIndexedLines();
+		this.index = source.getIndex();
+	}
+
+	// METHODS
+
+	/**
+	 * Creates a simplified copy of this {@link OutlineNetwork}. All lines are
+	 * simplified together with the {@link TopologyPreservingSimplifier}, so
+	 * they keep their endpoints (the junctions) and do not cross each other.
+	 *
+	 * @param tolerance
+	 *            the tolerance of the simplification in world units (0 to not
+	 *            simplify)
+	 * @return the simplified {@link OutlineNetwork}
+	 */
+	public OutlineNetwork createSimplified(double tolerance) {
+		if (tolerance <= 0 || this.getLines().isEmpty())
+			return new OutlineNetwork(this.getLines(), this);
+		GeometryFactory factory = this.getLines().get(0).getFactory();
+		MultiLineString all = factory.createMultiLineString(this.getLines().toArray(new LineString[this.getLines().size()]));
+		Geometry simplified = TopologyPreservingSimplifier.simplify(all, tolerance);
+		ArrayList<LineString> erg = new ArrayList<>(this.getLines().size());
+		for (int a = 0; a < simplified.getNumGeometries(); a++)
+			erg.add((LineString) simplified.getGeometryN(a));
+		// THE SIMPLIFIER KEEPS EVERY LINE, OTHERWISE THE INDEX WOULD NOT MATCH
+		if (erg.size() != this.getLines().size())
+			return new OutlineNetwork(this.getLines(), this);
+		return new OutlineNetwork(erg, this);
+	}
+
+	/**
+	 * Rebuilds the given {@link Polygon} from the lines of this
+	 * {@link OutlineNetwork}. The {@link Polygon} must be one of the polygons
+	 * the network was created from. Holes that collapse are left out.
+	 *
+	 * If a ring can not be followed along the network (e.g. a ring touching
+	 * itself) the given {@link Polygon} is returned unchanged.
+	 *
+	 * @param p
+	 *            the {@link Polygon} to rebuild
+	 * @return the rebuilt {@link Polygon}, <code>null</code> if its shell
+	 *         collapsed
+	 */
+	public Polygon rebuild(Polygon p) {
+		Coordinate[] shell = this.rebuildRing(p.getExteriorRing().getCoordinateSequence());
+		if (shell == null)
+			return p;
+		if (shell.length < 4)
+			return null;
+		GeometryFactory factory = p.getFactory();
+		ArrayList<LinearRing> holes = new ArrayList<>();
+		for (int a = 0; a < p.getNumInteriorRing(); a++) {
+			Coordinate[] hole = this.rebuildRing(p.getInteriorRingN(a).getCoordinateSequence());
+			if (hole == null)
+				return p;
+			if (hole.length >= 4)
+				holes.add(factory.createLinearRing(hole));
+		}
+		return factory.createPolygon(factory.createLinearRing(shell), holes.toArray(new LinearRing[holes.size()]));
+	}
+
+	/**
+	 * Rebuilds the given {@link MultiPolygon} from the lines of this
+	 * {@link OutlineNetwork}, see {@link #rebuild(Polygon)}. Collapsed
+	 * {@link Polygon}s are left out.
+	 *
+	 * @param mp
+	 *            the {@link MultiPolygon} to rebuild
+	 * @return the rebuilt {@link MultiPolygon}, <code>null</code> if all of its
+	 *         {@link Polygon}s collapsed
+	 */
+	public MultiPolygon rebuild(MultiPolygon mp) {
+		ArrayList<Polygon> erg = new ArrayList<>();
+		for (int a = 0; a < mp.getNumGeometries(); a++) {
+			Polygon p = this.rebuild((Polygon) mp.getGeometryN(a));
+			if (p != null)
+				erg.add(p);
+		}
+		if (erg.isEmpty())
+			return null;
+		return mp.getFactory().createMultiPolygon(erg.toArray(new Polygon[erg.size()]));
+	}
+
+	/**
+	 * Rebuilds a ring from the lines of this {@link OutlineNetwork}: The ring
+	 * is followed from the first edge that starts a line. Every line is passed
+	 * completely, because its inner vertices are no junctions, and is replaced
+	 * by its (simplified) version.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} of the ring
+	 * @return the {@link Coordinate}s of the rebuilt ring (less than 4 if it
+	 *         collapsed), <code>null</code> if the ring can not be followed
+	 *         along the network
+	 */
+	private Coordinate[] rebuildRing(CoordinateSequence seq) {
+		// THE EDGES OF THE RING WITHOUT REPEATED POSITIONS
+		ArrayList<int[]> locations = new ArrayList<>();
+		ArrayList<Boolean> forwards = new ArrayList<>();
+		for (int a = 0; a < seq.size() - 1; a++) {
+			Edge e = new Edge(seq.getX(a), seq.getY(a), seq.getX(a + 1), seq.getY(a + 1));
+			if (e.isDegenerate())
+				continue;
+			int[] location = this.getIndex().get(e);
+			if (location == null)
+				return null;
+			CoordinateSequence line = this.getIndexedLines().get(location[0]).getCoordinateSequence();
+			locations.add(location);
+			forwards.add(line.getX(location[1]) == seq.getX(a) && line.getY(location[1]) == seq.getY(a));
+		}
+		if (locations.isEmpty())
+			return new Coordinate[0];
+
+		// FIND THE FIRST EDGE THAT STARTS A LINE IN THE DIRECTION OF THE RING
+		int start = -1;
+		for (int a = 0; a < locations.size() && start < 0; a++) {
+			if (this.isLineStart(locations.get(a), forwards.get(a)))
+				start = a;
+		}
+		if (start < 0)
+			return null;
+
+		ArrayList<Coordinate> erg = new ArrayList<>();
+		int passed = 0;
+		while (passed < locations.size()) {
+			int actual = (start + passed) % locations.size();
+			int[] location = locations.get(actual);
+			boolean forward = forwards.get(actual);
+			if (!this.isLineStart(location, forward))
+				return null;
+			Coordinate[] line = this.getLines().get(location[0]).getCoordinates();
+			for (int a = erg.isEmpty() ? 0 : 1; a < line.length; a++)
+				erg.add(new Coordinate(line[forward ? a : line.length - 1 - a]));
+			passed += this.getIndexedLines().get(location[0]).getNumPoints() - 1;
+		}
+		if (passed != locations.size()) {
+			log.debug("Ring can not be followed along the outline network.");
+			return null;
+		}
+		return erg.toArray(new Coordinate[erg.size()]);
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the edge at the given
+	 * location is the first edge of its line when the line is passed in the
+	 * given direction.
+	 *
+	 * @param location
+	 *            the index of the line and the position of the edge in it
+	 * @param forward
+	 *            <code>true</code> if the line is passed in its own direction
+	 * @return <code>true</code> if the edge starts the line;
+	 *         <code>false</code> if not
+	 */
+	private boolean isLineStart(int[] location, boolean forward) {
+		if (forward)
+			return location[1] == 0;
+		return location[1] == this.getIndexedLines().get(location[0]).getNumPoints() - 2;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the {@link ArrayList} of the merged {@link LineString}s.
+	 *
+	 * @return the {@link ArrayList} of {@link LineString}s
+	 */
+	public ArrayList<LineString> getLines() {
+		return lines;
+	}
+
+	/**
+	 * Returns the {@link ArrayList} of the merged {@link LineString}s the
+	 * index was built with.
+	 *
+	 * @return the {@link ArrayList} of {@link LineString}s
+	 */
+	private ArrayList<LineString> getIndexedLines() {
+		return indexedLines;
+	}
+
+	/**
+	 * Returns the {@link HashMap} storing the location of every {@link Edge}.
+	 *
+	 * @return the {@link HashMap}
+	 */
+	private HashMap<Edge, int[]> getIndex() {
+		return index;
+	}
+
+	// OTHERS
+}
@@ -0,0 +1,178 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import io.github.dagri.GeospatialPDF4J.map.layers.MapLayer;
+
+/**
+ * Class to represent the affine transformation from the internal used UTM-CRS
+ * (world coordinates) into the coordinate system of a PDF page.
+ *
+ * The transformation is computed once per {@link MapLayer} and applied while
+ * the content is drawn, so the geometries themselves are never changed and may
+ * be shared between several renderings and threads.
+ *
+ * A world position (easting, northing) is transformed by:
+ *
+ * o pageX = (easting - originEasting) * scale + offsetX o pageY = (northing -
+ * originNorthing) * scale + offsetY
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public final class PageTransform {
+
+	// ATTRIBUTES
+
+	/**
+	 * The easting that is moved to the offset in X-direction.
+	 */
+	private final double	originEasting;
+
+	/**
+	 * The northing that is moved to the offset in Y-direction.
+	 */
+	private final double	originNorthing;
+
+	/**
+	 * The factor to scale the reduced world coordinates with.
+	 */
+	private final double	scale;
+
+	/**
+	 * The offset in X-direction on the page in pixels.
+	 */
+	private final double	offsetX;
+
+	/**
+	 * The offset in Y-direction on the page in pixels.
+	 */
+	private final double	offsetY;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for an identity {@link PageTransform}: All coordinates are
+	 * passed through unchanged.
+	 */
+	public PageTransform() {
+		this(0, 0, 1, 0, 0);
+	}
+
+	/**
+	 * Constructor for a {@link PageTransform} using the origin in world
+	 * coordinates, the scaling factor and the offset on the page.
+	 *
+	 * @param originEasting
+	 *            the easting to be moved to the page offset
+	 * @param originNorthing
+	 *            the northing to be moved to the page offset
+	 * @param scale
+	 *            the factor to scale with
+	 * @param offsetX
+	 *            the offset in X-direction on the page in pixels
+	 * @param offsetY
+	 *            the offset in Y-direction on the page in pixels
+	 */
+	public PageTransform(double originEasting, double originNorthing, double scale, double offsetX, double offsetY) {
+		this.originEasting = originEasting;
+		this.originNorthing = originNorthing;
+		this.scale = scale;
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+	}
+
+	// METHODS
+
+	/**
+	 * Transforms the given easting into the X-value on the PDF page.
+	 *
+	 * @param easting
+	 *            the easting in world coordinates
+	 * @return the X-value on the page as {@link Double}
+	 */
+	public double toPageX(double easting) {
+		return (easting - this.originEasting) * this.scale + this.offsetX;
+	}
+
+	/**
+	 * Transforms the given northing into the Y-value on the PDF page.
+	 *
+	 * @param northing
+	 *            the northing in world coordinates
+	 * @return the Y-value on the page as {@link Double}
+	 */
+	public double toPageY(double northing) {
+		return (northing - this.originNorthing) * this.scale + this.offsetY;
+	}
+
+	/**
+	 * Transforms the given X-value on the PDF page back into an easting.
+	 *
+	 * @param pageX
+	 *            the X-value on the page
+	 * @return the easting in world coordinates as {@link Double}
+	 */
+	public double toWorldEasting(double pageX) {
+		return (pageX - this.offsetX) / this.scale + this.originEasting;
+	}
+
+	/**
+	 * Transforms the given Y-value on the PDF page back into a northing.
+	 *
+	 * @param pageY
+	 *            the Y-value on the page
+	 * @return the northing in world coordinates as {@link Double}
+	 */
+	public double toWorldNorthing(double pageY) {
+		return (pageY - this.offsetY) / this.scale + this.originNorthing;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the easting that is moved to the page offset.
+	 *
+	 * @return the origin easting
+	 */
+	public double getOriginEasting() {
+		return originEasting;
+	}
+
+	/**
+	 * Returns the northing that is moved to the page offset.
+	 *
+	 * @return the origin northing
+	 */
+	public double getOriginNorthing() {
+		return originNorthing;
+	}
+
+	/**
+	 * Returns the scaling factor (pixels per meter) of this
+	 * {@link PageTransform}.
+	 *
+	 * @return the scaling factor
+	 */
+	public double getScale() {
+		return scale;
+	}
+
+	/**
+	 * Returns the offset in X-direction on the page in pixels.
+	 *
+	 * @return the offset in X-direction
+	 */
+	public double getOffsetX() {
+		return offsetX;
+	}
+
+	/**
+	 * Returns the offset in Y-direction on the page in pixels.
+	 *
+	 * @return the offset in Y-direction
+	 */
+	public double getOffsetY() {
+		return offsetY;
+	}
+
+	// OTHERS
+}
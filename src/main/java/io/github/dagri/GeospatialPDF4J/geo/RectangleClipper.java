@@ -0,0 +1,572 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateList;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.LinearRing;
+import com.vividsolutions.jts.geom.MultiLineString;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to clip JTS {@link Geometry}s against the axis-aligned rectangle of a
+ * {@link BoundingBox} without using the general JTS overlay.
+ *
+ * o {@link LineString}s are clipped segment by segment (Liang-Barsky) and may
+ * result in multiple parts. o {@link Polygon}s are clipped ring by ring
+ * (Sutherland-Hodgman). Holes that lay completely inside of the rectangle are
+ * kept, holes that lay completely outside are dropped. o Multipart
+ * {@link Geometry}s are clipped part by part.
+ *
+ * Sutherland-Hodgman can not split a ring into multiple parts. Shells that
+ * cross the border of the rectangle more than twice and holes crossing the
+ * border are therefore passed to the exact JTS intersection.
+ *
+ * {@link Geometry}s whose envelope is covered by the rectangle are returned
+ * unchanged (no new {@link Geometry} is created).
+ *
+ * A {@link RectangleClipper} does not change its state while clipping and may
+ * be used by several threads at once.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class RectangleClipper {
+
+	// ATTRIBUTES
+
+	/**
+	 * The {@link BoundingBox} to clip with.
+	 */
+	private final BoundingBox	bbox;
+
+	/**
+	 * The minimal X-value (easting) of the rectangle.
+	 */
+	private final double		minX;
+
+	/**
+	 * The minimal Y-value (northing) of the rectangle.
+	 */
+	private final double		minY;
+
+	/**
+	 * The maximal X-value (easting) of the rectangle.
+	 */
+	private final double		maxX;
+
+	/**
+	 * The maximal Y-value (northing) of the rectangle.
+	 */
+	private final double		maxY;
+
+	/**
+	 * The envelope of the rectangle.
+	 */
+	private final Envelope		clip;
+
+	/**
+	 * The rectangle as JTS {@link Polygon}, used for the exact intersection.
+	 */
+	private final Polygon		clipPolygon;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link RectangleClipper} using the {@link BoundingBox}
+	 * to clip with.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} to clip with
+	 */
+	public RectangleClipper(BoundingBox bbox) {
+		this.bbox = bbox;
+		this.minX = bbox.getMinEasting();
+		this.minY = bbox.getMinNorthing();
+		this.maxX = bbox.getMaxEasting();
+		this.maxY = bbox.getMaxNorthing();
+		this.clip = bbox.toEnvelope();
+		this.clipPolygon = bbox.toPolygon();
+	}
+
+	// METHODS
+
+	/**
+	 * Clips the given {@link Geometry} with the rectangle. The result may be
+	 * empty, a single or a multipart {@link Geometry}.
+	 *
+	 * @param g
+	 *            the {@link Geometry} to clip
+	 * @return the clipped {@link Geometry}
+	 */
+	public Geometry clip(Geometry g) {
+		if (g instanceof Point)
+			return this.clip.contains(g.getCoordinate()) ? g : g.getFactory().createPoint((Coordinate) null);
+		if (g instanceof Polygon)
+			return this.clipPolygon((Polygon) g);
+		if (g instanceof LineString)
+			return this.clipLineString((LineString) g);
+		if (g instanceof MultiPolygon)
+			return this.clipMultiPolygon((MultiPolygon) g);
+		if (g instanceof MultiLineString)
+			return this.clipMultiLineString((MultiLineString) g);
+		// ANY OTHER GEOMETRY : EXACT JTS INTERSECTION
+		return g.intersection(this.getClipPolygon());
+	}
+
+	/**
+	 * Clips the given {@link LineString} with the rectangle (Liang-Barsky).
+	 * Returns an empty {@link LineString}, a {@link LineString} or a
+	 * {@link MultiLineString}.
+	 *
+	 * @param ls
+	 *            the {@link LineString} to clip
+	 * @return the clipped {@link Geometry}
+	 */
+	public Geometry clipLineString(LineString ls) {
+		GeometryFactory factory = ls.getFactory();
+		Envelope env = ls.getEnvelopeInternal();
+		if (this.clip.contains(env))
+			return ls;
+		if (!this.clip.intersects(env))
+			return factory.createLineString(new Coordinate[0]);
+
+		ArrayList<LineString> parts = new ArrayList<>();
+		this.clipLineParts(ls.getCoordinateSequence(), factory, parts);
+		return this.buildLines(parts, factory);
+	}
+
+	/**
+	 * Clips the given {@link MultiLineString} part by part with the
+	 * rectangle.
+	 *
+	 * @param mls
+	 *            the {@link MultiLineString} to clip
+	 * @return the clipped {@link Geometry}
+	 */
+	public Geometry clipMultiLineString(MultiLineString mls) {
+		GeometryFactory factory = mls.getFactory();
+		Envelope env = mls.getEnvelopeInternal();
+		if (this.clip.contains(env))
+			return mls;
+		if (!this.clip.intersects(env))
+			return factory.createLineString(new Coordinate[0]);
+
+		ArrayList<LineString> parts = new ArrayList<>();
+		for (int a = 0; a < mls.getNumGeometries(); a++)
+			this.clipLineParts(((LineString) mls.getGeometryN(a)).getCoordinateSequence(), factory, parts);
+		return this.buildLines(parts, factory);
+	}
+
+	/**
+	 * Clips the given {@link Polygon} with the rectangle (Sutherland-Hodgman).
+	 * Returns an empty {@link Polygon}, a {@link Polygon} or a
+	 * {@link MultiPolygon}.
+	 *
+	 * @param p
+	 *            the {@link Polygon} to clip
+	 * @return the clipped {@link Geometry}
+	 */
+	public Geometry clipPolygon(Polygon p) {
+		GeometryFactory factory = p.getFactory();
+		Envelope env = p.getEnvelopeInternal();
+		if (this.clip.contains(env))
+			return p;
+		if (!this.clip.intersects(env))
+			return factory.createPolygon((LinearRing) null, null);
+
+		// A SHELL LEAVING AND ENTERING THE RECTANGLE MORE THAN ONCE MAY RESULT
+		// IN MULTIPLE PARTS
+		CoordinateSequence shell = p.getExteriorRing().getCoordinateSequence();
+		if (this.countCrossings(shell) > 2)
+			return this.clipExact(p);
+
+		ArrayList<LinearRing> holes = new ArrayList<>();
+		for (int a = 0; a < p.getNumInteriorRing(); a++) {
+			LineString hole = p.getInteriorRingN(a);
+			Envelope holeEnv = hole.getEnvelopeInternal();
+			if (this.clip.contains(holeEnv))
+				holes.add((LinearRing) hole);
+			else if (this.clip.intersects(holeEnv))
+				// THE HOLE CROSSES OR SURROUNDS THE BORDER OF THE RECTANGLE
+				return this.clipExact(p);
+			// ELSE : THE HOLE IS OUTSIDE OF THE RECTANGLE
+		}
+
+		double[] ring = this.clipRing(shell);
+		if (ring == null)
+			return factory.createPolygon((LinearRing) null, null);
+
+		return factory.createPolygon(this.toLinearRing(ring, factory), holes.toArray(new LinearRing[holes.size()]));
+	}
+
+	/**
+	 * Clips the given {@link MultiPolygon} part by part with the rectangle.
+	 *
+	 * @param mp
+	 *            the {@link MultiPolygon} to clip
+	 * @return the clipped {@link Geometry}
+	 */
+	public Geometry clipMultiPolygon(MultiPolygon mp) {
+		GeometryFactory factory = mp.getFactory();
+		Envelope env = mp.getEnvelopeInternal();
+		if (this.clip.contains(env))
+			return mp;
+		if (!this.clip.intersects(env))
+			return factory.createPolygon((LinearRing) null, null);
+
+		ArrayList<Polygon> parts = new ArrayList<>();
+		for (int a = 0; a < mp.getNumGeometries(); a++) {
+			Geometry g = this.clipPolygon((Polygon) mp.getGeometryN(a));
+			for (int b = 0; b < g.getNumGeometries(); b++) {
+				Geometry part = g.getGeometryN(b);
+				if (part instanceof Polygon && !part.isEmpty())
+					parts.add((Polygon) part);
+			}
+		}
+		if (parts.isEmpty())
+			return factory.createPolygon((LinearRing) null, null);
+		if (parts.size() == 1)
+			return parts.get(0);
+		return factory.createMultiPolygon(parts.toArray(new Polygon[parts.size()]));
+	}
+
+	/**
+	 * Clips the given {@link Polygon} with the exact JTS intersection, used
+	 * for the cases Sutherland-Hodgman can not handle.
+	 *
+	 * @param p
+	 *            the {@link Polygon} to clip
+	 * @return the clipped {@link Geometry}
+	 */
+	private Geometry clipExact(Polygon p) {
+		log.debug("Polygon may be split by the rectangle. Using the exact intersection...");
+		return p.intersection(this.getClipPolygon());
+	}
+
+	/**
+	 * Clips the segments of the given {@link CoordinateSequence} with the
+	 * rectangle (Liang-Barsky) and adds the resulting {@link LineString}s to
+	 * the given {@link ArrayList}.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} to clip
+	 * @param factory
+	 *            the {@link GeometryFactory} to create the parts with
+	 * @param parts
+	 *            the {@link ArrayList} to add the parts to
+	 */
+	private void clipLineParts(CoordinateSequence seq, GeometryFactory factory, ArrayList<LineString> parts) {
+		CoordinateList part = new CoordinateList();
+		double[] t = new double[2];
+		for (int a = 0; a < seq.size() - 1; a++) {
+			double x0 = seq.getX(a);
+			double y0 = seq.getY(a);
+			double x1 = seq.getX(a + 1);
+			double y1 = seq.getY(a + 1);
+			if (!this.clipSegment(x0, y0, x1, y1, t)) {
+				// SEGMENT OUTSIDE : FINISH THE ACTUAL PART
+				this.addPart(part, factory, parts);
+				part = new CoordinateList();
+				continue;
+			}
+			if (t[0] > 0 && part.size() > 0) {
+				// THE SEGMENT RE-ENTERS THE RECTANGLE : START A NEW PART
+				this.addPart(part, factory, parts);
+				part = new CoordinateList();
+			}
+			part.add(new Coordinate(x0 + t[0] * (x1 - x0), y0 + t[0] * (y1 - y0)), false);
+			part.add(new Coordinate(x0 + t[1] * (x1 - x0), y0 + t[1] * (y1 - y0)), false);
+			if (t[1] < 1) {
+				// THE SEGMENT LEAVES THE RECTANGLE : FINISH THE ACTUAL PART
+				this.addPart(part, factory, parts);
+				part = new CoordinateList();
+			}
+		}
+		this.addPart(part, factory, parts);
+	}
+
+	/**
+	 * Adds the given {@link CoordinateList} as {@link LineString} to the given
+	 * {@link ArrayList}, if it contains at least two positions.
+	 *
+	 * @param part
+	 *            the {@link CoordinateList} of the part
+	 * @param factory
+	 *            the {@link GeometryFactory} to create the {@link LineString}
+	 *            with
+	 * @param parts
+	 *            the {@link ArrayList} to add the {@link LineString} to
+	 */
+	private void addPart(CoordinateList part, GeometryFactory factory, ArrayList<LineString> parts) {
+		if (part.size() >= 2)
+			parts.add(factory.createLineString(part.toCoordinateArray()));
+	}
+
+	/**
+	 * Creates the resulting {@link Geometry} from the given {@link LineString}
+	 * parts: An empty {@link LineString}, the only {@link LineString} or a
+	 * {@link MultiLineString}.
+	 *
+	 * @param parts
+	 *            the {@link ArrayList} of {@link LineString}s
+	 * @param factory
+	 *            the {@link GeometryFactory} to use
+	 * @return the resulting {@link Geometry}
+	 */
+	private Geometry buildLines(ArrayList<LineString> parts, GeometryFactory factory) {
+		if (parts.isEmpty())
+			return factory.createLineString(new Coordinate[0]);
+		if (parts.size() == 1)
+			return parts.get(0);
+		return factory.createMultiLineString(parts.toArray(new LineString[parts.size()]));
+	}
+
+	/**
+	 * Clips the segment from (x0, y0) to (x1, y1) with the rectangle
+	 * (Liang-Barsky). Writes the parameters of the entry and exit position
+	 * into the given array.
+	 *
+	 * @param x0
+	 *            the X-value of the start
+	 * @param y0
+	 *            the Y-value of the start
+	 * @param x1
+	 *            the X-value of the end
+	 * @param y1
+	 *            the Y-value of the end
+	 * @param t
+	 *            an array of the size of two to write the entry (index 0) and
+	 *            exit (index 1) parameter into
+	 * @return <code>true</code> if a part of the segment is inside of the
+	 *         rectangle; <code>false</code> if not
+	 */
+	private boolean clipSegment(double x0, double y0, double x1, double y1, double[] t) {
+		double dx = x1 - x0;
+		double dy = y1 - y0;
+		double t0 = 0;
+		double t1 = 1;
+		double[] p = { -dx, dx, -dy, dy };
+		double[] q = { x0 - this.minX, this.maxX - x0, y0 - this.minY, this.maxY - y0 };
+		for (int a = 0; a < 4; a++) {
+			if (p[a] == 0) {
+				// PARALLEL TO THE EDGE
+				if (q[a] < 0)
+					return false;
+			} else {
+				double r = q[a] / p[a];
+				if (p[a] < 0) {
+					if (r > t1)
+						return false;
+					if (r > t0)
+						t0 = r;
+				} else {
+					if (r < t0)
+						return false;
+					if (r < t1)
+						t1 = r;
+				}
+			}
+		}
+		t[0] = t0;
+		t[1] = t1;
+		return true;
+	}
+
+	/**
+	 * Counts how often the given ring crosses the border of the rectangle.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} of the ring
+	 * @return the number of crossings as {@link Integer}
+	 */
+	private int countCrossings(CoordinateSequence seq) {
+		int crossings = 0;
+		double[] t = new double[2];
+		for (int a = 0; a < seq.size() - 1; a++) {
+			if (this.clipSegment(seq.getX(a), seq.getY(a), seq.getX(a + 1), seq.getY(a + 1), t)) {
+				if (t[0] > 0)
+					crossings++;
+				if (t[1] < 1)
+					crossings++;
+			}
+		}
+		return crossings;
+	}
+
+	/**
+	 * Clips the given closed ring with the rectangle (Sutherland-Hodgman).
+	 * Returns the positions of the open resulting ring as X/Y-pairs or
+	 * <code>null</code> if nothing is left of the ring.
+	 *
+	 * @param seq
+	 *            the {@link CoordinateSequence} of the closed ring
+	 * @return the positions as {@link Double} array or <code>null</code>
+	 */
+	private double[] clipRing(CoordinateSequence seq) {
+		// THE LAST POSITION IS EQUAL TO THE FIRST ONE
+		int n = seq.size() - 1;
+		double[] pts = new double[n * 2];
+		for (int a = 0; a < n; a++) {
+			pts[a * 2] = seq.getX(a);
+			pts[a * 2 + 1] = seq.getY(a);
+		}
+		for (int edge = 0; edge < 4 && pts.length >= 6; edge++)
+			pts = this.clipRingAtEdge(pts, edge);
+		if (pts.length < 6 || this.area(pts) == 0)
+			return null;
+		return pts;
+	}
+
+	/**
+	 * Clips the given open ring at one edge of the rectangle: 0 = left, 1 =
+	 * right, 2 = bottom, 3 = top.
+	 *
+	 * @param pts
+	 *            the positions of the ring as X/Y-pairs
+	 * @param edge
+	 *            the edge to clip at
+	 * @return the positions of the clipped ring as X/Y-pairs
+	 */
+	private double[] clipRingAtEdge(double[] pts, int edge) {
+		int n = pts.length / 2;
+		double[] out = new double[pts.length + 4];
+		int count = 0;
+		double px = pts[(n - 1) * 2];
+		double py = pts[(n - 1) * 2 + 1];
+		boolean prevInside = this.inside(edge, px, py);
+		for (int a = 0; a < n; a++) {
+			double x = pts[a * 2];
+			double y = pts[a * 2 + 1];
+			boolean inside = this.inside(edge, x, y);
+			if (inside != prevInside) {
+				// ADD THE INTERSECTION WITH THE EDGE
+				if (count + 2 > out.length)
+					out = Arrays.copyOf(out, out.length * 2);
+				double border = edge == 0 ? this.minX : edge == 1 ? this.maxX : edge == 2 ? this.minY : this.maxY;
+				if (edge < 2) {
+					out[count++] = border;
+					out[count++] = py + (border - px) / (x - px) * (y - py);
+				} else {
+					out[count++] = px + (border - py) / (y - py) * (x - px);
+					out[count++] = border;
+				}
+			}
+			if (inside) {
+				if (count + 2 > out.length)
+					out = Arrays.copyOf(out, out.length * 2);
+				out[count++] = x;
+				out[count++] = y;
+			}
+			px = x;
+			py = y;
+			prevInside = inside;
+		}
+		return Arrays.copyOf(out, count);
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the given position is on the
+	 * inner side of the given edge.
+	 *
+	 * @param edge
+	 *            the edge: 0 = left, 1 = right, 2 = bottom, 3 = top
+	 * @param x
+	 *            the X-value of the position
+	 * @param y
+	 *            the Y-value of the position
+	 * @return <code>true</code> if inside; <code>false</code> if not
+	 */
+	private boolean inside(int edge, double x, double y) {
+		switch (edge) {
+			case 0:
+				return x >= this.minX;
+			case 1:
+				return x <= this.maxX;
+			case 2:
+				return y >= this.minY;
+			default:
+				return y <= this.maxY;
+		}
+	}
+
+	/**
+	 * Returns the area (Shoelace formula) of the given open ring.
+	 *
+	 * @param pts
+	 *            the positions of the ring as X/Y-pairs
+	 * @return the area as {@link Double}
+	 */
+	private double area(double[] pts) {
+		int n = pts.length / 2;
+		double sum = 0;
+		for (int a = 0; a < n; a++) {
+			int b = (a + 1) % n;
+			sum += pts[a * 2] * pts[b * 2 + 1] - pts[b * 2] * pts[a * 2 + 1];
+		}
+		return Math.abs(sum / 2);
+	}
+
+	/**
+	 * Creates a closed {@link LinearRing} from the given open ring.
+	 *
+	 * @param pts
+	 *            the positions of the ring as X/Y-pairs
+	 * @param factory
+	 *            the {@link GeometryFactory} to use
+	 * @return the {@link LinearRing}
+	 */
+	private LinearRing toLinearRing(double[] pts, GeometryFactory factory) {
+		int n = pts.length / 2;
+		Coordinate[] c = new Coordinate[n + 1];
+		for (int a = 0; a < n; a++)
+			c[a] = new Coordinate(pts[a * 2], pts[a * 2 + 1]);
+		c[n] = new Coordinate(c[0]);
+		return factory.createLinearRing(c);
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the {@link BoundingBox} this {@link RectangleClipper} clips
+	 * with.
+	 *
+	 * @return the {@link BoundingBox}
+	 */
+	public BoundingBox getBbox() {
+		return bbox;
+	}
+
+	/**
+	 * Returns the rectangle of this {@link RectangleClipper} as
+	 * {@link Envelope}.
+	 *
+	 * @return the {@link Envelope}
+	 */
+	public Envelope getEnvelope() {
+		return clip;
+	}
+
+	/**
+	 * Returns the rectangle of this {@link RectangleClipper} as JTS
+	 * {@link Polygon}.
+	 *
+	 * @return the {@link Polygon}
+	 */
+	public Polygon getClipPolygon() {
+		return clipPolygon;
+	}
+
+	// OTHERS
+}
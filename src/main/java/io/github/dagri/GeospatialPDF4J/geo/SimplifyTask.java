@@ -0,0 +1,116 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.List;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.Puntal;
+import com.vividsolutions.jts.simplify.TopologyPreservingSimplifier;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+
+/**
+ * {@link GeometryTask} to reduce the level of detail of a range of
+ * {@link DrawGeometry}s:
+ * 
+ * o {@link DrawGeometry}s whose envelope is smaller than the minimal size in
+ * both directions are removed (culled). o All other {@link DrawGeometry}s are
+ * simplified with the {@link TopologyPreservingSimplifier}, so rings do not
+ * collapse or cross each other.
+ * 
+ * Points are never changed. Both values are given in world units (meters).
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class SimplifyTask extends GeometryTask {
+
+	// ATTRIBUTES
+
+	/**
+	 * The serial version UID.
+	 */
+	private static final long	serialVersionUID	= 1L;
+
+	/**
+	 * The tolerance of the simplification in world units.
+	 */
+	private final double		tolerance;
+
+	/**
+	 * The minimal size of a {@link DrawGeometry} in world units.
+	 */
+	private final double		minSize;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link SimplifyTask} using the {@link List} of
+	 * {@link DrawGeometry}s, the result array, the range, the tolerance and
+	 * the minimal size.
+	 *
+	 * @param geoms
+	 *            the {@link List} of {@link DrawGeometry}s to simplify
+	 * @param results
+	 *            the array to write the results into, at least as large as the
+	 *            {@link List}
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param tolerance
+	 *            the tolerance of the simplification in world units (0 to not
+	 *            simplify)
+	 * @param minSize
+	 *            the minimal size in world units (0 to not cull)
+	 */
+	public SimplifyTask(List<? extends DrawGeometry> geoms, Geometry[] results, int from, int to, double tolerance, double minSize) {
+		super(geoms, results, from, to);
+		this.tolerance = tolerance;
+		this.minSize = minSize;
+	}
+
+	// INHERITED METHODS
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.github.dagri.GeospatialPDF4J.geo.GeometryTask#process(io.github.dagri.
+	 * GeospatialPDF4J.draw.geometries.DrawGeometry)
+	 */
+	@Override
+	protected Geometry process(DrawGeometry actual) {
+		Geometry jts = actual.getJtsGeometry();
+		if (jts instanceof Puntal)
+			return jts;
+		Envelope env = jts.getEnvelopeInternal();
+		if (env.getWidth() < this.minSize && env.getHeight() < this.minSize)
+			// SMALLER THAN THE MINIMAL SIZE : CULL
+			return null;
+		if (this.tolerance <= 0)
+			return jts;
+		Geometry g = TopologyPreservingSimplifier.simplify(jts, this.tolerance);
+		// KEEP THE ORIGINAL IF THE TYPE CHANGED OR NOTHING IS LEFT
+		if (g.isEmpty() || g.getClass() != jts.getClass())
+			return jts;
+		return g;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.github.dagri.GeospatialPDF4J.geo.GeometryTask#createSubtask(int,
+	 * int)
+	 */
+	@Override
+	protected GeometryTask createSubtask(int from, int to) {
+		return new SimplifyTask(this.getGeoms(), this.getResults(), from, to, this.tolerance, this.minSize);
+	}
+
+	// METHODS
+
+	// GETTERS AND SETTERS
+
+	// OTHERS
+}
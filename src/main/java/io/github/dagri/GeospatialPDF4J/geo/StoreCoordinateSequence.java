@@ -0,0 +1,214 @@
+package io.github.dagri.GeospatialPDF4J.geo;
+
+import java.util.Arrays;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Envelope;
+
+/**
+ * Class to read a part of a coordinate buffer (easting and northing
+ * alternating) as {@link CoordinateSequence}, e.g. a ring of a
+ * {@link FeatureStore}. The vertices are not copied: the JTS geometries
+ * created on this sequence read and write the buffer directly.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class StoreCoordinateSequence implements CoordinateSequence {
+
+	// ATTRIBUTES
+
+	/**
+	 * The coordinate buffer (easting and northing alternating).
+	 */
+	private final double[]	coords;
+
+	/**
+	 * The index of the first vertex in the buffer.
+	 */
+	private final int		offset;
+
+	/**
+	 * The number of vertices.
+	 */
+	private final int		size;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link StoreCoordinateSequence} using the given
+	 * vertices of the given buffer.
+	 *
+	 * @param coords
+	 *            the coordinate buffer (easting and northing alternating)
+	 * @param offset
+	 *            the index of the first vertex in the buffer
+	 * @param size
+	 *            the number of vertices
+	 */
+	public StoreCoordinateSequence(double[] coords, int offset, int size) {
+		this.coords = coords;
+		this.offset = offset;
+		this.size = size;
+	}
+
+	// METHODS
+
+	/**
+	 * Returns the dimension of the vertices, always 2.
+	 *
+	 * @return the dimension
+	 */
+	@Override
+	public int getDimension() {
+		return 2;
+	}
+
+	/**
+	 * Returns a new {@link Coordinate} of the vertex at the given index.
+	 *
+	 * @param i
+	 *            the index of the vertex
+	 * @return the new {@link Coordinate}
+	 */
+	@Override
+	public Coordinate getCoordinate(int i) {
+		return new Coordinate(this.getX(i), this.getY(i));
+	}
+
+	/**
+	 * Returns a new {@link Coordinate} of the vertex at the given index.
+	 *
+	 * @param i
+	 *            the index of the vertex
+	 * @return the new {@link Coordinate}
+	 */
+	@Override
+	public Coordinate getCoordinateCopy(int i) {
+		return this.getCoordinate(i);
+	}
+
+	/**
+	 * Copies the vertex at the given index into the given {@link Coordinate}.
+	 *
+	 * @param index
+	 *            the index of the vertex
+	 * @param coord
+	 *            the {@link Coordinate} to set
+	 */
+	@Override
+	public void getCoordinate(int index, Coordinate coord) {
+		coord.x = this.getX(index);
+		coord.y = this.getY(index);
+	}
+
+	/**
+	 * Returns the easting of the vertex at the given index.
+	 *
+	 * @param index
+	 *            the index of the vertex
+	 * @return the easting
+	 */
+	@Override
+	public double getX(int index) {
+		return this.coords[2 * (this.offset + index)];
+	}
+
+	/**
+	 * Returns the northing of the vertex at the given index.
+	 *
+	 * @param index
+	 *            the index of the vertex
+	 * @return the northing
+	 */
+	@Override
+	public double getY(int index) {
+		return this.coords[2 * (this.offset + index) + 1];
+	}
+
+	/**
+	 * Returns the given ordinate of the vertex at the given index.
+	 *
+	 * @param index
+	 *            the index of the vertex
+	 * @param ordinateIndex
+	 *            {@link CoordinateSequence#X} or {@link CoordinateSequence#Y}
+	 * @return the ordinate or {@link Double#NaN} for any other ordinate
+	 */
+	@Override
+	public double getOrdinate(int index, int ordinateIndex) {
+		if (ordinateIndex == X)
+			return this.getX(index);
+		if (ordinateIndex == Y)
+			return this.getY(index);
+		return Double.NaN;
+	}
+
+	/**
+	 * Returns the number of vertices.
+	 *
+	 * @return the number of vertices
+	 */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Sets the given ordinate of the vertex at the given index in the buffer.
+	 * Any other ordinate than easting and northing is ignored.
+	 *
+	 * @param index
+	 *            the index of the vertex
+	 * @param ordinateIndex
+	 *            {@link CoordinateSequence#X} or {@link CoordinateSequence#Y}
+	 * @param value
+	 *            the new value
+	 */
+	@Override
+	public void setOrdinate(int index, int ordinateIndex, double value) {
+		if (ordinateIndex == X || ordinateIndex == Y)
+			this.coords[2 * (this.offset + index) + ordinateIndex] = value;
+	}
+
+	/**
+	 * Returns a new array of {@link Coordinate}s of all vertices.
+	 *
+	 * @return the new array of {@link Coordinate}s
+	 */
+	@Override
+	public Coordinate[] toCoordinateArray() {
+		Coordinate[] erg = new Coordinate[this.size];
+		for (int a = 0; a < this.size; a++)
+			erg[a] = this.getCoordinate(a);
+		return erg;
+	}
+
+	/**
+	 * Expands the given {@link Envelope} to include all vertices.
+	 *
+	 * @param env
+	 *            the {@link Envelope} to expand
+	 * @return the expanded {@link Envelope}
+	 */
+	@Override
+	public Envelope expandEnvelope(Envelope env) {
+		for (int a = 0; a < this.size; a++)
+			env.expandToInclude(this.getX(a), this.getY(a));
+		return env;
+	}
+
+	/**
+	 * Returns a {@link StoreCoordinateSequence} on a copy of the vertices, so
+	 * a cloned geometry does not share the buffer.
+	 *
+	 * @return the new {@link StoreCoordinateSequence}
+	 */
+	@Override
+	public Object clone() {
+		return new StoreCoordinateSequence(Arrays.copyOfRange(this.coords, 2 * this.offset, 2 * (this.offset + this.size)), 0, this.size);
+	}
+
+	// OTHERS
+}
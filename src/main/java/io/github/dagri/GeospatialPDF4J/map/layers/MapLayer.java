@@ -2,15 +2,22 @@ package io.github.dagri.GeospatialPDF4J.map.layers;
 
 import java.util.ArrayList;
 
+import com.lowagie.text.Document;
 import com.lowagie.text.pdf.PdfLayer;
 import com.lowagie.text.pdf.PdfName;
 import com.lowagie.text.pdf.PdfStructureElement;
 import com.lowagie.text.pdf.PdfStructureTreeRoot;
 import com.lowagie.text.pdf.PdfWriter;
 
+import io.github.dagri.GeospatialPDF4J.draw.drawers.EStructureMode;
+import io.github.dagri.GeospatialPDF4J.draw.drawers.PdfDrawer;
 import io.github.dagri.GeospatialPDF4J.exceptions.CalcualteLayerInchesException;
 import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.geo.OutlineNetwork;
+import io.github.dagri.GeospatialPDF4J.geo.PageTransform;
 import io.github.dagri.GeospatialPDF4J.map.Map;
+import io.github.dagri.GeospatialPDF4J.res.AttributeTable;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -86,6 +93,46 @@ public abstract class MapLayer implements IPdfAddable {
 	 */
 	private PdfWriter		writer;
 
+	/**
+	 * The way the content of this {@link MapLayer} is structured in the
+	 * structure tree of the PDF.
+	 * 
+	 * The standard value is {@link EStructureMode#FEATURE}.
+	 */
+	private EStructureMode	structureMode		= EStructureMode.FEATURE;
+
+	/**
+	 * Whether the attributes of the features of this {@link MapLayer} are
+	 * embedded once as CSV-file attachment.
+	 * 
+	 * The standard value is <code>false</code>.
+	 */
+	private boolean			attributeAttachment	= false;
+
+	/**
+	 * The {@link PageTransform} converting the world coordinates of the
+	 * content of this {@link MapLayer} into the coordinate system of the PDF
+	 * page. Identity until {@link #prepareForAdding(Document)} was called.
+	 */
+	private PageTransform	pageTransform			= new PageTransform();
+
+	/**
+	 * The resolution of the output device in dots per inch. Drives the level
+	 * of detail of the drawn content.
+	 */
+	private int				outputDpi				= 300;
+
+	/**
+	 * The tolerance of the simplification in device pixels.
+	 */
+	private double			simplifyTolerancePixels	= 0.5;
+
+	/**
+	 * The minimal size of a drawn line or polygon in device pixels. Smaller
+	 * ones are removed.
+	 */
+	private double			minFeaturePixels		= 1;
+
 	// CONSTRUCTORS
 
 	/**
@@ -182,13 +229,16 @@ public abstract class MapLayer implements IPdfAddable {
 	 * Creates a {@link PdfStructureElement} with the given name right below the
 	 * tree root-element and returns it.
 	 * 
-	 * May return <code>null</code> if an error occurs.
+	 * May return <code>null</code> if an error occurs or the
+	 * {@link EStructureMode} is {@link EStructureMode#NONE}.
 	 *
 	 * @param name
 	 *            the name of the {@link PdfStructureElement} to create
 	 * @return the {@link PdfStructureElement}
 	 */
 	protected PdfStructureElement createTopTreeElement(String name) {
+		if (this.getStructureMode() == EStructureMode.NONE)
+			return null;
 		// MAKE SURE THE WRITER IS NOT NULL (NOT SET YET)
 		if (this.getWriter() != null) {
 			PdfStructureTreeRoot treeRoot = this.getWriter().getStructureTreeRoot();
@@ -200,6 +250,140 @@ public abstract class MapLayer implements IPdfAddable {
 		}
 	}
 
+	/**
+	 * Applies the {@link EStructureMode} and the attribute attachment of this
+	 * {@link MapLayer} to the given {@link PdfDrawer}.
+	 *
+	 * @param drawer
+	 *            the {@link PdfDrawer} drawing the content of this
+	 *            {@link MapLayer}
+	 */
+	protected void applyOutputMode(PdfDrawer drawer) {
+		drawer.setStructureMode(this.getStructureMode());
+		if (this.isAttributeAttachment())
+			drawer.setAttributeTable(new AttributeTable());
+	}
+
+	/**
+	 * Switches the lean output of this {@link MapLayer} on or off: The lean
+	 * output structures the content per drawn PDF-layer instead of per feature
+	 * and embeds the attributes of the features once as CSV-file attachment,
+	 * keyed by the feature id. This results in much smaller PDF-files that are
+	 * written and displayed faster.
+	 *
+	 * @param lean
+	 *            <code>true</code> for the lean output; <code>false</code> for
+	 *            user properties per feature
+	 */
+	public void setLeanOutput(boolean lean) {
+		this.setStructureMode(lean ? EStructureMode.LAYER : EStructureMode.FEATURE);
+		this.setAttributeAttachment(lean);
+	}
+
+	/**
+	 * <ul>
+	 * <li>Creates the {@link PageTransform} for the drawable content of this
+	 * {@link MapLayer}.</li>
+	 * <li>The lower left corner of the layers {@link BoundingBox} is moved to
+	 * the origin, the content is scaled by {@link #calcScalingFactor()} and
+	 * moved about the margins of the document (marginX & marginY) and the
+	 * offset of the {@link MapLayer} to the {@link Map} (offsetX, offsetY).
+	 * </li>
+	 * <li>Explanation: The content is not changed by this; the transformation
+	 * is applied by the {@link PdfDrawer} while writing the path operators.
+	 * </li>
+	 * </ul>
+	 *
+	 * @param doc
+	 *            the {@link Document} to respect the margins of
+	 * @return the {@link PageTransform} of this {@link MapLayer}
+	 */
+	protected PageTransform createPageTransform(Document doc) {
+		// DUE TO THE INTERNAL USED BBOX SYSTEM THE PRESENT CRS IS UTM
+		// ORDINATE 0 --> EASTING
+		// ORDIANTE 1 --> NORTHING
+		return new PageTransform(
+				// ORIGIN
+				this.getLayerBBox().getMinEasting(), this.getLayerBBox().getMinNorthing(),
+				// SCALE
+				this.calcScalingFactor(),
+				// OFFSET
+				doc.leftMargin() + this.getxOffset2Map(), doc.bottomMargin() + this.getyOffset2Map());
+	}
+
+	/**
+	 * Returns the size of one device pixel of the output device on the PDF
+	 * page (72 units per inch).
+	 *
+	 * @return the size of one device pixel in page units
+	 */
+	public double getDevicePixelSize() {
+		return 72.0 / this.getOutputDpi();
+	}
+
+	/**
+	 * Returns a copy of the given {@link GeometryContainer} reduced to the
+	 * level of detail of the output device: Lines and polygons smaller than
+	 * {@link #getMinFeaturePixels()} are left out, all others are simplified
+	 * with a tolerance of {@link #getSimplifyTolerancePixels()}. The given
+	 * {@link GeometryContainer} is not changed. Has to be called after the
+	 * {@link PageTransform} was created.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to reduce
+	 * @return the reduced {@link GeometryContainer}
+	 */
+	protected GeometryContainer reduceLevelOfDetail(GeometryContainer container) {
+		return this.reduceLevelOfDetail(container, null);
+	}
+
+	/**
+	 * Returns a copy of the given {@link GeometryContainer} reduced to the
+	 * level of detail of the output device, see
+	 * {@link #reduceLevelOfDetail(GeometryContainer)}. The polygons are
+	 * rebuilt from the given (reduced) {@link OutlineNetwork} instead of being
+	 * simplified on their own, see
+	 * {@link GeometryContainer#createSimplified(double, double, OutlineNetwork)}
+	 * .
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to reduce
+	 * @param network
+	 *            the {@link OutlineNetwork} of the {@link GeometryContainer}
+	 *            reduced by {@link #reduceLevelOfDetail(OutlineNetwork)},
+	 *            <code>null</code> to simplify the polygons on their own
+	 * @return the reduced {@link GeometryContainer}
+	 */
+	protected GeometryContainer reduceLevelOfDetail(GeometryContainer container, OutlineNetwork network) {
+		double pixel = this.calcWorldPixelSize();
+		log.debug("Reducing the level of detail to " + this.getOutputDpi() + " DPI (" + pixel + " m per device pixel)...");
+		return container.createSimplified(this.getSimplifyTolerancePixels() * pixel, this.getMinFeaturePixels() * pixel, network);
+	}
+
+	/**
+	 * Returns a copy of the given {@link OutlineNetwork} simplified with a
+	 * tolerance of {@link #getSimplifyTolerancePixels()}. No line is left out,
+	 * so the network gets no gaps. Has to be called after the
+	 * {@link PageTransform} was created.
+	 *
+	 * @param network
+	 *            the {@link OutlineNetwork} to reduce
+	 * @return the reduced {@link OutlineNetwork}
+	 */
+	protected OutlineNetwork reduceLevelOfDetail(OutlineNetwork network) {
+		return network.createSimplified(this.getSimplifyTolerancePixels() * this.calcWorldPixelSize());
+	}
+
+	/**
+	 * Calculates the size of one device pixel of the output device in world
+	 * units, using the scale of the {@link PageTransform}.
+	 *
+	 * @return the size of one device pixel in world units
+	 */
+	private double calcWorldPixelSize() {
+		return this.getDevicePixelSize() / this.getPageTransform().getScale();
+	}
+
 	/**
 	 * Creates a {@link PdfLayer} to be used as parental layer for other
 	 * (children-) layers with the given text, using the given {@link PdfWriter}
@@ -433,5 +617,125 @@ public abstract class MapLayer implements IPdfAddable {
 		this.writer = writer;
 	}
 
+	/**
+	 * Returns the way the content of this {@link MapLayer} is structured in
+	 * the structure tree of the PDF.
+	 *
+	 * @return the {@link EStructureMode}
+	 */
+	public EStructureMode getStructureMode() {
+		return structureMode;
+	}
+
+	/**
+	 * Sets the way the content of this {@link MapLayer} is structured in the
+	 * structure tree of the PDF.
+	 *
+	 * @param structureMode
+	 *            the {@link EStructureMode} to set
+	 */
+	public void setStructureMode(EStructureMode structureMode) {
+		this.structureMode = structureMode;
+	}
+
+	/**
+	 * Returns whether the attributes of the features of this {@link MapLayer}
+	 * are embedded once as CSV-file attachment.
+	 *
+	 * @return <code>true</code> if the attributes are embedded
+	 */
+	public boolean isAttributeAttachment() {
+		return attributeAttachment;
+	}
+
+	/**
+	 * Sets whether the attributes of the features of this {@link MapLayer}
+	 * are embedded once as CSV-file attachment.
+	 *
+	 * @param attributeAttachment
+	 *            <code>true</code> to embed the attributes
+	 */
+	public void setAttributeAttachment(boolean attributeAttachment) {
+		this.attributeAttachment = attributeAttachment;
+	}
+
+	/**
+	 * Returns the {@link PageTransform} of this {@link MapLayer}.
+	 *
+	 * @return the {@link PageTransform}
+	 */
+	public PageTransform getPageTransform() {
+		return pageTransform;
+	}
+
+	/**
+	 * Sets the {@link PageTransform} of this {@link MapLayer}.
+	 *
+	 * @param pageTransform
+	 *            the {@link PageTransform} to set
+	 */
+	protected void setPageTransform(PageTransform pageTransform) {
+		this.pageTransform = pageTransform;
+	}
+
+	/**
+	 * Returns the resolution of the output device in dots per inch.
+	 *
+	 * @return the output DPI
+	 */
+	public int getOutputDpi() {
+		return outputDpi;
+	}
+
+	/**
+	 * Sets the resolution of the output device in dots per inch.
+	 *
+	 * @param outputDpi
+	 *            the output DPI to set
+	 */
+	public void setOutputDpi(int outputDpi) {
+		this.outputDpi = outputDpi;
+	}
+
+	/**
+	 * Returns the tolerance of the simplification in device pixels.
+	 *
+	 * @return the tolerance in device pixels
+	 */
+	public double getSimplifyTolerancePixels() {
+		return simplifyTolerancePixels;
+	}
+
+	/**
+	 * Sets the tolerance of the simplification in device pixels. 0 disables
+	 * the simplification.
+	 *
+	 * @param simplifyTolerancePixels
+	 *            the tolerance in device pixels to set
+	 */
+	public void setSimplifyTolerancePixels(double simplifyTolerancePixels) {
+		this.simplifyTolerancePixels = simplifyTolerancePixels;
+	}
+
+	/**
+	 * Returns the minimal size of a drawn line or polygon in device pixels.
+	 *
+	 * @return the minimal size in device pixels
+	 */
+	public double getMinFeaturePixels() {
+		return minFeaturePixels;
+	}
+
+	/**
+	 * Sets the minimal size of a drawn line or polygon in device pixels. 0
+	 * disables the culling.
+	 *
+	 * @param minFeaturePixels
+	 *            the minimal size in device pixels to set
+	 */
+	public void setMinFeaturePixels(double minFeaturePixels) {
+		this.minFeaturePixels = minFeaturePixels;
+	}
+
 	// OTHERS
 }
@@ -0,0 +1,510 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.gps;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.opengis.referencing.operation.MathTransform;
+import org.opengis.referencing.operation.TransformException;
+
+import io.github.dagri.GeospatialPDF4J.exceptions.CoordinateTransformException;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to read a CSV-GPS-file into a {@link GpsTrack} with several threads.
+ *
+ * Every line of the file contains the northing, the easting and the height of
+ * a point, separated by commas (further columns are ignored). The northing and
+ * easting are given in the CRS of the EPSG-code of this {@link GpsCsvReader},
+ * in its axis order.
+ *
+ * The file is split into chunks of about {@link #getChunkSize()} bytes at line
+ * boundaries. Every chunk is memory mapped and parsed directly from its bytes
+ * in the common {@link ForkJoinPool}; the coordinates of a chunk are
+ * transformed into the internal used UTM-CRS (EPSG:25832) at once. The chunks
+ * are merged into the primitive columns of the {@link GpsTrack} in file order.
+ *
+ * Lines that can not be parsed or transformed (e.g. a header) are skipped and
+ * counted, see {@link #getSkippedLines()}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class GpsCsvReader {
+
+	// ATTRIBUTES
+
+	/**
+	 * The exact powers of ten of a double.
+	 */
+	private static final double[]	POWERS_OF_TEN	= { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+			1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * The EPSG-code of the CRS of the coordinates in the file.
+	 */
+	private int						epsgCode;
+
+	/**
+	 * The minimal number of bytes of a chunk.
+	 *
+	 * Standard value is 8 MB.
+	 */
+	private long					chunkSize		= 8L << 20;
+
+	/**
+	 * The number of lines skipped by the last reading.
+	 */
+	private long					skippedLines	= 0;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link GpsCsvReader} using the EPSG-code of the CRS of
+	 * the coordinates in the file.
+	 *
+	 * @param epsgCode
+	 *            the EPSG-code
+	 */
+	public GpsCsvReader(int epsgCode) {
+		this.setEpsgCode(epsgCode);
+	}
+
+	// METHODS
+
+	/**
+	 * Reads the given CSV-GPS-file into a {@link GpsTrack}.
+	 *
+	 * @param file
+	 *            the {@link Path} of the file
+	 * @return the {@link GpsTrack} of all readable lines
+	 * @throws IOException
+	 *             if the file could not be read
+	 * @throws CoordinateTransformException
+	 *             if there is no transformation from the CRS of the file into
+	 *             the UTM-CRS
+	 */
+	public GpsTrack read(Path file) throws IOException, CoordinateTransformException {
+		return this.read(file, CoordinateTransformer.getInstance().createUtmTransform(this.getEpsgCode()));
+	}
+
+	/**
+	 * Reads the given CSV-GPS-file into a {@link GpsTrack}, transforming the
+	 * coordinates with the given {@link MathTransform} instead of the one of
+	 * the EPSG-code. Points the {@link MathTransform} rejects are skipped.
+	 *
+	 * @param file
+	 *            the {@link Path} of the file
+	 * @param transform
+	 *            the {@link MathTransform} from the CRS of the file into the
+	 *            UTM-CRS
+	 * @return the {@link GpsTrack} of all readable lines
+	 * @throws IOException
+	 *             if the file could not be read
+	 */
+	public GpsTrack read(Path file, final MathTransform transform) throws IOException {
+		this.skippedLines = 0;
+		try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long[] bounds = this.findChunkBounds(channel);
+
+			ArrayList<Future<Chunk>> results = new ArrayList<>();
+			for (int a = 0; a < bounds.length - 1; a++) {
+				final long start = bounds[a];
+				final long end = bounds[a + 1];
+				results.add(ForkJoinPool.commonPool().submit(new Callable<Chunk>() {
+
+					@Override
+					public Chunk call() throws Exception {
+						Chunk chunk = new Chunk();
+						chunk.parse(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), start == 0);
+						chunk.transform(transform);
+						return chunk;
+					}
+				}));
+			}
+
+			// MERGE IN FILE ORDER
+			ArrayList<Chunk> chunks = new ArrayList<>();
+			int count = 0;
+			for (int a = 0; a < results.size(); a++) {
+				Chunk chunk = this.await(results.get(a));
+				chunks.add(chunk);
+				count += chunk.count;
+				this.skippedLines += chunk.skipped;
+			}
+			double[] eastings = new double[count];
+			double[] northings = new double[count];
+			double[] heights = new double[count];
+			int offset = 0;
+			for (int a = 0; a < chunks.size(); a++) {
+				Chunk chunk = chunks.get(a);
+				for (int b = 0; b < chunk.count; b++) {
+					// THE UTM-CRS HAS THE AXIS ORDER EASTING, NORTHING
+					eastings[offset + b] = chunk.coords[b * 2];
+					northings[offset + b] = chunk.coords[b * 2 + 1];
+				}
+				System.arraycopy(chunk.heights, 0, heights, offset, chunk.count);
+				offset += chunk.count;
+			}
+			log.info("CSV-GPS-file read in " + chunks.size() + " chunks: " + count + " points, " + this.getSkippedLines() + " lines skipped.");
+			return new GpsTrack(eastings, northings, heights);
+		}
+	}
+
+	/**
+	 * Splits the file of the given {@link FileChannel} into chunks of about
+	 * {@link #getChunkSize()} bytes that end with a line break (or the end of
+	 * the file).
+	 *
+	 * @param channel
+	 *            the {@link FileChannel} of the file
+	 * @return the positions of the chunk bounds, starting with 0 and ending
+	 *         with the size of the file
+	 * @throws IOException
+	 *             if the file could not be read
+	 */
+	private long[] findChunkBounds(FileChannel channel) throws IOException {
+		long size = channel.size();
+		ArrayList<Long> bounds = new ArrayList<>();
+		bounds.add(0L);
+		ByteBuffer probe = ByteBuffer.allocate(4096);
+		long pos = this.getChunkSize();
+		while (pos < size) {
+			// SEARCH THE NEXT LINE BREAK
+			long lineEnd = -1;
+			while (lineEnd < 0 && pos < size) {
+				probe.clear();
+				int n = channel.read(probe, pos);
+				if (n <= 0)
+					break;
+				for (int a = 0; a < n && lineEnd < 0; a++) {
+					if (probe.get(a) == '\n')
+						lineEnd = pos + a + 1;
+				}
+				pos += n;
+			}
+			if (lineEnd < 0 || lineEnd >= size)
+				break;
+			bounds.add(lineEnd);
+			pos = lineEnd + this.getChunkSize();
+		}
+		long[] erg = new long[bounds.size() + 1];
+		for (int a = 0; a < bounds.size(); a++)
+			erg[a] = bounds.get(a);
+		erg[bounds.size()] = size;
+		return erg;
+	}
+
+	/**
+	 * Waits for the result of the given {@link Future} and rethrows the
+	 * exception of a failed chunk.
+	 *
+	 * @param f
+	 *            the {@link Future} to wait for
+	 * @return the {@link Chunk}
+	 * @throws IOException
+	 *             if the chunk could not be read or the waiting was
+	 *             interrupted
+	 */
+	private Chunk await(Future<Chunk> f) throws IOException {
+		try {
+			return f.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while reading the CSV-GPS-file.");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Parses the number of the given bytes (without surrounding whitespace).
+	 * Plain decimal numbers whose value is exactly representable by a mantissa
+	 * below 2^53 and a power of ten up to 10^22 are computed directly, with
+	 * the same correctly rounded result as {@link Double#parseDouble(String)};
+	 * all others are passed to {@link Double#parseDouble(String)}.
+	 *
+	 * @param buf
+	 *            the {@link ByteBuffer} containing the number
+	 * @param start
+	 *            the index of the first byte
+	 * @param end
+	 *            the index behind the last byte
+	 * @return the number
+	 * @throws NumberFormatException
+	 *             if the bytes are no number
+	 */
+	private static double parseDouble(ByteBuffer buf, int start, int end) throws NumberFormatException {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (buf.get(i) == '-' || buf.get(i) == '+')) {
+			negative = buf.get(i) == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int exponent = 0;
+		int digits = 0;
+		boolean point = false;
+		for (; i < end; i++) {
+			byte b = buf.get(i);
+			if (b >= '0' && b <= '9') {
+				// MORE THAN 17 DIGITS ARE NOT EXACT IN ANY CASE
+				if (++digits > 17)
+					break;
+				mantissa = mantissa * 10 + (b - '0');
+				if (point)
+					exponent--;
+			} else if (b == '.' && !point)
+				point = true;
+			else
+				break;
+		}
+		if (i == end && digits > 0 && mantissa < (1L << 53) && exponent >= -22) {
+			double value = exponent == 0 ? mantissa : mantissa / POWERS_OF_TEN[-exponent];
+			return negative ? -value : value;
+		}
+		// EXPONENTS, LONG MANTISSAS AND INVALID NUMBERS
+		byte[] bytes = new byte[end - start];
+		for (int a = 0; a < bytes.length; a++)
+			bytes[a] = buf.get(start + a);
+		return Double.parseDouble(new String(bytes, StandardCharsets.ISO_8859_1));
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the EPSG-code of the CRS of the coordinates in the file.
+	 *
+	 * @return the EPSG-code
+	 */
+	public int getEpsgCode() {
+		return epsgCode;
+	}
+
+	/**
+	 * Sets the EPSG-code of the CRS of the coordinates in the file.
+	 *
+	 * @param epsgCode
+	 *            the EPSG-code to set
+	 */
+	public void setEpsgCode(int epsgCode) {
+		this.epsgCode = epsgCode;
+	}
+
+	/**
+	 * Returns the minimal number of bytes of a chunk.
+	 *
+	 * @return the chunk size in bytes
+	 */
+	public long getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Sets the minimal number of bytes of a chunk (1 KB to 1 GB).
+	 *
+	 * @param chunkSize
+	 *            the chunk size in bytes to set
+	 */
+	public void setChunkSize(long chunkSize) {
+		this.chunkSize = Math.max(1L << 10, Math.min(1L << 30, chunkSize));
+	}
+
+	/**
+	 * Returns the number of lines skipped by the last reading, because they
+	 * could not be parsed or transformed.
+	 *
+	 * @return the number of skipped lines
+	 */
+	public long getSkippedLines() {
+		return skippedLines;
+	}
+
+	// OTHERS
+
+	/**
+	 * The points of one chunk of the file: The coordinates in pairs of the
+	 * first and second ordinate, and the heights.
+	 */
+	private static class Chunk {
+
+		/**
+		 * The ordinates in pairs, before the transformation in the CRS of the
+		 * file, afterwards in the UTM-CRS.
+		 */
+		private double[]	coords	= new double[2048];
+
+		/**
+		 * The heights of the points.
+		 */
+		private double[]	heights	= new double[1024];
+
+		/**
+		 * The number of points.
+		 */
+		private int			count	= 0;
+
+		/**
+		 * The number of skipped lines.
+		 */
+		private int			skipped	= 0;
+
+		/**
+		 * The values of the actual line.
+		 */
+		private double[]	values	= new double[3];
+
+		/**
+		 * Parses all lines of the given bytes.
+		 *
+		 * @param buf
+		 *            the {@link ByteBuffer} of the chunk
+		 * @param first
+		 *            <code>true</code> for the first chunk of the file, that
+		 *            may start with a byte order mark
+		 */
+		private void parse(ByteBuffer buf, boolean first) {
+			int end = buf.limit();
+			int pos = 0;
+			// UTF-8 BYTE ORDER MARK
+			if (first && end >= 3 && buf.get(0) == (byte) 0xEF && buf.get(1) == (byte) 0xBB && buf.get(2) == (byte) 0xBF)
+				pos = 3;
+			while (pos < end) {
+				int lineEnd = pos;
+				while (lineEnd < end && buf.get(lineEnd) != '\n')
+					lineEnd++;
+				this.parseLine(buf, pos, lineEnd);
+				pos = lineEnd + 1;
+			}
+		}
+
+		/**
+		 * Parses the first three values of the given line and adds them as
+		 * point. Empty lines are skipped silently; lines with less than three
+		 * values or with invalid values are counted as skipped.
+		 *
+		 * @param buf
+		 *            the {@link ByteBuffer} of the chunk
+		 * @param start
+		 *            the index of the first byte of the line
+		 * @param end
+		 *            the index behind the last byte of the line
+		 */
+		private void parseLine(ByteBuffer buf, int start, int end) {
+			double[] values = this.values;
+			int fieldStart = start;
+			for (int a = 0; a < 3; a++) {
+				int fieldEnd = fieldStart;
+				while (fieldEnd < end && buf.get(fieldEnd) != ',')
+					fieldEnd++;
+				if (fieldEnd == end && a < 2) {
+					if (!isBlank(buf, start, end))
+						this.skipped++;
+					return;
+				}
+				// TRIM WHITESPACE (AND THE CARRIAGE RETURN OF THE LINE BREAK)
+				int s = fieldStart;
+				int e = fieldEnd;
+				while (s < e && buf.get(s) <= ' ')
+					s++;
+				while (e > s && buf.get(e - 1) <= ' ')
+					e--;
+				try {
+					values[a] = parseDouble(buf, s, e);
+				} catch (NumberFormatException ex) {
+					this.skipped++;
+					return;
+				}
+				if (Double.isNaN(values[a]) || Double.isInfinite(values[a])) {
+					this.skipped++;
+					return;
+				}
+				fieldStart = fieldEnd + 1;
+			}
+			if (this.count == this.heights.length) {
+				this.heights = Arrays.copyOf(this.heights, this.count * 2);
+				this.coords = Arrays.copyOf(this.coords, this.count * 4);
+			}
+			this.coords[this.count * 2] = values[0];
+			this.coords[this.count * 2 + 1] = values[1];
+			this.heights[this.count] = values[2];
+			this.count++;
+		}
+
+		/**
+		 * Returns a {@link Boolean} that indicates if the given line contains
+		 * whitespace only.
+		 *
+		 * @param buf
+		 *            the {@link ByteBuffer} of the chunk
+		 * @param start
+		 *            the index of the first byte of the line
+		 * @param end
+		 *            the index behind the last byte of the line
+		 * @return <code>true</code> if the line is empty; <code>false</code>
+		 *         if not
+		 */
+		private static boolean isBlank(ByteBuffer buf, int start, int end) {
+			for (int a = start; a < end; a++)
+				if (buf.get(a) > ' ')
+					return false;
+			return true;
+		}
+
+		/**
+		 * Transforms the coordinates of all points into the UTM-CRS at once.
+		 * If the transformation of the whole chunk fails, the points are
+		 * transformed one by one and the failing ones are skipped.
+		 *
+		 * @param transform
+		 *            the {@link MathTransform} into the UTM-CRS
+		 */
+		private void transform(MathTransform transform) {
+			double[] source = this.coords;
+			double[] target = new double[this.count * 2];
+			try {
+				transform.transform(source, 0, target, 0, this.count);
+			} catch (TransformException e) {
+				log.debug("Transforming the points one by one: " + e.getMessage());
+				for (int a = 0; a < this.count; a++) {
+					try {
+						transform.transform(source, a * 2, target, a * 2, 1);
+					} catch (TransformException ex) {
+						target[a * 2] = Double.NaN;
+					}
+				}
+			}
+			// REMOVE THE POINTS THAT COULD NOT BE TRANSFORMED
+			int kept = 0;
+			for (int a = 0; a < this.count; a++) {
+				if (Double.isNaN(target[a * 2]) || Double.isNaN(target[a * 2 + 1])) {
+					this.skipped++;
+					continue;
+				}
+				target[kept * 2] = target[a * 2];
+				target[kept * 2 + 1] = target[a * 2 + 1];
+				this.heights[kept] = this.heights[a];
+				kept++;
+			}
+			this.coords = target;
+			this.count = kept;
+		}
+	}
+}
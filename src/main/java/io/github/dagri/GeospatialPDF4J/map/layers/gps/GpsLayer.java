@@ -1,16 +1,15 @@
 package io.github.dagri.GeospatialPDF4J.map.layers.gps;
 
 import java.awt.Color;
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-
-import org.geotools.geometry.DirectPosition2D;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.lowagie.text.Document;
 import com.lowagie.text.pdf.PdfLayer;
+import com.vividsolutions.jts.geom.LineString;
 
 import io.github.dagri.GeospatialPDF4J.draw.drawers.GpsDrawer;
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
@@ -19,12 +18,12 @@ import io.github.dagri.GeospatialPDF4J.draw.styles.PointStyle;
 import io.github.dagri.GeospatialPDF4J.exceptions.CoordinateTransformException;
 import io.github.dagri.GeospatialPDF4J.exceptions.CsvReadingException;
 import io.github.dagri.GeospatialPDF4J.exceptions.MapLayerNotReceivableException;
-import io.github.dagri.GeospatialPDF4J.exceptions.MissingCrsException;
 import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
 import io.github.dagri.GeospatialPDF4J.map.layers.DrawLayer;
 import io.github.dagri.GeospatialPDF4J.map.layers.MapLayer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
 import io.github.dagri.GeospatialPDF4J.res.ColorAssistant;
-import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -50,20 +49,25 @@ public class GpsLayer extends DrawLayer {
 	private int					epsgCode;
 
 	/**
-	 * {@link ArrayList} to store the 3-dimensional coordinates, read from the
-	 * file, in {@link Coordinate3D}s.
+	 * The {@link GpsTrack} containing the points read from the file.
+	 */
+	private GpsTrack					track				= new GpsTrack(new double[0], new double[0], new double[0]);
+
+	/**
+	 * The minimal height of the points.
 	 */
-	// private ArrayList<DirectPosition2D> coords = new ArrayList<>();
+	private double						minHeight			= Double.NaN;
 
 	/**
-	 * The {@link ArrayList} of {@link GpsPoint}s.
+	 * The maximal height of the points.
 	 */
-	private ArrayList<GpsPoint>	gpsPoints			= new ArrayList<>();
+	private double						maxHeight			= Double.NaN;
 
 	/**
-	 * The {@link ArrayList} of colored {@link GpsPoint}s.
+	 * The {@link PointStyle}s of the colored points per RGB-value of their
+	 * {@link Color}, shared by all points of the same {@link Color}.
 	 */
-	private ArrayList<GpsPoint>	gpsColoredPoints	= new ArrayList<>();
+	private Map<Integer, PointStyle>	coloredStyles		= new HashMap<>();
 
 	/**
 	 * The {@link DrawLineString} of this {@link GpsLayer}.
@@ -71,7 +75,14 @@ public class GpsLayer extends DrawLayer {
 	private DrawLineString		drawLine			= null;
 
 	/**
-	 * The {@link PointStyle} to display the uncolored {@link GpsPoint}s with.
+	 * The {@link DrawLineString} of this {@link GpsLayer} reduced to the level
+	 * of detail of the output device. Created by
+	 * {@link #prepareForAdding(Document)}.
+	 */
+	private DrawLineString		reducedLine			= null;
+
+	/**
+	 * The {@link PointStyle} to display the uncolored points with.
 	 */
 	private PointStyle			pointStyle			= new PointStyle();
 
@@ -116,16 +127,15 @@ public class GpsLayer extends DrawLayer {
 			log.error("Could not read data!");
 		}
 
-		// AT THIS POINT THE CSV FILE HAS BEEN CONVERTED INTO COORDINATE3DS
-		// INSIDE THE ARRAYLIST OF COORDIANTE3DS.
+		// AT THIS POINT THE CSV FILE HAS BEEN READ INTO THE COLUMNS OF THE
+		// GPSTRACK AND THE DRAWLINESTRING WAS CREATED.
 
-		log.debug("Converting Coordiante3Ds to draw objects...");
+		log.debug("Calculating the colors of the points...");
 		this.convertToDrawObjects();
-		log.debug("Converting done.");
+		log.debug("Calculating done.");
 
-		// AT THIS POINT THE COORDIANTES WERE CONVERTED INTO TWO TYPES:
-		// DRAWPOINTS AND A LINESTRING, BUT THEY ARE NOT YET REDUCED. THIS WILL
-		// HAPPEN ON THE ADDTOPDF METHOD.
+		// THE POINTS ARE DRAWN DIRECTLY FROM THE GPSTRACK, THE LINESTRING IS
+		// NOT YET REDUCED. THIS WILL HAPPEN IN THE PREPAREFORADDING METHOD.
 	}
 
 	/*
@@ -137,19 +147,18 @@ public class GpsLayer extends DrawLayer {
 	 */
 	@Override
 	public void prepareForAdding(Document doc) throws MapLayerNotReceivableException {
-		log.debug("Reducing the content by the lower-left corner of the GPS-Layers BoundingBox...");
-		this.reduceContent(this.getLayerBBox());
-		log.debug("Content reduced.");
-
-		log.debug("Scaling the content...");
-
-		this.scaleContent(this.calcScalingFactor());
-		log.debug("Content scaled.");
-
 		// OFFSET AUF DIE MAP BEACHTEN
-		log.debug("Adding document margins and layer offset...");
-		this.addMarginOffset(doc.leftMargin(), doc.bottomMargin(), this.getxOffset2Map(), this.getyOffset2Map());
-		log.debug("Offset added.");
+		log.debug("Creating the page transformation from the GPS-Layers BoundingBox, scale, document margins and layer offset...");
+		this.setPageTransform(this.createPageTransform(doc));
+		log.debug("Page transformation created.");
+		if (this.getDrawLine() != null) {
+			// REDUCE THE TRACK TO THE RESOLUTION OF THE OUTPUT DEVICE
+			GeometryContainer container = new GeometryContainer();
+			container.addDrawLineString(this.getDrawLine());
+			GeometryContainer reduced = this.reduceLevelOfDetail(container);
+			// A CULLED TRACK IS KEPT: IT IS DRAWN AS A SINGLE DOT
+			this.setReducedLine(reduced.getDrawLineStrings().isEmpty() ? this.getDrawLine() : reduced.getDrawLineStrings().get(0));
+		}
 	}
 
 	/*
@@ -163,223 +172,98 @@ public class GpsLayer extends DrawLayer {
 		log.debug("Creating parental PDF-Layer and drawing the content...");
 		PdfLayer overlayer = this.createParentalPdfLayer("GPS-Layer", this.getWriter());
 		GpsDrawer drawer = new GpsDrawer(this.getWriter(), this, this.createTopTreeElement("GPS-Layer"), overlayer);
+		drawer.setPageTransform(this.getPageTransform());
+		drawer.setDevicePixelSize(this.getDevicePixelSize());
+		this.applyOutputMode(drawer);
 		drawer.drawAll();
-		log.debug("Content drawn.");
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * io.github.dagri.GeospatialPDF4J.map.layers.DrawLayer#reduceContent(io.
-	 * github.dagri.GeospatialPDF4J.geo.BoundingBox)
-	 */
-	@Override
-	protected void reduceContent(BoundingBox bbox) {
-		// DUE TO THE INTERNAL USED BBOX SYSTEM THE PRESENT CRS IS UTM
-		// ORDINATE 0 --> EASTING
-		// ORDIANTE 1 --> NORTHING
-		for (int a = 0; a < this.getGpsPoints().size(); a++)
-			this.getGpsPoints().get(a).getDp().reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-
-		for (int b = 0; b < this.getGpsColoredPoints().size(); b++)
-			this.getGpsColoredPoints().get(b).getDp().reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-
-		if (this.getDrawLine() != null)
-			this.getDrawLine().reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * io.github.dagri.GeospatialPDF4J.map.layers.DrawLayer#scaleContent(double)
-	 */
-	@Override
-	protected void scaleContent(double factor) {
-		// SCALE THE GPS-POINTS
-		for (int a = 0; a < this.getGpsPoints().size(); a++)
-			this.getGpsPoints().get(a).getDp().scale(factor);
-		// SCALE THE GPS-COLORED-POINTS
-		for (int b = 0; b < this.getGpsColoredPoints().size(); b++)
-			this.getGpsColoredPoints().get(b).getDp().scale(factor);
-		// SCALE THE DRAWLINE
-		if (this.getDrawLine() != null)
-			this.getDrawLine().scale(factor);
-
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * io.github.dagri.GeospatialPDF4J.map.layers.DrawLayer#addOffsetToContent(
-	 * double, double)
-	 */
-	@Override
-	protected void addMarginOffset(double marginX, double marginY, double offsetX, double offsetY) {
-		// ADD MARGIN TO THE GPS-POINTS
-		for (int a = 0; a < this.getGpsPoints().size(); a++)
-			this.getGpsPoints().get(a).getDp().reduce(-offsetX - marginX, -offsetY - marginY);
-		// ADD MARGIN TO THE GPS-COLORED-POINTS
-		for (int b = 0; b < this.getGpsColoredPoints().size(); b++)
-			this.getGpsColoredPoints().get(b).getDp().reduce(-offsetX - marginX, -offsetY - marginY);
-		// ADDING MARGIN TO THE DRAWLINE
-		if (this.getDrawLine() != null)
-			this.getDrawLine().reduce(-offsetX - marginX, -offsetY - marginY);
+		log.info("GPS-Layer drawn with " + drawer.getDrawnVertices() + " vertices.");
 	}
 
 	// METHODS
 
 	/**
-	 * Method to read the data contained in the CSV-GPS-file. Throws a
-	 * {@link CsvReadingException} if an error occurs.
+	 * Method to read the data contained in the CSV-GPS-file into the
+	 * {@link GpsTrack} with a {@link GpsCsvReader} and to create the
+	 * {@link DrawLineString} of the track. Throws a {@link CsvReadingException}
+	 * if an error occurs.
 	 *
 	 * @throws CsvReadingException
 	 *             if an error occurs
 	 */
 	private void readCSVData() throws CsvReadingException {
-
-		ArrayList<DirectPosition2D> lsPoints = new ArrayList<>();
-
-		log.debug("Create a BufferedReader and needed Strings...");
-		BufferedReader br = null;
-		String line = "";
-		String splitBy = ",";
-		log.debug("Created a BufferedReader and needed Strings.");
-
-		log.debug("Creating an instance of a CooordinateTransformer...");
-		CoordinateTransformer transformer = CoordinateTransformer.getInstance();
-		log.debug("Instance created.");
-
+		GpsCsvReader reader = new GpsCsvReader(this.getEpsgCode());
 		try {
-			log.debug("Set BufferedReader to the file...");
-			br = new BufferedReader(new FileReader(this.getPath()));
-			log.debug("BufferedReader set to file.");
-
-			log.info("Start reading CSV file...");
-			while ((line = br.readLine()) != null) {
-
-				log.debug("Splitting CSV-line...");
-				String[] splitted = line.split(splitBy);
-				log.debug("Line splitted.");
-
-				try {
-					if (splitted.length >= 3) {
-						log.debug("Start parsing Strings into double-values...");
-						log.debug("Paring northing from String...");
-						Double northing = Double.parseDouble(splitted[0]);
-						log.debug("Parsing easting from String...");
-						Double easting = Double.parseDouble(splitted[1]);
-						log.debug("Parsing height from Sting...");
-						Double height = Double.parseDouble(splitted[2]);
-						log.debug("Strings parsed.");
-
-						log.debug("Transforming from CRS=EPSG:" + this.getEpsgCode() + " to CRS=EPSG:25832...");
-						// THIS WILL ONLY WORK FOR CRS WITH NORTHING - EASTING
-						// ORDIANTES LIKE WGS84
-						DirectPosition2D dPos = transformer.transformUTM(this.getEpsgCode(), northing, easting);
-						log.debug("Coordinate transformed.");
-
-						log.debug("Adding new Coordinate3D to the Arraylist...");
-
-						GpsPoint temp = new GpsPoint(dPos, height, this.getPointStyle());
-						temp.getInfo().addInfo("Northing", "" + dPos.getOrdinate(1));
-						temp.getInfo().addInfo("Easting", "" + dPos.getOrdinate(0));
-						temp.getInfo().addInfo("Height", "" + height);
-						this.getGpsPoints().add(temp);
-
-						GpsPoint tempCol = new GpsPoint(dPos, height, new PointStyle());
-						tempCol.getInfo().addInfo("Northing", "" + dPos.getOrdinate(1));
-						tempCol.getInfo().addInfo("Easting", "" + dPos.getOrdinate(0));
-						tempCol.getInfo().addInfo("Height", "" + height);
-						this.getGpsColoredPoints().add(tempCol);
-
-						lsPoints.add(dPos);
-
-						log.debug("Coordinate3D added.");
-					}
-
-				} catch (CoordinateTransformException e) {
-					log.warn("Could not parse into EPSG:25832 (UTM!");
-				} catch (NumberFormatException e) {
-					log.warn("Could not convert String to double in this line!");
-				} catch (MissingCrsException e) {
-					log.warn("Could not create GpsPoint due to missing CRS!");
-				}
-
-			}
-			// INFORM THE USER THAT THE FILE WAS READ
-			log.info("CSV file read.");
-
-			DrawLineString ls = new DrawLineString(lsPoints);
-			// END OF WORKAROUND
-
-			ls.getInfo().addInfo("Point Number", "" + lsPoints.size());
-			ls.getInfo().addInfo("Length", "" + ls.getLength() + "m");
-
-			// SET DRAWLINESTING
-			this.setDrawLine(ls);
-			log.debug("DrawLineString created.");
-
-		} catch (FileNotFoundException e) {
+			this.setTrack(reader.read(Paths.get(this.getPath())));
+		} catch (NoSuchFileException e) {
 			log.error("CSV-File could not be found!");
 			throw new CsvReadingException();
 		} catch (IOException e) {
-			log.error("Could not read CSV line!");
+			log.error("Could not read the CSV-file: " + e.getMessage());
+			throw new CsvReadingException();
+		} catch (CoordinateTransformException e) {
+			log.error("Could not transform from CRS=EPSG:" + this.getEpsgCode() + " to CRS=EPSG:25832!");
+			throw new CsvReadingException();
+		}
+		if (reader.getSkippedLines() > 0)
+			log.warn(reader.getSkippedLines() + " lines of the CSV-file could not be read or transformed.");
+
+		this.setDrawLine(null);
+		this.setReducedLine(null);
+		LineString ls = this.getTrack().createLineString();
+		if (ls != null) {
+			DrawLineString dls = new DrawLineString(ls, new AdditionalInfo());
+			dls.getInfo().addInfo("Point Number", "" + this.getTrack().size());
+			dls.getInfo().addInfo("Length", "" + dls.getLength() + "m");
+
+			// SET DRAWLINESTING
+			this.setDrawLine(dls);
+			log.debug("DrawLineString created.");
 		}
 	}
 
 	/**
-	 * Method to convert the internal stored {@link Coordinate3D}s into
-	 * DrawObjects.
+	 * Method to calculate the minimal and maximal height of the read points,
+	 * used to color them.
 	 */
 	private void convertToDrawObjects() {
-
-		// CREATE THE VALUES TO SAVE THE MIN AND MAX VALUE IN HEIGHT
-		log.info("Converting read coordinates to drawable objects...");
-
 		log.debug("Calculating minmal and maximal height values...");
-		double min = Double.MAX_VALUE;
-		double max = Double.MIN_VALUE;
-		for (int a = 0; a < this.getGpsPoints().size(); a++) {
-			// if (this.getCoords().get(a).getDimension() >= 3) {
-			if (this.getGpsPoints().get(a).getHeight() < min)
-				min = this.getGpsPoints().get(a).getHeight();
-
-			if (this.getGpsPoints().get(a).getHeight() > max)
-				max = this.getGpsPoints().get(a).getHeight();
-			// }
-		}
-		log.debug("Minmal (" + min + "m) and maximum (" + max + "m) values calculated.");
+		this.minHeight = this.getTrack().getMinHeight();
+		this.maxHeight = this.getTrack().getMaxHeight();
+		this.getColoredStyles().clear();
+		log.debug("Minmal (" + this.minHeight + "m) and maximum (" + this.maxHeight + "m) values calculated.");
 
 		// ADD NEW INFORMATION TO THE DRAWLINESTING
-		this.getDrawLine().getInfo().addInfo("Max height", "" + max + "(m)");
-		this.getDrawLine().getInfo().addInfo("Min height", "" + min + "(m)");
-
-		ColorAssistant cAss = ColorAssistant.getInstance();
-
-		// RUN THROUGH THE ARRAYLIST AND CREATE A DRAWPOINT IN EACH ARRAYLIST
-		// FOR EVERY COORINDATE2D
-		log.debug("Looking at every coordinate and creating GpsPoints and colored GpsPoints...");
-		for (int a = 0; a < this.getGpsColoredPoints().size(); a++) {
+		if (this.getDrawLine() != null) {
+			this.getDrawLine().getInfo().addInfo("Max height", "" + this.maxHeight + "(m)");
+			this.getDrawLine().getInfo().addInfo("Min height", "" + this.minHeight + "(m)");
+		}
+	}
 
+	/**
+	 * Returns the {@link PointStyle} of a colored point with the given height:
+	 * Filled with a {@link Color} from white (minimal height) to red (maximal
+	 * height) and the radius of the {@link PointStyle} of this
+	 * {@link GpsLayer}. Points of the same {@link Color} share one
+	 * {@link PointStyle}.
+	 *
+	 * @param height
+	 *            the height of the point
+	 * @return the {@link PointStyle}
+	 */
+	public PointStyle getColoredStyle(double height) {
+		// COLOR CORRECTIONS
+		Color actCol = ColorAssistant.getInstance().getGradientWhite2Channel(this.minHeight, this.maxHeight, height, ColorAssistant.channel.RED);
+		PointStyle actStyle = this.getColoredStyles().get(actCol.getRGB());
+		if (actStyle == null) {
 			// CREATE POINTSTYLE FOR THE GPSPOINTS
-			PointStyle actStyle = new PointStyle();
+			actStyle = new PointStyle();
 			actStyle.pointRadius = this.getPointStyle().pointRadius;
-
-			// COLOR CORRECTIONS
-			Color actCol = cAss.getGradientWhite2Channel(min, max, this.getGpsPoints().get(a).getHeight(), ColorAssistant.channel.RED);
-
 			actStyle.pointColor = actCol;
 			actStyle.pointFillColor = actCol;
 			actStyle.pointFilled = true;
-			this.getGpsColoredPoints().get(a).setStyle(actStyle);
+			this.getColoredStyles().put(actCol.getRGB(), actStyle);
 		}
-
-		log.debug("GpsPoints and colored GpsPoints created.");
-
-		log.info("Converted read coordiantes to drawable objects.");
+		return actStyle;
 	}
 
 	// GETTERS AND SETTERS
@@ -424,43 +308,32 @@ public class GpsLayer extends DrawLayer {
 	}
 
 	/**
-	 * Returns the {@link ArrayList} of uncolored {@link GpsPoint}s of this
-	 * {@link GpsLayer}.
-	 *
-	 * @return the {@link ArrayList} of {@link GpsPoint}s
-	 */
-	public ArrayList<GpsPoint> getGpsPoints() {
-		return gpsPoints;
-	}
-
-	/**
-	 * Sets the {@link ArrayList} of colored {@link GpsPoint}s.
+	 * Returns the {@link GpsTrack} containing the points read from the file.
 	 *
-	 * @param gpsColoredPoints
-	 *            the {@link ArrayList} of {@link GpsPoint}s to set
+	 * @return the {@link GpsTrack}
 	 */
-	public void setGpsPoints(ArrayList<GpsPoint> gpsPoints) {
-		this.gpsPoints = gpsPoints;
+	public GpsTrack getTrack() {
+		return track;
 	}
 
 	/**
-	 * Returns the {@link ArrayList} of colored {@link GpsPoint}s of this
-	 * {@link GpsLayer}.
+	 * Sets the {@link GpsTrack} containing the points read from the file.
 	 *
-	 * @return the {@link ArrayList} of {@link GpsPoint}s
+	 * @param track
+	 *            the {@link GpsTrack} to set
 	 */
-	public ArrayList<GpsPoint> getGpsColoredPoints() {
-		return gpsColoredPoints;
+	private void setTrack(GpsTrack track) {
+		this.track = track;
 	}
 
 	/**
-	 * Sets the {@link ArrayList} of colored {@link GpsPoint}s.
+	 * Returns the {@link PointStyle}s of the colored points per RGB-value of
+	 * their {@link Color}.
 	 *
-	 * @param gpsColoredPoints
-	 *            the {@link ArrayList} of {@link GpsPoint}s to set
+	 * @return the {@link Map} of {@link PointStyle}s
 	 */
-	public void setGpsColoredPoints(ArrayList<GpsPoint> gpsColoredPoints) {
-		this.gpsColoredPoints = gpsColoredPoints;
+	private Map<Integer, PointStyle> getColoredStyles() {
+		return coloredStyles;
 	}
 
 	/**
@@ -484,6 +357,28 @@ public class GpsLayer extends DrawLayer {
 		this.drawLine = drawLine;
 	}
 
+	/**
+	 * Returns the {@link DrawLineString} of this {@link GpsLayer} reduced to
+	 * the level of detail of the output device, or the {@link DrawLineString}
+	 * itself if the {@link GpsLayer} was not prepared for adding yet.
+	 *
+	 * @return the {@link DrawLineString} to draw
+	 */
+	public DrawLineString getReducedLine() {
+		return reducedLine != null ? reducedLine : drawLine;
+	}
+
+	/**
+	 * Sets the {@link DrawLineString} of this {@link GpsLayer} reduced to the
+	 * level of detail of the output device.
+	 *
+	 * @param reducedLine
+	 *            the {@link DrawLineString} to set
+	 */
+	private void setReducedLine(DrawLineString reducedLine) {
+		this.reducedLine = reducedLine;
+	}
+
 	/**
 	 * Returns the {@link PointStyle} of this {@link GpsLayer} as
 	 * {@link PointStyle}.
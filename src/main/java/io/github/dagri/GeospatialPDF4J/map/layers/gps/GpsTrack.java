@@ -0,0 +1,202 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.gps;
+
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequence;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+
+/**
+ * Class to store the points of a GPS-track in primitive columns: easting,
+ * northing (both in the internal used UTM-CRS, EPSG:25832) and height per
+ * point, in the order of the GPS-file.
+ *
+ * No objects are created per point; the {@link AdditionalInfo} of a point is
+ * only created on request by {@link #createInfo(int)}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class GpsTrack {
+
+	// ATTRIBUTES
+
+	/**
+	 * The eastings of the points.
+	 */
+	private final double[]	eastings;
+
+	/**
+	 * The northings of the points.
+	 */
+	private final double[]	northings;
+
+	/**
+	 * The heights of the points.
+	 */
+	private final double[]	heights;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link GpsTrack} using the columns of its points. All
+	 * columns must have the same length.
+	 *
+	 * @param eastings
+	 *            the eastings of the points
+	 * @param northings
+	 *            the northings of the points
+	 * @param heights
+	 *            the heights of the points
+	 */
+	public GpsTrack(double[] eastings, double[] northings, double[] heights) {
+		if (eastings.length != northings.length || eastings.length != heights.length)
+			throw new IllegalArgumentException("The columns of a GpsTrack must have the same length!");
+		this.eastings = eastings;
+		this.northings = northings;
+		this.heights = heights;
+	}
+
+	// METHODS
+
+	/**
+	 * Returns the number of points of this {@link GpsTrack}.
+	 *
+	 * @return the number of points
+	 */
+	public int size() {
+		return this.getEastings().length;
+	}
+
+	/**
+	 * Returns the easting of the point at the given index.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the easting
+	 */
+	public double getEasting(int index) {
+		return this.getEastings()[index];
+	}
+
+	/**
+	 * Returns the northing of the point at the given index.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the northing
+	 */
+	public double getNorthing(int index) {
+		return this.getNorthings()[index];
+	}
+
+	/**
+	 * Returns the height of the point at the given index.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the height
+	 */
+	public double getHeight(int index) {
+		return this.getHeights()[index];
+	}
+
+	/**
+	 * Returns the minimal height of the points, {@link Double#NaN} if there
+	 * are none.
+	 *
+	 * @return the minimal height
+	 */
+	public double getMinHeight() {
+		double min = Double.NaN;
+		for (int a = 0; a < this.getHeights().length; a++) {
+			if (a == 0 || this.getHeights()[a] < min)
+				min = this.getHeights()[a];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximal height of the points, {@link Double#NaN} if there
+	 * are none.
+	 *
+	 * @return the maximal height
+	 */
+	public double getMaxHeight() {
+		double max = Double.NaN;
+		for (int a = 0; a < this.getHeights().length; a++) {
+			if (a == 0 || this.getHeights()[a] > max)
+				max = this.getHeights()[a];
+		}
+		return max;
+	}
+
+	/**
+	 * Creates the {@link AdditionalInfo} of the point at the given index,
+	 * containing its northing, easting and height.
+	 *
+	 * @param index
+	 *            the index of the point
+	 * @return the new {@link AdditionalInfo}
+	 */
+	public AdditionalInfo createInfo(int index) {
+		AdditionalInfo info = new AdditionalInfo();
+		info.addInfo("Northing", "" + this.getNorthing(index));
+		info.addInfo("Easting", "" + this.getEasting(index));
+		info.addInfo("Height", "" + this.getHeight(index));
+		return info;
+	}
+
+	/**
+	 * Creates a JTS {@link LineString} connecting all points of this
+	 * {@link GpsTrack} in their order. A {@link GpsTrack} with one point
+	 * results in a {@link LineString} of two equal points.
+	 *
+	 * @return the {@link LineString}, <code>null</code> if there are no points
+	 */
+	public LineString createLineString() {
+		if (this.size() == 0)
+			return null;
+		int count = Math.max(2, this.size());
+		double[] coords = new double[count * 2];
+		for (int a = 0; a < count; a++) {
+			int b = Math.min(a, this.size() - 1);
+			coords[a * 2] = this.getEastings()[b];
+			coords[a * 2 + 1] = this.getNorthings()[b];
+		}
+		GeometryFactory factory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+		return factory.createLineString(new PackedCoordinateSequence.Double(coords, 2));
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the eastings of the points.
+	 *
+	 * @return the eastings
+	 */
+	private double[] getEastings() {
+		return eastings;
+	}
+
+	/**
+	 * Returns the northings of the points.
+	 *
+	 * @return the northings
+	 */
+	private double[] getNorthings() {
+		return northings;
+	}
+
+	/**
+	 * Returns the heights of the points.
+	 *
+	 * @return the heights
+	 */
+	private double[] getHeights() {
+		return heights;
+	}
+
+	// OTHERS
+}
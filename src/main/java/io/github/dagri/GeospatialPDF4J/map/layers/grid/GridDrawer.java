@@ -73,9 +73,7 @@ public class GridDrawer extends PdfDrawer {
 			gridStyle.lineStringStrength = this.getGridLayer().getGridStrenght();
 
 			log.debug("Drawing the Grid-lines...");
-			for (int a = 0; a < this.getGridLayer().getLines().size(); a++) {
-				this.drawLineString(this.getGridLayer().getLines().get(a), gridStyle);
-			}
+			this.drawLineStrings(this.getGridLayer().getLines(), gridStyle);
 			log.debug("Grid-lines drawn.");
 
 			this.getContByte().endLayer();
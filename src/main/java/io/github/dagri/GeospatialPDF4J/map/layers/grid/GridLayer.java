@@ -95,50 +95,6 @@ public class GridLayer extends DrawLayer {
 
 	// METHODS FROM SUPERCLASS
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * io.github.dagri.GeospatialPDF4J.map.layers.DrawLayer#scaleContent(double)
-	 */
-	@Override
-	protected void scaleContent(double factor) {
-		log.debug("Scaling the GridLayers content...");
-		for (int a = 0; a < this.getLines().size(); a++)
-			this.getLines().get(a).scale(factor);
-		log.debug("GridLayers content scaled.");
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * io.github.dagri.GeospatialPDF4J.map.layers.DrawLayer#reduceContent(io.
-	 * github.dagri.GeospatialPDF4J.geo.BoundingBox)
-	 */
-	@Override
-	protected void reduceContent(BoundingBox bbox) {
-		log.debug("Reducing the GridLayers content...");
-		for (int a = 0; a < this.getLines().size(); a++)
-			this.getLines().get(a).reduce(bbox.getLl().getOrdinate(0), bbox.getLl().getOrdinate(1));
-		log.debug("GridLayers content reduced.");
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * io.github.dagri.GeospatialPDF4J.map.layers.DrawLayer#addMarginOffset(
-	 * double, double, double, double)
-	 */
-	@Override
-	protected void addMarginOffset(double marginX, double marginY, double offsetX, double offsetY) {
-		log.debug("Adding margin offset to the GridLayers content...");
-		for (int a = 0; a < this.getLines().size(); a++)
-			this.getLines().get(a).reduce(-offsetX - marginX, -offsetY - marginY);
-		log.debug("Added margin offset to the GridLayers content.");
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -229,21 +185,15 @@ public class GridLayer extends DrawLayer {
 	@Override
 	public void prepareForAdding(Document doc) throws MapLayerNotReceivableException {
 		/*
-		 * Some of the following methods do - in fact - the same thing: Adding
-		 * an offset to all of the internal content. They are using different
-		 * input-types like a BoundingBox2D or pixel-offsets. They are split
-		 * into different methods and must be filled in every new class to
-		 * provide the working progress an all (and every) contained object.
+		 * The content itself is not changed: The reduction, the scaling and
+		 * the offsets are combined into one PageTransform that is applied by
+		 * the GridDrawer while drawing.
 		 */
 		log.debug("Working on the GridLayers content...");
-		log.debug("Reducing...");
-		this.reduceContent(this.getLayerBBox());
-		log.debug("Scaling...");
-		this.scaleContent(this.calcScalingFactor());
 		log.debug("Adding offset 2 the map...");
 		this.setOffsets2Map(this.calcPixelOffsets(getMapBBox(), getLayerBBox()));
-		log.debug("Adding offset to the margin...");
-		this.addMarginOffset(doc.leftMargin(), doc.bottomMargin(), this.getxOffset2Map(), this.getyOffset2Map());
+		log.debug("Creating the page transformation...");
+		this.setPageTransform(this.createPageTransform(doc));
 		log.debug("GridLayers content ready for adding.");
 
 	}
@@ -259,6 +209,7 @@ public class GridLayer extends DrawLayer {
 		log.debug("Creating a partental PDFLayer for the GridLayer; a GridDrawer and drawing the content...");
 		PdfLayer overlayer = this.createParentalPdfLayer("Grid-Layer", this.getWriter());
 		GridDrawer drawer = new GridDrawer(this.getWriter(), this, this.createTopTreeElement("Grid-Layer"), overlayer);
+		drawer.setPageTransform(this.getPageTransform());
 		drawer.drawAll();
 		log.debug("Content drawn.");
 	}
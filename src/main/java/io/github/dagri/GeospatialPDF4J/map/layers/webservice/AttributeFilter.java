@@ -0,0 +1,113 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+/**
+ * Class to contain a comparison of a feature property with a literal value,
+ * e.g. 'use EQUAL residential'. The {@link AttributeFilter}s of a
+ * {@link WfsStyle} select the features that are displayed; they are sent to
+ * the server as filter encoding (see {@link WfsFilter}), so other features
+ * are not transferred at all.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class AttributeFilter {
+
+	// ATTRIBUTES
+
+	/**
+	 * The name of the compared property.
+	 */
+	private String			propertyName;
+
+	/**
+	 * The {@link EFilterOperator} of the comparison.
+	 */
+	private EFilterOperator	operator;
+
+	/**
+	 * The literal value the property is compared with.
+	 */
+	private String			literal;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for an {@link AttributeFilter} using the name of the
+	 * property, the {@link EFilterOperator} and the literal value.
+	 *
+	 * @param propertyName
+	 *            the name of the compared property
+	 * @param operator
+	 *            the {@link EFilterOperator} of the comparison
+	 * @param literal
+	 *            the literal value the property is compared with
+	 */
+	public AttributeFilter(String propertyName, EFilterOperator operator, String literal) {
+		this.propertyName = propertyName;
+		this.operator = operator;
+		this.literal = literal;
+	}
+
+	// METHODS
+
+	/**
+	 * Appends the filter encoding of this {@link AttributeFilter} to the given
+	 * {@link StringBuilder}.
+	 *
+	 * FES 2.0 uses the prefix 'fes' and fes:ValueReference, the filter
+	 * encodings 1.1 and 1.0 use 'ogc' and ogc:PropertyName. The escape
+	 * character of PropertyIsLike is the attribute escapeChar, only the filter
+	 * encoding 1.0 names it escape.
+	 *
+	 * @param sb
+	 *            the {@link StringBuilder} to append to
+	 * @param filterVersion
+	 *            the version of the filter encoding: "2.0" (WFS 2.0), "1.1"
+	 *            (WFS 1.1) or "1.0" (WFS 1.0), see
+	 *            {@link WfsFilter#getFilterVersion()}
+	 */
+	public void appendFes(StringBuilder sb, String filterVersion) {
+		boolean fes20 = filterVersion.startsWith("2");
+		String prefix = fes20 ? "fes" : "ogc";
+		String element = prefix + ":" + this.getOperator().getElementName();
+		String property = prefix + (fes20 ? ":ValueReference" : ":PropertyName");
+		sb.append('<').append(element);
+		if (this.getOperator() == EFilterOperator.LIKE)
+			sb.append(" wildCard=\"*\" singleChar=\".\" ").append(filterVersion.startsWith("1.0") ? "escape" : "escapeChar").append("=\"!\"");
+		sb.append('>');
+		sb.append('<').append(property).append('>').append(WfsFilter.escape(this.getPropertyName())).append("</").append(property).append('>');
+		sb.append('<').append(prefix).append(":Literal>").append(WfsFilter.escape(this.getLiteral())).append("</").append(prefix).append(":Literal>");
+		sb.append("</").append(element).append('>');
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the name of the compared property.
+	 *
+	 * @return the property name
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	/**
+	 * Returns the {@link EFilterOperator} of the comparison.
+	 *
+	 * @return the {@link EFilterOperator}
+	 */
+	public EFilterOperator getOperator() {
+		return operator;
+	}
+
+	/**
+	 * Returns the literal value the property is compared with.
+	 *
+	 * @return the literal
+	 */
+	public String getLiteral() {
+		return literal;
+	}
+
+	// OTHERS
+}
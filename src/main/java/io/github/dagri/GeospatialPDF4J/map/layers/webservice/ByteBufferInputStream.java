@@ -0,0 +1,77 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Class to read the remaining bytes of a {@link ByteBuffer} (e.g. a memory
+ * mapped region of a file) as {@link InputStream}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class ByteBufferInputStream extends InputStream {
+
+	// ATTRIBUTES
+
+	/**
+	 * The {@link ByteBuffer} to read from.
+	 */
+	private final ByteBuffer buffer;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link ByteBufferInputStream} using the
+	 * {@link ByteBuffer} to read from. The position of the {@link ByteBuffer}
+	 * is moved while reading.
+	 *
+	 * @param buffer
+	 *            the {@link ByteBuffer} to read from
+	 */
+	public ByteBufferInputStream(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	// INHERITED METHODS
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.InputStream#read()
+	 */
+	@Override
+	public int read() {
+		if (!this.buffer.hasRemaining())
+			return -1;
+		return this.buffer.get() & 0xFF;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (len == 0)
+			return 0;
+		if (!this.buffer.hasRemaining())
+			return -1;
+		int n = Math.min(len, this.buffer.remaining());
+		this.buffer.get(b, off, n);
+		return n;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.InputStream#available()
+	 */
+	@Override
+	public int available() {
+		return this.buffer.remaining();
+	}
+
+	// OTHERS
+}
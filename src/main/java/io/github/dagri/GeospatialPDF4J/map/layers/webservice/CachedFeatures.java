@@ -0,0 +1,655 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.MultiLineString;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequenceFactory;
+import com.vividsolutions.jts.index.strtree.STRtree;
+import com.vividsolutions.jts.io.ParseException;
+import com.vividsolutions.jts.io.WKBReader;
+import com.vividsolutions.jts.io.WKBWriter;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiPolygon;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPoint;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
+import io.github.dagri.GeospatialPDF4J.exceptions.BoundingboxNotCreatableException;
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.res.InfoTupel;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to contain the cached features of one WFS layer request (see
+ * {@link WfsFeatureCache}) and the extents they cover.
+ *
+ * Every feature is stored as compact record of its {@link AdditionalInfo} and
+ * its geometries as WKB, together with its {@link Envelope} for the spatial
+ * index. The records are decoded into new {@link DrawGeometry}s on every
+ * request, because the {@link DrawGeometry}s of a layer are clipped and
+ * transformed in place later on.
+ *
+ * A feature is identified by its id (gml:id or GeoJSON id): a feature crossing
+ * the border of two requested extents is received twice and stored once, even
+ * if the server clipped it differently. The record received last replaces the
+ * older one, so the features of an extent requested again are up to date. Only
+ * features without id are identified by their record.
+ *
+ * An extent is only marked as covered if its response was complete. A
+ * response truncated by a feature limit is kept, but its extent is requested
+ * again. Every covered extent stores the time it was received; extents older
+ * than the maximal age given to {@link #getMissing(BoundingBox, long)} count as
+ * missing.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class CachedFeatures {
+
+	// ATTRIBUTES
+
+	/**
+	 * The maximal number of missing rectangles requested separately. If more
+	 * are missing, their common envelope is requested instead.
+	 */
+	private static final int		MAX_MISSING			= 16;
+
+	/**
+	 * The key of the cached layer request.
+	 */
+	private String					key;
+
+	/**
+	 * The covered extents as {minE, minN, maxE, maxN}.
+	 */
+	private ArrayList<double[]>		coverage			= new ArrayList<>();
+
+	/**
+	 * The times the covered extents were received, in milliseconds since
+	 * 1970.
+	 */
+	private ArrayList<Long>			fetched				= new ArrayList<>();
+
+	/**
+	 * The {@link Envelope}s of the cached features.
+	 */
+	private ArrayList<Envelope>		envelopes			= new ArrayList<>();
+
+	/**
+	 * The encoded records of the cached features.
+	 */
+	private ArrayList<byte[]>		records				= new ArrayList<>();
+
+	/**
+	 * The ids of the cached features or <code>null</code> for features
+	 * without id.
+	 */
+	private ArrayList<String>		ids					= new ArrayList<>();
+
+	/**
+	 * The indices of the cached features by their ids, to detect the ones
+	 * received twice.
+	 */
+	private Map<String, Integer>	knownIds			= new HashMap<>();
+
+	/**
+	 * The records of the cached features without id, to detect the ones
+	 * received twice.
+	 */
+	private Set<ByteBuffer>			knownRecords		= new HashSet<>();
+
+	/**
+	 * The spatial index of the record indices or <code>null</code> if it has to
+	 * be built.
+	 */
+	private STRtree					index;
+
+	/**
+	 * {@link Boolean} indicating if this {@link CachedFeatures} changed since it
+	 * was loaded or stored.
+	 */
+	private boolean					changed				= false;
+
+	/**
+	 * The {@link GeometryFactory} used to decode the geometries.
+	 */
+	private GeometryFactory			factory				= new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for an empty {@link CachedFeatures} using the key of the
+	 * cached layer request.
+	 *
+	 * @param key
+	 *            the key of the layer request
+	 */
+	public CachedFeatures(String key) {
+		this.key = key;
+	}
+
+	// METHODS
+
+	/**
+	 * Returns the parts of the given {@link BoundingBox} that are not covered
+	 * yet. If there are many, their common envelope is returned instead.
+	 *
+	 * @param bbox
+	 *            the requested {@link BoundingBox}
+	 * @return the {@link ArrayList} of missing {@link BoundingBox}es, empty if
+	 *         the {@link BoundingBox} is covered completely
+	 * @throws BoundingboxNotCreatableException
+	 *             if a missing {@link BoundingBox} could not be created
+	 * @see #getMissing(BoundingBox, long)
+	 */
+	public ArrayList<BoundingBox> getMissing(BoundingBox bbox) throws BoundingboxNotCreatableException {
+		return this.getMissing(bbox, 0);
+	}
+
+	/**
+	 * Returns the parts of the given {@link BoundingBox} that are not covered
+	 * by extents received within the given maximal age. If there are many,
+	 * their common envelope is returned instead.
+	 *
+	 * @param bbox
+	 *            the requested {@link BoundingBox}
+	 * @param maxAge
+	 *            the maximal age of a covered extent in milliseconds; 0 for
+	 *            no limit
+	 * @return the {@link ArrayList} of missing {@link BoundingBox}es, empty if
+	 *         the {@link BoundingBox} is covered completely
+	 * @throws BoundingboxNotCreatableException
+	 *             if a missing {@link BoundingBox} could not be created
+	 */
+	public synchronized ArrayList<BoundingBox> getMissing(BoundingBox bbox, long maxAge) throws BoundingboxNotCreatableException {
+		long oldest = maxAge > 0 ? System.currentTimeMillis() - maxAge : Long.MIN_VALUE;
+		ArrayList<double[]> missing = new ArrayList<>();
+		missing.add(new double[] { bbox.getMinEasting(), bbox.getMinNorthing(), bbox.getMaxEasting(), bbox.getMaxNorthing() });
+		for (int a = 0; a < this.getCoverage().size() && !missing.isEmpty(); a++) {
+			// AN EXPIRED EXTENT IS REQUESTED AGAIN
+			if (this.getFetched().get(a) < oldest)
+				continue;
+			ArrayList<double[]> rest = new ArrayList<>();
+			for (int b = 0; b < missing.size(); b++)
+				subtract(missing.get(b), this.getCoverage().get(a), rest);
+			missing = rest;
+		}
+
+		ArrayList<BoundingBox> erg = new ArrayList<>();
+		if (missing.size() > MAX_MISSING) {
+			double[] env = missing.get(0).clone();
+			for (int a = 1; a < missing.size(); a++) {
+				double[] m = missing.get(a);
+				env[0] = Math.min(env[0], m[0]);
+				env[1] = Math.min(env[1], m[1]);
+				env[2] = Math.max(env[2], m[2]);
+				env[3] = Math.max(env[3], m[3]);
+			}
+			missing.clear();
+			missing.add(env);
+		}
+		for (int a = 0; a < missing.size(); a++) {
+			double[] m = missing.get(a);
+			erg.add(new BoundingBox(bbox.getCrs(), m[0], m[1], m[2], m[3]));
+		}
+		return erg;
+	}
+
+	/**
+	 * Adds the parts of the rectangle r that are not covered by the rectangle
+	 * c to the given {@link ArrayList}. Each rectangle is given as {minE, minN,
+	 * maxE, maxN}.
+	 *
+	 * @param r
+	 *            the rectangle to subtract from
+	 * @param c
+	 *            the covered rectangle
+	 * @param erg
+	 *            the {@link ArrayList} to add the remaining parts to
+	 */
+	private static void subtract(double[] r, double[] c, ArrayList<double[]> erg) {
+		if (c[0] >= r[2] || c[2] <= r[0] || c[1] >= r[3] || c[3] <= r[1]) {
+			erg.add(r);
+			return;
+		}
+		// THE STRIPES LEFT AND RIGHT OF C OVER THE FULL HEIGHT OF R
+		if (c[0] > r[0])
+			erg.add(new double[] { r[0], r[1], c[0], r[3] });
+		if (c[2] < r[2])
+			erg.add(new double[] { c[2], r[1], r[2], r[3] });
+		// THE STRIPES BELOW AND ABOVE OF C BETWEEN THEM
+		double minE = Math.max(r[0], c[0]);
+		double maxE = Math.min(r[2], c[2]);
+		if (c[1] > r[1])
+			erg.add(new double[] { minE, r[1], maxE, c[1] });
+		if (c[3] < r[3])
+			erg.add(new double[] { minE, c[3], maxE, r[3] });
+	}
+
+	/**
+	 * Adds the features of the given {@link GeometryContainer}, received for
+	 * the given {@link BoundingBox} just now, and marks the
+	 * {@link BoundingBox} as covered if the response was complete. Features
+	 * already cached replace their old records.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} the features were received for
+	 * @param container
+	 *            the received {@link GeometryContainer}
+	 * @param ids
+	 *            the ids of the received features by their
+	 *            {@link AdditionalInfo}s or <code>null</code> if unknown
+	 * @param complete
+	 *            <code>true</code> if all features of the {@link BoundingBox}
+	 *            were received; <code>false</code> if the response was
+	 *            truncated
+	 * @throws IOException
+	 *             if a feature could not be encoded
+	 */
+	public synchronized void add(BoundingBox bbox, GeometryContainer container, Map<AdditionalInfo, String> ids, boolean complete) throws IOException {
+		// THE GEOMETRIES OF A FEATURE SHARE THEIR ADDITIONALINFO
+		IdentityHashMap<AdditionalInfo, ArrayList<Geometry>> features = new IdentityHashMap<>();
+		ArrayList<AdditionalInfo> order = new ArrayList<>();
+		this.group(container.getDrawPoints(), features, order);
+		this.group(container.getDrawLineStrings(), features, order);
+		this.group(container.getMutliLineStrings(), features, order);
+		this.group(container.getDrawPolygons(), features, order);
+		this.group(container.getMultiPolygons(), features, order);
+
+		WKBWriter writer = new WKBWriter();
+		for (int a = 0; a < order.size(); a++) {
+			ArrayList<Geometry> geoms = features.get(order.get(a));
+			Envelope env = new Envelope();
+			for (int b = 0; b < geoms.size(); b++)
+				env.expandToInclude(geoms.get(b).getEnvelopeInternal());
+			this.addRecord(env, ids == null ? null : ids.get(order.get(a)), encode(order.get(a), geoms, writer));
+		}
+		this.changed = true;
+
+		// A TRUNCATED RESPONSE DOES NOT COVER ITS EXTENT
+		if (!complete) {
+			log.warn("The response for " + bbox.getCornersForRequestUTM() + " is truncated, the extent is not marked as covered.");
+			return;
+		}
+
+		// COVERED EXTENTS INSIDE OF THE NEW ONE ARE NOT NEEDED ANY MORE
+		double[] c = new double[] { bbox.getMinEasting(), bbox.getMinNorthing(), bbox.getMaxEasting(), bbox.getMaxNorthing() };
+		for (int a = this.getCoverage().size() - 1; a >= 0; a--) {
+			double[] o = this.getCoverage().get(a);
+			if (o[0] >= c[0] && o[1] >= c[1] && o[2] <= c[2] && o[3] <= c[3]) {
+				this.getCoverage().remove(a);
+				this.getFetched().remove(a);
+			}
+		}
+		this.addCoverage(c, System.currentTimeMillis());
+	}
+
+	/**
+	 * Groups the geometries of the given {@link DrawGeometry}s by their
+	 * {@link AdditionalInfo}s.
+	 *
+	 * @param geoms
+	 *            the {@link DrawGeometry}s to group
+	 * @param features
+	 *            the geometries per {@link AdditionalInfo}
+	 * @param order
+	 *            the {@link AdditionalInfo}s in the order of their first
+	 *            geometry
+	 */
+	private void group(ArrayList<? extends DrawGeometry> geoms, IdentityHashMap<AdditionalInfo, ArrayList<Geometry>> features, ArrayList<AdditionalInfo> order) {
+		for (int a = 0; a < geoms.size(); a++) {
+			AdditionalInfo info = geoms.get(a).getInfo();
+			ArrayList<Geometry> list = features.get(info);
+			if (list == null) {
+				list = new ArrayList<>(1);
+				features.put(info, list);
+				order.add(info);
+			}
+			list.add(geoms.get(a).getJtsGeometry());
+		}
+	}
+
+	/**
+	 * Adds the given record. A feature with an id that is cached already
+	 * replaces its old record; a feature without id is skipped if the same
+	 * record is cached already.
+	 *
+	 * @param env
+	 *            the {@link Envelope} of the feature
+	 * @param id
+	 *            the id of the feature or <code>null</code> if it has none
+	 * @param record
+	 *            the encoded feature
+	 */
+	void addRecord(Envelope env, String id, byte[] record) {
+		if (id != null) {
+			Integer known = this.knownIds.get(id);
+			if (known != null) {
+				this.getEnvelopes().set(known, env);
+				this.getRecords().set(known, record);
+				this.index = null;
+				return;
+			}
+			this.knownIds.put(id, this.getRecords().size());
+		} else if (!this.knownRecords.add(ByteBuffer.wrap(record)))
+			return;
+		this.getEnvelopes().add(env);
+		this.getIds().add(id);
+		this.getRecords().add(record);
+		this.index = null;
+	}
+
+	/**
+	 * Adds the covered extent given as {minE, minN, maxE, maxN}, without
+	 * checking it.
+	 *
+	 * @param extent
+	 *            the covered extent
+	 * @param time
+	 *            the time the extent was received, in milliseconds since 1970
+	 */
+	void addCoverage(double[] extent, long time) {
+		this.getCoverage().add(extent);
+		this.getFetched().add(time);
+	}
+
+	/**
+	 * Adds new {@link DrawGeometry}s of all cached features intersecting the
+	 * given {@link BoundingBox} (by their envelope) to the given
+	 * {@link GeometryContainer}.
+	 *
+	 * @param bbox
+	 *            the requested {@link BoundingBox}
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @return the number of features added
+	 * @throws IOException
+	 *             if a cached feature could not be decoded
+	 */
+	public int query(BoundingBox bbox, GeometryContainer container) throws IOException {
+		return this.query(bbox, container, null);
+	}
+
+	/**
+	 * Adds new {@link DrawGeometry}s of all cached features intersecting the
+	 * given {@link BoundingBox} to the given {@link GeometryContainer}, see
+	 * {@link #query(BoundingBox, GeometryContainer)}. The ids of the features
+	 * are added to the given {@link Map}.
+	 *
+	 * @param bbox
+	 *            the requested {@link BoundingBox}
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @param ids
+	 *            the {@link Map} to fill with the ids by the created
+	 *            {@link AdditionalInfo}s or <code>null</code>
+	 * @return the number of features added
+	 * @throws IOException
+	 *             if a cached feature could not be decoded
+	 */
+	public synchronized int query(BoundingBox bbox, GeometryContainer container, Map<AdditionalInfo, String> ids) throws IOException {
+		if (this.getRecords().isEmpty())
+			return 0;
+		if (this.index == null) {
+			STRtree tree = new STRtree();
+			for (int a = 0; a < this.getEnvelopes().size(); a++)
+				tree.insert(this.getEnvelopes().get(a), a);
+			tree.build();
+			this.index = tree;
+		}
+		// THE INDICES ARE SORTED TO KEEP THE ORDER OF THE SERVER
+		ArrayList<Integer> hits = new ArrayList<>();
+		for (Object o : this.index.query(bbox.toEnvelope()))
+			hits.add((Integer) o);
+		Collections.sort(hits);
+
+		WKBReader reader = new WKBReader(this.getFactory());
+		HashMap<String, String> keys = new HashMap<>();
+		for (int a = 0; a < hits.size(); a++) {
+			AdditionalInfo info = this.decode(this.getRecords().get(hits.get(a)), reader, keys, container);
+			if (ids != null && this.getIds().get(hits.get(a)) != null)
+				ids.put(info, this.getIds().get(hits.get(a)));
+		}
+		return hits.size();
+	}
+
+	/**
+	 * Encodes the given feature as record.
+	 *
+	 * @param info
+	 *            the {@link AdditionalInfo} of the feature
+	 * @param geoms
+	 *            the geometries of the feature
+	 * @param writer
+	 *            the {@link WKBWriter} to use
+	 * @return the record
+	 * @throws IOException
+	 *             if the feature could not be encoded
+	 */
+	private static byte[] encode(AdditionalInfo info, ArrayList<Geometry> geoms, WKBWriter writer) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(info == null ? 0 : info.infoCount());
+		for (int a = 0; info != null && a < info.infoCount(); a++) {
+			writeString(out, info.getInfos().get(a).getKey());
+			writeString(out, info.getInfos().get(a).getValue());
+		}
+		out.writeInt(geoms.size());
+		for (int a = 0; a < geoms.size(); a++) {
+			byte[] wkb = writer.write(geoms.get(a));
+			out.writeInt(wkb.length);
+			out.write(wkb);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes the given record into new {@link DrawGeometry}s and adds them to
+	 * the given {@link GeometryContainer}.
+	 *
+	 * @param record
+	 *            the record to decode
+	 * @param reader
+	 *            the {@link WKBReader} to use
+	 * @param keys
+	 *            the keys decoded so far, to share them between the features
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @return the {@link AdditionalInfo} of the decoded feature
+	 * @throws IOException
+	 *             if the record is damaged
+	 */
+	private AdditionalInfo decode(byte[] record, WKBReader reader, HashMap<String, String> keys, GeometryContainer container) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+		AdditionalInfo info = new AdditionalInfo();
+		int infos = in.readInt();
+		for (int a = 0; a < infos; a++) {
+			String key = readString(in);
+			String shared = keys.get(key);
+			if (shared == null) {
+				keys.put(key, key);
+				shared = key;
+			}
+			info.addInfo(new InfoTupel(shared, readString(in)));
+		}
+		int geoms = in.readInt();
+		for (int a = 0; a < geoms; a++) {
+			byte[] wkb = new byte[in.readInt()];
+			in.readFully(wkb);
+			Geometry g;
+			try {
+				g = reader.read(wkb);
+			} catch (ParseException e) {
+				throw new IOException("Damaged geometry in the feature cache: " + e.getMessage());
+			}
+			if (g instanceof Point)
+				container.addDrawPoint(new DrawPoint((Point) g, info));
+			else if (g instanceof LineString)
+				container.addDrawLineString(new DrawLineString((LineString) g, info));
+			else if (g instanceof Polygon)
+				container.addDrawPolygon(new DrawPolygon((Polygon) g, info));
+			else if (g instanceof MultiLineString)
+				container.addDrawMultiLineString(new DrawMultiLineString((MultiLineString) g, info));
+			else if (g instanceof MultiPolygon)
+				container.addDrawMultiPolygon(new DrawMultiPolygon((MultiPolygon) g, info));
+		}
+		return info;
+	}
+
+	/**
+	 * Writes the given {@link String} as UTF-8 with its length.
+	 *
+	 * @param out
+	 *            the {@link DataOutputStream} to write to
+	 * @param s
+	 *            the {@link String} to write
+	 * @throws IOException
+	 *             if the {@link String} could not be written
+	 */
+	static void writeString(DataOutputStream out, String s) throws IOException {
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	/**
+	 * Reads a {@link String} written by
+	 * {@link #writeString(DataOutputStream, String)}.
+	 *
+	 * @param in
+	 *            the {@link DataInputStream} to read from
+	 * @return the {@link String}
+	 * @throws IOException
+	 *             if the {@link String} could not be read
+	 */
+	static String readString(DataInputStream in) throws IOException {
+		byte[] b = new byte[in.readInt()];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the key of the cached layer request.
+	 *
+	 * @return the key
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the covered extents as {minE, minN, maxE, maxN}.
+	 *
+	 * @return the {@link ArrayList} of covered extents
+	 */
+	ArrayList<double[]> getCoverage() {
+		return coverage;
+	}
+
+	/**
+	 * Returns the times the covered extents were received, in milliseconds
+	 * since 1970.
+	 *
+	 * @return the {@link ArrayList} of times, in the order of the covered
+	 *         extents
+	 */
+	ArrayList<Long> getFetched() {
+		return fetched;
+	}
+
+	/**
+	 * Returns the {@link Envelope}s of the cached features.
+	 *
+	 * @return the {@link ArrayList} of {@link Envelope}s
+	 */
+	ArrayList<Envelope> getEnvelopes() {
+		return envelopes;
+	}
+
+	/**
+	 * Returns the ids of the cached features.
+	 *
+	 * @return the {@link ArrayList} of ids, <code>null</code> for features
+	 *         without id
+	 */
+	ArrayList<String> getIds() {
+		return ids;
+	}
+
+	/**
+	 * Returns the encoded records of the cached features.
+	 *
+	 * @return the {@link ArrayList} of records
+	 */
+	ArrayList<byte[]> getRecords() {
+		return records;
+	}
+
+	/**
+	 * Returns the number of cached features.
+	 *
+	 * @return the number of features
+	 */
+	public synchronized int size() {
+		return this.getRecords().size();
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if this {@link CachedFeatures}
+	 * changed since it was loaded or stored.
+	 *
+	 * @return <code>true</code> if it changed; <code>false</code> if not
+	 */
+	public boolean isChanged() {
+		return changed;
+	}
+
+	/**
+	 * Sets if this {@link CachedFeatures} changed since it was loaded or
+	 * stored.
+	 *
+	 * @param changed
+	 *            the {@link Boolean} to set
+	 */
+	void setChanged(boolean changed) {
+		this.changed = changed;
+	}
+
+	/**
+	 * Returns the {@link GeometryFactory} used to decode the geometries.
+	 *
+	 * @return the {@link GeometryFactory}
+	 */
+	private GeometryFactory getFactory() {
+		return factory;
+	}
+
+	// OTHERS
+}
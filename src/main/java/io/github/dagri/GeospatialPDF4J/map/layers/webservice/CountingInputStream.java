@@ -0,0 +1,98 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Class to count the bytes read from an {@link InputStream}, e.g. to log the
+ * size of a WFS response.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class CountingInputStream extends FilterInputStream {
+
+	// ATTRIBUTES
+
+	/**
+	 * The number of bytes read.
+	 */
+	private long count = 0;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link CountingInputStream} using the
+	 * {@link InputStream} to read from.
+	 *
+	 * @param in
+	 *            the {@link InputStream} to read from
+	 */
+	public CountingInputStream(InputStream in) {
+		super(in);
+	}
+
+	// INHERITED METHODS
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.FilterInputStream#read()
+	 */
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if (b >= 0)
+			this.count++;
+		return b;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.FilterInputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int n = super.read(b, off, len);
+		if (n > 0)
+			this.count += n;
+		return n;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.FilterInputStream#skip(long)
+	 */
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(n);
+		this.count += skipped;
+		return skipped;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.FilterInputStream#markSupported()
+	 */
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the number of bytes read.
+	 *
+	 * @return the number of bytes
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	// OTHERS
+}
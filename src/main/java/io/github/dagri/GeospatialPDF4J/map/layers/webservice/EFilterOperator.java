@@ -0,0 +1,55 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.util.Enumeration;
+
+/**
+ * {@link Enumeration} that is containing the comparison operators of an
+ * {@link AttributeFilter}, with the name of their filter encoding element.
+ *
+ * o EQUAL, NOT_EQUAL, LESS, LESS_OR_EQUAL, GREATER, GREATER_OR_EQUAL :
+ * Compare the value of the property with the literal. o LIKE : Matches the
+ * value of the property against the literal as pattern ('*' for any
+ * characters, '.' for a single character, '!' as escape character).
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public enum EFilterOperator {
+
+	EQUAL("PropertyIsEqualTo"), NOT_EQUAL("PropertyIsNotEqualTo"), LESS("PropertyIsLessThan"), LESS_OR_EQUAL("PropertyIsLessThanOrEqualTo"), GREATER(
+			"PropertyIsGreaterThan"), GREATER_OR_EQUAL("PropertyIsGreaterThanOrEqualTo"), LIKE("PropertyIsLike");
+
+	// ATTRIBUTES
+
+	/**
+	 * The local name of the filter encoding element of this
+	 * {@link EFilterOperator}.
+	 */
+	private String elementName;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for an {@link EFilterOperator} using the local name of its
+	 * filter encoding element.
+	 *
+	 * @param elementName
+	 *            the local name of the element
+	 */
+	private EFilterOperator(String elementName) {
+		this.elementName = elementName;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the local name of the filter encoding element of this
+	 * {@link EFilterOperator}.
+	 *
+	 * @return the local name of the element
+	 */
+	public String getElementName() {
+		return elementName;
+	}
+
+}
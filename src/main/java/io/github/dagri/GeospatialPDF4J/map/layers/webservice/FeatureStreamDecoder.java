@@ -0,0 +1,475 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamException;
+
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.server.ServerTalker;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Abstract parental class of the decoders of a WFS GetFeature response. The
+ * features are added to a {@link GeometryContainer} while the response is
+ * read.
+ *
+ * Contains the parts common to all output formats: The counting of the
+ * features and {@link DrawGeometry}s, the skipping of features whose id was
+ * already decoded, the feature limit and the recording of the feature ids.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public abstract class FeatureStreamDecoder {
+
+	// ATTRIBUTES
+
+	/**
+	 * The {@link GeometryContainer} to add the decoded {@link DrawGeometry}s
+	 * to.
+	 */
+	private GeometryContainer						container;
+
+	/**
+	 * The {@link GeometryFactory} used to create the JTS geometries with
+	 * packed coordinate sequences.
+	 */
+	private GeometryFactory							factory			= new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+	/**
+	 * The number of decoded features.
+	 */
+	private long									featureCount	= 0;
+
+	/**
+	 * The number of decoded {@link DrawGeometry}s.
+	 */
+	private long									geometryCount	= 0;
+
+	/**
+	 * The {@link Set} of the ids of all features decoded so far (may be shared
+	 * by several {@link FeatureStreamDecoder}s) or <code>null</code> to decode
+	 * every feature.
+	 */
+	private Set<String>								featureIds;
+
+	/**
+	 * The number of features skipped because their id was already decoded.
+	 */
+	private long									duplicateCount	= 0;
+
+	/**
+	 * The number of features a response may contain or 0 for no limit.
+	 */
+	private long									featureLimit	= 0;
+
+	/**
+	 * Indicates if the decoded response was truncated: It exceeded the
+	 * feature limit or the server reported more matching than returned
+	 * features. The decoding is stopped in this case.
+	 */
+	private boolean									truncated		= false;
+
+	/**
+	 * Indicates if the decoding stops as soon as the server reports more
+	 * matching than returned features. If not, the features are decoded up to
+	 * the feature limit anyway. Without a feature limit, the matching and
+	 * returned features are only compared if the decoding does not stop (a
+	 * page always reports more matching features), so a response cut by the
+	 * server is detected.
+	 * 
+	 * Standard value is <code>true</code>.
+	 */
+	private boolean									stopIfTruncated	= true;
+
+	/**
+	 * The ids of the decoded features by their {@link AdditionalInfo}s (shared
+	 * by all geometries of a feature) or <code>null</code> if they are not
+	 * recorded.
+	 */
+	private IdentityHashMap<AdditionalInfo, String>	infoIds;
+
+	/**
+	 * The keys of the {@link AdditionalInfo}s decoded so far, so every feature
+	 * refers to the same key instances.
+	 */
+	private HashMap<String, String>					keys			= new HashMap<>();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link FeatureStreamDecoder} using the
+	 * {@link GeometryContainer} to add the decoded {@link DrawGeometry}s to.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 */
+	public FeatureStreamDecoder(GeometryContainer container) {
+		this.setContainer(container);
+	}
+
+	// METHODS
+
+	/**
+	 * Decodes the response of the given {@link InputStream} and adds all
+	 * geometries to the {@link GeometryContainer}. The {@link InputStream} is
+	 * not closed.
+	 *
+	 * @param in
+	 *            the {@link InputStream} to read from
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 */
+	public abstract void decode(InputStream in) throws IOException, XMLStreamException;
+
+	/**
+	 * Requests the given GetFeature request and decodes its response while it
+	 * is received. The number of bytes of the response and the time are
+	 * logged.
+	 *
+	 * @param request
+	 *            the request as {@link String}
+	 * @throws IOException
+	 *             if the response could not be received or decoded
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	public void receive(String request) throws IOException, XMLStreamException {
+		long start = System.nanoTime();
+		try (CountingInputStream in = new CountingInputStream(ServerTalker.getInstance().openWfsStream(request))) {
+			this.decode(in);
+			log.info("WFS response: " + in.getCount() + " bytes received and decoded in " + ((System.nanoTime() - start) / 1000000) + " ms ("
+					+ this.getFeatureCount() + " features).");
+		}
+	}
+
+	/**
+	 * Creates the {@link FeatureStreamDecoder} for responses of the given
+	 * output format.
+	 *
+	 * @param outputFormat
+	 *            the value of the OUTPUTFORMAT parameter or <code>null</code>
+	 *            for the standard format (GML) of the server
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @return a {@link GeoJsonStreamDecoder} for a JSON format; a
+	 *         {@link GmlStreamDecoder} for all others
+	 */
+	public static FeatureStreamDecoder create(String outputFormat, GeometryContainer container) {
+		if (isJson(outputFormat))
+			return new GeoJsonStreamDecoder(container);
+		return new GmlStreamDecoder(container);
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the given output format is
+	 * a JSON (GeoJSON) format, e.g. 'application/json' or 'json'.
+	 *
+	 * @param outputFormat
+	 *            the value of the OUTPUTFORMAT parameter or <code>null</code>
+	 * @return <code>true</code> if it is a JSON format; <code>false</code> if
+	 *         not
+	 */
+	public static boolean isJson(String outputFormat) {
+		return outputFormat != null && outputFormat.toLowerCase().contains("json");
+	}
+
+	/**
+	 * Returns the OUTPUTFORMAT parameter (ending with '&amp;') of a request
+	 * for the given output format.
+	 *
+	 * @param outputFormat
+	 *            the output format or <code>null</code> for the standard
+	 *            format of the server
+	 * @return the parameter or an empty {@link String} if no format is given
+	 */
+	public static String createParameter(String outputFormat) {
+		if (outputFormat == null)
+			return "";
+		try {
+			return "OUTPUTFORMAT=" + URLEncoder.encode(outputFormat, "UTF-8") + "&";
+		} catch (UnsupportedEncodingException e) {
+			// UTF-8 IS ALWAYS SUPPORTED
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Checks the id of a new feature against the ids decoded so far. The id
+	 * is added if it is new.
+	 *
+	 * @param id
+	 *            the id of the feature or <code>null</code>
+	 * @return <code>true</code> if the feature was already decoded and has to
+	 *         be skipped; <code>false</code> if not
+	 */
+	protected boolean isDuplicate(String id) {
+		if (this.getFeatureIds() != null && id != null && !this.getFeatureIds().add(id)) {
+			this.duplicateCount++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the feature limit is
+	 * reached.
+	 *
+	 * @return <code>true</code> if the limit is reached; <code>false</code> if
+	 *         not or there is no limit
+	 */
+	protected boolean isLimitReached() {
+		return this.getFeatureLimit() > 0 && this.getFeatureCount() >= this.getFeatureLimit();
+	}
+
+	/**
+	 * Accepts a new feature: It is counted and its id is recorded.
+	 *
+	 * @param id
+	 *            the id of the feature or <code>null</code>
+	 * @param info
+	 *            the {@link AdditionalInfo} of the feature
+	 */
+	protected void acceptFeature(String id, AdditionalInfo info) {
+		if (this.infoIds != null && id != null)
+			this.infoIds.put(info, id);
+		this.featureCount++;
+	}
+
+	/**
+	 * Returns the instance of the given key that was decoded first. The keys
+	 * of all features of a response are shared this way.
+	 *
+	 * @param key
+	 *            the decoded key
+	 * @return the shared instance of the key
+	 */
+	protected String internKey(String key) {
+		String shared = this.keys.get(key);
+		if (shared == null) {
+			this.keys.put(key, key);
+			shared = key;
+		}
+		return shared;
+	}
+
+	/**
+	 * Adds the given {@link DrawGeometry} to the {@link GeometryContainer}.
+	 *
+	 * @param g
+	 *            the {@link DrawGeometry} to add
+	 */
+	protected void add(DrawGeometry g) {
+		this.getContainer().addDrawGeometry(g);
+		this.geometryCount++;
+	}
+
+	/**
+	 * Takes over the counts, the recorded ids and the truncation of the given
+	 * {@link FeatureStreamDecoder}, that decoded a part of the response. Its
+	 * {@link DrawGeometry}s have to be added to the {@link GeometryContainer}
+	 * by the caller.
+	 *
+	 * @param part
+	 *            the {@link FeatureStreamDecoder} of the part
+	 */
+	protected void addDecoded(FeatureStreamDecoder part) {
+		this.featureCount += part.getFeatureCount();
+		this.geometryCount += part.getGeometryCount();
+		this.duplicateCount += part.getDuplicateCount();
+		if (this.infoIds != null && part.getInfoIds() != null)
+			this.infoIds.putAll(part.getInfoIds());
+		if (part.isTruncated())
+			this.setTruncated(true);
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the {@link GeometryFactory} used to create the JTS geometries.
+	 *
+	 * @return the {@link GeometryFactory}
+	 */
+	protected GeometryFactory getFactory() {
+		return factory;
+	}
+
+	/**
+	 * Returns the {@link GeometryContainer} the decoded {@link DrawGeometry}s
+	 * are added to.
+	 *
+	 * @return the {@link GeometryContainer}
+	 */
+	public GeometryContainer getContainer() {
+		return container;
+	}
+
+	/**
+	 * Sets the {@link GeometryContainer} the decoded {@link DrawGeometry}s are
+	 * added to.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to set
+	 */
+	public void setContainer(GeometryContainer container) {
+		this.container = container;
+	}
+
+	/**
+	 * Returns the number of decoded features.
+	 *
+	 * @return the number of features
+	 */
+	public long getFeatureCount() {
+		return featureCount;
+	}
+
+	/**
+	 * Returns the number of decoded {@link DrawGeometry}s.
+	 *
+	 * @return the number of {@link DrawGeometry}s
+	 */
+	public long getGeometryCount() {
+		return geometryCount;
+	}
+
+	/**
+	 * Returns the {@link Set} of the ids of all decoded features or
+	 * <code>null</code> if the features are not checked for duplicates.
+	 *
+	 * @return the {@link Set} of feature ids
+	 */
+	public Set<String> getFeatureIds() {
+		return featureIds;
+	}
+
+	/**
+	 * Sets the {@link Set} of the ids of all decoded features. Features whose
+	 * id is contained are skipped, the ids of all others are added. Has to be
+	 * thread-safe if it is shared by {@link FeatureStreamDecoder}s of several
+	 * threads.
+	 *
+	 * @param featureIds
+	 *            the {@link Set} to set or <code>null</code> to decode every
+	 *            feature
+	 */
+	public void setFeatureIds(Set<String> featureIds) {
+		this.featureIds = featureIds;
+	}
+
+	/**
+	 * Returns the number of features skipped because their id was already
+	 * decoded.
+	 *
+	 * @return the number of skipped duplicates
+	 */
+	public long getDuplicateCount() {
+		return duplicateCount;
+	}
+
+	/**
+	 * Returns the number of features a response may contain. A response with
+	 * more features counts as truncated.
+	 *
+	 * @return the feature limit; 0 for no limit
+	 */
+	public long getFeatureLimit() {
+		return featureLimit;
+	}
+
+	/**
+	 * Sets the number of features a response may contain. A response with
+	 * more features or reporting more matching than returned features counts
+	 * as truncated; the decoding stops at the first feature beyond the limit.
+	 * A response with exactly the limit is complete, so the request has to
+	 * ask for one more feature than the limit to detect the truncation.
+	 *
+	 * @param featureLimit
+	 *            the feature limit to set; 0 for no limit
+	 */
+	public void setFeatureLimit(long featureLimit) {
+		this.featureLimit = featureLimit;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the decoded response was
+	 * truncated (and the decoding stopped).
+	 *
+	 * @return <code>true</code> if the response was truncated;
+	 *         <code>false</code> if not
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Sets the {@link Boolean} that indicates if the decoded response was
+	 * truncated.
+	 *
+	 * @param truncated
+	 *            <code>true</code> if the response was truncated
+	 */
+	protected void setTruncated(boolean truncated) {
+		this.truncated = truncated;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the decoding stops as soon
+	 * as the server reports more matching than returned features.
+	 *
+	 * @return <code>true</code> if the decoding stops; <code>false</code> if
+	 *         the features are decoded up to the feature limit anyway
+	 */
+	public boolean isStopIfTruncated() {
+		return stopIfTruncated;
+	}
+
+	/**
+	 * Sets the {@link Boolean} that indicates if the decoding stops as soon as
+	 * the server reports more matching than returned features.
+	 *
+	 * @param stopIfTruncated
+	 *            <code>true</code> to stop; <code>false</code> to decode the
+	 *            features up to the feature limit anyway (e.g. if the
+	 *            truncated response is used)
+	 */
+	public void setStopIfTruncated(boolean stopIfTruncated) {
+		this.stopIfTruncated = stopIfTruncated;
+	}
+
+	/**
+	 * Enables the recording of the ids of the decoded features, see
+	 * {@link #getInfoIds()}.
+	 */
+	public void recordFeatureIds() {
+		if (this.infoIds == null)
+			this.infoIds = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Returns the ids of the decoded features by their
+	 * {@link AdditionalInfo}s (shared by all geometries of a feature).
+	 *
+	 * @return the {@link IdentityHashMap} of feature ids or <code>null</code>
+	 *         if they are not recorded
+	 */
+	public IdentityHashMap<AdditionalInfo, String> getInfoIds() {
+		return infoIds;
+	}
+
+	// OTHERS
+}
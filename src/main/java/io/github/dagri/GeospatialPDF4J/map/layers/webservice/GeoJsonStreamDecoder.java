@@ -0,0 +1,815 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.LinearRing;
+import com.vividsolutions.jts.geom.MultiLineString;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequence;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiPolygon;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPoint;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to decode a GeoJSON feature collection (the response of a WFS
+ * GetFeature request with a JSON output format) from an {@link InputStream}.
+ * The JSON is tokenized character by character from a buffer and the features
+ * are added to a {@link GeometryContainer} while the stream is read; no tree
+ * of JSON objects is created.
+ *
+ * Every Point, LineString, Polygon, MultiLineString and MultiPolygon becomes a
+ * {@link DrawPoint}, {@link DrawLineString}, {@link DrawPolygon},
+ * {@link DrawMultiLineString} or {@link DrawMultiPolygon}; the points of a
+ * MultiPoint and the members of a GeometryCollection are added one by one. The
+ * simple (not object or array) properties of a feature are stored in the
+ * {@link AdditionalInfo} shared by all its geometries. The positions are
+ * expected in easting, northing order (as served for EPSG:25832), their
+ * numbers are converted by a {@link PosListParser}.
+ *
+ * The keys of a JSON object may be in any order, so a feature is added when
+ * its object is completely read.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class GeoJsonStreamDecoder extends FeatureStreamDecoder {
+
+	// ATTRIBUTES
+
+	/**
+	 * The {@link Reader} of the actual response.
+	 */
+	private Reader				reader;
+
+	/**
+	 * The buffer of read characters.
+	 */
+	private char[]				buffer			= new char[1 << 16];
+
+	/**
+	 * The index of the next character of the buffer.
+	 */
+	private int					position		= 0;
+
+	/**
+	 * The number of valid characters of the buffer.
+	 */
+	private int					limit			= 0;
+
+	/**
+	 * The number of characters read before the buffer.
+	 */
+	private long				offset			= 0;
+
+	/**
+	 * The characters of the actual number or literal.
+	 */
+	private char[]				token			= new char[64];
+
+	/**
+	 * The {@link PosListParser} used to convert the numbers.
+	 */
+	private PosListParser		parser			= new PosListParser();
+
+	/**
+	 * The {@link StringBuilder} used to read the strings.
+	 */
+	private StringBuilder		text			= new StringBuilder();
+
+	/**
+	 * The packed X- and Y-values of the positions of the actual geometry.
+	 */
+	private double[]			coords			= new double[1024];
+
+	/**
+	 * The number of positions of the actual geometry.
+	 */
+	private int					size			= 0;
+
+	/**
+	 * The end (position index) of every array of positions (line or ring) of
+	 * the actual geometry.
+	 */
+	private int[]				lineEnds		= new int[16];
+
+	/**
+	 * The number of arrays of positions of the actual geometry.
+	 */
+	private int					lineCount		= 0;
+
+	/**
+	 * The end (line index) of every polygon of the actual MultiPolygon.
+	 */
+	private int[]				partEnds		= new int[16];
+
+	/**
+	 * The number of polygons of the actual MultiPolygon.
+	 */
+	private int					partCount		= 0;
+
+	/**
+	 * The JTS geometries of the actual feature.
+	 */
+	private ArrayList<Geometry>	geometries		= new ArrayList<>();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link GeoJsonStreamDecoder} using the
+	 * {@link GeometryContainer} to add the decoded {@link DrawGeometry}s to.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 */
+	public GeoJsonStreamDecoder(GeometryContainer container) {
+		super(container);
+	}
+
+	// INHERITED METHODS
+
+	/**
+	 * Decodes the GeoJSON feature collection of the given {@link InputStream}
+	 * (UTF-8) and adds all geometries to the {@link GeometryContainer}. The
+	 * {@link InputStream} is not closed.
+	 *
+	 * @param in
+	 *            the {@link InputStream} to read from
+	 * @throws IOException
+	 *             if the stream could not be read or is not a well-formed
+	 *             GeoJSON object (e.g. an XML exception report)
+	 */
+	@Override
+	public void decode(InputStream in) throws IOException {
+		this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+		this.position = 0;
+		this.limit = 0;
+		this.offset = 0;
+		int c = this.peek();
+		// BYTE ORDER MARK
+		if (c == '\uFEFF') {
+			this.position++;
+			c = this.peek();
+		}
+		if (c == '<')
+			throw new IOException("The response is XML, not GeoJSON (probably an exception report).");
+		if (c != '{')
+			throw this.error("'{' expected");
+		this.readCollection();
+		if (this.isTruncated())
+			log.info("GeoJSON response truncated after " + this.getFeatureCount() + " features.");
+		log.info("GeoJSON decoded: " + this.getFeatureCount() + " features with " + this.getGeometryCount() + " geometries (" + this.getDuplicateCount()
+				+ " duplicates skipped).");
+	}
+
+	// METHODS
+
+	/**
+	 * Reads the root object of the feature collection. The decoding stops if
+	 * the response is truncated.
+	 *
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private void readCollection() throws IOException {
+		this.expect('{');
+		if (this.peek() == '}') {
+			this.position++;
+			return;
+		}
+		long matched = -1;
+		long returned = -1;
+		do {
+			String key = this.readString();
+			this.expect(':');
+			if (key.equals("features")) {
+				if (!this.readFeatures())
+					return;
+			} else if (key.equals("numberMatched") || key.equals("totalFeatures"))
+				matched = this.readCount();
+			else if (key.equals("numberReturned"))
+				returned = this.readCount();
+			else
+				this.skipValue();
+			// ONLY CHECKED WITH A LIMIT OR WITHOUT STOPPING : A PAGE ALWAYS
+			// REPORTS MORE MATCHING THAN RETURNED FEATURES
+			if ((this.getFeatureLimit() > 0 || !this.isStopIfTruncated()) && matched >= 0 && returned >= 0 && matched > returned && !this.isTruncated()) {
+				this.setTruncated(true);
+				if (this.isStopIfTruncated())
+					return;
+			}
+		} while (this.nextMember('}'));
+	}
+
+	/**
+	 * Reads the array of features.
+	 *
+	 * @return <code>true</code> if all features were read; <code>false</code>
+	 *         if the decoding was stopped at the feature limit
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private boolean readFeatures() throws IOException {
+		this.expect('[');
+		if (this.peek() == ']') {
+			this.position++;
+			return true;
+		}
+		do {
+			if (!this.readFeature())
+				return false;
+		} while (this.nextMember(']'));
+		return true;
+	}
+
+	/**
+	 * Reads a feature object and adds its geometries to the
+	 * {@link GeometryContainer}, unless its id was already decoded.
+	 *
+	 * @return <code>true</code> if the decoding continues; <code>false</code>
+	 *         if the feature limit is reached
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private boolean readFeature() throws IOException {
+		this.expect('{');
+		String id = null;
+		AdditionalInfo info = new AdditionalInfo();
+		this.geometries.clear();
+		if (this.peek() != '}') {
+			do {
+				String key = this.readString();
+				this.expect(':');
+				if (key.equals("geometry"))
+					this.readGeometry();
+				else if (key.equals("properties"))
+					this.readProperties(info);
+				else if (key.equals("id"))
+					id = this.readScalar();
+				else
+					this.skipValue();
+			} while (this.nextMember('}'));
+		} else
+			this.position++;
+
+		// A FEATURE THAT WAS ALREADY DECODED IS SKIPPED
+		if (this.isDuplicate(id))
+			return true;
+		// THE LIMIT IS REACHED : THE REST IS NOT READ
+		if (this.isLimitReached()) {
+			this.setTruncated(true);
+			return false;
+		}
+		this.acceptFeature(id, info);
+		for (int a = 0; a < this.geometries.size(); a++)
+			this.addGeometry(this.geometries.get(a), info);
+		return true;
+	}
+
+	/**
+	 * Adds the given JTS geometry as {@link DrawGeometry} (or as several
+	 * {@link DrawPoint}s) to the {@link GeometryContainer}.
+	 *
+	 * @param g
+	 *            the JTS geometry
+	 * @param info
+	 *            the {@link AdditionalInfo} of the feature
+	 */
+	private void addGeometry(Geometry g, AdditionalInfo info) {
+		if (g instanceof Point)
+			this.add(new DrawPoint((Point) g, info));
+		else if (g instanceof LineString)
+			this.add(new DrawLineString((LineString) g, info));
+		else if (g instanceof Polygon)
+			this.add(new DrawPolygon((Polygon) g, info));
+		else if (g instanceof MultiLineString)
+			this.add(new DrawMultiLineString((MultiLineString) g, info));
+		else if (g instanceof MultiPolygon)
+			this.add(new DrawMultiPolygon((MultiPolygon) g, info));
+		else {
+			// MULTIPOINT
+			for (int a = 0; a < g.getNumGeometries(); a++)
+				this.addGeometry(g.getGeometryN(a), info);
+		}
+	}
+
+	/**
+	 * Reads a geometry object (or null) and adds the created JTS geometries to
+	 * the geometries of the actual feature. Geometries that can not be created
+	 * are skipped.
+	 *
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private void readGeometry() throws IOException {
+		if (this.peek() != '{') {
+			// NULL GEOMETRY
+			this.skipValue();
+			return;
+		}
+		this.position++;
+		String type = null;
+		int depth = -1;
+		if (this.peek() != '}') {
+			do {
+				String key = this.readString();
+				this.expect(':');
+				if (key.equals("type"))
+					type = this.readScalar();
+				else if (key.equals("coordinates")) {
+					this.size = 0;
+					this.lineCount = 0;
+					this.partCount = 0;
+					depth = this.readPositions();
+				} else if (key.equals("geometries")) {
+					// GEOMETRYCOLLECTION : THE MEMBERS ARE ADDED ONE BY ONE
+					this.expect('[');
+					if (this.peek() == ']')
+						this.position++;
+					else {
+						do {
+							this.readGeometry();
+						} while (this.nextMember(']'));
+					}
+				} else
+					this.skipValue();
+			} while (this.nextMember('}'));
+		} else
+			this.position++;
+
+		if (type == null || depth < 0)
+			return;
+		try {
+			Geometry g = this.createGeometry(type, depth);
+			if (g != null)
+				this.geometries.add(g);
+			else
+				log.warn("Could not create the GeoJSON " + type + " with coordinates of depth " + depth + ".");
+		} catch (IllegalArgumentException e) {
+			// INVALID GEOMETRY (E.G. NOT CLOSED RING)
+			log.warn("Could not create the GeoJSON " + type + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Creates the JTS geometry of the given type from the read positions.
+	 *
+	 * @param type
+	 *            the GeoJSON type
+	 * @param depth
+	 *            the depth of the coordinates array (1 for a single position)
+	 * @return the JTS geometry or <code>null</code> if the type and the depth
+	 *         do not fit
+	 */
+	private Geometry createGeometry(String type, int depth) {
+		if (type.equals("Point") && depth == 1)
+			return this.getFactory().createPoint(this.createSequence(0, 1));
+		if (type.equals("LineString") && depth == 2)
+			return this.getFactory().createLineString(this.createSequence(0, this.size));
+		if (type.equals("MultiPoint") && depth == 2) {
+			Point[] points = new Point[this.size];
+			for (int a = 0; a < this.size; a++)
+				points[a] = this.getFactory().createPoint(this.createSequence(a, a + 1));
+			return this.getFactory().createMultiPoint(points);
+		}
+		if (type.equals("Polygon") && depth == 3)
+			return this.createPolygon(0, this.lineCount);
+		if (type.equals("MultiLineString") && depth == 3) {
+			LineString[] lines = new LineString[this.lineCount];
+			for (int a = 0; a < this.lineCount; a++)
+				lines[a] = this.getFactory().createLineString(this.createSequence(this.lineStart(a), this.lineEnds[a]));
+			return this.getFactory().createMultiLineString(lines);
+		}
+		if (type.equals("MultiPolygon") && depth == 4) {
+			ArrayList<Polygon> polygons = new ArrayList<>();
+			for (int a = 0; a < this.partCount; a++) {
+				Polygon p = this.createPolygon(a == 0 ? 0 : this.partEnds[a - 1], this.partEnds[a]);
+				if (p != null)
+					polygons.add(p);
+			}
+			return this.getFactory().createMultiPolygon(polygons.toArray(new Polygon[polygons.size()]));
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a {@link Polygon} from the given rings: The first one is the
+	 * exterior ring, all following are holes.
+	 *
+	 * @param firstLine
+	 *            the index of the exterior ring
+	 * @param endLine
+	 *            the index after the last ring
+	 * @return the {@link Polygon} or <code>null</code> if it has no rings
+	 */
+	private Polygon createPolygon(int firstLine, int endLine) {
+		if (endLine <= firstLine)
+			return null;
+		LinearRing shell = this.getFactory().createLinearRing(this.createSequence(this.lineStart(firstLine), this.lineEnds[firstLine]));
+		LinearRing[] holes = new LinearRing[endLine - firstLine - 1];
+		for (int a = firstLine + 1; a < endLine; a++)
+			holes[a - firstLine - 1] = this.getFactory().createLinearRing(this.createSequence(this.lineStart(a), this.lineEnds[a]));
+		return this.getFactory().createPolygon(shell, holes);
+	}
+
+	/**
+	 * Returns the index of the first position of the line with the given
+	 * index.
+	 *
+	 * @param line
+	 *            the index of the line
+	 * @return the index of its first position
+	 */
+	private int lineStart(int line) {
+		return line == 0 ? 0 : this.lineEnds[line - 1];
+	}
+
+	/**
+	 * Creates a two-dimensional {@link PackedCoordinateSequence} of the read
+	 * positions in the given range.
+	 *
+	 * @param from
+	 *            the index of the first position
+	 * @param to
+	 *            the index after the last position
+	 * @return the {@link CoordinateSequence}
+	 */
+	private CoordinateSequence createSequence(int from, int to) {
+		return new PackedCoordinateSequence.Double(Arrays.copyOfRange(this.coords, from * 2, to * 2), 2);
+	}
+
+	/**
+	 * Reads a (nested) array of positions. The end of every array of
+	 * positions and of every array of those is recorded.
+	 *
+	 * @return the depth of the array: 1 for a position, 2 for an array of
+	 *         positions and so on; 0 for an empty array
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private int readPositions() throws IOException {
+		this.expect('[');
+		int c = this.peek();
+		if (c == ']') {
+			this.position++;
+			return 0;
+		}
+		if (c != '[') {
+			// A POSITION : A THIRD (OR FURTHER) VALUE IS SKIPPED
+			if (this.size * 2 + 2 > this.coords.length)
+				this.coords = Arrays.copyOf(this.coords, this.coords.length * 2);
+			int ordinal = 0;
+			do {
+				double v = this.readNumber();
+				if (ordinal < 2)
+					this.coords[this.size * 2 + ordinal] = v;
+				ordinal++;
+			} while (this.nextMember(']'));
+			if (ordinal < 2)
+				throw this.error("position with less than two values");
+			this.size++;
+			return 1;
+		}
+		int depth = 0;
+		do {
+			depth = Math.max(depth, this.readPositions());
+		} while (this.nextMember(']'));
+		if (depth == 1) {
+			if (this.lineCount == this.lineEnds.length)
+				this.lineEnds = Arrays.copyOf(this.lineEnds, this.lineEnds.length * 2);
+			this.lineEnds[this.lineCount++] = this.size;
+		} else if (depth == 2) {
+			if (this.partCount == this.partEnds.length)
+				this.partEnds = Arrays.copyOf(this.partEnds, this.partEnds.length * 2);
+			this.partEnds[this.partCount++] = this.lineCount;
+		}
+		return depth + 1;
+	}
+
+	/**
+	 * Reads the properties object (or null) of a feature. Its simple values
+	 * are added to the given {@link AdditionalInfo}.
+	 *
+	 * @param info
+	 *            the {@link AdditionalInfo} of the feature
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private void readProperties(AdditionalInfo info) throws IOException {
+		if (this.peek() != '{') {
+			this.skipValue();
+			return;
+		}
+		this.position++;
+		if (this.peek() == '}') {
+			this.position++;
+			return;
+		}
+		do {
+			String key = this.readString();
+			this.expect(':');
+			String value = this.readScalar();
+			if (value != null && !value.isEmpty())
+				info.addInfo(this.internKey(key), value);
+		} while (this.nextMember('}'));
+	}
+
+	/**
+	 * Reads a value as {@link String}: The text of a string or of a number,
+	 * true or false.
+	 *
+	 * @return the value or <code>null</code> for null, an object or an array
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private String readScalar() throws IOException {
+		int c = this.peek();
+		if (c == '"')
+			return this.readString();
+		if (c == '{' || c == '[') {
+			this.skipValue();
+			return null;
+		}
+		int length = this.readToken();
+		if (length == 4 && this.token[0] == 'n' && this.token[1] == 'u' && this.token[2] == 'l' && this.token[3] == 'l')
+			return null;
+		return new String(this.token, 0, length);
+	}
+
+	/**
+	 * Reads a count (e.g. numberMatched).
+	 *
+	 * @return the count or -1 if it is not a number (e.g. 'unknown')
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private long readCount() throws IOException {
+		String value = this.readScalar();
+		if (value == null)
+			return -1;
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Reads a number.
+	 *
+	 * @return the value of the number
+	 * @throws IOException
+	 *             if the stream could not be read or the value is not a
+	 *             number
+	 */
+	private double readNumber() throws IOException {
+		this.peek();
+		int length = this.readToken();
+		try {
+			return this.parser.parseNumber(this.token, 0, length);
+		} catch (NumberFormatException e) {
+			throw this.error("number expected");
+		}
+	}
+
+	/**
+	 * Reads the characters of a number or literal (true, false, null) into
+	 * the token buffer.
+	 *
+	 * @return the number of characters
+	 * @throws IOException
+	 *             if the stream could not be read
+	 */
+	private int readToken() throws IOException {
+		int length = 0;
+		while (this.position < this.limit || this.fill()) {
+			char c = this.buffer[this.position];
+			if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '+' || c == '.'))
+				break;
+			if (length == this.token.length)
+				this.token = Arrays.copyOf(this.token, length * 2);
+			this.token[length++] = c;
+			this.position++;
+		}
+		return length;
+	}
+
+	/**
+	 * Reads a string and resolves its escape sequences.
+	 *
+	 * @return the string
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private String readString() throws IOException {
+		this.expect('"');
+		this.text.setLength(0);
+		while (true) {
+			if (this.position >= this.limit && !this.fill())
+				throw this.error("unterminated string");
+			int start = this.position;
+			while (this.position < this.limit) {
+				char c = this.buffer[this.position];
+				if (c == '"' || c == '\\')
+					break;
+				this.position++;
+			}
+			this.text.append(this.buffer, start, this.position - start);
+			if (this.position >= this.limit)
+				continue;
+			if (this.buffer[this.position++] == '"')
+				return this.text.toString();
+			// ESCAPE SEQUENCE
+			int e = this.read();
+			switch (e) {
+			case 'b':
+				this.text.append('\b');
+				break;
+			case 'f':
+				this.text.append('\f');
+				break;
+			case 'n':
+				this.text.append('\n');
+				break;
+			case 'r':
+				this.text.append('\r');
+				break;
+			case 't':
+				this.text.append('\t');
+				break;
+			case 'u':
+				int u = 0;
+				for (int a = 0; a < 4; a++) {
+					int d = Character.digit(this.read(), 16);
+					if (d < 0)
+						throw this.error("invalid unicode escape");
+					u = u * 16 + d;
+				}
+				this.text.append((char) u);
+				break;
+			case '"':
+			case '\\':
+			case '/':
+				this.text.append((char) e);
+				break;
+			default:
+				throw this.error("invalid escape sequence");
+			}
+		}
+	}
+
+	/**
+	 * Skips the next value (including all nested values).
+	 *
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private void skipValue() throws IOException {
+		int c = this.peek();
+		if (c == '{') {
+			this.position++;
+			if (this.peek() == '}') {
+				this.position++;
+				return;
+			}
+			do {
+				this.readString();
+				this.expect(':');
+				this.skipValue();
+			} while (this.nextMember('}'));
+		} else if (c == '[') {
+			this.position++;
+			if (this.peek() == ']') {
+				this.position++;
+				return;
+			}
+			do {
+				this.skipValue();
+			} while (this.nextMember(']'));
+		} else if (c == '"')
+			this.readString();
+		else if (this.readToken() == 0)
+			throw this.error("value expected");
+	}
+
+	/**
+	 * Reads the separator after a member of an object or array.
+	 *
+	 * @param close
+	 *            the closing character of the object or array
+	 * @return <code>true</code> if another member follows; <code>false</code>
+	 *         if the object or array is closed
+	 * @throws IOException
+	 *             if the stream could not be read or is not well-formed
+	 */
+	private boolean nextMember(char close) throws IOException {
+		int c = this.peek();
+		if (c == ',') {
+			this.position++;
+			return true;
+		}
+		if (c == close) {
+			this.position++;
+			return false;
+		}
+		throw this.error("',' or '" + close + "' expected");
+	}
+
+	/**
+	 * Reads the given character (after white spaces).
+	 *
+	 * @param expected
+	 *            the expected character
+	 * @throws IOException
+	 *             if the stream could not be read or the next character is
+	 *             another one
+	 */
+	private void expect(char expected) throws IOException {
+		if (this.peek() != expected)
+			throw this.error("'" + expected + "' expected");
+		this.position++;
+	}
+
+	/**
+	 * Skips the white spaces and returns the next character without reading
+	 * it.
+	 *
+	 * @return the next character or -1 at the end of the stream
+	 * @throws IOException
+	 *             if the stream could not be read
+	 */
+	private int peek() throws IOException {
+		while (this.position < this.limit || this.fill()) {
+			char c = this.buffer[this.position];
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+				return c;
+			this.position++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Reads the next character.
+	 *
+	 * @return the next character or -1 at the end of the stream
+	 * @throws IOException
+	 *             if the stream could not be read
+	 */
+	private int read() throws IOException {
+		if (this.position >= this.limit && !this.fill())
+			return -1;
+		return this.buffer[this.position++];
+	}
+
+	/**
+	 * Fills the buffer with the next characters of the stream.
+	 *
+	 * @return <code>true</code> if characters were read; <code>false</code>
+	 *         at the end of the stream
+	 * @throws IOException
+	 *             if the stream could not be read
+	 */
+	private boolean fill() throws IOException {
+		this.offset += this.limit;
+		this.position = 0;
+		this.limit = this.reader.read(this.buffer, 0, this.buffer.length);
+		if (this.limit <= 0) {
+			this.limit = 0;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the {@link IOException} of a not well-formed response.
+	 *
+	 * @param message
+	 *            the description of the error
+	 * @return the {@link IOException}
+	 */
+	private IOException error(String message) {
+		return new IOException("Malformed GeoJSON at character " + (this.offset + this.position) + ": " + message);
+	}
+
+	// GETTERS AND SETTERS
+
+	// OTHERS
+}
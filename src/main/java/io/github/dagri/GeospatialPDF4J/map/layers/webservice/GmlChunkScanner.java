@@ -0,0 +1,541 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class to find the boundaries of the features in the bytes of a GML feature
+ * collection, while they are received. The bytes are given chunk by chunk (a
+ * tag may be split between two chunks).
+ *
+ * The scanner records
+ * <ul>
+ * <li>the end of the start tag of the root element (the prolog that declares
+ * the namespaces),</li>
+ * <li>the start of a wfs:member / gml:featureMember after every
+ * {@link #getChunkSize()} bytes (the chunk boundaries) and</li>
+ * <li>the end of the last wfs:member / gml:featureMember.</li>
+ * </ul>
+ * A member is only a boundary if it is a direct child of the root element and
+ * its prefix is bound to the WFS (member) or GML (featureMember) namespace by
+ * the root start tag. Comments, CDATA sections, processing instructions and
+ * declarations are skipped, so markup inside of them is not counted.
+ *
+ * A collection can only be split if its members are the direct children of
+ * the root element: gml:featureMembers and nested feature collections (and
+ * documents not encoded ASCII compatible) are reported as not splittable.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public final class GmlChunkScanner {
+
+	// ATTRIBUTES
+
+	/**
+	 * The local name of a WFS 2.0 member.
+	 */
+	private static final byte[]	MEMBER				= "member".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The local name of a GML feature member.
+	 */
+	private static final byte[]	FEATURE_MEMBER		= "featureMember".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The local name of a GML 3.1 container of many features.
+	 */
+	private static final byte[]	FEATURE_MEMBERS		= "featureMembers".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The local name of a feature collection.
+	 */
+	private static final byte[]	FEATURE_COLLECTION	= "FeatureCollection".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The start of a comment after '&lt;!'.
+	 */
+	private static final byte[]	COMMENT				= "--".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The start of a CDATA section after '&lt;!'.
+	 */
+	private static final byte[]	CDATA				= "[CDATA[".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * The prefix of the namespaces of all WFS versions.
+	 */
+	private static final String	WFS_NAMESPACE		= "http://www.opengis.net/wfs";
+
+	/**
+	 * The prefix of the namespaces of all GML versions.
+	 */
+	private static final String	GML_NAMESPACE		= "http://www.opengis.net/gml";
+
+	/**
+	 * The {@link Pattern} of a namespace declaration.
+	 */
+	private static final Pattern	XMLNS			= Pattern.compile("xmlns(?::([^\\s=]+))?\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+
+	/**
+	 * The minimal number of bytes of a chunk.
+	 */
+	private long				chunkSize;
+
+	/**
+	 * The state of the scanner: 0 outside of a tag, 1 after '&lt;', 2 inside
+	 * of the name of a tag, 3 inside of a tag after its name, 4 after
+	 * '&lt;!', 5 inside of a comment, 6 inside of a CDATA section, 7 inside of
+	 * a processing instruction, 8 inside of a declaration (e.g. DOCTYPE).
+	 */
+	private int					state				= 0;
+
+	/**
+	 * The number of matched bytes of the actual markup start (after '&lt;!')
+	 * or end ('--&gt;', ']]&gt;', '?&gt;', the '[' of a declaration).
+	 */
+	private int					matched;
+
+	/**
+	 * The markup start ({@link #COMMENT} or {@link #CDATA}) matched after
+	 * '&lt;!'.
+	 */
+	private byte[]				markup;
+
+	/**
+	 * Indicates if the last byte inside of the actual tag was '/'.
+	 */
+	private boolean				selfClosing;
+
+	/**
+	 * The number of open elements.
+	 */
+	private int					depth				= 0;
+
+	/**
+	 * The bytes of the root start tag, to read its namespace declarations.
+	 */
+	private ByteArrayOutputStream	rootTag			= new ByteArrayOutputStream();
+
+	/**
+	 * The namespaces declared by the root start tag per prefix ("" for the
+	 * default namespace).
+	 */
+	private HashMap<String, String>	namespaces		= new HashMap<>();
+
+	/**
+	 * Indicates if the actual tag is a member at collection depth.
+	 */
+	private boolean				member;
+
+	/**
+	 * The quote character of the actual attribute value or 0.
+	 */
+	private byte				quote				= 0;
+
+	/**
+	 * Indicates if the actual tag is an end tag.
+	 */
+	private boolean				endTag;
+
+	/**
+	 * The bytes of the name of the actual tag.
+	 */
+	private byte[]				name				= new byte[256];
+
+	/**
+	 * The number of bytes of the name of the actual tag.
+	 */
+	private int					nameLength;
+
+	/**
+	 * The offset of the actual tag.
+	 */
+	private long				tagStart;
+
+	/**
+	 * The qualified name of the root element or <code>null</code>.
+	 */
+	private String				rootName;
+
+	/**
+	 * Indicates if the end of the root start tag is searched.
+	 */
+	private boolean				rootPending			= false;
+
+	/**
+	 * Indicates if the end of a member end tag is searched.
+	 */
+	private boolean				memberEndPending	= false;
+
+	/**
+	 * The offset after the root start tag or -1.
+	 */
+	private long				prologEnd			= -1;
+
+	/**
+	 * The offset after the last member end tag or -1.
+	 */
+	private long				lastMemberEnd		= -1;
+
+	/**
+	 * The offsets of the member start tags the chunks begin with.
+	 */
+	private ArrayList<Long>		boundaries			= new ArrayList<>();
+
+	/**
+	 * Indicates if the collection can be split at its members.
+	 */
+	private boolean				splittable			= true;
+
+	/**
+	 * The number of scanned bytes.
+	 */
+	private long				scanned				= 0;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link GmlChunkScanner} using the minimal number of
+	 * bytes of a chunk.
+	 *
+	 * @param chunkSize
+	 *            the minimal number of bytes of a chunk
+	 */
+	public GmlChunkScanner(long chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	// METHODS
+
+	/**
+	 * Scans the next bytes of the document.
+	 *
+	 * @param buf
+	 *            the bytes
+	 * @param len
+	 *            the number of bytes to scan
+	 */
+	public void scan(byte[] buf, int len) {
+		if (this.scanned == 0 && len > 0 && (buf[0] == 0 || buf[0] == (byte) 0xFE || buf[0] == (byte) 0xFF))
+			// UTF-16 OR UTF-32 : THE BYTES ARE NOT ASCII COMPATIBLE
+			this.splittable = false;
+		for (int a = 0; a < len; a++) {
+			byte b = buf[a];
+			long pos = this.scanned + a;
+			if (this.rootPending)
+				this.rootTag.write(b);
+			switch (this.state) {
+			case 0:
+				if (b == '<') {
+					this.state = 1;
+					this.tagStart = pos;
+				}
+				break;
+			case 1:
+				if (b == '?') {
+					this.matched = 0;
+					this.state = 7;
+				} else if (b == '!') {
+					this.matched = 0;
+					this.state = 4;
+				} else {
+					this.endTag = b == '/';
+					this.selfClosing = false;
+					this.nameLength = 0;
+					if (!this.endTag)
+						this.appendName(b);
+					this.state = 2;
+				}
+				break;
+			case 2:
+				if (b == '>' || b == '/' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+					this.handleName();
+					if (b == '>') {
+						this.handleTagEnd(pos);
+						this.state = 0;
+					} else {
+						this.selfClosing = b == '/';
+						this.state = 3;
+					}
+				} else
+					this.appendName(b);
+				break;
+			case 3:
+				if (this.quote != 0) {
+					if (b == this.quote)
+						this.quote = 0;
+				} else if (b == '"' || b == '\'')
+					this.quote = b;
+				else if (b == '>') {
+					this.handleTagEnd(pos);
+					this.state = 0;
+				} else if (b != ' ' && b != '\n' && b != '\r' && b != '\t')
+					this.selfClosing = b == '/';
+				break;
+			case 4:
+				// COMMENT OR CDATA SECTION, ANYTHING ELSE IS A DECLARATION
+				if (this.matched == 0)
+					this.markup = b == '-' ? COMMENT : CDATA;
+				if (b == this.markup[this.matched]) {
+					this.matched++;
+					if (this.matched == this.markup.length) {
+						this.matched = 0;
+						this.state = this.markup == COMMENT ? 5 : 6;
+					}
+				} else {
+					this.matched = 0;
+					this.state = b == '>' ? 0 : 8;
+				}
+				break;
+			case 5:
+				// COMMENT : UP TO '-->'
+				if (b == '-')
+					this.matched++;
+				else {
+					if (b == '>' && this.matched >= 2)
+						this.state = 0;
+					this.matched = 0;
+				}
+				break;
+			case 6:
+				// CDATA : UP TO ']]>'
+				if (b == ']')
+					this.matched++;
+				else {
+					if (b == '>' && this.matched >= 2)
+						this.state = 0;
+					this.matched = 0;
+				}
+				break;
+			case 7:
+				// PROCESSING INSTRUCTION : UP TO '?>'
+				if (b == '>' && this.matched == 1)
+					this.state = 0;
+				this.matched = b == '?' ? 1 : 0;
+				break;
+			default:
+				// DECLARATION : UP TO '>' OUTSIDE OF AN INTERNAL SUBSET
+				if (b == '[')
+					this.matched++;
+				else if (b == ']')
+					this.matched--;
+				else if (b == '>' && this.matched <= 0) {
+					this.matched = 0;
+					this.state = 0;
+				}
+				break;
+			}
+		}
+		this.scanned += len;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the scanned document can be
+	 * decoded in more than one chunk.
+	 *
+	 * @return <code>true</code> if there are at least two chunks;
+	 *         <code>false</code> if not
+	 */
+	public boolean canSplit() {
+		return this.splittable && this.prologEnd >= 0 && this.lastMemberEnd >= 0 && this.boundaries.size() > 1;
+	}
+
+	/**
+	 * Returns the number of chunks.
+	 *
+	 * @return the number of chunks
+	 */
+	public int getChunkCount() {
+		return this.boundaries.size();
+	}
+
+	/**
+	 * Returns the offset of the first byte of the chunk with the given index.
+	 *
+	 * @param index
+	 *            the index of the chunk
+	 * @return the offset of its first byte
+	 */
+	public long getChunkStart(int index) {
+		return this.boundaries.get(index);
+	}
+
+	/**
+	 * Returns the offset after the last byte of the chunk with the given
+	 * index.
+	 *
+	 * @param index
+	 *            the index of the chunk
+	 * @return the offset after its last byte
+	 */
+	public long getChunkEnd(int index) {
+		if (index + 1 < this.boundaries.size())
+			return this.boundaries.get(index + 1);
+		return this.lastMemberEnd;
+	}
+
+	/**
+	 * Returns the end tag of the root element.
+	 *
+	 * @return the end tag of the root element as bytes
+	 */
+	public byte[] createEpilog() {
+		return ("</" + this.rootName + ">").getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Adds the given byte to the name of the actual tag.
+	 *
+	 * @param b
+	 *            the byte to add
+	 */
+	private void appendName(byte b) {
+		if (this.nameLength < this.name.length)
+			this.name[this.nameLength++] = b;
+	}
+
+	/**
+	 * Handles the completely read name of the actual tag.
+	 */
+	private void handleName() {
+		if (this.rootName == null) {
+			if (!this.endTag) {
+				this.rootName = new String(this.name, 0, this.nameLength, StandardCharsets.US_ASCII);
+				this.rootPending = true;
+				this.depth = 1;
+			}
+			return;
+		}
+		if (this.endTag) {
+			this.depth--;
+			// THE END OF A MEMBER OF THE COLLECTION
+			if (this.depth == 1 && this.isMember())
+				this.memberEndPending = true;
+			return;
+		}
+		this.member = this.depth == 1 && this.isMember();
+		this.depth++;
+		if (this.member) {
+			if (this.boundaries.isEmpty() || this.tagStart - this.boundaries.get(this.boundaries.size() - 1) >= this.chunkSize)
+				this.boundaries.add(this.tagStart);
+		} else if (this.localNameEquals(FEATURE_MEMBERS) || this.localNameEquals(FEATURE_COLLECTION))
+			this.splittable = false;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the actual tag is a
+	 * wfs:member or a gml:featureMember: its local name and the namespace its
+	 * prefix is bound to by the root start tag must match.
+	 *
+	 * @return <code>true</code> if it is a member; <code>false</code> if not
+	 */
+	private boolean isMember() {
+		byte[] local;
+		String namespace;
+		if (this.localNameEquals(MEMBER)) {
+			local = MEMBER;
+			namespace = WFS_NAMESPACE;
+		} else if (this.localNameEquals(FEATURE_MEMBER)) {
+			local = FEATURE_MEMBER;
+			namespace = GML_NAMESPACE;
+		} else
+			return false;
+		int prefixLength = Math.max(0, this.nameLength - local.length - 1);
+		String uri = this.namespaces.get(new String(this.name, 0, prefixLength, StandardCharsets.US_ASCII));
+		return uri != null && uri.startsWith(namespace);
+	}
+
+	/**
+	 * Handles the end ('&gt;') of the actual tag at the given offset.
+	 *
+	 * @param pos
+	 *            the offset of the end of the tag
+	 */
+	private void handleTagEnd(long pos) {
+		if (this.rootPending) {
+			this.prologEnd = pos + 1;
+			this.rootPending = false;
+			this.readNamespaces();
+			if (this.selfClosing)
+				this.depth = 0;
+			return;
+		}
+		if (this.selfClosing && !this.endTag) {
+			// AN EMPTY ELEMENT IS CLOSED BY ITS START TAG
+			this.depth--;
+			if (this.member)
+				this.memberEndPending = true;
+		}
+		if (this.memberEndPending) {
+			this.lastMemberEnd = pos + 1;
+			this.memberEndPending = false;
+		}
+	}
+
+	/**
+	 * Reads the namespace declarations of the root start tag.
+	 */
+	private void readNamespaces() {
+		Matcher m = XMLNS.matcher(new String(this.rootTag.toByteArray(), StandardCharsets.US_ASCII));
+		while (m.find())
+			this.namespaces.put(m.group(1) == null ? "" : m.group(1), m.group(2) != null ? m.group(2) : m.group(3));
+		this.rootTag = null;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the local name (without
+	 * prefix) of the actual tag equals the given name.
+	 *
+	 * @param local
+	 *            the local name as bytes
+	 * @return <code>true</code> if it equals; <code>false</code> if not
+	 */
+	private boolean localNameEquals(byte[] local) {
+		int start = this.nameLength - local.length;
+		if (start < 0 || (start > 0 && this.name[start - 1] != ':'))
+			return false;
+		for (int a = 0; a < local.length; a++) {
+			if (this.name[start + a] != local[a])
+				return false;
+		}
+		return true;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the minimal number of bytes of a chunk.
+	 *
+	 * @return the chunk size
+	 */
+	public long getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Returns the offset after the start tag of the root element. All bytes
+	 * before are the prolog of every chunk.
+	 *
+	 * @return the end of the prolog or -1 if not found
+	 */
+	public long getPrologEnd() {
+		return prologEnd;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the collection contains
+	 * only members that can be split.
+	 *
+	 * @return <code>true</code> if it is splittable; <code>false</code> if not
+	 */
+	public boolean isSplittable() {
+		return splittable;
+	}
+
+	// OTHERS
+}
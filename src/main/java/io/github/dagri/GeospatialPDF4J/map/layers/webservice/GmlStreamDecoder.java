@@ -0,0 +1,540 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.LinearRing;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPoint;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to decode a GML feature collection (the response of a WFS GetFeature
+ * request) from an {@link InputStream} using StAX. The features are added to
+ * a {@link GeometryContainer} while the stream is read, so neither a temporary
+ * file nor a document tree is created: The memory used is bounded by the size
+ * of a single feature.
+ *
+ * Every gml:Point, gml:LineString and gml:Polygon (also the members of multi
+ * and composite geometries) becomes a {@link DrawPoint}, {@link DrawLineString}
+ * or {@link DrawPolygon}. A gml:Curve made of gml:LineStringSegments becomes
+ * one {@link DrawLineString}, every gml:PolygonPatch (or gml:Triangle,
+ * gml:Rectangle) of a gml:Surface becomes a {@link DrawPolygon}. Rings may be
+ * gml:LinearRings or gml:Rings of such curves. Geometries that can not be
+ * decoded (curved segments like gml:Arc, solids) are skipped, counted and
+ * logged. The simple (text only) properties of a feature are
+ * stored in the {@link AdditionalInfo} shared by all geometries of the
+ * feature. The coordinates are expected in easting, northing order (as served
+ * for EPSG:25832) and parsed by a {@link PosListParser}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class GmlStreamDecoder extends FeatureStreamDecoder {
+
+	// ATTRIBUTES
+
+	/**
+	 * The prefix of the namespaces of all GML versions.
+	 */
+	private static final String			GML_NAMESPACE			= "http://www.opengis.net/gml";
+
+	/**
+	 * The local names of the GML surfaces whose patches are decoded.
+	 */
+	private static final Set<String>	SURFACES				= new HashSet<>(Arrays.asList("Surface", "PolyhedralSurface", "TriangulatedSurface", "Tin"));
+
+	/**
+	 * The local names of the GML surface patches that are decoded as
+	 * {@link Polygon}s.
+	 */
+	private static final Set<String>	PATCHES					= new HashSet<>(Arrays.asList("PolygonPatch", "Triangle", "Rectangle"));
+
+	/**
+	 * The local names of the GML geometries that are skipped.
+	 */
+	private static final Set<String>	UNSUPPORTED_GEOMETRIES	= new HashSet<>(Arrays.asList("Solid", "CompositeSolid", "MultiSolid"));
+
+	/**
+	 * The local names of the curved GML segments that can not be decoded. A
+	 * geometry containing one of them is skipped.
+	 */
+	private static final Set<String>	UNSUPPORTED_SEGMENTS	= new HashSet<>(Arrays.asList("Arc", "ArcString", "ArcByBulge", "ArcStringByBulge", "ArcByCenterPoint",
+			"Circle", "CircleByCenterPoint", "CubicSpline", "BSpline", "Bezier", "Clothoid", "Geodesic", "GeodesicString", "OffsetCurve"));
+
+	/**
+	 * The {@link PosListParser} used to parse the positions.
+	 */
+	private PosListParser				parser					= new PosListParser();
+
+	/**
+	 * The {@link XMLInputFactory} used to create the {@link XMLStreamReader}s.
+	 */
+	private XMLInputFactory				inputFactory;
+
+	/**
+	 * The number of geometries that could not be decoded and were skipped.
+	 */
+	private long						skippedCount			= 0;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link GmlStreamDecoder} using the
+	 * {@link GeometryContainer} to add the decoded {@link DrawGeometry}s to.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 */
+	public GmlStreamDecoder(GeometryContainer container) {
+		super(container);
+		this.inputFactory = XMLInputFactory.newInstance();
+		// THE TEXT OF AN ELEMENT IS DELIVERED AS ONE EVENT
+		this.inputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+		// NO DTDS OR EXTERNAL ENTITIES FROM THE SERVER
+		this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+	}
+
+	// INHERITED METHODS
+
+	/**
+	 * Decodes the GML feature collection of the given {@link InputStream} and
+	 * adds all geometries to the {@link GeometryContainer}. The
+	 * {@link InputStream} is not closed.
+	 *
+	 * @param in
+	 *            the {@link InputStream} to read from
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 */
+	@Override
+	public void decode(InputStream in) throws XMLStreamException {
+		XMLStreamReader r = this.inputFactory.createXMLStreamReader(in);
+		try {
+			// DEPTH OF THE ACTUAL ELEMENT AND OF THE ACTUAL FEATURE (-1: NONE)
+			int depth = 0;
+			int memberDepth = -1;
+			int featureDepth = -1;
+			AdditionalInfo info = null;
+			// THE NAME OF THE ELEMENT THAT MAY BE A SIMPLE PROPERTY
+			String leafName = null;
+			StringBuilder text = new StringBuilder();
+
+			while (r.hasNext()) {
+				int event = r.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					String name = r.getLocalName();
+					if (depth == 1 && this.isTruncatedCollection(r)) {
+						this.setTruncated(true);
+						if (this.isStopIfTruncated())
+							break;
+					}
+					if (featureDepth < 0) {
+						if (name.equals("member") || name.equals("featureMember") || name.equals("featureMembers"))
+							memberDepth = depth;
+						// WFS 2.0 NESTS A COLLECTION PER TYPE IF SEVERAL ARE
+						// REQUESTED : ITS MEMBERS ARE THE FEATURES
+						else if (memberDepth > 0 && depth == memberDepth + 1 && !name.equals("FeatureCollection")) {
+							// A FEATURE THAT WAS ALREADY DECODED IS SKIPPED
+							String id = this.readFeatureId(r);
+							if (this.isDuplicate(id)) {
+								this.skipTo(r, name);
+								depth--;
+								continue;
+							}
+							// THE LIMIT IS REACHED : THE REST IS NOT READ
+							if (this.isLimitReached()) {
+								this.setTruncated(true);
+								break;
+							}
+							// A NEW FEATURE
+							featureDepth = depth;
+							info = new AdditionalInfo();
+							this.acceptFeature(id, info);
+						}
+						continue;
+					}
+					leafName = null;
+					if (this.isGml(r) && this.isGeometry(name)) {
+						// THE GEOMETRY IS READ UP TO ITS END ELEMENT
+						this.readGeometry(r, name, info);
+						depth--;
+					} else {
+						leafName = name;
+						text.setLength(0);
+					}
+				} else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+					if (leafName != null)
+						text.append(r.getText());
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					if (leafName != null && leafName.equals(r.getLocalName())) {
+						String value = text.toString().trim();
+						if (!value.isEmpty())
+							info.addInfo(this.internKey(leafName), value);
+					}
+					leafName = null;
+					if (depth == featureDepth) {
+						featureDepth = -1;
+						info = null;
+					} else if (depth == memberDepth)
+						memberDepth = -1;
+					depth--;
+				}
+			}
+		} finally {
+			r.close();
+		}
+		if (this.isTruncated())
+			log.info("GML response truncated after " + this.getFeatureCount() + " features.");
+		if (this.getSkippedCount() > 0)
+			log.warn(this.getSkippedCount() + " GML geometries could not be decoded and were skipped.");
+		log.info("GML decoded: " + this.getFeatureCount() + " features with " + this.getGeometryCount() + " geometries (" + this.getDuplicateCount() + " duplicates skipped).");
+	}
+
+	/**
+	 * Reads the GML geometry the given {@link XMLStreamReader} is positioned
+	 * at (start element) up to its end element and adds it to the
+	 * {@link GeometryContainer}. Geometries that can not be created or
+	 * decoded are skipped and counted.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader}
+	 * @param name
+	 *            the local name of the geometry element
+	 * @param info
+	 *            the {@link AdditionalInfo} of the feature
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 */
+	private void readGeometry(XMLStreamReader r, String name, AdditionalInfo info) throws XMLStreamException {
+		try {
+			if (name.equals("Point")) {
+				CoordinateSequence seq = this.readCoordinates(r, name);
+				if (seq.size() > 0) {
+					Point p = this.getFactory().createPoint(seq);
+					this.add(new DrawPoint(p, info));
+				}
+			} else if (name.equals("LineString") || name.equals("Curve")) {
+				// THE SEGMENTS OF A CURVE ARE JOINED TO ONE LINE
+				LineString ls = this.getFactory().createLineString(this.readCoordinates(r, name));
+				this.add(new DrawLineString(ls, info));
+			} else if (name.equals("Polygon")) {
+				Polygon p = this.readPolygon(r, name);
+				if (p != null)
+					this.add(new DrawPolygon(p, info));
+			} else if (SURFACES.contains(name)) {
+				// THE PATCHES ARE ONLY ADDED IF ALL OF THEM COULD BE READ
+				ArrayList<Polygon> patches = this.readSurface(r, name);
+				if (patches.isEmpty())
+					this.skipGeometry(r, name, "no polygon patches");
+				for (int a = 0; a < patches.size(); a++)
+					this.add(new DrawPolygon(patches.get(a), info));
+			} else
+				this.skipGeometry(r, name, "not supported");
+		} catch (IllegalArgumentException e) {
+			// INVALID GEOMETRY (E.G. NOT CLOSED RING) : THE REST IS SKIPPED
+			this.skipGeometry(r, name, e.getMessage());
+		}
+	}
+
+	/**
+	 * Skips the rest of the GML geometry with the given name, counts and logs
+	 * it.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader}
+	 * @param name
+	 *            the local name of the geometry element
+	 * @param reason
+	 *            the reason to log
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 */
+	private void skipGeometry(XMLStreamReader r, String name, String reason) throws XMLStreamException {
+		this.skippedCount++;
+		log.debug("Skipped the GML " + name + ": " + reason);
+		this.skipTo(r, name);
+	}
+
+	/**
+	 * Reads the patches of a GML surface (gml:PolygonPatch, gml:Triangle or
+	 * gml:Rectangle) from its start element up to its end element.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader}
+	 * @param endName
+	 *            the local name of the surface element
+	 * @return the {@link ArrayList} of the read {@link Polygon}s
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 */
+	private ArrayList<Polygon> readSurface(XMLStreamReader r, String endName) throws XMLStreamException {
+		ArrayList<Polygon> erg = new ArrayList<>();
+		while (r.hasNext()) {
+			int event = r.next();
+			if (event == XMLStreamConstants.START_ELEMENT && PATCHES.contains(r.getLocalName())) {
+				Polygon p = this.readPolygon(r, r.getLocalName());
+				if (p != null)
+					erg.add(p);
+			} else if (event == XMLStreamConstants.END_ELEMENT && r.getLocalName().equals(endName))
+				break;
+		}
+		return erg;
+	}
+
+	/**
+	 * Reads a gml:Polygon (or a surface patch) from its start element up to
+	 * its end element. The first gml:LinearRing or gml:Ring is the exterior
+	 * ring, all following are holes. The curve members of a gml:Ring are
+	 * joined to one ring.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader}
+	 * @param endName
+	 *            the local name of the polygon element
+	 * @return the {@link Polygon} or <code>null</code> if it has no exterior
+	 *         ring
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 */
+	private Polygon readPolygon(XMLStreamReader r, String endName) throws XMLStreamException {
+		LinearRing shell = null;
+		ArrayList<LinearRing> holes = new ArrayList<>();
+		while (r.hasNext()) {
+			int event = r.next();
+			if (event == XMLStreamConstants.START_ELEMENT && (r.getLocalName().equals("LinearRing") || r.getLocalName().equals("Ring"))) {
+				LinearRing ring = this.getFactory().createLinearRing(this.readCoordinates(r, r.getLocalName()));
+				if (shell == null)
+					shell = ring;
+				else
+					holes.add(ring);
+			} else if (event == XMLStreamConstants.END_ELEMENT && r.getLocalName().equals(endName))
+				break;
+		}
+		if (shell == null)
+			return null;
+		return this.getFactory().createPolygon(shell, holes.toArray(new LinearRing[holes.size()]));
+	}
+
+	/**
+	 * Reads all positions of the gml:pos, gml:posList and gml:coordinates
+	 * elements up to the end element with the given name. The text is handed
+	 * to the {@link PosListParser} directly from the buffer of the
+	 * {@link XMLStreamReader}. The positions of several segments or curve
+	 * members are joined, their shared end points are kept twice.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader}
+	 * @param endName
+	 *            the local name of the element to read to the end
+	 * @return the read positions as {@link CoordinateSequence}
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 * @throws IllegalArgumentException
+	 *             if a curved segment is contained
+	 */
+	private CoordinateSequence readCoordinates(XMLStreamReader r, String endName) throws XMLStreamException {
+		PosListParser p = this.getParser();
+		p.clear();
+		boolean inPositions = false;
+		while (r.hasNext()) {
+			int event = r.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				String name = r.getLocalName();
+				if (name.equals("pos") || name.equals("posList")) {
+					p.begin(this.readDimension(r), false);
+					inPositions = true;
+				} else if (name.equals("coordinates")) {
+					p.begin(2, true);
+					inPositions = true;
+				} else if (UNSUPPORTED_SEGMENTS.contains(name))
+					throw new IllegalArgumentException("curved segment gml:" + name + " not supported");
+			} else if (inPositions && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+				p.parse(r.getTextCharacters(), r.getTextStart(), r.getTextLength());
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				if (inPositions) {
+					p.end();
+					inPositions = false;
+				}
+				if (r.getLocalName().equals(endName))
+					break;
+			}
+		}
+		return p.toSequence();
+	}
+
+	/**
+	 * Returns the value of the srsDimension attribute of the actual element
+	 * or 2 if it is not given.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader} positioned at a start element
+	 * @return the number of values per position
+	 */
+	private int readDimension(XMLStreamReader r) {
+		String dim = r.getAttributeValue(null, "srsDimension");
+		if (dim == null)
+			return 2;
+		try {
+			return Math.max(2, Integer.parseInt(dim.trim()));
+		} catch (NumberFormatException e) {
+			return 2;
+		}
+	}
+
+	/**
+	 * Skips all events up to the end element with the given name.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader}
+	 * @param endName
+	 *            the local name of the end element
+	 * @throws XMLStreamException
+	 *             if the stream is not well-formed XML
+	 */
+	private void skipTo(XMLStreamReader r, String endName) throws XMLStreamException {
+		if (r.isEndElement() && r.getLocalName().equals(endName))
+			return;
+		while (r.hasNext()) {
+			if (r.next() == XMLStreamConstants.END_ELEMENT && r.getLocalName().equals(endName))
+				return;
+		}
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the root element of a WFS
+	 * response reports more matching than returned features (WFS 2.0) or
+	 * more returned features than the feature limit. Only checked if a feature
+	 * limit is set or the decoding does not stop at a truncation: A page of a
+	 * paged request always reports more matching than returned features.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader} positioned at the root element
+	 * @return <code>true</code> if the response is truncated;
+	 *         <code>false</code> if not or unknown
+	 */
+	private boolean isTruncatedCollection(XMLStreamReader r) {
+		if (this.getFeatureLimit() <= 0 && this.isStopIfTruncated())
+			return false;
+		long matched = this.readCount(r, "numberMatched");
+		long returned = this.readCount(r, "numberReturned");
+		if (returned < 0)
+			returned = this.readCount(r, "numberOfFeatures");
+		if (matched >= 0 && returned >= 0 && matched > returned)
+			return true;
+		return this.getFeatureLimit() > 0 && returned > this.getFeatureLimit();
+	}
+
+	/**
+	 * Returns the value of the count attribute with the given name of the
+	 * actual element.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader} positioned at a start element
+	 * @param name
+	 *            the name of the attribute
+	 * @return the count or -1 if it is not given or 'unknown'
+	 */
+	private long readCount(XMLStreamReader r, String name) {
+		String value = r.getAttributeValue(null, name);
+		if (value == null)
+			return -1;
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Returns the gml:id (or the fid of GML 2) of the feature the given
+	 * {@link XMLStreamReader} is positioned at.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader} positioned at a start element
+	 * @return the id or <code>null</code> if the feature has none
+	 */
+	private String readFeatureId(XMLStreamReader r) {
+		for (int a = 0; a < r.getAttributeCount(); a++) {
+			String name = r.getAttributeLocalName(a);
+			String ns = r.getAttributeNamespace(a);
+			if (name.equals("id") && ns != null && ns.startsWith(GML_NAMESPACE))
+				return r.getAttributeValue(a);
+			if (name.equals("fid") && (ns == null || ns.isEmpty()))
+				return r.getAttributeValue(a);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the GML element with the
+	 * given local name is a geometry that is read (or skipped) as a whole by
+	 * {@link #readGeometry(XMLStreamReader, String, AdditionalInfo)}. Multi
+	 * and composite geometries are not: their members are read one by one.
+	 *
+	 * @param name
+	 *            the local name of the element
+	 * @return <code>true</code> if it is a geometry; <code>false</code> if not
+	 */
+	private boolean isGeometry(String name) {
+		return name.equals("Point") || name.equals("LineString") || name.equals("Curve") || name.equals("Polygon") || SURFACES.contains(name)
+				|| UNSUPPORTED_GEOMETRIES.contains(name);
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the actual element of the
+	 * given {@link XMLStreamReader} is in a GML namespace.
+	 *
+	 * @param r
+	 *            the {@link XMLStreamReader} positioned at a start element
+	 * @return <code>true</code> if it is a GML element; <code>false</code> if
+	 *         not
+	 */
+	private boolean isGml(XMLStreamReader r) {
+		String ns = r.getNamespaceURI();
+		return ns == null || ns.startsWith(GML_NAMESPACE);
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the {@link PosListParser} used to parse the positions.
+	 *
+	 * @return the {@link PosListParser}
+	 */
+	private PosListParser getParser() {
+		return parser;
+	}
+
+	/**
+	 * Returns the number of geometries that could not be decoded and were
+	 * skipped.
+	 *
+	 * @return the number of skipped geometries
+	 */
+	public long getSkippedCount() {
+		return skippedCount;
+	}
+
+	// OTHERS
+}
@@ -0,0 +1,357 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLStreamException;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to decode a large GML feature collection with several threads.
+ *
+ * The response is written into a temporary file of its own while it is
+ * received; a {@link GmlChunkScanner} finds the member boundaries on the way.
+ * The file is split into chunks of about {@link #getChunkSize()} bytes at
+ * these boundaries. Every chunk is memory mapped, framed by the prolog and the
+ * end tag of the root element and decoded by a {@link GmlStreamDecoder} in a
+ * thread pool of its own with {@link #getParallelism()} threads, so the
+ * blocking reads of the mapped file do not hold up the common pool. The
+ * partial results are added to the {@link GeometryContainer} in document
+ * order.
+ *
+ * The ids of the features are recorded per chunk and taken over in document
+ * order as well. If the decoding does not stop on a truncated response, the
+ * numbers of matching and returned features are compared once on the root
+ * element of the prolog (see {@link #setStopIfTruncated(boolean)}).
+ *
+ * Collections that can not be split (see {@link GmlChunkScanner}) or are
+ * smaller than two chunks are decoded by one {@link GmlStreamDecoder}, as are
+ * all responses if a feature limit or a {@link java.util.Set} of feature ids
+ * to skip is set: Both depend on the document order.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class ParallelGmlDecoder extends FeatureStreamDecoder {
+
+	// ATTRIBUTES
+
+	/**
+	 * The minimal number of bytes of a chunk.
+	 *
+	 * Standard value is 8 MB.
+	 */
+	private long	chunkSize	= 8L << 20;
+
+	/**
+	 * The number of chunks decoded at the same time.
+	 *
+	 * Standard value is the number of available processors.
+	 */
+	private int		parallelism	= Runtime.getRuntime().availableProcessors();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link ParallelGmlDecoder} using the
+	 * {@link GeometryContainer} to add the decoded {@link DrawGeometry}s to.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 */
+	public ParallelGmlDecoder(GeometryContainer container) {
+		super(container);
+	}
+
+	// METHODS
+
+	/**
+	 * Decodes the GML feature collection of the given {@link InputStream} and
+	 * adds all geometries to the {@link GeometryContainer}. The
+	 * {@link InputStream} is not closed.
+	 *
+	 * @param in
+	 *            the {@link InputStream} to read from
+	 * @throws IOException
+	 *             if the response could not be received or buffered
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	@Override
+	public void decode(InputStream in) throws IOException, XMLStreamException {
+		// THE LIMIT AND THE SKIPPING OF DUPLICATES DEPEND ON THE DOCUMENT ORDER
+		if (this.getFeatureLimit() > 0 || this.getFeatureIds() != null) {
+			log.debug("The GML response is decoded in one chunk because of the feature limit or the known ids.");
+			this.decodeSequential(in);
+			return;
+		}
+		Path file = Files.createTempFile("GeospatialPDF4J-wfs-", ".gml");
+		try {
+			GmlChunkScanner scanner = this.writeFile(in, file);
+			if (!scanner.canSplit()) {
+				log.debug("The GML response is decoded in one chunk.");
+				try (InputStream fin = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+					this.decodeSequential(fin);
+				}
+				return;
+			}
+			this.decodeChunks(file, scanner);
+		} finally {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				// A MAPPED REGION MAY STILL BE OPEN (WINDOWS)
+				file.toFile().deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * Writes the given {@link InputStream} into the given file and scans its
+	 * member boundaries.
+	 *
+	 * @param in
+	 *            the {@link InputStream} to read from
+	 * @param file
+	 *            the {@link Path} of the file to write
+	 * @return the {@link GmlChunkScanner} that scanned the bytes
+	 * @throws IOException
+	 *             if reading or writing failed
+	 */
+	private GmlChunkScanner writeFile(InputStream in, Path file) throws IOException {
+		GmlChunkScanner scanner = new GmlChunkScanner(this.getChunkSize());
+		byte[] buf = new byte[1 << 16];
+		long bytes = 0;
+		try (OutputStream out = Files.newOutputStream(file)) {
+			int n;
+			while ((n = in.read(buf)) > 0) {
+				scanner.scan(buf, n);
+				out.write(buf, 0, n);
+				bytes += n;
+			}
+		}
+		log.info("GML response received: " + bytes + " bytes in " + scanner.getChunkCount() + " chunks.");
+		return scanner;
+	}
+
+	/**
+	 * Decodes the given {@link InputStream} by one {@link GmlStreamDecoder}
+	 * with the settings of this {@link ParallelGmlDecoder}.
+	 *
+	 * @param in
+	 *            the {@link InputStream} to read from
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	private void decodeSequential(InputStream in) throws XMLStreamException {
+		GmlStreamDecoder decoder = this.createDecoder(this.getContainer());
+		decoder.setFeatureIds(this.getFeatureIds());
+		decoder.setFeatureLimit(this.getFeatureLimit());
+		decoder.setStopIfTruncated(this.isStopIfTruncated());
+		decoder.decode(in);
+		this.addDecoded(decoder);
+	}
+
+	/**
+	 * Decodes the chunks of the given file in a thread pool of
+	 * {@link #getParallelism()} threads and adds their results to the
+	 * {@link GeometryContainer} in document order. If one chunk fails, the
+	 * remaining ones are cancelled.
+	 *
+	 * @param file
+	 *            the {@link Path} of the file
+	 * @param scanner
+	 *            the {@link GmlChunkScanner} that scanned the file
+	 * @throws IOException
+	 *             if the file could not be read
+	 * @throws XMLStreamException
+	 *             if a chunk is not well-formed XML
+	 */
+	private void decodeChunks(Path file, GmlChunkScanner scanner) throws IOException, XMLStreamException {
+		ExecutorService pool = Executors.newFixedThreadPool(this.getParallelism());
+		try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer prologBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, scanner.getPrologEnd());
+			final byte[] prolog = new byte[prologBuffer.remaining()];
+			prologBuffer.get(prolog);
+			final byte[] epilog = scanner.createEpilog();
+			// THE CHUNKS DO NOT CHECK THE ROOT ELEMENT, IT IS CHECKED ONCE HERE
+			if (!this.isStopIfTruncated())
+				this.setTruncated(this.isTruncatedCollection(prolog, epilog));
+
+			ArrayList<Future<GmlStreamDecoder>> results = new ArrayList<>();
+			for (int a = 0; a < scanner.getChunkCount(); a++) {
+				final long start = scanner.getChunkStart(a);
+				final long end = scanner.getChunkEnd(a);
+				results.add(pool.submit(new Callable<GmlStreamDecoder>() {
+
+					@Override
+					public GmlStreamDecoder call() throws Exception {
+						ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+						InputStream in = new SequenceInputStream(new SequenceInputStream(new ByteArrayInputStream(prolog), new ByteBufferInputStream(chunk)),
+								new ByteArrayInputStream(epilog));
+						GmlStreamDecoder decoder = ParallelGmlDecoder.this.createDecoder(new GeometryContainer());
+						decoder.decode(in);
+						return decoder;
+					}
+				}));
+			}
+
+			// MERGE IN DOCUMENT ORDER
+			for (int a = 0; a < results.size(); a++) {
+				GmlStreamDecoder decoder = this.await(results, a);
+				this.getContainer().addGeometryContainer(decoder.getContainer());
+				this.addDecoded(decoder);
+			}
+			log.info("GML decoded in " + results.size() + " chunks: " + this.getFeatureCount() + " features.");
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the root element of the
+	 * given prolog reports more matching than returned features.
+	 *
+	 * @param prolog
+	 *            the bytes up to the end of the start tag of the root element
+	 * @param epilog
+	 *            the bytes closing the root element
+	 * @return <code>true</code> if the collection is truncated;
+	 *         <code>false</code> if not
+	 * @throws XMLStreamException
+	 *             if the prolog is not well-formed XML
+	 */
+	private boolean isTruncatedCollection(byte[] prolog, byte[] epilog) throws XMLStreamException {
+		GmlStreamDecoder decoder = new GmlStreamDecoder(new GeometryContainer());
+		decoder.setStopIfTruncated(false);
+		decoder.decode(new SequenceInputStream(new ByteArrayInputStream(prolog), new ByteArrayInputStream(epilog)));
+		return decoder.isTruncated();
+	}
+
+	/**
+	 * Creates a {@link GmlStreamDecoder} for the given
+	 * {@link GeometryContainer}, that records the ids of the features by their
+	 * {@link AdditionalInfo}s if this {@link ParallelGmlDecoder} does.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @return the new {@link GmlStreamDecoder}
+	 */
+	private GmlStreamDecoder createDecoder(GeometryContainer container) {
+		GmlStreamDecoder decoder = new GmlStreamDecoder(container);
+		if (this.getInfoIds() != null)
+			decoder.recordFeatureIds();
+		return decoder;
+	}
+
+	/**
+	 * Waits for the result of the {@link Future} with the given index and
+	 * rethrows the exception of a failed decoding after cancelling all
+	 * {@link Future}s of the {@link ArrayList}.
+	 *
+	 * @param results
+	 *            the {@link ArrayList} of {@link Future}s of all chunks
+	 * @param index
+	 *            the index of the {@link Future} to wait for
+	 * @return the {@link GmlStreamDecoder} of the chunk
+	 * @throws IOException
+	 *             if the chunk could not be read or the waiting was
+	 *             interrupted
+	 * @throws XMLStreamException
+	 *             if the chunk is not well-formed XML
+	 */
+	private GmlStreamDecoder await(ArrayList<Future<GmlStreamDecoder>> results, int index) throws IOException, XMLStreamException {
+		try {
+			return results.get(index).get();
+		} catch (InterruptedException e) {
+			this.cancel(results);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while decoding the GML chunks.");
+		} catch (ExecutionException e) {
+			this.cancel(results);
+			Throwable cause = e.getCause();
+			if (cause instanceof XMLStreamException)
+				throw (XMLStreamException) cause;
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Cancels all {@link Future}s of the given {@link ArrayList} that are not
+	 * done yet.
+	 *
+	 * @param results
+	 *            the {@link ArrayList} of {@link Future}s to cancel
+	 */
+	private void cancel(ArrayList<Future<GmlStreamDecoder>> results) {
+		for (int a = 0; a < results.size(); a++)
+			results.get(a).cancel(true);
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the minimal number of bytes of a chunk.
+	 *
+	 * @return the chunk size
+	 */
+	public long getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Sets the minimal number of bytes of a chunk.
+	 *
+	 * @param chunkSize
+	 *            the chunk size to set
+	 */
+	public void setChunkSize(long chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns the number of chunks decoded at the same time.
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of chunks decoded at the same time.
+	 *
+	 * @param parallelism
+	 *            the parallelism to set, at least 1
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	// OTHERS
+}
@@ -0,0 +1,395 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.util.Arrays;
+
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.impl.PackedCoordinateSequence;
+
+/**
+ * Class to parse the text of gml:posList, gml:pos and gml:coordinates elements
+ * character by character into a primitive double[] of packed positions (X, Y,
+ * X, Y, ...), without splitting {@link String}s or creating objects per value.
+ *
+ * The text may be given in several chunks (a number may be split between two
+ * chunks). Numbers whose significant digits fit into 53 bits and that have
+ * a small decimal exponent (all usual coordinates) are converted exactly
+ * without {@link Double#parseDouble(String)}; all others fall back to it, so
+ * every value is correctly rounded. A third (or further) ordinate of a position is
+ * skipped.
+ *
+ * A {@link PosListParser} is reused for all elements and is not thread-safe.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public final class PosListParser {
+
+	// ATTRIBUTES
+
+	/**
+	 * The powers of ten that are represented exactly by a double.
+	 */
+	private static final double[]	POW10			= { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+			1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * The largest mantissa that is represented exactly by a double.
+	 */
+	private static final long		MAX_EXACT		= 1L << 53;
+
+	/**
+	 * The packed X- and Y-values of the parsed positions.
+	 */
+	private double[]				coords			= new double[1024];
+
+	/**
+	 * The number of completely parsed positions.
+	 */
+	private int						size			= 0;
+
+	/**
+	 * The number of values per position (srsDimension).
+	 */
+	private int						dimension		= 2;
+
+	/**
+	 * Indicates if the positions are separated by white spaces and their
+	 * values by commas (gml:coordinates).
+	 */
+	private boolean					tuples			= false;
+
+	/**
+	 * The index of the next value inside of the actual position.
+	 */
+	private int						ordinal			= 0;
+
+	/**
+	 * The characters of the actual number, used for the fallback.
+	 */
+	private char[]					token			= new char[32];
+
+	/**
+	 * The number of characters of the actual number.
+	 */
+	private int						tokenLength		= 0;
+
+	/**
+	 * The significant digits of the actual number.
+	 */
+	private long					mantissa;
+
+	/**
+	 * The number of significant digits of the actual number.
+	 */
+	private int						digits;
+
+	/**
+	 * The decimal exponent given by the fraction digits.
+	 */
+	private int						scale;
+
+	/**
+	 * The value of the explicit exponent (after 'e').
+	 */
+	private int						exponent;
+
+	/**
+	 * Indicates if the actual number is negative.
+	 */
+	private boolean					negative;
+
+	/**
+	 * Indicates if the explicit exponent is negative.
+	 */
+	private boolean					exponentNegative;
+
+	/**
+	 * Indicates if the actual number contains a digit before its exponent.
+	 */
+	private boolean					hasDigit;
+
+	/**
+	 * Indicates if the fraction digits are parsed.
+	 */
+	private boolean					fraction;
+
+	/**
+	 * Indicates if the explicit exponent is parsed.
+	 */
+	private boolean					inExponent;
+
+	/**
+	 * Indicates if the actual number can not be converted exactly and needs
+	 * the fallback.
+	 */
+	private boolean					inexact;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Empty constructor for a {@link PosListParser}.
+	 */
+	public PosListParser() {
+		// NOTHING
+	}
+
+	// METHODS
+
+	/**
+	 * Removes all parsed positions.
+	 */
+	public void clear() {
+		this.size = 0;
+		this.ordinal = 0;
+		this.tokenLength = 0;
+	}
+
+	/**
+	 * Begins a new element. The positions parsed before are kept, so the
+	 * positions of several gml:pos elements form one sequence.
+	 *
+	 * @param dimension
+	 *            the number of values per position (srsDimension, at least 2)
+	 * @param tuples
+	 *            <code>true</code> for gml:coordinates ("x,y x,y");
+	 *            <code>false</code> for gml:pos and gml:posList
+	 */
+	public void begin(int dimension, boolean tuples) {
+		this.dimension = Math.max(2, dimension);
+		this.tuples = tuples;
+		this.ordinal = 0;
+		this.tokenLength = 0;
+	}
+
+	/**
+	 * Parses the given characters of the element.
+	 *
+	 * @param ch
+	 *            the characters
+	 * @param start
+	 *            the index of the first character to parse
+	 * @param length
+	 *            the number of characters to parse
+	 * @throws NumberFormatException
+	 *             if a value is not a number
+	 */
+	public void parse(char[] ch, int start, int length) {
+		int end = start + length;
+		for (int a = start; a < end; a++) {
+			char c = ch[a];
+			if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+				this.endNumber();
+				if (this.tuples)
+					this.endTuple();
+			} else if (c == ',') {
+				this.endNumber();
+			} else {
+				this.appendChar(c);
+			}
+		}
+	}
+
+	/**
+	 * Ends the actual element: A pending number is finished. An incomplete
+	 * position is dropped.
+	 *
+	 * @throws NumberFormatException
+	 *             if the last value is not a number
+	 */
+	public void end() {
+		this.endNumber();
+		if (this.tuples)
+			this.endTuple();
+		this.ordinal = 0;
+	}
+
+	/**
+	 * Returns the parsed positions as two-dimensional
+	 * {@link PackedCoordinateSequence}.
+	 *
+	 * @return the {@link CoordinateSequence}
+	 */
+	public CoordinateSequence toSequence() {
+		return new PackedCoordinateSequence.Double(Arrays.copyOf(this.coords, this.size * 2), 2);
+	}
+
+	/**
+	 * Adds the given character to the actual number.
+	 *
+	 * @param c
+	 *            the character
+	 */
+	private void appendChar(char c) {
+		if (this.tokenLength == 0) {
+			this.mantissa = 0;
+			this.digits = 0;
+			this.scale = 0;
+			this.exponent = 0;
+			this.negative = false;
+			this.hasDigit = false;
+			this.exponentNegative = false;
+			this.fraction = false;
+			this.inExponent = false;
+			this.inexact = false;
+		}
+		if (this.tokenLength == this.token.length)
+			this.token = Arrays.copyOf(this.token, this.token.length * 2);
+		this.token[this.tokenLength++] = c;
+
+		if (c >= '0' && c <= '9') {
+			int d = c - '0';
+			if (this.inExponent) {
+				if (this.exponent < 10000)
+					this.exponent = this.exponent * 10 + d;
+			} else {
+				this.hasDigit = true;
+				if (this.digits < 18) {
+					// LEADING ZEROS ARE NOT SIGNIFICANT
+					if (this.mantissa != 0 || d != 0) {
+						this.mantissa = this.mantissa * 10 + d;
+						this.digits++;
+					}
+					if (this.fraction)
+						this.scale--;
+				} else {
+					// MORE DIGITS THAN A LONG CAN HOLD
+					this.inexact = true;
+				}
+			}
+		} else if (c == '.' && !this.fraction && !this.inExponent) {
+			this.fraction = true;
+		} else if ((c == 'e' || c == 'E') && !this.inExponent) {
+			this.inExponent = true;
+		} else if (c == '-' || c == '+') {
+			if (this.inExponent && (this.token[this.tokenLength - 2] == 'e' || this.token[this.tokenLength - 2] == 'E'))
+				this.exponentNegative = c == '-';
+			else if (this.tokenLength == 1)
+				this.negative = c == '-';
+			else
+				this.inexact = true;
+		} else {
+			// NOT PART OF A PLAIN NUMBER (E.G. NaN) : LEFT TO THE FALLBACK
+			this.inexact = true;
+		}
+	}
+
+	/**
+	 * Converts the given characters of a single number without adding it to
+	 * the positions. Used for the numbers of other formats (e.g. GeoJSON).
+	 *
+	 * @param ch
+	 *            the characters
+	 * @param start
+	 *            the index of the first character of the number
+	 * @param length
+	 *            the number of characters of the number
+	 * @return the value of the number
+	 * @throws NumberFormatException
+	 *             if the characters are not a number
+	 */
+	public double parseNumber(char[] ch, int start, int length) {
+		if (length <= 0)
+			throw new NumberFormatException("Empty number.");
+		this.tokenLength = 0;
+		int end = start + length;
+		for (int a = start; a < end; a++)
+			this.appendChar(ch[a]);
+		return this.finishNumber();
+	}
+
+	/**
+	 * Finishes the actual number (if there is one) and adds its value to the
+	 * actual position.
+	 */
+	private void endNumber() {
+		if (this.tokenLength == 0)
+			return;
+		this.addValue(this.finishNumber());
+	}
+
+	/**
+	 * Converts the actual number and resets it.
+	 *
+	 * @return the value of the actual number
+	 * @throws NumberFormatException
+	 *             if the actual number is not a number
+	 */
+	private double finishNumber() {
+		double v;
+		int e = this.scale + (this.exponentNegative ? -this.exponent : this.exponent);
+		if (!this.inexact && this.hasDigit && this.mantissa < MAX_EXACT && e >= -22 && e <= 22) {
+			// BOTH OPERANDS ARE EXACT : THE RESULT IS CORRECTLY ROUNDED
+			v = e < 0 ? this.mantissa / POW10[-e] : this.mantissa * POW10[e];
+			if (this.negative)
+				v = -v;
+		} else
+			v = Double.parseDouble(new String(this.token, 0, this.tokenLength));
+		this.tokenLength = 0;
+		return v;
+	}
+
+	/**
+	 * Adds the given value to the actual position. A position of a gml:pos or
+	 * gml:posList is complete after {@link #dimension} values.
+	 *
+	 * @param v
+	 *            the value to add
+	 */
+	private void addValue(double v) {
+		if (this.ordinal < 2) {
+			if (this.size * 2 + 2 > this.coords.length)
+				this.coords = Arrays.copyOf(this.coords, this.coords.length * 2);
+			this.coords[this.size * 2 + this.ordinal] = v;
+		}
+		this.ordinal++;
+		if (!this.tuples && this.ordinal == this.dimension) {
+			this.size++;
+			this.ordinal = 0;
+		}
+	}
+
+	/**
+	 * Ends the actual tuple of a gml:coordinates element. The position is
+	 * complete if it has at least two values.
+	 */
+	private void endTuple() {
+		if (this.ordinal >= 2)
+			this.size++;
+		this.ordinal = 0;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the number of completely parsed positions.
+	 *
+	 * @return the number of positions
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the X-value of the position with the given index.
+	 *
+	 * @param index
+	 *            the index of the position
+	 * @return the X-value
+	 */
+	public double getX(int index) {
+		return this.coords[index * 2];
+	}
+
+	/**
+	 * Returns the Y-value of the position with the given index.
+	 *
+	 * @param index
+	 *            the index of the position
+	 * @return the Y-value
+	 */
+	public double getY(int index) {
+		return this.coords[index * 2 + 1];
+	}
+
+	// OTHERS
+}
@@ -1,10 +1,17 @@
 package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
 
+import java.awt.Color;
+import java.util.List;
+
 import com.lowagie.text.pdf.PdfLayer;
 import com.lowagie.text.pdf.PdfStructureElement;
 import com.lowagie.text.pdf.PdfWriter;
 
 import io.github.dagri.GeospatialPDF4J.draw.drawers.DataDrawer;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.draw.styles.LineStringStyle;
+import io.github.dagri.GeospatialPDF4J.draw.styles.PolygonStyle;
+import io.github.dagri.GeospatialPDF4J.geo.EClipMode;
 
 /**
  * Class that extend the abstract class {@link DataDrawer} with the intend to be
@@ -58,36 +65,99 @@ public class WfsDrawer extends DataDrawer {
 	 */
 	@Override
 	public void drawAll() {
+		// LARGE POLYGONS ARE NOT CLIPPED GEOMETRICALLY : CLIP ON THE PAGE
+		boolean clipPath = this.getWfsLayer().getClipMode() == EClipMode.PDF_CLIPPING_PATH;
+		if (clipPath)
+			this.beginClip(this.getWfsLayer().getLayerBBox());
+
 		PdfLayer polygons = new PdfLayer("Polygons", this.getWriter());
 		// BEGIN LAYER
 		this.getContByte().beginLayer(polygons);
-		for (int c = 0; c < this.getWfsLayer().getGeoContainer().getDrawPolygons().size(); c++)
-			this.drawPolygon(this.getWfsLayer().getGeoContainer().getDrawPolygons().get(c), this.getWfsLayer().getStyles().polygonStyle);
+		this.beginGroup("Polygons");
+		if (this.getWfsLayer().isSharedBorders())
+			this.drawPolygonsWithSharedBorders(this.getWfsLayer().getStyles().polygonStyle);
+		else {
+			// ONE STYLE FOR ALL POLYGONS : SET THE STATE ONCE AND PAINT ONE
+			// PATH
+			this.drawPolygons(this.getWfsLayer().getDrawContainer().getDrawPolygons(), this.getWfsLayer().getStyles().polygonStyle);
+			this.drawPolygons(this.getWfsLayer().getDrawContainer().getMultiPolygons(), this.getWfsLayer().getStyles().polygonStyle);
+		}
+		this.endGroup();
 		this.getContByte().endLayer();
 
 		PdfLayer lineStrings = new PdfLayer("LineStrings", this.getWriter());
 		// BEGIN LAYER
 		this.getContByte().beginLayer(lineStrings);
-		for (int b = 0; b < this.getWfsLayer().getGeoContainer().getDrawLineStrings().size(); b++)
-			this.drawLineString(this.getWfsLayer().getGeoContainer().getDrawLineStrings().get(b), this.getWfsLayer().getStyles().lineStringStyle);
+		this.beginGroup("LineStrings");
+		// ONE STYLE FOR ALL LINESTRINGS : SET THE STATE ONCE AND PAINT ONE PATH
+		this.drawLineStrings(this.getWfsLayer().getDrawContainer().getDrawLineStrings(), this.getWfsLayer().getStyles().lineStringStyle);
+		this.drawLineStrings(this.getWfsLayer().getDrawContainer().getMutliLineStrings(), this.getWfsLayer().getStyles().lineStringStyle);
+		this.endGroup();
 		this.getContByte().endLayer();
 
 		PdfLayer points = new PdfLayer("Points", this.getWriter());
 		// BEGIN LAYER
 		this.getContByte().beginLayer(points);
+		this.beginGroup("Points");
 
-		for (int a = 0; a < this.getWfsLayer().getGeoContainer().getDrawPoints().size(); a++)
-			this.drawDrawPoint(this.getWfsLayer().getGeoContainer().getDrawPoints().get(a), this.getWfsLayer().getStyles().pointStyle);
+		for (int a = 0; a < this.getWfsLayer().getDrawContainer().getDrawPoints().size(); a++)
+			this.drawDrawPoint(this.getWfsLayer().getDrawContainer().getDrawPoints().get(a), this.getWfsLayer().getStyles().pointStyle);
+		this.endGroup();
 		this.getContByte().endLayer();
 
+		if (clipPath)
+			this.endClip();
+
 		this.getParentalLayer().addChild(polygons);
 		this.getParentalLayer().addChild(lineStrings);
 		this.getParentalLayer().addChild(points);
 
+		if (this.getAttributeTable() != null) {
+			this.addAttributes(this.getWfsLayer().getDrawContainer().getDrawPolygons());
+			this.addAttributes(this.getWfsLayer().getDrawContainer().getMultiPolygons());
+			this.addAttributes(this.getWfsLayer().getDrawContainer().getDrawLineStrings());
+			this.addAttributes(this.getWfsLayer().getDrawContainer().getMutliLineStrings());
+			this.addAttributes(this.getWfsLayer().getDrawContainer().getDrawPoints());
+			this.attachAttributes("Wfs-Layer");
+		}
 	}
 
 	// METHODS
 
+	/**
+	 * Draws the polygons of the {@link WfsLayer} in two steps: First all
+	 * interiors are filled without outlines, then the outline network of the
+	 * {@link WfsLayer} is stroked with the stroke width and {@link Color} of
+	 * the given {@link PolygonStyle}. Every border shared by neighbouring
+	 * polygons is stroked only once.
+	 *
+	 * @param style
+	 *            the {@link PolygonStyle} to draw with
+	 */
+	private void drawPolygonsWithSharedBorders(PolygonStyle style) {
+		if (style == null)
+			style = new PolygonStyle();
+		this.fillPolygons(this.getWfsLayer().getDrawContainer().getDrawPolygons(), style);
+		this.fillPolygons(this.getWfsLayer().getDrawContainer().getMultiPolygons(), style);
+
+		LineStringStyle outlineStyle = new LineStringStyle(style.polygonStrokeWidth, style.polygonColor, false, 0);
+		this.drawLineStrings(this.getWfsLayer().getOutlineContainer().getDrawLineStrings(), outlineStyle);
+	}
+
+	/**
+	 * Adds the {@link io.github.dagri.GeospatialPDF4J.res.AdditionalInfo}s of
+	 * the given {@link DrawGeometry}s to the
+	 * {@link io.github.dagri.GeospatialPDF4J.res.AttributeTable}. The parts of
+	 * a feature share one row.
+	 *
+	 * @param geometries
+	 *            the {@link DrawGeometry}s
+	 */
+	private void addAttributes(List<? extends DrawGeometry> geometries) {
+		for (int a = 0; a < geometries.size(); a++)
+			this.getAttributeTable().add(geometries.get(a).getInfo());
+	}
+
 	// GETTERS AND SETTERS
 
 	/**
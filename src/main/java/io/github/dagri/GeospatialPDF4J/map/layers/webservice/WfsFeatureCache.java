@@ -0,0 +1,264 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.vividsolutions.jts.geom.Envelope;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to cache the received features of WFS layer requests on the disk, so
+ * repeated requests of overlapping extents do not receive the same features
+ * again.
+ *
+ * The features are stored per layer request (service, typename, CRS, requested
+ * properties and filters) as {@link CachedFeatures} in one file of the cache
+ * directory. A {@link WfsLayer} using this {@link WfsFeatureCache} requests
+ * only the parts of its {@link io.github.dagri.GeospatialPDF4J.geo.BoundingBox}
+ * that are not covered yet.
+ *
+ * Covered extents older than {@link #getMaxAge()} count as missing and are
+ * requested again; their features are replaced by the received ones. Without
+ * a maximal age the cache never expires: changed server data is only received
+ * after {@link #clear()}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class WfsFeatureCache {
+
+	// ATTRIBUTES
+
+	/**
+	 * The first bytes of a cache file ('WFC' and the format version 3).
+	 */
+	private static final int					MAGIC		= 0x57464303;
+
+	/**
+	 * The ending of the cache files.
+	 */
+	private static final String					ENDING		= ".wfc";
+
+	/**
+	 * The directory of the cache files.
+	 */
+	private File								directory;
+
+	/**
+	 * The loaded {@link CachedFeatures} per key.
+	 */
+	private final Map<String, CachedFeatures>	loaded		= new HashMap<>();
+
+	/**
+	 * The maximal age of a covered extent in milliseconds, before it is
+	 * requested again.
+	 * 
+	 * Standard value is 0: The extents never expire.
+	 */
+	private long								maxAge		= 0;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link WfsFeatureCache} using the directory of the
+	 * cache files. The directory is created when the first features are
+	 * stored.
+	 *
+	 * @param directory
+	 *            the directory of the cache files
+	 */
+	public WfsFeatureCache(File directory) {
+		this.directory = directory;
+	}
+
+	// METHODS
+
+	/**
+	 * Returns the {@link CachedFeatures} of the given layer request. They are
+	 * loaded from the disk on the first request and kept afterwards.
+	 *
+	 * @param key
+	 *            the key of the layer request
+	 * @return the {@link CachedFeatures}, empty if nothing is cached yet
+	 */
+	public synchronized CachedFeatures getFeatures(String key) {
+		CachedFeatures features = this.loaded.get(key);
+		if (features == null) {
+			features = this.load(key);
+			this.loaded.put(key, features);
+		}
+		return features;
+	}
+
+	/**
+	 * Loads the {@link CachedFeatures} of the given layer request from the
+	 * disk. A missing or damaged file results in empty {@link CachedFeatures}.
+	 *
+	 * @param key
+	 *            the key of the layer request
+	 * @return the loaded {@link CachedFeatures}
+	 */
+	private CachedFeatures load(String key) {
+		CachedFeatures features = new CachedFeatures(key);
+		File file = this.getFile(key);
+		if (!file.isFile())
+			return features;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || !key.equals(CachedFeatures.readString(in))) {
+				log.warn("Ignoring the foreign or outdated cache file " + file + ".");
+				return features;
+			}
+			int extents = in.readInt();
+			for (int a = 0; a < extents; a++)
+				features.addCoverage(new double[] { in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble() }, in.readLong());
+			int records = in.readInt();
+			for (int a = 0; a < records; a++) {
+				double minX = in.readDouble();
+				double minY = in.readDouble();
+				double maxX = in.readDouble();
+				double maxY = in.readDouble();
+				String id = CachedFeatures.readString(in);
+				byte[] record = new byte[in.readInt()];
+				in.readFully(record);
+				features.addRecord(new Envelope(minX, maxX, minY, maxY), id.isEmpty() ? null : id, record);
+			}
+			log.debug("Feature cache loaded: " + records + " features in " + extents + " extents from " + file + ".");
+		} catch (IOException e) {
+			log.warn("Could not load the cache file " + file + ": " + e.getMessage());
+			return new CachedFeatures(key);
+		}
+		return features;
+	}
+
+	/**
+	 * Stores the given {@link CachedFeatures} on the disk, if they changed.
+	 * The file is replaced at once, so a failed storing does not damage it.
+	 *
+	 * @param features
+	 *            the {@link CachedFeatures} to store
+	 * @throws IOException
+	 *             if the file could not be written
+	 */
+	public void store(CachedFeatures features) throws IOException {
+		synchronized (features) {
+			if (!features.isChanged())
+				return;
+			if (!this.getDirectory().isDirectory() && !this.getDirectory().mkdirs())
+				throw new IOException("Could not create the cache directory " + this.getDirectory() + "!");
+			File file = this.getFile(features.getKey());
+			File temp = File.createTempFile("wfs", ".tmp", this.getDirectory());
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					CachedFeatures.writeString(out, features.getKey());
+					out.writeInt(features.getCoverage().size());
+					for (int a = 0; a < features.getCoverage().size(); a++) {
+						for (int b = 0; b < 4; b++)
+							out.writeDouble(features.getCoverage().get(a)[b]);
+						out.writeLong(features.getFetched().get(a));
+					}
+					out.writeInt(features.getRecords().size());
+					for (int a = 0; a < features.getRecords().size(); a++) {
+						Envelope env = features.getEnvelopes().get(a);
+						out.writeDouble(env.getMinX());
+						out.writeDouble(env.getMinY());
+						out.writeDouble(env.getMaxX());
+						out.writeDouble(env.getMaxY());
+						// AN EMPTY ID STANDS FOR A FEATURE WITHOUT ID
+						String id = features.getIds().get(a);
+						CachedFeatures.writeString(out, id == null ? "" : id);
+						out.writeInt(features.getRecords().get(a).length);
+						out.write(features.getRecords().get(a));
+					}
+				}
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp.toPath());
+			}
+			features.setChanged(false);
+			log.debug("Feature cache stored: " + features.getRecords().size() + " features in " + file + ".");
+		}
+	}
+
+	/**
+	 * Deletes all cached features, loaded and stored.
+	 */
+	public synchronized void clear() {
+		this.loaded.clear();
+		File[] files = this.getDirectory().listFiles();
+		for (int a = 0; files != null && a < files.length; a++) {
+			if (files[a].getName().endsWith(ENDING) && !files[a].delete())
+				log.warn("Could not delete the cache file " + files[a] + ".");
+		}
+	}
+
+	/**
+	 * Returns the cache file of the given layer request, named by the SHA-1
+	 * hash of its key.
+	 *
+	 * @param key
+	 *            the key of the layer request
+	 * @return the cache file
+	 */
+	private File getFile(String key) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+			StringBuilder sb = new StringBuilder();
+			for (int a = 0; a < hash.length; a++)
+				sb.append(String.format("%02x", hash[a]));
+			return new File(this.getDirectory(), sb.append(ENDING).toString());
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-1 IS ALWAYS SUPPORTED
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the directory of the cache files.
+	 *
+	 * @return the directory
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the maximal age of a covered extent, before it is requested
+	 * again.
+	 *
+	 * @return the maximal age in milliseconds; 0 if the extents never expire
+	 */
+	public long getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * Sets the maximal age of a covered extent, before it is requested again.
+	 *
+	 * @param maxAge
+	 *            the maximal age in milliseconds; 0 if the extents never
+	 *            expire
+	 */
+	public void setMaxAge(long maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	// OTHERS
+}
@@ -0,0 +1,236 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+
+/**
+ * Class to create the spatial and attribute restriction of a WFS GetFeature
+ * request for a {@link BoundingBox}.
+ *
+ * Without {@link AttributeFilter}s the request is restricted by the BBOX
+ * parameter. The BBOX parameter can not be combined with a FILTER, so with
+ * {@link AttributeFilter}s a filter encoding (FES 2.0 for WFS 2.0, filter
+ * encoding 1.1 for WFS 1.1, 1.0 for WFS 1.0) is created that combines a BBOX operator and all
+ * {@link AttributeFilter}s with 'And'.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class WfsFilter {
+
+	// ATTRIBUTES
+
+	/**
+	 * The version of the WFS as {@link String}.
+	 */
+	private String						version;
+
+	/**
+	 * The {@link AttributeFilter}s every requested feature has to match.
+	 */
+	private ArrayList<AttributeFilter>	filters	= new ArrayList<>();
+
+	/**
+	 * The name of the geometry property the BBOX operator refers to or
+	 * <code>null</code> to refer to all geometry properties.
+	 */
+	private String						geometryProperty;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link WfsFilter} using the version of the WFS, the
+	 * {@link AttributeFilter}s and the name of the geometry property.
+	 *
+	 * @param version
+	 *            the version of the WFS
+	 * @param filters
+	 *            the {@link AttributeFilter}s every requested feature has to
+	 *            match; may be <code>null</code>
+	 * @param geometryProperty
+	 *            the name of the geometry property or <code>null</code> if it
+	 *            is unknown (required by WFS 1.0 servers)
+	 */
+	public WfsFilter(String version, List<AttributeFilter> filters, String geometryProperty) {
+		this.version = version;
+		if (filters != null)
+			this.filters.addAll(filters);
+		this.geometryProperty = geometryProperty;
+	}
+
+	// METHODS
+
+	/**
+	 * Returns the parameters (ending with '&amp;') that restrict a request to
+	 * the given {@link BoundingBox} and the {@link AttributeFilter}s.
+	 *
+	 * @param bbox
+	 *            the requested {@link BoundingBox}
+	 * @return the BBOX or FILTER parameter
+	 */
+	public String createParameters(BoundingBox bbox) {
+		if (!this.hasAttributeFilters())
+			return "BBOX=" + bbox.getCornersForRequestUTM() + "&";
+		try {
+			return "FILTER=" + URLEncoder.encode(this.createFilter(bbox), "UTF-8") + "&";
+		} catch (UnsupportedEncodingException e) {
+			// UTF-8 IS ALWAYS SUPPORTED
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Creates the filter encoding of the given {@link BoundingBox} and all
+	 * {@link AttributeFilter}s.
+	 *
+	 * @param bbox
+	 *            the requested {@link BoundingBox}
+	 * @return the filter as XML {@link String}
+	 */
+	public String createFilter(BoundingBox bbox) {
+		boolean fes20 = this.isFes20();
+		String prefix = fes20 ? "fes" : "ogc";
+		StringBuilder sb = new StringBuilder();
+		if (fes20)
+			sb.append("<fes:Filter xmlns:fes=\"http://www.opengis.net/fes/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\">");
+		else
+			sb.append("<ogc:Filter xmlns:ogc=\"http://www.opengis.net/ogc\" xmlns:gml=\"http://www.opengis.net/gml\">");
+		sb.append('<').append(prefix).append(":And>");
+
+		// THE SPATIAL RESTRICTION
+		sb.append('<').append(prefix).append(":BBOX>");
+		if (this.getGeometryProperty() != null) {
+			String property = prefix + (fes20 ? ":ValueReference" : ":PropertyName");
+			sb.append('<').append(property).append('>').append(escape(this.getGeometryProperty())).append("</").append(property).append('>');
+		}
+		if (this.getVersion() != null && this.getVersion().startsWith("1.0")) {
+			sb.append("<gml:Box srsName=\"EPSG:25832\"><gml:coordinates>");
+			sb.append(bbox.getMinEasting()).append(',').append(bbox.getMinNorthing()).append(' ').append(bbox.getMaxEasting()).append(',').append(bbox.getMaxNorthing());
+			sb.append("</gml:coordinates></gml:Box>");
+		} else {
+			sb.append("<gml:Envelope srsName=\"EPSG:25832\">");
+			sb.append("<gml:lowerCorner>").append(bbox.getMinEasting()).append(' ').append(bbox.getMinNorthing()).append("</gml:lowerCorner>");
+			sb.append("<gml:upperCorner>").append(bbox.getMaxEasting()).append(' ').append(bbox.getMaxNorthing()).append("</gml:upperCorner>");
+			sb.append("</gml:Envelope>");
+		}
+		sb.append("</").append(prefix).append(":BBOX>");
+
+		// THE ATTRIBUTE RESTRICTIONS
+		for (int a = 0; a < this.filters.size(); a++)
+			this.filters.get(a).appendFes(sb, this.getFilterVersion());
+
+		sb.append("</").append(prefix).append(":And>");
+		sb.append("</").append(prefix).append(":Filter>");
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the filter encoding of the {@link AttributeFilter}s without the
+	 * spatial restriction, e.g. to tell apart cached requests.
+	 *
+	 * @return the {@link AttributeFilter}s as XML {@link String}, empty if
+	 *         there are none
+	 */
+	public String createAttributeFilter() {
+		StringBuilder sb = new StringBuilder();
+		for (int a = 0; a < this.filters.size(); a++)
+			this.filters.get(a).appendFes(sb, "2.0");
+		return sb.toString();
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if there are
+	 * {@link AttributeFilter}s.
+	 *
+	 * @return <code>true</code> if there are {@link AttributeFilter}s;
+	 *         <code>false</code> if not
+	 */
+	public boolean hasAttributeFilters() {
+		return !this.filters.isEmpty();
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the filter is encoded as FES
+	 * 2.0 (WFS 2.0 and newer).
+	 *
+	 * @return <code>true</code> for FES 2.0; <code>false</code> for the filter
+	 *         encoding 1.x
+	 */
+	public boolean isFes20() {
+		return this.getVersion() == null || !this.getVersion().startsWith("1.");
+	}
+
+	/**
+	 * Returns the version of the filter encoding used by the WFS: FES 2.0 for
+	 * WFS 2.0, the filter encoding 1.1 for WFS 1.1 and 1.0 for WFS 1.0.
+	 *
+	 * @return "2.0", "1.1" or "1.0"
+	 */
+	public String getFilterVersion() {
+		if (this.isFes20())
+			return "2.0";
+		return this.getVersion().startsWith("1.0") ? "1.0" : "1.1";
+	}
+
+	/**
+	 * Escapes the XML special characters of the given text.
+	 *
+	 * @param text
+	 *            the text to escape
+	 * @return the escaped text
+	 */
+	static String escape(String text) {
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int a = 0; a < text.length(); a++) {
+			char c = text.charAt(a);
+			switch (c) {
+			case '&':
+				sb.append("&amp;");
+				break;
+			case '<':
+				sb.append("&lt;");
+				break;
+			case '>':
+				sb.append("&gt;");
+				break;
+			case '"':
+				sb.append("&quot;");
+				break;
+			case '\'':
+				sb.append("&apos;");
+				break;
+			default:
+				sb.append(c);
+				break;
+			}
+		}
+		return sb.toString();
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the version of the WFS.
+	 *
+	 * @return the version as {@link String}
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the name of the geometry property the BBOX operator refers to.
+	 *
+	 * @return the name or <code>null</code> if it refers to all geometry
+	 *         properties
+	 */
+	public String getGeometryProperty() {
+		return geometryProperty;
+	}
+
+	// OTHERS
+}
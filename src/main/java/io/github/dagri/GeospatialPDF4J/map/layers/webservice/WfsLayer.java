@@ -1,10 +1,16 @@
 package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
 
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 
-import org.geotools.geometry.DirectPosition2D;
+import javax.xml.stream.XMLStreamException;
+
 import org.jdom2.Element;
 
 import com.lowagie.text.Document;
@@ -12,13 +18,15 @@ import com.lowagie.text.pdf.PdfLayer;
 
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
 import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
-import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPoint;
-import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
-import io.github.dagri.GeospatialPDF4J.exceptions.CoordinateTransformException;
+import io.github.dagri.GeospatialPDF4J.exceptions.BoundingboxNotCreatableException;
+import io.github.dagri.GeospatialPDF4J.exceptions.CapabilitiesRequestException;
 import io.github.dagri.GeospatialPDF4J.exceptions.MapLayerNotReceivableException;
 import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.EClipMode;
+import io.github.dagri.GeospatialPDF4J.geo.FeatureStore;
 import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
-import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+import io.github.dagri.GeospatialPDF4J.geo.OutlineNetwork;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
 import io.github.dagri.GeospatialPDF4J.server.ServerTalker;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,6 +53,140 @@ public class WfsLayer extends WebserviceLayer {
 	 */
 	private WfsStyle			style			= new WfsStyle();
 
+	/**
+	 * The {@link EClipMode} used to clip the contained {@link DrawGeometry}s to
+	 * the {@link BoundingBox} of this {@link WfsLayer}.
+	 */
+	private EClipMode			clipMode		= EClipMode.GEOMETRIC;
+
+	/**
+	 * {@link Boolean} indicating if the outlines of the polygons are drawn as
+	 * network of unique edges, so the borders shared by neighbouring polygons
+	 * are stroked only once.
+	 * 
+	 * Standard value is <code>false</code>.
+	 */
+	private boolean				sharedBorders	= false;
+
+	/**
+	 * {@link Boolean} indicating if the responses are decoded in chunks by
+	 * several threads, see {@link ParallelGmlDecoder}. Pays off for large
+	 * responses only. Only GML can be split into chunks, so GML is requested
+	 * instead of GeoJSON then.
+	 * 
+	 * Standard value is <code>false</code>.
+	 */
+	private boolean				parallelDecoding	= false;
+
+	/**
+	 * The number of features per page of a WFS 2.0 request, see
+	 * {@link WfsPagedRequest}. 0 disables the paging.
+	 * 
+	 * Standard value is 0.
+	 */
+	private int					pageSize			= 0;
+
+	/**
+	 * The value of the SORTBY parameter of the pages of a WFS 2.0 request
+	 * (e.g. the primary key property), see {@link WfsPagedRequest}.
+	 * 
+	 * Standard value is <code>null</code>.
+	 */
+	private String				pageSortBy			= null;
+
+	/**
+	 * The maximal number of pages (or boxes, see
+	 * {@link #getMaxFeaturesPerRequest()}) requested at the same time.
+	 * 
+	 * Standard value is 4.
+	 */
+	private int					maxParallelPages	= 4;
+
+	/**
+	 * The number of features a single (not paged) response may contain before
+	 * the requested {@link BoundingBox} is split into quadrants, see
+	 * {@link WfsQuadtreeRequest}. 0 disables the splitting.
+	 * 
+	 * Standard value is 0.
+	 */
+	private int					maxFeaturesPerRequest	= 0;
+
+	/**
+	 * The names of the properties requested besides the geometry (PROPERTYNAME)
+	 * or <code>null</code> to request all properties. An empty
+	 * {@link ArrayList} requests the geometry only.
+	 * 
+	 * Standard value is <code>null</code>.
+	 */
+	private ArrayList<String>	propertyNames			= null;
+
+	/**
+	 * The name of the geometry property of the requested layers or
+	 * <code>null</code> to request it from the server (DescribeFeatureType),
+	 * if it is needed.
+	 */
+	private String				geometryPropertyName	= null;
+
+	/**
+	 * The {@link WfsFeatureCache} the features are taken from and added to or
+	 * <code>null</code> to receive all features from the server.
+	 * 
+	 * Standard value is <code>null</code>.
+	 */
+	private WfsFeatureCache		featureCache			= null;
+
+	/**
+	 * {@link Boolean} indicating if a GeoJSON output format is requested, when
+	 * the capabilities of the server offer one. The features are requested as
+	 * GML otherwise, if the GeoJSON response fails or if the responses are
+	 * decoded in parallel.
+	 * 
+	 * Standard value is <code>true</code>.
+	 */
+	private boolean				preferGeoJson			= true;
+
+	/**
+	 * The negotiated value of the OUTPUTFORMAT parameter or <code>null</code>
+	 * for the standard format (GML) of the server.
+	 */
+	private String				outputFormat;
+
+	/**
+	 * {@link Boolean} indicating if the received features are kept in a
+	 * {@link FeatureStore} until the {@link WfsLayer} is prepared for adding.
+	 * 
+	 * Standard value is <code>false</code>.
+	 */
+	private boolean				columnarStore		= false;
+
+	/**
+	 * The {@link FeatureStore} keeping the received features in columns until
+	 * the {@link WfsLayer} is prepared for adding or <code>null</code> if they
+	 * are kept in the {@link GeometryContainer}.
+	 */
+	private FeatureStore		featureStore		= null;
+
+	/**
+	 * The source ids (gml:id or GeoJSON id) of the received features by their
+	 * {@link AdditionalInfo}s, used as feature ids of the attached attributes,
+	 * or <code>null</code> if the attributes are not attached.
+	 */
+	private IdentityHashMap<AdditionalInfo, String>	featureIds	= null;
+
+	/**
+	 * The {@link GeometryContainer} storing the {@link DrawGeometry}s reduced
+	 * to the level of detail of the output device, to be drawn. Created by
+	 * {@link #prepareForAdding(Document)}.
+	 */
+	private GeometryContainer	drawContainer		= new GeometryContainer();
+
+	/**
+	 * The {@link GeometryContainer} storing the outline network of the
+	 * polygons as {@link DrawLineString}s. Only filled if
+	 * {@link #isSharedBorders()} is <code>true</code>.
+	 */
+	private GeometryContainer	outlineContainer	= new GeometryContainer();
+
 	// CONSTRUCTORS
 
 	/**
@@ -78,28 +220,52 @@ public class WfsLayer extends WebserviceLayer {
 	 */
 	@Override
 	public void receive() throws MapLayerNotReceivableException {
+		// ASK THE SERVER FOR THE OUTPUT FORMATS ONCE FOR ALL LAYERS
+		this.setOutputFormat(this.negotiateOutputFormat());
+		this.setFeatureStore(this.isColumnarStore() ? new FeatureStore() : null);
+		this.setFeatureIds(this.isAttributeAttachment() ? new IdentityHashMap<AdditionalInfo, String>() : null);
+
 		for (int a = 0; a < this.getLayers().size(); a++) {
 
 			// TODO : Check if the method is completed and works
-			String request = this.getUrl() + "SERVICE=wfs&" + "REQUEST=GetFeature&" + "VERSION=" + this.getVersion() + "&" + "TYPENAMES=";
-
-			request = request + this.getLayers().get(a) + "&BBOX=" + this.getLayerBBox().getCornersForRequestUTM() + "&SRSNAME=EPSG:25832&";
-
-			log.info("WFS-REQUEST-STRING:" + request);
+			String layerRequest = this.getUrl() + "SERVICE=wfs&" + "REQUEST=GetFeature&" + "VERSION=" + this.getVersion() + "&" + "TYPENAMES=";
 
-			// RECEIVE AN INSTANCE OF THE SERVERTALKER
-			ServerTalker talker = ServerTalker.getInstance();
+			layerRequest = layerRequest + this.getLayers().get(a) + "&SRSNAME=EPSG:25832&";
 
-			log.debug("Creating the JDOM2-document by a wfs-server-request....");
-			org.jdom2.Document doc = talker.wfsRequest(request, this.getLayers());
-			log.debug("JDOM2-document created.");
+			// ONLY THE NEEDED PROPERTIES AND FEATURES ARE REQUESTED
+			ArrayList<AttributeFilter> filters = this.getStyles() != null ? this.getStyles().filters : null;
+			String geometryProperty = this.getGeometryPropertyName();
+			if (geometryProperty == null && (this.getPropertyNames() != null || (filters != null && !filters.isEmpty())))
+				geometryProperty = this.findGeometryProperty(this.getLayers().get(a));
+			layerRequest = layerRequest + this.createPropertyParameter(this.getLayers().get(a), geometryProperty);
+			WfsFilter filter = new WfsFilter(this.getVersion(), filters, geometryProperty);
 
-			// CREATE THE DRAWPOINTS FROM THE RECEIVED DOCUMENT
-			this.createDrawPoints(doc);
-			// CREATE THE DRAWLINESTTRINGS FROM THE RECEIVED DOCUMENT
-			this.createDrawLineStrings(doc);
-			// CREATE THE DRAWPOLYGONS FROM THE RECEIVED DOCUMENT
-			this.createDrawPolygons(doc);
+			GeometryContainer layerContainer;
+			IdentityHashMap<AdditionalInfo, String> layerIds = this.getFeatureIds() != null ? new IdentityHashMap<AdditionalInfo, String>() : null;
+			try {
+				if (this.getFeatureCache() == null) {
+					layerContainer = this.createLayerContainer();
+					this.receiveArea(this.getLayers().get(a), layerRequest, filter, this.getLayerBBox(), layerContainer, layerIds);
+				} else
+					layerContainer = this.receiveCached(this.getLayers().get(a), layerRequest, filter, layerIds);
+			} catch (IOException | XMLStreamException e) {
+				log.error("Could not receive the WFS-layer " + this.getLayers().get(a) + ": " + e.getMessage());
+				throw new MapLayerNotReceivableException();
+			}
+			// THE FEATURES OF THE LAYER WERE WRITTEN TO THE STORE WHILE DECODING
+			if (this.getFeatureStore() != null)
+				this.getFeatureStore().closeFeatures(layerIds);
+			else {
+				this.getGeoContainer().addGeometryContainer(layerContainer);
+				if (layerIds != null)
+					this.getFeatureIds().putAll(layerIds);
+			}
+		}
+		if (this.getFeatureStore() != null) {
+			this.getFeatureStore().trim();
+			log.info("WFS features stored in columns: " + this.getFeatureStore().getFeatureCount() + " features, " + this.getFeatureStore().size() + " geometries, "
+					+ this.getFeatureStore().getVertexCount() + " vertices.");
+			return;
 		}
 
 		// GIVE OUT SOME IMFORMATION TO THE CONSOLE
@@ -108,174 +274,395 @@ public class WfsLayer extends WebserviceLayer {
 		log.info("NUMBER OF DRAWPOLYGONS RECEIVED: " + this.getGeoContainer().getDrawPolygons().size());
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see
-	 * io.github.dagri.GeospatialPDF4J.map.layers.IPdfAddable#prepareForAdding(
-	 * com.lowagie.text.Document)
+	/**
+	 * Returns the GeoJSON output format offered by the server, if GeoJSON is
+	 * preferred and the responses are not decoded in parallel. The
+	 * capabilities of the server are requested for it.
+	 *
+	 * @return the value of the OUTPUTFORMAT parameter or <code>null</code> to
+	 *         request the standard format (GML)
 	 */
-	@Override
-	public void prepareForAdding(Document doc) throws MapLayerNotReceivableException {
-		this.getGeoContainer().reduceContent(this.getLayerBBox());
-		this.getGeoContainer().scaleContent(this.calcScalingFactor());
-		this.setOffsets2Map(this.calcPixelOffsets(this.getMapBBox(), this.getLayerBBox()));
-		this.getGeoContainer().addMarginOffset(doc.leftMargin(), doc.bottomMargin(), this.getxOffset2Map(), this.getyOffset2Map());
+	private String negotiateOutputFormat() {
+		if (!this.isPreferGeoJson())
+			return null;
+		// ONLY GML CAN BE SPLIT INTO CHUNKS
+		if (this.isParallelDecoding()) {
+			log.debug("The responses are decoded in parallel, requesting GML.");
+			return null;
+		}
+		try {
+			ArrayList<String> formats = ServerTalker.getInstance().wfsOutputFormats(this.getUrl() + "SERVICE=wfs&VERSION=" + this.getVersion() + "&");
+			for (int a = 0; a < formats.size(); a++) {
+				if (FeatureStreamDecoder.isJson(formats.get(a))) {
+					log.info("Requesting the output format " + formats.get(a) + ".");
+					return formats.get(a);
+				}
+			}
+			log.debug("The server offers no GeoJSON output format, requesting GML.");
+		} catch (CapabilitiesRequestException e) {
+			log.warn("Could not negotiate the output format, requesting GML.");
+		}
+		return null;
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see io.github.dagri.GeospatialPDF4J.map.layers.IPdfAddable#addToPdf(com.
-	 * lowagie.text.Document, com.lowagie.text.pdf.PdfWriter)
+	/**
+	 * Requests the name of the geometry property of the given layer from the
+	 * server (DescribeFeatureType).
+	 *
+	 * @param layer
+	 *            the name of the layer
+	 * @return the name of the geometry property or <code>null</code> if it is
+	 *         unknown
 	 */
-	@Override
-	public void addToPdf(Document doc) throws MapLayerNotReceivableException {
-		// this.getGeoContainer().intersect(this.getLayerBBox());
-
-		PdfLayer overlayer = this.createParentalPdfLayer("Wfs-Layer", this.getWriter());
-		WfsDrawer drawer = new WfsDrawer(this.getWriter(), this, this.createTopTreeElement("Wfs-Layer"), overlayer);
-		drawer.drawAll();
+	private String findGeometryProperty(String layer) {
+		String typeName = this.getVersion() != null && this.getVersion().startsWith("1.") ? "TYPENAME=" : "TYPENAMES=";
+		String request = this.getUrl() + "SERVICE=wfs&REQUEST=DescribeFeatureType&VERSION=" + this.getVersion() + "&" + typeName + layer;
+		try {
+			String property = ServerTalker.getInstance().wfsGeometryProperty(request);
+			log.debug("Geometry property of " + layer + ": " + property);
+			return property;
+		} catch (IOException | XMLStreamException e) {
+			log.warn("Could not describe the feature type " + layer + ": " + e.getMessage());
+			return null;
+		}
 	}
 
 	/**
-	 * Crates {@link DrawPolygon}s from the given {@link org.jdom2.Document} and
-	 * adds them to the internal stored {@link GeometryContainer}.
+	 * Returns the PROPERTYNAME parameter (ending with '&amp;') that restricts
+	 * the returned properties to the geometry property and the requested
+	 * properties.
 	 *
-	 * @param doc
-	 *            the {@link org.jdom2.Document} to search in
-	 * @param wfsStyle
-	 *            the {@link WfsStyle} to use for this {@link DrawLineString}s
+	 * @param layer
+	 *            the name of the layer
+	 * @param geometryProperty
+	 *            the name of the geometry property or <code>null</code> if it
+	 *            is unknown
+	 * @return the parameter or an empty {@link String} if all properties are
+	 *         requested
 	 */
-	private void createDrawPolygons(org.jdom2.Document doc) {
-		// GET THE FIRST ELEMENT OF THE DOCUMENT
-		Element elem = doc.getRootElement();
-
-		ArrayList<Element> ergElem0 = findTag(elem, "LinearRing");
-
-		// CONVERT THE VALUE OF THE POS TAGS (CHILDREN OF POINT)
-		// INTO GEOPOINTS
-		for (int c = 0; c < ergElem0.size(); c++) {
-
-			ArrayList<Element> ergElem1 = findTag(ergElem0.get(c), "posList");
-
-			for (int d = 0; d < ergElem1.size(); d++) {
-				ArrayList<DirectPosition2D> dpList = new ArrayList<>();
-
-				String elemText = ergElem1.get(d).getText();
-
-				String[] parts = elemText.split(" ");
-
-				for (int a = 0; a < parts.length - 1; a++) {
-
-					int north = (int) (Double.parseDouble(parts[a + 1]));
-					int east = (int) (Double.parseDouble(parts[a]));
-					a++;
-
-					try {
-						dpList.add(new DirectPosition2D(CoordinateTransformer.getInstance().getUtmCrs(), east, north));
-					} catch (CoordinateTransformException e) {
-						e.printStackTrace();
-					}
-				}
-
-				DrawPolygon dls = new DrawPolygon(dpList);
-				this.getGeoContainer().addDrawGeometry(dls);
+	private String createPropertyParameter(String layer, String geometryProperty) {
+		if (this.getPropertyNames() == null)
+			return "";
+		if (geometryProperty == null) {
+			// WITHOUT THE GEOMETRY PROPERTY THE FEATURES WOULD BE EMPTY
+			log.warn("The geometry property of " + layer + " is unknown, requesting all properties.");
+			return "";
+		}
+		LinkedHashSet<String> names = new LinkedHashSet<>();
+		names.add(geometryProperty);
+		names.addAll(this.getPropertyNames());
+		StringBuilder sb = new StringBuilder("PROPERTYNAME=");
+		try {
+			for (String name : names) {
+				if (sb.length() > 13)
+					sb.append(',');
+				sb.append(URLEncoder.encode(name, "UTF-8"));
 			}
+		} catch (UnsupportedEncodingException e) {
+			// UTF-8 IS ALWAYS SUPPORTED
+			throw new IllegalStateException(e);
 		}
+		return sb.append('&').toString();
 	}
 
 	/**
-	 * Crates {@link DrawLineString}s from the given {@link org.jdom2.Document}
-	 * and adds them to the internal stored {@link GeometryContainer}.
+	 * Receives the features of one layer inside of the given
+	 * {@link BoundingBox} in the negotiated output format, falling back to GML
+	 * if that fails.
 	 *
-	 * @param doc
-	 *            the {@link org.jdom2.Document} to search in
-	 * @param wfsStyle
-	 *            the {@link WfsStyle} to use for this {@link DrawLineString}s
+	 * @param layer
+	 *            the name of the layer
+	 * @param layerRequest
+	 *            the GetFeature request of the layer (ending with '&amp;')
+	 *            without BBOX
+	 * @param filter
+	 *            the {@link WfsFilter} that restricts the requests
+	 * @param bbox
+	 *            the {@link BoundingBox} to receive
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @param ids
+	 *            the {@link IdentityHashMap} to fill with the ids of the
+	 *            features by their {@link AdditionalInfo}s or
+	 *            <code>null</code> to not record them
+	 * @return <code>true</code> if all features were received;
+	 *         <code>false</code> if the response was truncated by a feature
+	 *         limit
+	 * @throws IOException
+	 *             if the response could not be received or decoded
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
 	 */
-	private void createDrawLineStrings(org.jdom2.Document doc) {
-		// GET THE FIRST ELEMENT OF THE DOCUMENT
-		Element elem = doc.getRootElement();
-
-		ArrayList<Element> lineStringElems = findTag(elem, "LineString");
-
-		// CONVERT THE VALUE OF THE POS TAGS (CHILDREN OF POINT)
-		// INTO GEOPOINTS
-		for (int c = 0; c < lineStringElems.size(); c++) {
-
-			ArrayList<Element> posListElems = findTag(lineStringElems.get(c), "posList");
-
-			for (int d = 0; d < posListElems.size(); d++) {
-				ArrayList<DirectPosition2D> dpList = new ArrayList<>();
-
-				String elemText = posListElems.get(d).getText();
-
-				String[] parts = elemText.split(" ");
-
-				for (int a = 0; a < parts.length - 1; a++) {
-
-					// TODO : WORKS ONLY FOR UTM-CRS. IN OTHER CRS THE
-					// COORDIANTES MAY NOT BE ORDERED IN SUCH A WAY!
-					int north = (int) (Double.parseDouble(parts[a + 1]));
-					int east = (int) (Double.parseDouble(parts[a]));
-					a++;
-
-					try {
-						dpList.add(new DirectPosition2D(CoordinateTransformer.getInstance().getUtmCrs(), east, north));
-					} catch (CoordinateTransformException e) {
-						e.printStackTrace();
-					}
-				}
-
-				// CREATE THE NEW DRAWLINESTRING USING THE CREATED ARRAYLIST
-				DrawLineString dls = new DrawLineString(dpList);
-
-				// ADD THE CREATED DRAWLINESTRING TO THE GEOMETRYCONTAINER
-				this.getGeoContainer().addDrawGeometry(dls);
-			}
+	private boolean receiveArea(String layer, String layerRequest, WfsFilter filter, BoundingBox bbox, GeometryContainer container,
+			IdentityHashMap<AdditionalInfo, String> ids) throws IOException, XMLStreamException {
+		// THE FEATURES ARE ADDED WHEN THEY ARE COMPLETELY RECEIVED, SO A FAILED
+		// GEOJSON RESPONSE DOES NOT LEAVE PARTIAL CONTENT. A FEATURESTORE IS
+		// WRITTEN TO DIRECTLY AND DROPS THE OPEN FEATURES INSTEAD
+		FeatureStore store = container.getFeatureStore();
+		GeometryContainer received = store != null ? container : new GeometryContainer();
+		boolean complete;
+		try {
+			complete = this.receiveLayer(layerRequest, filter, this.getOutputFormat(), bbox, received, ids);
+		} catch (IOException e) {
+			if (this.getOutputFormat() == null)
+				throw e;
+			// THE GML PATH IS THE FALLBACK
+			log.warn("Could not receive the WFS-layer " + layer + " as " + this.getOutputFormat() + ", requesting GML: " + e.getMessage());
+			if (store != null)
+				store.discardFeatures();
+			else
+				received = new GeometryContainer();
+			if (ids != null)
+				ids.clear();
+			complete = this.receiveLayer(layerRequest, filter, null, bbox, received, ids);
 		}
+		if (received != container)
+			container.addGeometryContainer(received);
+		return complete;
 	}
 
 	/**
-	 * TODO
+	 * Creates the {@link GeometryContainer} to receive the features of one
+	 * layer into.
 	 *
-	 * @param doc
-	 * @param wfsStyle
+	 * @return a {@link GeometryContainer} backed by the {@link FeatureStore}
+	 *         or a new {@link GeometryContainer} if there is none
 	 */
-	private void createDrawPoints(org.jdom2.Document doc) {
-		// GET THE FIRST ELEMENT OF THE DOCUMENT
-		Element elem = doc.getRootElement();
+	private GeometryContainer createLayerContainer() {
+		return this.getFeatureStore() != null ? new GeometryContainer(this.getFeatureStore()) : new GeometryContainer();
+	}
 
-		ArrayList<Element> ergElem0 = findTag(elem, "Point");
+	/**
+	 * Returns the features of one layer from the {@link WfsFeatureCache}. Only
+	 * the parts of the {@link BoundingBox} of this {@link WfsLayer} that are not
+	 * covered by the cache yet are received and added to the cache.
+	 *
+	 * @param layer
+	 *            the name of the layer
+	 * @param layerRequest
+	 *            the GetFeature request of the layer (ending with '&amp;')
+	 *            without BBOX
+	 * @param filter
+	 *            the {@link WfsFilter} that restricts the requests
+	 * @param ids
+	 *            the {@link IdentityHashMap} to fill with the ids of the
+	 *            features by their {@link AdditionalInfo}s or
+	 *            <code>null</code>
+	 * @return the {@link GeometryContainer} containing the features
+	 * @throws IOException
+	 *             if a response could not be received or decoded
+	 * @throws XMLStreamException
+	 *             if a response is not well-formed XML
+	 */
+	private GeometryContainer receiveCached(String layer, String layerRequest, WfsFilter filter, IdentityHashMap<AdditionalInfo, String> ids)
+			throws IOException, XMLStreamException {
+		// THE REQUEST WITHOUT BBOX AND OUTPUT FORMAT IDENTIFIES THE FEATURES
+		CachedFeatures cached = this.getFeatureCache().getFeatures(layerRequest + filter.createAttributeFilter());
+		ArrayList<BoundingBox> missing;
+		try {
+			missing = cached.getMissing(this.getLayerBBox(), this.getFeatureCache().getMaxAge());
+		} catch (BoundingboxNotCreatableException e) {
+			throw new IOException("Could not create the missing extents of the cached WFS-layer " + layer + "!");
+		}
+		for (int a = 0; a < missing.size(); a++) {
+			GeometryContainer received = new GeometryContainer();
+			IdentityHashMap<AdditionalInfo, String> receivedIds = new IdentityHashMap<>();
+			boolean complete = this.receiveArea(layer, layerRequest, filter, missing.get(a), received, receivedIds);
+			cached.add(missing.get(a), received, receivedIds, complete);
+		}
+		try {
+			this.getFeatureCache().store(cached);
+		} catch (IOException e) {
+			log.warn("Could not store the cached WFS-layer " + layer + ": " + e.getMessage());
+		}
 
-		// CONVERT THE VALUE OF THE POS TAGS (CHILDREN OF POINT)
-		// INTO GEOPOINTS
-		for (int c = 0; c < ergElem0.size(); c++) {
+		GeometryContainer container = this.createLayerContainer();
+		int count = cached.query(this.getLayerBBox(), container, ids);
+		log.info("WFS-layer " + layer + ": " + count + " features from the cache, " + missing.size() + " missing extents requested.");
+		return container;
+	}
 
-			ArrayList<Element> ergElem1 = findTag(ergElem0.get(c), "pos");
+	/**
+	 * Receives the features of one layer in the given output format and adds
+	 * them to the given {@link GeometryContainer}.
+	 *
+	 * @param layerRequest
+	 *            the GetFeature request of the layer (ending with '&amp;')
+	 *            without BBOX
+	 * @param filter
+	 *            the {@link WfsFilter} that restricts the requests
+	 * @param format
+	 *            the value of the OUTPUTFORMAT parameter or <code>null</code>
+	 *            for GML
+	 * @param area
+	 *            the {@link BoundingBox} to receive
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @param ids
+	 *            the {@link IdentityHashMap} to fill with the ids of the
+	 *            features by their {@link AdditionalInfo}s or
+	 *            <code>null</code> to not record them
+	 * @return <code>true</code> if all features were received;
+	 *         <code>false</code> if the response was truncated by a feature
+	 *         limit
+	 * @throws IOException
+	 *             if the response could not be received or decoded
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	private boolean receiveLayer(String layerRequest, WfsFilter filter, String format, BoundingBox area, GeometryContainer container,
+			IdentityHashMap<AdditionalInfo, String> ids) throws IOException, XMLStreamException {
+		String bbox = filter.createParameters(area);
+		if (this.isPaged()) {
+			WfsPagedRequest paged = new WfsPagedRequest(layerRequest + bbox, this.getPageSize(), this.getMaxParallelPages());
+			paged.setOutputFormat(format);
+			paged.setSortBy(this.getPageSortBy());
+			if (ids != null)
+				paged.recordFeatureIds();
+			paged.receive(container);
+			if (ids != null)
+				ids.putAll(paged.getInfoIds());
+			return paged.isComplete();
+		} else if (this.getMaxFeaturesPerRequest() > 0) {
+			WfsQuadtreeRequest quadtree = new WfsQuadtreeRequest(layerRequest, this.getVersion(), this.getMaxFeaturesPerRequest(), this.getMaxParallelPages());
+			quadtree.setOutputFormat(format);
+			quadtree.setFilter(filter);
+			if (ids != null)
+				quadtree.recordFeatureIds();
+			quadtree.receive(area, container);
+			if (ids != null)
+				ids.putAll(quadtree.getInfoIds());
+			return quadtree.isComplete();
+		} else {
+			String request = layerRequest + FeatureStreamDecoder.createParameter(format) + bbox;
+			log.info("WFS-REQUEST-STRING:" + request);
+			return this.receiveResponse(request, format, container, ids);
+		}
+	}
 
-			for (int d = 0; d < ergElem1.size(); d++) {
-				String elemText = ergElem1.get(d).getText();
+	/**
+	 * Receives the response of the given request in one piece and decodes it
+	 * into the given {@link GeometryContainer}, while it is received. The
+	 * number of bytes of the response and the time are logged.
+	 *
+	 * @param request
+	 *            the request as {@link String}
+	 * @param format
+	 *            the value of the OUTPUTFORMAT parameter or <code>null</code>
+	 *            for GML
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @param ids
+	 *            the {@link IdentityHashMap} to fill with the ids of the
+	 *            features by their {@link AdditionalInfo}s or
+	 *            <code>null</code> to not record them
+	 * @return <code>true</code> if all features were received;
+	 *         <code>false</code> if the server reported more matching than
+	 *         returned features (only checked if the ids are recorded)
+	 * @throws IOException
+	 *             if the response could not be received or decoded
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	private boolean receiveResponse(String request, String format, GeometryContainer container, IdentityHashMap<AdditionalInfo, String> ids)
+			throws IOException, XMLStreamException {
+		FeatureStreamDecoder decoder = this.createDecoder(format, container);
+		if (ids != null) {
+			decoder.recordFeatureIds();
+			// A RESPONSE CUT BY THE SERVER IS DECODED, BUT DETECTED
+			decoder.setStopIfTruncated(false);
+		}
+		decoder.receive(request);
+		if (ids != null)
+			ids.putAll(decoder.getInfoIds());
+		return !decoder.isTruncated();
+	}
 
-				String[] parts = elemText.split(" ");
+	/**
+	 * Creates the {@link FeatureStreamDecoder} for a response in the given
+	 * output format: A {@link ParallelGmlDecoder} for GML if the responses are
+	 * decoded in parallel.
+	 *
+	 * @param format
+	 *            the value of the OUTPUTFORMAT parameter or <code>null</code>
+	 *            for GML
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @return the new {@link FeatureStreamDecoder}
+	 */
+	private FeatureStreamDecoder createDecoder(String format, GeometryContainer container) {
+		// ONLY GML CAN BE SPLIT INTO CHUNKS
+		if (this.isParallelDecoding() && !FeatureStreamDecoder.isJson(format))
+			return new ParallelGmlDecoder(container);
+		return FeatureStreamDecoder.create(format, container);
+	}
 
-				// TODO : WORKS ONLY FOR UTM CRS. IN OTHER CRS THIS ORDER MAY
-				// NOT BE GIVEN
-				int east = (int) (Double.parseDouble(parts[1]));
-				int north = (int) (Double.parseDouble(parts[0]));
+	/**
+	 * Returns a {@link Boolean} that indicates if the requests of this
+	 * {@link WfsLayer} are paged: A page size is set and the WFS version is
+	 * 2.0 or newer.
+	 *
+	 * @return <code>true</code> if the requests are paged;
+	 *         <code>false</code> if not
+	 */
+	public boolean isPaged() {
+		return this.getPageSize() > 0 && this.getVersion() != null && !this.getVersion().startsWith("1.");
+	}
 
-				DrawPoint g;
-				try {
-					g = new DrawPoint(new DirectPosition2D(CoordinateTransformer.getInstance().getUtmCrs(), east, north));
-					this.getGeoContainer().addDrawGeometry(g);
-				} catch (CoordinateTransformException e) {
-					log.warn("COORDINATE TRANSFORM EXCEPTION ERROR: COULD NOT CREATE DRAWPOINT FROM XML!");
-				}
-			}
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.github.dagri.GeospatialPDF4J.map.layers.IPdfAddable#prepareForAdding(
+	 * com.lowagie.text.Document)
+	 */
+	@Override
+	public void prepareForAdding(Document doc) throws MapLayerNotReceivableException {
+		// ONLY THE GEOMETRIES INSIDE OF THE BOUNDINGBOX ARE CREATED
+		if (this.getFeatureStore() != null) {
+			this.setGeoContainer(this.getFeatureStore().toContainer(this.getLayerBBox(), this.getFeatureIds()));
+			this.setFeatureStore(null);
+		}
+		this.setOffsets2Map(this.calcPixelOffsets(this.getMapBBox(), this.getLayerBBox()));
+		this.setPageTransform(this.createPageTransform(doc));
+		// THE RECEIVED GEOMETRIES STAY UNTOUCHED, SO THE LAYER CAN BE PREPARED
+		// AGAIN FOR ANOTHER RESOLUTION
+		GeometryContainer clipped = this.getGeoContainer().createIntersection(this.getLayerBBox(), this.getClipMode());
+		if (this.isSharedBorders()) {
+			// THE NETWORK IS BUILT BEFORE THE SIMPLIFICATION AND SIMPLIFIED AS
+			// A WHOLE. THE FILLS ARE REBUILT FROM THE SAME SIMPLIFIED LINES, SO
+			// NEIGHBOURING POLYGONS AND THEIR STROKED BORDERS DO NOT DRIFT
+			// APART
+			OutlineNetwork network = this.reduceLevelOfDetail(clipped.createOutlineNetwork());
+			this.setDrawContainer(this.reduceLevelOfDetail(clipped, network));
+			GeometryContainer outlines = new GeometryContainer();
+			for (int a = 0; a < network.getLines().size(); a++)
+				outlines.addDrawGeometry(new DrawLineString(network.getLines().get(a), new AdditionalInfo()));
+			this.setOutlineContainer(outlines);
+		} else {
+			this.setDrawContainer(this.reduceLevelOfDetail(clipped));
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.github.dagri.GeospatialPDF4J.map.layers.IPdfAddable#addToPdf(com.
+	 * lowagie.text.Document, com.lowagie.text.pdf.PdfWriter)
+	 */
+	@Override
+	public void addToPdf(Document doc) throws MapLayerNotReceivableException {
+		PdfLayer overlayer = this.createParentalPdfLayer("Wfs-Layer", this.getWriter());
+		WfsDrawer drawer = new WfsDrawer(this.getWriter(), this, this.createTopTreeElement("Wfs-Layer"), overlayer);
+		drawer.setPageTransform(this.getPageTransform());
+		drawer.setDevicePixelSize(this.getDevicePixelSize());
+		this.applyOutputMode(drawer);
+		if (drawer.getAttributeTable() != null)
+			drawer.getAttributeTable().setFeatureIds(this.getFeatureIds());
+		drawer.drawAll();
+		log.info("WFS-Layer drawn with " + drawer.getDrawnVertices() + " vertices.");
+	}
+
 	/**
 	 * Recursive method to find {@link Element}s beneath a given root
 	 * {@link Element} containing a {@link String}-kind tag. Returns an
@@ -354,6 +741,27 @@ public class WfsLayer extends WebserviceLayer {
 		this.geoContainer = geoContainer;
 	}
 
+	/**
+	 * Returns the {@link GeometryContainer} storing the {@link DrawGeometry}s
+	 * reduced to the level of detail of the output device.
+	 *
+	 * @return the {@link GeometryContainer} to draw
+	 */
+	public GeometryContainer getDrawContainer() {
+		return drawContainer;
+	}
+
+	/**
+	 * Sets the {@link GeometryContainer} storing the {@link DrawGeometry}s
+	 * reduced to the level of detail of the output device.
+	 *
+	 * @param drawContainer
+	 *            the {@link GeometryContainer} to set
+	 */
+	private void setDrawContainer(GeometryContainer drawContainer) {
+		this.drawContainer = drawContainer;
+	}
+
 	/**
 	 * Returns the {@link WfsStyle} of this {@link WfsLayer} as {@link WfsStyle}
 	 * .
@@ -374,5 +782,357 @@ public class WfsLayer extends WebserviceLayer {
 		this.style = styles;
 	}
 
+	/**
+	 * Returns the {@link EClipMode} of this {@link WfsLayer}.
+	 *
+	 * @return the {@link EClipMode}
+	 */
+	public EClipMode getClipMode() {
+		return clipMode;
+	}
+
+	/**
+	 * Sets the {@link EClipMode} of this {@link WfsLayer}.
+	 *
+	 * @param clipMode
+	 *            the {@link EClipMode} to set
+	 */
+	public void setClipMode(EClipMode clipMode) {
+		this.clipMode = clipMode;
+	}
+
+	/**
+	 * Returns a {@link Boolean} indicating if the borders shared by
+	 * neighbouring polygons are stroked only once.
+	 *
+	 * @return <code>true</code> if the outlines are drawn as network of unique
+	 *         edges; <code>false</code> if every polygon is stroked
+	 */
+	public boolean isSharedBorders() {
+		return sharedBorders;
+	}
+
+	/**
+	 * Sets the {@link Boolean} indicating if the borders shared by
+	 * neighbouring polygons are stroked only once.
+	 *
+	 * @param sharedBorders
+	 *            <code>true</code> to draw the outlines as network of unique
+	 *            edges
+	 */
+	public void setSharedBorders(boolean sharedBorders) {
+		this.sharedBorders = sharedBorders;
+	}
+
+	/**
+	 * Returns a {@link Boolean} indicating if the responses are decoded in
+	 * chunks by several threads.
+	 *
+	 * @return <code>true</code> if the responses are decoded in parallel;
+	 *         <code>false</code> if not
+	 */
+	public boolean isParallelDecoding() {
+		return parallelDecoding;
+	}
+
+	/**
+	 * Sets the {@link Boolean} indicating if the responses are decoded in
+	 * chunks by several threads.
+	 *
+	 * @param parallelDecoding
+	 *            <code>true</code> to decode the responses in parallel
+	 */
+	public void setParallelDecoding(boolean parallelDecoding) {
+		this.parallelDecoding = parallelDecoding;
+	}
+
+	/**
+	 * Returns the number of features per page of a WFS 2.0 request.
+	 *
+	 * @return the page size; 0 if the paging is disabled
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Sets the number of features per page of a WFS 2.0 request. Should not
+	 * exceed the maximum feature limit of the server.
+	 *
+	 * @param pageSize
+	 *            the page size to set; 0 to disable the paging
+	 */
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Returns the value of the SORTBY parameter of the pages of a WFS 2.0
+	 * request.
+	 *
+	 * @return the sort order or <code>null</code> if it is not sent
+	 */
+	public String getPageSortBy() {
+		return pageSortBy;
+	}
+
+	/**
+	 * Sets the value of the SORTBY parameter of the pages of a WFS 2.0
+	 * request. Without it the server may return the pages in an unstable
+	 * order, so features can be missing.
+	 *
+	 * @param pageSortBy
+	 *            the sort order to set (e.g. the primary key property) or
+	 *            <code>null</code> to not send it
+	 */
+	public void setPageSortBy(String pageSortBy) {
+		this.pageSortBy = pageSortBy;
+	}
+
+	/**
+	 * Returns the maximal number of pages or boxes requested at the same time.
+	 *
+	 * @return the maximal number of parallel pages
+	 */
+	public int getMaxParallelPages() {
+		return maxParallelPages;
+	}
+
+	/**
+	 * Sets the maximal number of pages or boxes requested at the same time.
+	 *
+	 * @param maxParallelPages
+	 *            the maximal number of parallel pages to set
+	 */
+	public void setMaxParallelPages(int maxParallelPages) {
+		this.maxParallelPages = maxParallelPages;
+	}
+
+	/**
+	 * Returns the number of features a single response may contain before the
+	 * requested {@link BoundingBox} is split into quadrants.
+	 *
+	 * @return the maximal number of features per request; 0 if the splitting
+	 *         is disabled
+	 */
+	public int getMaxFeaturesPerRequest() {
+		return maxFeaturesPerRequest;
+	}
+
+	/**
+	 * Sets the number of features a single response may contain before the
+	 * requested {@link BoundingBox} is split into quadrants. Should not exceed
+	 * the maximum feature limit of the server. Not used if the requests are
+	 * paged.
+	 *
+	 * @param maxFeaturesPerRequest
+	 *            the maximal number of features per request to set; 0 to
+	 *            disable the splitting
+	 */
+	public void setMaxFeaturesPerRequest(int maxFeaturesPerRequest) {
+		this.maxFeaturesPerRequest = maxFeaturesPerRequest;
+	}
+
+	/**
+	 * Returns the names of the properties requested besides the geometry.
+	 *
+	 * @return the {@link ArrayList} of property names or <code>null</code> if
+	 *         all properties are requested
+	 */
+	public ArrayList<String> getPropertyNames() {
+		return propertyNames;
+	}
+
+	/**
+	 * Sets the names of the properties requested besides the geometry. Only
+	 * these properties are transferred and stored in the
+	 * {@link AdditionalInfo}s.
+	 *
+	 * @param propertyNames
+	 *            the {@link ArrayList} of property names to set or
+	 *            <code>null</code> to request all properties
+	 */
+	public void setPropertyNames(ArrayList<String> propertyNames) {
+		this.propertyNames = propertyNames;
+	}
+
+	/**
+	 * Returns the name of the geometry property of the requested layers.
+	 *
+	 * @return the name or <code>null</code> if it is requested from the server
+	 */
+	public String getGeometryPropertyName() {
+		return geometryPropertyName;
+	}
+
+	/**
+	 * Sets the name of the geometry property of the requested layers, so it
+	 * does not have to be requested from the server.
+	 *
+	 * @param geometryPropertyName
+	 *            the name to set or <code>null</code> to request it from the
+	 *            server
+	 */
+	public void setGeometryPropertyName(String geometryPropertyName) {
+		this.geometryPropertyName = geometryPropertyName;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if the received features are
+	 * kept in a {@link FeatureStore} until this {@link WfsLayer} is prepared
+	 * for adding.
+	 *
+	 * @return <code>true</code> if the features are stored in columns;
+	 *         <code>false</code> if not
+	 */
+	public boolean isColumnarStore() {
+		return columnarStore;
+	}
+
+	/**
+	 * Sets if the received features are kept in a {@link FeatureStore} until
+	 * this {@link WfsLayer} is prepared for adding. Saves memory for large
+	 * layers: the decoders write the features into the columns while
+	 * receiving, and when the layer is prepared only the features inside of
+	 * the {@link BoundingBox} get {@link DrawGeometry}s, which read their
+	 * vertices from the columns.
+	 *
+	 * @param columnarStore
+	 *            <code>true</code> to store the features in columns;
+	 *            <code>false</code> to keep them as {@link DrawGeometry}s
+	 */
+	public void setColumnarStore(boolean columnarStore) {
+		this.columnarStore = columnarStore;
+	}
+
+	/**
+	 * Returns the {@link FeatureStore} keeping the received features.
+	 *
+	 * @return the {@link FeatureStore} or <code>null</code> if the features
+	 *         are kept in the {@link GeometryContainer}
+	 */
+	public FeatureStore getFeatureStore() {
+		return featureStore;
+	}
+
+	/**
+	 * Sets the {@link FeatureStore} keeping the received features.
+	 *
+	 * @param featureStore
+	 *            the {@link FeatureStore} to set
+	 */
+	private void setFeatureStore(FeatureStore featureStore) {
+		this.featureStore = featureStore;
+	}
+
+	/**
+	 * Returns the source ids of the received features by their
+	 * {@link AdditionalInfo}s.
+	 *
+	 * @return the {@link IdentityHashMap} of feature ids or <code>null</code>
+	 *         if the attributes are not attached
+	 */
+	public IdentityHashMap<AdditionalInfo, String> getFeatureIds() {
+		return featureIds;
+	}
+
+	/**
+	 * Sets the source ids of the received features by their
+	 * {@link AdditionalInfo}s.
+	 *
+	 * @param featureIds
+	 *            the {@link IdentityHashMap} of feature ids to set or
+	 *            <code>null</code>
+	 */
+	private void setFeatureIds(IdentityHashMap<AdditionalInfo, String> featureIds) {
+		this.featureIds = featureIds;
+	}
+
+	/**
+	 * Returns the {@link WfsFeatureCache} of this {@link WfsLayer}.
+	 *
+	 * @return the {@link WfsFeatureCache} or <code>null</code> if all features
+	 *         are received from the server
+	 */
+	public WfsFeatureCache getFeatureCache() {
+		return featureCache;
+	}
+
+	/**
+	 * Sets the {@link WfsFeatureCache} of this {@link WfsLayer}. Several
+	 * {@link WfsLayer}s may share one {@link WfsFeatureCache}.
+	 *
+	 * @param featureCache
+	 *            the {@link WfsFeatureCache} to set or <code>null</code> to
+	 *            receive all features from the server
+	 */
+	public void setFeatureCache(WfsFeatureCache featureCache) {
+		this.featureCache = featureCache;
+	}
+
+	/**
+	 * Returns a {@link Boolean} indicating if a GeoJSON output format is
+	 * requested, when the server offers one.
+	 *
+	 * @return <code>true</code> if GeoJSON is preferred; <code>false</code> if
+	 *         GML is always requested
+	 */
+	public boolean isPreferGeoJson() {
+		return preferGeoJson;
+	}
+
+	/**
+	 * Sets the {@link Boolean} indicating if a GeoJSON output format is
+	 * requested, when the server offers one.
+	 *
+	 * @param preferGeoJson
+	 *            <code>true</code> to prefer GeoJSON
+	 */
+	public void setPreferGeoJson(boolean preferGeoJson) {
+		this.preferGeoJson = preferGeoJson;
+	}
+
+	/**
+	 * Returns the negotiated value of the OUTPUTFORMAT parameter.
+	 *
+	 * @return the output format or <code>null</code> for the standard format
+	 *         (GML) of the server
+	 */
+	public String getOutputFormat() {
+		return outputFormat;
+	}
+
+	/**
+	 * Sets the negotiated value of the OUTPUTFORMAT parameter.
+	 *
+	 * @param outputFormat
+	 *            the output format to set or <code>null</code> for the
+	 *            standard format (GML) of the server
+	 */
+	private void setOutputFormat(String outputFormat) {
+		this.outputFormat = outputFormat;
+	}
+
+	/**
+	 * Returns the {@link GeometryContainer} storing the outline network of the
+	 * polygons.
+	 *
+	 * @return the outline {@link GeometryContainer}
+	 */
+	public GeometryContainer getOutlineContainer() {
+		return outlineContainer;
+	}
+
+	/**
+	 * Sets the {@link GeometryContainer} storing the outline network of the
+	 * polygons.
+	 *
+	 * @param outlineContainer
+	 *            the {@link GeometryContainer} to set
+	 */
+	public void setOutlineContainer(GeometryContainer outlineContainer) {
+		this.outlineContainer = outlineContainer;
+	}
+
 	// OTHERS
 }
@@ -0,0 +1,458 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLStreamException;
+
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.server.ServerTalker;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to receive the result of a WFS 2.0 GetFeature request in pages
+ * (STARTINDEX and COUNT), so a maximum feature limit of the server does not
+ * truncate it.
+ *
+ * The number of features is requested first (RESULTTYPE=hits) to know the
+ * number of pages. The pages are requested by a bounded number of threads and
+ * every page is decoded by a {@link FeatureStreamDecoder} of the output
+ * format while it is received. The pages are added to the
+ * {@link GeometryContainer} in their order. All decoders share one {@link Set}
+ * of gml:ids, so a feature delivered on two pages (e.g. because the data
+ * changed between the requests) is only added once.
+ *
+ * If the server does not report the number of features, the pages are
+ * requested in groups until a page is not full or adds no new feature (a
+ * server ignoring STARTINDEX returns the first page again and again). No more
+ * than {@link #getMaxPages()} pages are requested in any case.
+ *
+ * WFS 2.0 does not define the order of the features without SORTBY: a server
+ * may return them in another order for every page, so features can be
+ * missing (duplicates are removed by their ids, missing features can not be
+ * detected). Set {@link #setSortBy(String)} to the primary key property of
+ * the feature type if the server does not page in a stable order.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class WfsPagedRequest {
+
+	// ATTRIBUTES
+
+	/**
+	 * The GetFeature request (ending with '&amp;') without paging parameters.
+	 */
+	private String			request;
+
+	/**
+	 * The number of features per page.
+	 */
+	private int				pageSize;
+
+	/**
+	 * The maximal number of pages requested at the same time.
+	 */
+	private int				parallelism;
+
+	/**
+	 * The value of the OUTPUTFORMAT parameter of the pages or
+	 * <code>null</code> for the standard format (GML) of the server.
+	 */
+	private String			outputFormat;
+
+	/**
+	 * The value of the SORTBY parameter of the pages (e.g. the primary key
+	 * property) or <code>null</code> to not send it.
+	 */
+	private String			sortBy;
+
+	/**
+	 * The maximal number of requested pages.
+	 *
+	 * Standard value is 1000.
+	 */
+	private int				maxPages		= 1000;
+
+	/**
+	 * The gml:ids of all decoded features.
+	 */
+	private Set<String>		featureIds		= Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	/**
+	 * The number of decoded features.
+	 */
+	private long			featureCount	= 0;
+
+	/**
+	 * The number of features skipped as duplicates.
+	 */
+	private long			duplicateCount	= 0;
+
+	/**
+	 * Indicates if all features were received: No page was left out because
+	 * of the maximal number of pages or an ignored STARTINDEX.
+	 */
+	private boolean			complete		= false;
+
+	/**
+	 * The ids of the added features by their {@link AdditionalInfo}s or
+	 * <code>null</code> if they are not recorded.
+	 */
+	private IdentityHashMap<AdditionalInfo, String>	infoIds;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link WfsPagedRequest} using the GetFeature request,
+	 * the number of features per page and the maximal number of pages
+	 * requested at the same time.
+	 *
+	 * @param request
+	 *            the GetFeature request (ending with '&amp;') as
+	 *            {@link String}
+	 * @param pageSize
+	 *            the number of features per page
+	 * @param parallelism
+	 *            the maximal number of pages requested at the same time
+	 */
+	public WfsPagedRequest(String request, int pageSize, int parallelism) {
+		this.request = request;
+		this.pageSize = Math.max(1, pageSize);
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	// METHODS
+
+	/**
+	 * Requests all pages and adds their features to the given
+	 * {@link GeometryContainer}.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @throws IOException
+	 *             if a page could not be received
+	 * @throws XMLStreamException
+	 *             if a page is not well-formed XML
+	 */
+	public void receive(GeometryContainer container) throws IOException, XMLStreamException {
+		long hits = this.requestHits();
+		String sort = this.getSortBy() != null ? "SORTBY=" + URLEncoder.encode(this.getSortBy(), "UTF-8") + "&" : "";
+		ExecutorService pool = Executors.newFixedThreadPool(this.getParallelism());
+		try {
+			if (hits >= 0) {
+				long pages = (hits + this.getPageSize() - 1) / this.getPageSize();
+				log.info("Receiving " + hits + " features in " + pages + " pages of " + this.getPageSize() + "...");
+				if (pages > this.getMaxPages()) {
+					log.warn("Only the first " + this.getMaxPages() + " of " + pages + " pages are requested!");
+					pages = this.getMaxPages();
+				}
+				ArrayList<Future<FeatureStreamDecoder>> results = new ArrayList<>();
+				for (int a = 0; a < pages; a++)
+					results.add(pool.submit(this.createPageTask(a, sort)));
+				for (int a = 0; a < results.size(); a++)
+					this.addPage(container, this.await(results.get(a)));
+				this.complete = this.getFeatureCount() + this.getDuplicateCount() >= hits;
+				if (!this.isComplete())
+					log.warn("Only " + this.getFeatureCount() + " of " + hits + " features received!");
+			} else {
+				// UNKNOWN NUMBER : REQUEST GROUPS OF PAGES UNTIL ONE IS NOT FULL
+				// OR ADDS NO NEW FEATURE
+				log.info("Receiving an unknown number of features in pages of " + this.getPageSize() + "...");
+				int page = 0;
+				boolean last = false;
+				boolean complete = false;
+				while (!last && page < this.getMaxPages()) {
+					ArrayList<Future<FeatureStreamDecoder>> results = new ArrayList<>();
+					for (int a = 0; a < this.getParallelism() && page < this.getMaxPages(); a++)
+						results.add(pool.submit(this.createPageTask(page++, sort)));
+					for (int a = 0; a < results.size(); a++) {
+						FeatureStreamDecoder decoder = this.await(results.get(a));
+						this.addPage(container, decoder);
+						if (decoder.getFeatureCount() + decoder.getDuplicateCount() < this.getPageSize()) {
+							last = true;
+							complete = true;
+						} else if (decoder.getFeatureCount() == 0) {
+							log.warn("Page " + (page - results.size() + a) + " contains no new features, the server seems to ignore STARTINDEX.");
+							last = true;
+						}
+					}
+				}
+				this.complete = complete;
+				if (!last)
+					log.warn("Paging stopped after the maximal number of " + this.getMaxPages() + " pages!");
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		log.info("Paged request received: " + this.getFeatureCount() + " features, " + this.getDuplicateCount() + " duplicates skipped.");
+	}
+
+	/**
+	 * Requests the number of features of the request. A server that can not
+	 * answer it is requested without the number.
+	 *
+	 * @return the number of features or -1 if unknown
+	 */
+	protected long requestHits() {
+		try {
+			return ServerTalker.getInstance().wfsHitsRequest(this.getRequest() + "RESULTTYPE=hits");
+		} catch (IOException | XMLStreamException e) {
+			log.warn("Could not request the number of features: " + e.getMessage());
+			return -1;
+		}
+	}
+
+	/**
+	 * Creates the {@link Callable} that requests and decodes the page with the
+	 * given index.
+	 *
+	 * @param page
+	 *            the index of the page
+	 * @param sort
+	 *            the SORTBY parameter (ending with '&amp;') or an empty
+	 *            {@link String}
+	 * @return the {@link Callable} returning the {@link FeatureStreamDecoder} of
+	 *         the page
+	 */
+	private Callable<FeatureStreamDecoder> createPageTask(final int page, String sort) {
+		final String pageRequest = this.getRequest() + FeatureStreamDecoder.createParameter(this.getOutputFormat()) + sort + "STARTINDEX=" + ((long) page * this.getPageSize())
+				+ "&COUNT=" + this.getPageSize();
+		final Set<String> ids = this.featureIds;
+		final String format = this.getOutputFormat();
+		final boolean record = this.getInfoIds() != null;
+		return new Callable<FeatureStreamDecoder>() {
+
+			@Override
+			public FeatureStreamDecoder call() throws Exception {
+				log.debug("WFS-PAGE-REQUEST-STRING:" + pageRequest);
+				FeatureStreamDecoder decoder = FeatureStreamDecoder.create(format, new GeometryContainer());
+				decoder.setFeatureIds(ids);
+				if (record)
+					decoder.recordFeatureIds();
+				WfsPagedRequest.this.receivePage(decoder, pageRequest);
+				return decoder;
+			}
+		};
+	}
+
+	/**
+	 * Requests the given page and decodes it by the given
+	 * {@link FeatureStreamDecoder}.
+	 *
+	 * @param decoder
+	 *            the {@link FeatureStreamDecoder} of the page
+	 * @param pageRequest
+	 *            the request of the page
+	 * @throws IOException
+	 *             if the page could not be received
+	 * @throws XMLStreamException
+	 *             if the page is not well-formed XML
+	 */
+	protected void receivePage(FeatureStreamDecoder decoder, String pageRequest) throws IOException, XMLStreamException {
+		decoder.receive(pageRequest);
+	}
+
+	/**
+	 * Adds the content of a decoded page to the given
+	 * {@link GeometryContainer}.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @param decoder
+	 *            the {@link FeatureStreamDecoder} of the page
+	 */
+	private void addPage(GeometryContainer container, FeatureStreamDecoder decoder) {
+		container.addGeometryContainer(decoder.getContainer());
+		this.featureCount += decoder.getFeatureCount();
+		this.duplicateCount += decoder.getDuplicateCount();
+		if (this.getInfoIds() != null)
+			this.getInfoIds().putAll(decoder.getInfoIds());
+	}
+
+	/**
+	 * Enables the recording of the ids of the added features, see
+	 * {@link #getInfoIds()}.
+	 */
+	public void recordFeatureIds() {
+		if (this.infoIds == null)
+			this.infoIds = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Waits for the result of the given {@link Future} and rethrows the
+	 * exception of a failed page.
+	 *
+	 * @param f
+	 *            the {@link Future} to wait for
+	 * @return the {@link FeatureStreamDecoder} of the page
+	 * @throws IOException
+	 *             if the page could not be received or the waiting was
+	 *             interrupted
+	 * @throws XMLStreamException
+	 *             if the page is not well-formed XML
+	 */
+	private FeatureStreamDecoder await(Future<FeatureStreamDecoder> f) throws IOException, XMLStreamException {
+		try {
+			return f.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while receiving the WFS pages.");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof XMLStreamException)
+				throw (XMLStreamException) cause;
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the GetFeature request without paging parameters.
+	 *
+	 * @return the request as {@link String}
+	 */
+	public String getRequest() {
+		return request;
+	}
+
+	/**
+	 * Returns the value of the OUTPUTFORMAT parameter of the pages.
+	 *
+	 * @return the output format or <code>null</code> for the standard format
+	 *         of the server
+	 */
+	public String getOutputFormat() {
+		return outputFormat;
+	}
+
+	/**
+	 * Sets the value of the OUTPUTFORMAT parameter of the pages. The number of
+	 * features is always requested in the standard format (GML).
+	 *
+	 * @param outputFormat
+	 *            the output format to set or <code>null</code> for the
+	 *            standard format of the server
+	 */
+	public void setOutputFormat(String outputFormat) {
+		this.outputFormat = outputFormat;
+	}
+
+	/**
+	 * Returns the value of the SORTBY parameter of the pages.
+	 *
+	 * @return the sort order or <code>null</code> if it is not sent
+	 */
+	public String getSortBy() {
+		return sortBy;
+	}
+
+	/**
+	 * Sets the value of the SORTBY parameter of the pages, e.g. the primary
+	 * key property of the feature type, so the server pages in a stable
+	 * order.
+	 *
+	 * @param sortBy
+	 *            the sort order to set or <code>null</code> to not send it
+	 */
+	public void setSortBy(String sortBy) {
+		this.sortBy = sortBy;
+	}
+
+	/**
+	 * Returns the maximal number of requested pages.
+	 *
+	 * @return the maximal number of pages
+	 */
+	public int getMaxPages() {
+		return maxPages;
+	}
+
+	/**
+	 * Sets the maximal number of requested pages.
+	 *
+	 * @param maxPages
+	 *            the maximal number of pages to set
+	 */
+	public void setMaxPages(int maxPages) {
+		this.maxPages = Math.max(1, maxPages);
+	}
+
+	/**
+	 * Returns the number of features per page.
+	 *
+	 * @return the page size
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Returns the maximal number of pages requested at the same time.
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Returns the number of decoded features.
+	 *
+	 * @return the number of features
+	 */
+	public long getFeatureCount() {
+		return featureCount;
+	}
+
+	/**
+	 * Returns the number of features skipped as duplicates.
+	 *
+	 * @return the number of duplicates
+	 */
+	public long getDuplicateCount() {
+		return duplicateCount;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if all features were received
+	 * by the last {@link #receive(GeometryContainer)}.
+	 *
+	 * @return <code>true</code> if all features were received;
+	 *         <code>false</code> if pages were left out
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Returns the ids of the added features by their {@link AdditionalInfo}s
+	 * (shared by all geometries of a feature).
+	 *
+	 * @return the {@link IdentityHashMap} of feature ids or <code>null</code>
+	 *         if they are not recorded
+	 */
+	public IdentityHashMap<AdditionalInfo, String> getInfoIds() {
+		return infoIds;
+	}
+
+	// OTHERS
+}
@@ -0,0 +1,497 @@
+package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLStreamException;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawGeometry;
+import io.github.dagri.GeospatialPDF4J.exceptions.BoundingboxNotCreatableException;
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to receive the result of a WFS GetFeature request for servers
+ * without paging by splitting the requested {@link BoundingBox} adaptively.
+ *
+ * Every {@link BoundingBox} is requested with one feature more than the
+ * feature limit as COUNT (MAXFEATURES for WFS 1.x). A response that contains
+ * more features than the limit or reports more matching than returned
+ * features (the hit count of WFS 2.0) is truncated: Its decoding is stopped
+ * and the four quadrants of the {@link BoundingBox} are requested instead, up
+ * to {@link #getMaxDepth()} levels. A response with exactly the limit is
+ * complete. All {@link BoundingBox}es of a level are
+ * requested by a bounded number of threads.
+ *
+ * The complete responses are added to the {@link GeometryContainer} in a
+ * fixed order (level by level, quadrants in order). A feature crossing the
+ * border of two quadrants is returned for both; it is only added for the first
+ * one, identified by its gml:id (or GeoJSON id).
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class WfsQuadtreeRequest {
+
+	// ATTRIBUTES
+
+	/**
+	 * The GetFeature request (ending with '&amp;') without BBOX (or FILTER)
+	 * and count parameters.
+	 */
+	private String		request;
+
+	/**
+	 * The version of the WFS as {@link String}.
+	 */
+	private String		version;
+
+	/**
+	 * The value of the OUTPUTFORMAT parameter or <code>null</code> for the
+	 * standard format (GML) of the server.
+	 */
+	private String		outputFormat;
+
+	/**
+	 * The {@link WfsFilter} that restricts the requests to a
+	 * {@link BoundingBox}.
+	 */
+	private WfsFilter	filter;
+
+	/**
+	 * The number of features a response may contain before the
+	 * {@link BoundingBox} is split.
+	 */
+	private int			featureLimit;
+
+	/**
+	 * The maximal number of times a {@link BoundingBox} is split.
+	 *
+	 * Standard value is 6.
+	 */
+	private int			maxDepth		= 6;
+
+	/**
+	 * The maximal number of {@link BoundingBox}es requested at the same time.
+	 */
+	private int			parallelism;
+
+	/**
+	 * The gml:ids of all added features.
+	 */
+	private Set<String>	featureIds		= new HashSet<>();
+
+	/**
+	 * The number of requested {@link BoundingBox}es.
+	 */
+	private int			requestCount	= 0;
+
+	/**
+	 * The number of added features.
+	 */
+	private long		featureCount	= 0;
+
+	/**
+	 * Indicates if all features were received: No response was truncated at
+	 * the maximal depth.
+	 */
+	private boolean		complete		= true;
+
+	/**
+	 * The ids of the added features by their {@link AdditionalInfo}s or
+	 * <code>null</code> if they are not recorded.
+	 */
+	private IdentityHashMap<AdditionalInfo, String>	infoIds;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Constructor for a {@link WfsQuadtreeRequest} using the GetFeature
+	 * request, the WFS version, the feature limit per response and the
+	 * maximal number of {@link BoundingBox}es requested at the same time.
+	 *
+	 * @param request
+	 *            the GetFeature request (ending with '&amp;') without BBOX
+	 *            and count parameters
+	 * @param version
+	 *            the version of the WFS
+	 * @param featureLimit
+	 *            the number of features a response may contain before the
+	 *            {@link BoundingBox} is split
+	 * @param parallelism
+	 *            the maximal number of {@link BoundingBox}es requested at the
+	 *            same time
+	 */
+	public WfsQuadtreeRequest(String request, String version, int featureLimit, int parallelism) {
+		this.request = request;
+		this.version = version;
+		this.filter = new WfsFilter(version, null, null);
+		this.featureLimit = Math.max(1, featureLimit);
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	// METHODS
+
+	/**
+	 * Requests the given {@link BoundingBox} (split as far as necessary) and
+	 * adds the features to the given {@link GeometryContainer}.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} to request
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @throws IOException
+	 *             if a response could not be received
+	 * @throws XMLStreamException
+	 *             if a response is not well-formed XML
+	 */
+	public void receive(BoundingBox bbox, GeometryContainer container) throws IOException, XMLStreamException {
+		ExecutorService pool = Executors.newFixedThreadPool(this.getParallelism());
+		try {
+			ArrayList<BoundingBox> level = new ArrayList<>();
+			level.add(bbox);
+			for (int depth = 0; !level.isEmpty(); depth++) {
+				ArrayList<Future<FeatureStreamDecoder>> results = new ArrayList<>();
+				for (int a = 0; a < level.size(); a++)
+					results.add(pool.submit(this.createBoxTask(level.get(a), depth == this.getMaxDepth())));
+				this.requestCount += level.size();
+
+				ArrayList<BoundingBox> next = new ArrayList<>();
+				for (int a = 0; a < results.size(); a++) {
+					FeatureStreamDecoder decoder = this.await(results.get(a));
+					if (decoder.isTruncated() && depth < this.getMaxDepth()) {
+						next.addAll(this.split(level.get(a)));
+						continue;
+					}
+					if (decoder.isTruncated()) {
+						this.complete = false;
+						log.warn("The response for " + level.get(a).getCornersForRequestUTM() + " is truncated at the maximal depth!");
+					}
+					this.addBox(container, decoder);
+				}
+				if (!next.isEmpty())
+					log.debug("Splitting into " + next.size() + " boxes at depth " + (depth + 1) + "...");
+				level = next;
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		log.info("Quadtree request received: " + this.getFeatureCount() + " features in " + this.getRequestCount() + " requests.");
+	}
+
+	/**
+	 * Returns the quadrants of the given {@link BoundingBox}.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} to split
+	 * @return the {@link ArrayList} of the four quadrants
+	 * @throws IOException
+	 *             if the quadrants could not be created
+	 */
+	private ArrayList<BoundingBox> split(BoundingBox bbox) throws IOException {
+		try {
+			return bbox.getQuadrants();
+		} catch (BoundingboxNotCreatableException e) {
+			throw new IOException("Could not split the bounding box " + bbox.getCornersForRequestUTM() + "!");
+		}
+	}
+
+	/**
+	 * Creates the {@link Callable} that requests and decodes the given
+	 * {@link BoundingBox}.
+	 *
+	 * @param bbox
+	 *            the {@link BoundingBox} to request
+	 * @param last
+	 *            <code>true</code> if the {@link BoundingBox} is not split
+	 *            any more, so a truncated response is decoded up to the limit
+	 * @return the {@link Callable} returning the {@link FeatureStreamDecoder} of
+	 *         the {@link BoundingBox}
+	 */
+	private Callable<FeatureStreamDecoder> createBoxTask(BoundingBox bbox, final boolean last) {
+		String count = this.getVersion() != null && this.getVersion().startsWith("1.") ? "MAXFEATURES=" : "COUNT=";
+		// ONE MORE THAN THE LIMIT : EXACTLY THE LIMIT IS NOT TRUNCATED
+		final String boxRequest = this.getRequest() + FeatureStreamDecoder.createParameter(this.getOutputFormat()) + this.getFilter().createParameters(bbox) + count
+				+ (this.getFeatureLimit() + 1);
+		final long limit = this.getFeatureLimit();
+		final String format = this.getOutputFormat();
+		return new Callable<FeatureStreamDecoder>() {
+
+			@Override
+			public FeatureStreamDecoder call() throws Exception {
+				log.debug("WFS-BOX-REQUEST-STRING:" + boxRequest);
+				FeatureStreamDecoder decoder = FeatureStreamDecoder.create(format, new GeometryContainer());
+				decoder.setFeatureLimit(limit);
+				decoder.setStopIfTruncated(!last);
+				decoder.recordFeatureIds();
+				WfsQuadtreeRequest.this.receiveBox(decoder, boxRequest);
+				return decoder;
+			}
+		};
+	}
+
+	/**
+	 * Requests the given {@link BoundingBox} and decodes the response by the
+	 * given {@link FeatureStreamDecoder}.
+	 *
+	 * @param decoder
+	 *            the {@link FeatureStreamDecoder} of the {@link BoundingBox}
+	 * @param boxRequest
+	 *            the request of the {@link BoundingBox}
+	 * @throws IOException
+	 *             if the response could not be received
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	protected void receiveBox(FeatureStreamDecoder decoder, String boxRequest) throws IOException, XMLStreamException {
+		decoder.receive(boxRequest);
+	}
+
+	/**
+	 * Adds the features of a completely decoded {@link BoundingBox} to the
+	 * given {@link GeometryContainer}, without the features already added for
+	 * another {@link BoundingBox}.
+	 *
+	 * @param container
+	 *            the {@link GeometryContainer} to fill
+	 * @param decoder
+	 *            the {@link FeatureStreamDecoder} of the {@link BoundingBox}
+	 */
+	private void addBox(GeometryContainer container, FeatureStreamDecoder decoder) {
+		Set<AdditionalInfo> duplicates = Collections.newSetFromMap(new IdentityHashMap<AdditionalInfo, Boolean>());
+		for (Map.Entry<AdditionalInfo, String> e : decoder.getInfoIds().entrySet()) {
+			if (!this.featureIds.add(e.getValue()))
+				duplicates.add(e.getKey());
+			else if (this.getInfoIds() != null)
+				this.getInfoIds().put(e.getKey(), e.getValue());
+		}
+		GeometryContainer box = decoder.getContainer();
+		if (!duplicates.isEmpty()) {
+			this.removeFeatures(box.getDrawPoints(), duplicates);
+			this.removeFeatures(box.getDrawLineStrings(), duplicates);
+			this.removeFeatures(box.getMutliLineStrings(), duplicates);
+			this.removeFeatures(box.getDrawPolygons(), duplicates);
+			this.removeFeatures(box.getMultiPolygons(), duplicates);
+		}
+		container.addGeometryContainer(box);
+		this.featureCount += decoder.getFeatureCount() - duplicates.size();
+	}
+
+	/**
+	 * Enables the recording of the ids of the added features, see
+	 * {@link #getInfoIds()}.
+	 */
+	public void recordFeatureIds() {
+		if (this.infoIds == null)
+			this.infoIds = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Removes all {@link DrawGeometry}s of the given features from the given
+	 * {@link ArrayList}, keeping the order of the others.
+	 *
+	 * @param list
+	 *            the {@link ArrayList} to remove from
+	 * @param infos
+	 *            the {@link AdditionalInfo}s of the features to remove
+	 */
+	private void removeFeatures(ArrayList<? extends DrawGeometry> list, Set<AdditionalInfo> infos) {
+		int b = 0;
+		for (int a = 0; a < list.size(); a++) {
+			if (!infos.contains(list.get(a).getInfo()))
+				Collections.swap(list, a, b++);
+		}
+		while (list.size() > b)
+			list.remove(list.size() - 1);
+	}
+
+	/**
+	 * Waits for the result of the given {@link Future} and rethrows the
+	 * exception of a failed request.
+	 *
+	 * @param f
+	 *            the {@link Future} to wait for
+	 * @return the {@link FeatureStreamDecoder} of the {@link BoundingBox}
+	 * @throws IOException
+	 *             if the response could not be received or the waiting was
+	 *             interrupted
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	private FeatureStreamDecoder await(Future<FeatureStreamDecoder> f) throws IOException, XMLStreamException {
+		try {
+			return f.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while receiving the WFS boxes.");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof XMLStreamException)
+				throw (XMLStreamException) cause;
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new IOException(cause);
+		}
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the GetFeature request without BBOX (or FILTER) and count
+	 * parameters.
+	 *
+	 * @return the request as {@link String}
+	 */
+	public String getRequest() {
+		return request;
+	}
+
+	/**
+	 * Returns the version of the WFS.
+	 *
+	 * @return the version as {@link String}
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the value of the OUTPUTFORMAT parameter.
+	 *
+	 * @return the output format or <code>null</code> for the standard format
+	 *         of the server
+	 */
+	public String getOutputFormat() {
+		return outputFormat;
+	}
+
+	/**
+	 * Sets the value of the OUTPUTFORMAT parameter.
+	 *
+	 * @param outputFormat
+	 *            the output format to set or <code>null</code> for the
+	 *            standard format of the server
+	 */
+	public void setOutputFormat(String outputFormat) {
+		this.outputFormat = outputFormat;
+	}
+
+	/**
+	 * Returns the {@link WfsFilter} that restricts the requests to a
+	 * {@link BoundingBox}.
+	 *
+	 * @return the {@link WfsFilter}
+	 */
+	public WfsFilter getFilter() {
+		return filter;
+	}
+
+	/**
+	 * Sets the {@link WfsFilter} that restricts the requests to a
+	 * {@link BoundingBox}, e.g. to add {@link AttributeFilter}s.
+	 *
+	 * @param filter
+	 *            the {@link WfsFilter} to set
+	 */
+	public void setFilter(WfsFilter filter) {
+		this.filter = filter;
+	}
+
+	/**
+	 * Returns the number of features a response may contain before the
+	 * {@link BoundingBox} is split.
+	 *
+	 * @return the feature limit
+	 */
+	public int getFeatureLimit() {
+		return featureLimit;
+	}
+
+	/**
+	 * Returns the maximal number of times a {@link BoundingBox} is split.
+	 *
+	 * @return the maximal depth
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Sets the maximal number of times a {@link BoundingBox} is split.
+	 *
+	 * @param maxDepth
+	 *            the maximal depth to set
+	 */
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Returns the maximal number of {@link BoundingBox}es requested at the
+	 * same time.
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Returns the number of requested {@link BoundingBox}es.
+	 *
+	 * @return the number of requests
+	 */
+	public int getRequestCount() {
+		return requestCount;
+	}
+
+	/**
+	 * Returns the number of added features.
+	 *
+	 * @return the number of features
+	 */
+	public long getFeatureCount() {
+		return featureCount;
+	}
+
+	/**
+	 * Returns a {@link Boolean} that indicates if all features were received
+	 * by the last {@link #receive(BoundingBox, GeometryContainer)}.
+	 *
+	 * @return <code>true</code> if all features were received;
+	 *         <code>false</code> if a response was truncated at the maximal
+	 *         depth
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Returns the ids of the added features by their {@link AdditionalInfo}s
+	 * (shared by all geometries of a feature).
+	 *
+	 * @return the {@link IdentityHashMap} of feature ids or <code>null</code>
+	 *         if they are not recorded
+	 */
+	public IdentityHashMap<AdditionalInfo, String> getInfoIds() {
+		return infoIds;
+	}
+
+	// OTHERS
+}
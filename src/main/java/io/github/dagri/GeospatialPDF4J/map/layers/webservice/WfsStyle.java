@@ -1,5 +1,7 @@
 package io.github.dagri.GeospatialPDF4J.map.layers.webservice;
 
+import java.util.ArrayList;
+
 import io.github.dagri.GeospatialPDF4J.draw.styles.LineStringStyle;
 import io.github.dagri.GeospatialPDF4J.draw.styles.PointStyle;
 import io.github.dagri.GeospatialPDF4J.draw.styles.PolygonStyle;
@@ -31,6 +33,13 @@ public class WfsStyle {
 	 */
 	public PolygonStyle		polygonStyle	= new PolygonStyle();
 
+	/**
+	 * The {@link AttributeFilter}s a feature has to match to be displayed by
+	 * this {@link WfsStyle}. They are evaluated by the server, so other
+	 * features are not transferred.
+	 */
+	public ArrayList<AttributeFilter>	filters	= new ArrayList<>();
+
 	// CONSTRUCTORS
 
 	/**
@@ -0,0 +1,202 @@
+package io.github.dagri.GeospatialPDF4J.res;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class to collect the {@link AdditionalInfo}s of the drawn features as one
+ * table, to be embedded into the PDF once as CSV-file instead of as user
+ * properties per feature.
+ *
+ * Every {@link AdditionalInfo} becomes one row, identified by its feature id:
+ * the id of the feature in its source (e.g. the gml:id of a WFS feature), if
+ * known, otherwise the number of the row (starting at 1). Several geometries
+ * sharing one {@link AdditionalInfo} (e.g. the parts of a feature) share one
+ * row. The columns are all keys of the added {@link AdditionalInfo}s in the
+ * order of their first occurrence.
+ *
+ * The feature id links a row to the drawn content: It is written into the
+ * user properties of the structure element of a feature (see
+ * {@link io.github.dagri.GeospatialPDF4J.draw.drawers.EStructureMode#FEATURE}
+ * ). Content that is not structured per feature can only be linked by a
+ * source id.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class AttributeTable {
+
+	// ATTRIBUTES
+
+	/**
+	 * The name of the feature id column.
+	 */
+	public static final String					ID_COLUMN	= "fid";
+
+	/**
+	 * The rows of this {@link AttributeTable}.
+	 */
+	private ArrayList<AdditionalInfo>			rows		= new ArrayList<>();
+
+	/**
+	 * The feature ids of the added {@link AdditionalInfo}s.
+	 */
+	private Map<AdditionalInfo, String>			ids			= new IdentityHashMap<>();
+
+	/**
+	 * The source ids of the features by their {@link AdditionalInfo}s or
+	 * <code>null</code> if unknown.
+	 */
+	private Map<AdditionalInfo, String>			featureIds;
+
+	/**
+	 * The index of every column per key.
+	 */
+	private LinkedHashMap<String, Integer>		columns		= new LinkedHashMap<>();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Empty constructor for an {@link AttributeTable}.
+	 */
+	public AttributeTable() {
+	}
+
+	// METHODS
+
+	/**
+	 * Adds the given {@link AdditionalInfo} as row, if it was not added
+	 * before, and returns its feature id.
+	 *
+	 * @param info
+	 *            the {@link AdditionalInfo} to add
+	 * @return the feature id of the {@link AdditionalInfo}
+	 */
+	public String add(AdditionalInfo info) {
+		String id = this.getIds().get(info);
+		if (id == null) {
+			this.getRows().add(info);
+			if (this.getFeatureIds() != null)
+				id = this.getFeatureIds().get(info);
+			if (id == null)
+				id = String.valueOf(this.getRows().size());
+			this.getIds().put(info, id);
+			for (int a = 0; a < info.infoCount(); a++) {
+				if (!this.getColumns().containsKey(info.getInfo(a).getKey()))
+					this.getColumns().put(info.getInfo(a).getKey(), this.getColumns().size());
+			}
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the number of rows of this {@link AttributeTable}.
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return this.getRows().size();
+	}
+
+	/**
+	 * Returns this {@link AttributeTable} as UTF-8 encoded CSV-file (RFC 4180):
+	 * A header line with the feature id column and all keys, followed by one
+	 * line per row. Missing values are empty.
+	 *
+	 * @return the CSV-file as byte array
+	 */
+	public byte[] toCsv() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(ID_COLUMN);
+		for (String key : this.getColumns().keySet())
+			appendValue(sb.append(','), key);
+		sb.append("\r\n");
+
+		String[] values = new String[this.getColumns().size()];
+		for (int a = 0; a < this.getRows().size(); a++) {
+			AdditionalInfo info = this.getRows().get(a);
+			for (int b = 0; b < info.infoCount(); b++)
+				values[this.getColumns().get(info.getInfo(b).getKey())] = info.getInfo(b).getValue();
+			appendValue(sb, this.getIds().get(info));
+			for (int b = 0; b < values.length; b++) {
+				appendValue(sb.append(','), values[b]);
+				values[b] = null;
+			}
+			sb.append("\r\n");
+		}
+		return sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Appends the given value to the given {@link StringBuilder}, quoted if it
+	 * contains a comma, a quote or a line break.
+	 *
+	 * @param sb
+	 *            the {@link StringBuilder} to append to
+	 * @param value
+	 *            the value to append, may be <code>null</code>
+	 */
+	private static void appendValue(StringBuilder sb, String value) {
+		if (value == null)
+			return;
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+			sb.append(value);
+		else
+			sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the rows of this {@link AttributeTable}.
+	 *
+	 * @return the rows
+	 */
+	private ArrayList<AdditionalInfo> getRows() {
+		return rows;
+	}
+
+	/**
+	 * Returns the feature ids of the added {@link AdditionalInfo}s.
+	 *
+	 * @return the feature ids
+	 */
+	private Map<AdditionalInfo, String> getIds() {
+		return ids;
+	}
+
+	/**
+	 * Returns the source ids of the features by their {@link AdditionalInfo}s.
+	 *
+	 * @return the source ids or <code>null</code> if unknown
+	 */
+	public Map<AdditionalInfo, String> getFeatureIds() {
+		return featureIds;
+	}
+
+	/**
+	 * Sets the source ids of the features by their {@link AdditionalInfo}s,
+	 * used as feature ids instead of the numbers of the rows. Has to be set
+	 * before the first {@link AdditionalInfo} is added.
+	 *
+	 * @param featureIds
+	 *            the source ids to set or <code>null</code> if unknown
+	 */
+	public void setFeatureIds(Map<AdditionalInfo, String> featureIds) {
+		this.featureIds = featureIds;
+	}
+
+	/**
+	 * Returns the index of every column per key.
+	 *
+	 * @return the columns
+	 */
+	private LinkedHashMap<String, Integer> getColumns() {
+		return columns;
+	}
+
+	// OTHERS
+}
@@ -37,6 +37,12 @@ public class CoordinateTransformer {
 	 */
 	private static CoordinateTransformer instance;
 
+	/**
+	 * The internal used UTM {@link CoordinateReferenceSystem} (EPSG:25832).
+	 * Decoded once on the first request.
+	 */
+	private CoordinateReferenceSystem		utmCrs;
+
 	// CONSTRUCTORS
 
 	/**
@@ -145,7 +151,7 @@ public class CoordinateTransformer {
 		log.debug("Starting to convert DirectPosition to another CRS");
 
 		try {
-			CoordinateReferenceSystem destinationCrs = CRS.decode("EPSG:25832");
+			CoordinateReferenceSystem destinationCrs = this.getUtmCrs();
 			CoordinateReferenceSystem sourceCrs = CRS.decode("EPSG:" + epsg);
 
 			DirectPosition2D sourcePos = new DirectPosition2D(sourceCrs, ordinate0, ordinate1);
@@ -270,9 +276,48 @@ public class CoordinateTransformer {
 		return null;
 	}
 
+	/**
+	 * Returns the {@link MathTransform} from the
+	 * {@link CoordinateReferenceSystem} identified by the given EPSG-code into
+	 * the internal used UTM {@link CoordinateReferenceSystem} (EPSG:25832).
+	 * 
+	 * Used to transform many coordinates at once with
+	 * {@link MathTransform#transform(double[], int, double[], int, int)}
+	 * instead of decoding the CRSs for every coordinate. The ordinates keep
+	 * the axis order of the CRSs, like in
+	 * {@link #transformUTM(int, double, double)}.
+	 *
+	 * @param epsg
+	 *            the EPSG-code of the source CRS
+	 * @return the {@link MathTransform} into the UTM CRS
+	 * @throws CoordinateTransformException
+	 *             if a CRS could not be decoded or no transformation was found
+	 */
+	public MathTransform createUtmTransform(int epsg) throws CoordinateTransformException {
+		try {
+			return CRS.findMathTransform(CRS.decode("EPSG:" + epsg), this.getUtmCrs());
+		} catch (FactoryException e) {
+			log.error(e.getMessage());
+			throw new CoordinateTransformException();
+		}
+	}
+
+	/**
+	 * Returns the internal used UTM {@link CoordinateReferenceSystem}
+	 * (EPSG:25832). The CRS is only decoded on the first call, all following
+	 * calls return the same instance, so identity comparisons of CRSs are
+	 * valid.
+	 *
+	 * @return the UTM {@link CoordinateReferenceSystem}
+	 * @throws CoordinateTransformException
+	 *             if the CRS could not be decoded
+	 */
 	public CoordinateReferenceSystem getUtmCrs() throws CoordinateTransformException {
+		if (utmCrs != null)
+			return utmCrs;
 		try {
-			return CRS.decode("EPSG:25832");
+			utmCrs = CRS.decode("EPSG:25832");
+			return utmCrs;
 		} catch (NoSuchAuthorityCodeException e) {
 			log.error(e.getMessage());
 			throw new CoordinateTransformException();
@@ -0,0 +1,114 @@
+package io.github.dagri.GeospatialPDF4J.res;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.lowagie.text.Image;
+import com.lowagie.text.pdf.PdfWriter;
+
+import io.github.dagri.GeospatialPDF4J.draw.styles.Icon;
+import io.github.dagri.GeospatialPDF4J.exceptions.ImageCovertingException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to cache the converted iText-{@link Image}s of {@link Icon}s per
+ * document.
+ * 
+ * Every {@link Icon} is converted by the {@link ImageHandler} only once per
+ * target size and {@link PdfWriter}. Because the same {@link Image} instance is
+ * reused, the {@link PdfWriter} embeds it only once as Image XObject and every
+ * point just references it.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ */
+@Slf4j
+public class IconCache {
+
+	// ATTRIBUTES
+
+	/**
+	 * The {@link IconCache}s per {@link PdfWriter}. The {@link IconCache} of a
+	 * {@link PdfWriter} is released together with the {@link PdfWriter}.
+	 */
+	private static final Map<PdfWriter, IconCache>	instances	= new WeakHashMap<>();
+
+	/**
+	 * The converted {@link Image}s per {@link Icon} (by instance) and target
+	 * size.
+	 */
+	private final Map<Icon, Map<Float, Image>>		images		= new IdentityHashMap<>();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Empty constructor for an {@link IconCache}.
+	 */
+	private IconCache() {
+		// NOTHING
+	}
+
+	// METHODS
+
+	/**
+	 * Returns the {@link IconCache} of the given {@link PdfWriter}.
+	 *
+	 * @param writer
+	 *            the {@link PdfWriter} of the document
+	 * @return the {@link IconCache} of the document
+	 */
+	public static synchronized IconCache getInstance(PdfWriter writer) {
+		IconCache cache = instances.get(writer);
+		if (cache == null) {
+			log.debug("No IconCache for this document. Creating new IconCache.");
+			cache = new IconCache();
+			instances.put(writer, cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * Returns the converted {@link Image} of the given {@link Icon}, scaled to
+	 * fit the given size. The {@link Image} is converted on the first request
+	 * and reused afterwards. The returned {@link Image} must not be changed.
+	 *
+	 * @param icon
+	 *            the {@link Icon} to convert
+	 * @param size
+	 *            the size in page units the {@link Image} shall fit into
+	 * @return the converted {@link Image}
+	 * @throws ImageCovertingException
+	 *             if the image could not be converted to an iText-Image
+	 */
+	public synchronized Image getImage(Icon icon, float size) throws ImageCovertingException {
+		Map<Float, Image> sizes = this.getImages().get(icon);
+		if (sizes == null) {
+			sizes = new HashMap<>();
+			this.getImages().put(icon, sizes);
+		}
+		Image img = sizes.get(size);
+		if (img == null) {
+			log.debug("Converting the Icon for the size " + size + "...");
+			// TODO : ICONS MIT OPACITY
+			img = ImageHandler.getInstance().convertToImage(icon.getImage(), 255);
+			img.scaleToFit(size, size);
+			sizes.put(size, img);
+		}
+		return img;
+	}
+
+	// GETTERS AND SETTERS
+
+	/**
+	 * Returns the {@link Map} of the converted {@link Image}s.
+	 *
+	 * @return the {@link Map} of {@link Image}s
+	 */
+	private Map<Icon, Map<Float, Image>> getImages() {
+		return images;
+	}
+
+	// OTHERS
+}
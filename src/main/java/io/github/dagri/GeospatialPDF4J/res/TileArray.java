@@ -1,9 +1,6 @@
 package io.github.dagri.GeospatialPDF4J.res;
 
-import org.geotools.geometry.DirectPosition2D;
-
 import io.github.dagri.GeospatialPDF4J.exceptions.BoundingboxNotCreatableException;
-import io.github.dagri.GeospatialPDF4J.exceptions.CoordinateTransformException;
 import io.github.dagri.GeospatialPDF4J.exceptions.TileArrayDimensionException;
 import io.github.dagri.GeospatialPDF4J.exceptions.TileException;
 import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
@@ -151,7 +148,7 @@ public class TileArray {
 		// DUE TO THE INTERNAL STRUCTURE OF THE BBOX ITS CRS IS UTM ORDINATE 0
 		// --> EASTING
 		log.debug("Setting act easting to the UL coordinate of the BBOX...");
-		double actEasting = this.getArrayBbox().getUl().getOrdinate(0);
+		double actEasting = this.getArrayBbox().getMinEasting();
 
 		log.debug("Creating new variables for the actual pixel width and height...");
 		int actWidthPixels = 0;
@@ -164,7 +161,7 @@ public class TileArray {
 			// DUE TO THE INTERNAL STRUCTURE OF THE BBOX ITS CRS IS UTM ORDINATE
 			// 1 --> NORTHING
 			log.debug("Setting act northing to the upper left corner of the TileArray BBOX...");
-			double actNorthing = this.getArrayBbox().getUl().getOrdinate(1);
+			double actNorthing = this.getArrayBbox().getMaxNorthing();
 
 			log.debug("Calculating the actual width request pixel size...");
 			if (widthLeft > this.getMaxPixels()) {
@@ -224,29 +221,16 @@ public class TileArray {
 				double urn = actNorthing;
 				double ure = actEasting + geoWidthStep;
 
-				log.debug("Gaining instance of a CoordinateTransformator...");
-				CoordinateTransformer trans = CoordinateTransformer.getInstance();
-
-				try {
-					// IN THE FOLLOWING LINES THE USED CRS IS UTM, SO ORDINATE 0
-					// IS EASTING; ORDINATE 1 IS NORTHING
-					log.debug("Creating the lower left DirectPosition2D...");
-					DirectPosition2D dp2DLl = new DirectPosition2D(trans.getUtmCrs(), lle, lln);
-					log.debug("Creating the upper right DirectPosition2D...");
-					DirectPosition2D dp2DUr = new DirectPosition2D(trans.getUtmCrs(), ure, urn);
-					log.debug("Creating the BoundingBox for the Tile...");
-					BoundingBox tileBBox = new BoundingBox(dp2DLl, dp2DUr);
+				// THE USED CRS IS UTM, SO ORDINATE 0 IS EASTING; ORDINATE 1 IS
+				// NORTHING
+				log.debug("Creating the BoundingBox for the Tile...");
+				BoundingBox tileBBox = new BoundingBox(this.getArrayBbox().getCrs(), lle, lln, ure, urn);
 
-					log.debug("Creating the Tile...");
-					Tile t = new Tile(tileBBox, actWidthPixels, actHeightPixels);
+				log.debug("Creating the Tile...");
+				Tile t = new Tile(tileBBox, actWidthPixels, actHeightPixels);
 
-					log.debug("Setting the Tile to the TileArray...");
-					this.getTiles()[cols][rows] = t;
-
-				} catch (CoordinateTransformException e) {
-					log.error(e.getMessage());
-					throw new BoundingboxNotCreatableException();
-				}
+				log.debug("Setting the Tile to the TileArray...");
+				this.getTiles()[cols][rows] = t;
 
 				log.debug("Substracting the actual northing with the geoheight step...");
 				actNorthing = actNorthing - geoHeightStep;
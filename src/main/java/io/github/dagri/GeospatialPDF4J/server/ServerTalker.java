@@ -1,18 +1,26 @@
 package io.github.dagri.GeospatialPDF4J.server;
 
 import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import javax.imageio.ImageIO;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.jdom2.Document;
 import org.jdom2.Element;
@@ -472,13 +480,180 @@ public class ServerTalker {
 		return erg;
 	}
 
+	/**
+	 * Opens the response of a WFS-request to a server adressed by a link as
+	 * {@link InputStream}, so it can be decoded while it is received. A gzip
+	 * compressed response is decompressed. The caller has to close the
+	 * {@link InputStream}.
+	 *
+	 * @param link
+	 *            the request as {@link String}
+	 * @return the {@link InputStream} of the response
+	 * @throws IOException
+	 *             if the server could not be requested
+	 */
+	public InputStream openWfsStream(String link) throws IOException {
+		log.debug("Opening the WFS response stream...");
+		URLConnection con = new URL(link).openConnection();
+		con.setRequestProperty("Accept-Encoding", "gzip");
+		InputStream in = con.getInputStream();
+		if ("gzip".equalsIgnoreCase(con.getContentEncoding()))
+			in = new GZIPInputStream(in);
+		return new BufferedInputStream(in, 1 << 16);
+	}
+
+	/**
+	 * Requests the number of features a WFS-request would return
+	 * (resultType=hits). The number is read from the numberMatched (WFS 2.0)
+	 * or numberOfFeatures (WFS 1.1) attribute of the root element, the rest of
+	 * the response is not read.
+	 *
+	 * @param link
+	 *            the request including 'RESULTTYPE=hits' as {@link String}
+	 * @return the number of features or -1 if the server does not report it
+	 * @throws IOException
+	 *             if the server could not be requested
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	public long wfsHitsRequest(String link) throws IOException, XMLStreamException {
+		try (InputStream in = this.openWfsStream(link)) {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			XMLStreamReader r = factory.createXMLStreamReader(in);
+			try {
+				while (r.hasNext()) {
+					if (r.next() != XMLStreamConstants.START_ELEMENT)
+						continue;
+					String hits = r.getAttributeValue(null, "numberMatched");
+					if (hits == null)
+						hits = r.getAttributeValue(null, "numberOfFeatures");
+					try {
+						return hits == null ? -1 : Long.parseLong(hits.trim());
+					} catch (NumberFormatException e) {
+						// 'unknown'
+						return -1;
+					}
+				}
+			} finally {
+				r.close();
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Requests the capabilities of a WFS and returns the output formats its
+	 * GetFeature operation supports. The internal structures of this
+	 * {@link ServerTalker} are not changed.
+	 *
+	 * The formats are read from the outputFormat parameter of the GetFeature
+	 * operation (or of all operations) for WFS 1.1 and 2.0 and from the
+	 * ResultFormat element for WFS 1.0.
+	 *
+	 * @param link
+	 *            the URL of the server including SERVICE and VERSION (ending
+	 *            with '&amp;') as {@link String}
+	 * @return an {@link ArrayList} of the output formats; empty if the
+	 *         capabilities do not list them
+	 * @throws CapabilitiesRequestException
+	 *             if the capabilities could not be received
+	 */
+	public ArrayList<String> wfsOutputFormats(String link) throws CapabilitiesRequestException {
+		ArrayList<String> formats = new ArrayList<>();
+		URL url = this.toURL(link + "REQUEST=GetCapabilities");
+		if (url == null)
+			throw new CapabilitiesRequestException();
+		try {
+			Element root = new SAXBuilder().build(url).getRootElement();
+
+			// WFS 1.1 AND 2.0 : PARAMETER OF THE GETFEATURE OPERATION OR OF THE
+			// OPERATIONS METADATA
+			ArrayList<Element> parameters = this.findTag(root, "Parameter");
+			for (int a = 0; a < parameters.size(); a++) {
+				Element parameter = parameters.get(a);
+				if (!"outputFormat".equalsIgnoreCase(parameter.getAttributeValue("name")))
+					continue;
+				Element parent = parameter.getParentElement();
+				if (parent != null && parent.getName().equals("Operation") && !"GetFeature".equals(parent.getAttributeValue("name")))
+					continue;
+				ArrayList<Element> values = this.findTag(parameter, "Value");
+				for (int b = 0; b < values.size(); b++) {
+					String format = values.get(b).getTextTrim();
+					if (!format.isEmpty() && !formats.contains(format))
+						formats.add(format);
+				}
+			}
+
+			// WFS 1.0 : THE CHILDREN OF THE RESULTFORMAT NAME THE FORMATS
+			ArrayList<Element> resultFormats = this.findTag(root, "ResultFormat");
+			for (int a = 0; a < resultFormats.size(); a++) {
+				List<Element> children = resultFormats.get(a).getChildren();
+				for (int b = 0; b < children.size(); b++) {
+					if (!formats.contains(children.get(b).getName()))
+						formats.add(children.get(b).getName());
+				}
+			}
+		} catch (JDOMException | IOException e) {
+			log.error("Could not receive the WFS capabilities: " + e.getMessage());
+			throw new CapabilitiesRequestException();
+		}
+		log.debug("WFS output formats: " + formats);
+		return formats;
+	}
+
+	/**
+	 * Requests the schema of a feature type (DescribeFeatureType) and returns
+	 * the name of its first geometry property: The first element whose type
+	 * is a GML property type (e.g. gml:MultiSurfacePropertyType).
+	 *
+	 * @param link
+	 *            the DescribeFeatureType request of a single feature type as
+	 *            {@link String}
+	 * @return the name of the geometry property or <code>null</code> if the
+	 *         schema contains none
+	 * @throws IOException
+	 *             if the server could not be requested
+	 * @throws XMLStreamException
+	 *             if the response is not well-formed XML
+	 */
+	public String wfsGeometryProperty(String link) throws IOException, XMLStreamException {
+		try (InputStream in = this.openWfsStream(link)) {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			XMLStreamReader r = factory.createXMLStreamReader(in);
+			try {
+				while (r.hasNext()) {
+					if (r.next() != XMLStreamConstants.START_ELEMENT || !r.getLocalName().equals("element"))
+						continue;
+					String type = r.getAttributeValue(null, "type");
+					String name = r.getAttributeValue(null, "name");
+					if (type == null || name == null || !type.endsWith("PropertyType"))
+						continue;
+					// THE PREFIX OF THE TYPE HAS TO BE BOUND TO A GML NAMESPACE
+					int colon = type.indexOf(':');
+					String ns = r.getNamespaceContext().getNamespaceURI(colon < 0 ? "" : type.substring(0, colon));
+					if (ns != null && ns.startsWith("http://www.opengis.net/gml"))
+						return name;
+				}
+			} finally {
+				r.close();
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Starts a WFS-request to a server adressed by a link and tries to download the given layers from it. 
 	 *
+	 * @deprecated downloads into the fixed file 'output/tempXML.xml' and
+	 *             builds the complete document tree; use
+	 *             {@link #openWfsStream(String)} instead
 	 * @param link
 	 * @param wfsLayers
 	 * @return
 	 */
+	@Deprecated
 	public Document wfsRequest(String link, ArrayList<String> wfsLayers) {
 		System.out.println("### WFS REQUEST STARTING ###");
 		this.downloadXmlStructureToFile(link, "output/tempXML.xml");
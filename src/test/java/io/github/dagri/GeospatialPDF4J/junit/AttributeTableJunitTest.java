@@ -0,0 +1,60 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.res.AttributeTable;
+
+/**
+ * Junit test case to test the collecting of {@link AdditionalInfo}s as CSV-file
+ * by the {@link AttributeTable}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class AttributeTableJunitTest {
+
+	@Test
+	public final void csv() {
+		AdditionalInfo first = new AdditionalInfo();
+		first.addInfo("name", "A");
+		first.addInfo("use", "road");
+		AdditionalInfo second = new AdditionalInfo();
+		second.addInfo("height", "12,5");
+		second.addInfo("name", "say \"B\"");
+
+		AttributeTable table = new AttributeTable();
+		assertEquals("1", table.add(first));
+		assertEquals("2", table.add(second));
+		// THE PARTS OF A FEATURE SHARE ONE ROW
+		assertEquals("1", table.add(first));
+		assertEquals(2, table.size());
+
+		String csv = new String(table.toCsv(), StandardCharsets.UTF_8);
+		assertEquals("fid,name,use,height\r\n1,A,road,\r\n2,\"say \"\"B\"\"\",,\"12,5\"\r\n", csv);
+	}
+
+	@Test
+	public final void sourceIds() {
+		AdditionalInfo first = new AdditionalInfo();
+		first.addInfo("name", "A");
+		AdditionalInfo second = new AdditionalInfo();
+		second.addInfo("name", "B");
+		IdentityHashMap<AdditionalInfo, String> ids = new IdentityHashMap<>();
+		ids.put(first, "roads.17");
+
+		// THE SOURCE ID IS THE KEY, THE ROW NUMBER ONLY WITHOUT ONE
+		AttributeTable table = new AttributeTable();
+		table.setFeatureIds(ids);
+		assertEquals("roads.17", table.add(first));
+		assertEquals("2", table.add(second));
+		String csv = new String(table.toCsv(), StandardCharsets.UTF_8);
+		assertEquals("fid,name\r\nroads.17,A\r\n2,B\r\n", csv);
+	}
+}
@@ -0,0 +1,61 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import org.geotools.geometry.DirectPosition2D;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.exceptions.BoundingboxNotCreatableException;
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+
+/**
+ * Junit test case to test the creation of the {@link BoundingBox}.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class BoundingBoxJunitTest {
+
+	static BoundingBox bbox;
+
+	/**
+	 * The BeforeTest method. Creates a {@link BoundingBox} with exchanged
+	 * corners.
+	 *
+	 * @throws java.lang.Exception
+	 */
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		bbox = new BoundingBox(new DirectPosition2D(CoordinateTransformer.getInstance().getUtmCrs(), 550.0, 100.0), new DirectPosition2D(CoordinateTransformer.getInstance().getUtmCrs(), 50.0, 400.0));
+	}
+
+	@Test
+	public final void order() {
+		assertEquals(50.0, bbox.getLl().getOrdinate(0), 0);
+		assertEquals(100.0, bbox.getLl().getOrdinate(1), 0);
+		assertEquals(550.0, bbox.getUr().getOrdinate(0), 0);
+		assertEquals(400.0, bbox.getUr().getOrdinate(1), 0);
+	}
+
+	@Test
+	public final void size() {
+		assertEquals(500.0, bbox.getGeoWidth(), 0);
+		assertEquals(300.0, bbox.getGeoHeight(), 0);
+	}
+
+	@Test
+	public final void corners() {
+		// THE CORNERS ARE COPIES, CHANGING ONE DOES NOT CHANGE THE BOX
+		bbox.getLl().setOrdinate(0, -1000.0);
+		assertEquals(50.0, bbox.getLl().getOrdinate(0), 0);
+		assertEquals(500.0, bbox.getGeoWidth(), 0);
+	}
+
+	@Test(expected = BoundingboxNotCreatableException.class)
+	public final void degenerated() throws Exception {
+		new BoundingBox(bbox.getCrs(), 0.0, 0.0, 0.0, 10.0);
+	}
+}
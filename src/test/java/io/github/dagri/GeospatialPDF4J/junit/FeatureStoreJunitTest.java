@@ -0,0 +1,132 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.io.WKTReader;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawMultiPolygon;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPoint;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.FeatureStore;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.geo.StoreCoordinateSequence;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.GmlStreamDecoder;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+
+/**
+ * Junit test case to test the storing of {@link GeometryContainer}s and
+ * decoded features in the columns of a {@link FeatureStore}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class FeatureStoreJunitTest {
+
+	private GeometryContainer	container;
+
+	private FeatureStore		store;
+
+	private static Geometry read(String wkt) throws Exception {
+		return new WKTReader().read(wkt);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		AdditionalInfo shared = new AdditionalInfo();
+		shared.addInfo("name", "A");
+		AdditionalInfo other = new AdditionalInfo();
+		other.addInfo("use", "road");
+		this.container = new GeometryContainer();
+		this.container.addDrawPoint(new DrawPoint((Point) read("POINT (1 2)"), shared));
+		this.container.addDrawPoint(new DrawPoint((Point) read("POINT (3 4)"), shared));
+		this.container.addDrawLineString(new DrawLineString((LineString) read("LINESTRING (100 100, 110 110)"), other));
+		this.container.addDrawPolygon(new DrawPolygon((Polygon) read("POLYGON ((0 0, 10 0, 10 10, 0 0), (1 1, 2 1, 2 2, 1 1))"), new AdditionalInfo()));
+		this.container.addDrawMultiPolygon(new DrawMultiPolygon((MultiPolygon) read("MULTIPOLYGON (((20 20, 21 20, 21 21, 20 20)), ((30 30, 31 30, 31 31, 30 30)))"), shared));
+		IdentityHashMap<AdditionalInfo, String> ids = new IdentityHashMap<>();
+		ids.put(other, "roads.2");
+		this.store = new FeatureStore();
+		this.store.addAll(this.container, ids);
+		this.store.trim();
+	}
+
+	@Test
+	public final void counts() {
+		assertEquals(5, this.store.size());
+		assertEquals(3, this.store.getFeatureCount());
+		assertEquals(this.container.countVertices(), this.store.getVertexCount());
+		assertArrayEquals(new String[] { "A", null, null }, this.store.getColumn("name"));
+	}
+
+	@Test
+	public final void roundTrip() {
+		GeometryContainer gc = this.store.toContainer(null);
+		assertEquals(2, gc.getDrawPoints().size());
+		assertTrue(gc.getDrawPolygons().get(0).getJtsGeometry().equalsExact(this.container.getDrawPolygons().get(0).getJtsGeometry()));
+		assertTrue(gc.getMultiPolygons().get(0).getJtsGeometry().equalsExact(this.container.getMultiPolygons().get(0).getJtsGeometry()));
+		assertTrue(gc.getDrawLineStrings().get(0).getJtsGeometry().equalsExact(this.container.getDrawLineStrings().get(0).getJtsGeometry()));
+		// THE GEOMETRIES OF A FEATURE SHARE THEIR INFO
+		assertSame(gc.getDrawPoints().get(0).getInfo(), gc.getMultiPolygons().get(0).getInfo());
+		assertEquals("road", gc.getDrawLineStrings().get(0).getInfo().getInfos().get(0).getValue());
+	}
+
+	@Test
+	public final void filter() throws Exception {
+		BoundingBox bbox = new BoundingBox(CoordinateTransformer.getInstance().getUtmCrs(), 90, 90, 200, 200);
+		IdentityHashMap<AdditionalInfo, String> ids = new IdentityHashMap<>();
+		GeometryContainer gc = this.store.toContainer(bbox, ids);
+		assertEquals(1, gc.size());
+		assertEquals(1, gc.getDrawLineStrings().size());
+		// THE SOURCE ID IS KEPT FOR THE NEW ADDITIONALINFO
+		assertEquals(1, ids.size());
+		assertEquals("roads.2", ids.get(gc.getDrawLineStrings().get(0).getInfo()));
+	}
+
+	@Test
+	public final void decodeIntoStore() throws Exception {
+		// THE ATTRIBUTE FOLLOWS THE GEOMETRY
+		String gml = "<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\" xmlns:app=\"http://example.org/app\">"
+				+ "<wfs:member><app:Road><app:geom><gml:LineString><gml:posList>1 2 3 4 5 6</gml:posList></gml:LineString></app:geom><app:name>B</app:name></app:Road></wfs:member>"
+				+ "</wfs:FeatureCollection>";
+		FeatureStore columns = new FeatureStore();
+		GmlStreamDecoder decoder = new GmlStreamDecoder(new GeometryContainer(columns));
+		decoder.decode(new ByteArrayInputStream(gml.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(0, decoder.getContainer().size());
+		assertEquals(1, columns.size());
+		assertEquals(0, columns.toContainer(null).size());
+
+		columns.closeFeatures();
+		GeometryContainer gc = columns.toContainer(null);
+		LineString ls = gc.getDrawLineStrings().get(0).getJtsGeometry();
+		assertTrue(ls.getCoordinateSequence() instanceof StoreCoordinateSequence);
+		assertEquals(5, ls.getCoordinateN(2).x, 0);
+		assertEquals("B", gc.getDrawLineStrings().get(0).getInfo().getInfo(0).getValue());
+	}
+
+	@Test
+	public final void discardFeatures() throws Exception {
+		GeometryContainer backed = new GeometryContainer(this.store);
+		backed.addGeometryContainer(this.container);
+		assertEquals(10, this.store.size());
+		this.store.discardFeatures();
+		assertEquals(5, this.store.size());
+		assertEquals(3, this.store.getFeatureCount());
+		assertEquals(this.container.countVertices(), this.store.getVertexCount());
+		assertEquals(5, this.store.toContainer(null).size());
+	}
+}
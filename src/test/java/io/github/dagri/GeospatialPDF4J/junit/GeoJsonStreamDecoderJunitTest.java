@@ -0,0 +1,88 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Polygon;
+
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.GeoJsonStreamDecoder;
+
+/**
+ * Junit test case to test the decoding of GeoJSON features by the
+ * {@link GeoJsonStreamDecoder}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class GeoJsonStreamDecoderJunitTest {
+
+	private static final String JSON = "{\"type\":\"FeatureCollection\",\"features\":["
+			+ "{\"type\":\"Feature\",\"id\":\"p1\",\"properties\":{\"name\":\"A\",\"area\":98,\"extra\":{\"a\":[1,2]},\"note\":null},"
+			+ "\"geometry\":{\"coordinates\":[[[0,0],[10,0],[10,10],[0,10],[0,0]],[[2,2],[4,2],[4,4],[2,2]]],\"type\":\"Polygon\"}},"
+			+ "{\"type\":\"Feature\",\"id\":\"r1\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[1.5,2.5,100],[3,4,100]]},\"properties\":{}},"
+			+ "{\"type\":\"Feature\",\"id\":\"t1\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[7,8]},\"properties\":null},"
+			+ "{\"type\":\"Feature\",\"id\":\"m1\",\"geometry\":{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[1,0],[1,1],[0,0]]],[[[5,5],[6,5],[6,6],[5,5]]]]}}"
+			+ "]}";
+
+	private GeoJsonStreamDecoder decode(String json) throws IOException {
+		GeoJsonStreamDecoder d = new GeoJsonStreamDecoder(new GeometryContainer());
+		d.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+		return d;
+	}
+
+	@Test
+	public final void geometries() throws IOException {
+		GeometryContainer gc = this.decode(JSON).getContainer();
+		assertEquals(1, gc.getDrawPolygons().size());
+		assertEquals(1, gc.getDrawLineStrings().size());
+		assertEquals(1, gc.getDrawPoints().size());
+		assertEquals(1, gc.getMultiPolygons().size());
+		assertEquals(1.5, gc.getDrawLineStrings().get(0).getJtsGeometry().getCoordinates()[0].x, 0);
+		assertEquals(8, gc.getDrawPoints().get(0).getJtsGeometry().getCoordinate().y, 0);
+		assertEquals(2, ((MultiPolygon) gc.getMultiPolygons().get(0).getJtsGeometry()).getNumGeometries());
+	}
+
+	@Test
+	public final void polygonWithHole() throws IOException {
+		Polygon p = this.decode(JSON).getContainer().getDrawPolygons().get(0).getJtsGeometry();
+		assertEquals(1, p.getNumInteriorRing());
+		assertEquals(98, p.getArea(), 0);
+	}
+
+	@Test
+	public final void attributes() throws IOException {
+		GeometryContainer gc = this.decode(JSON).getContainer();
+		assertEquals(2, gc.getDrawPolygons().get(0).getInfo().infoCount());
+		assertEquals("A", gc.getDrawPolygons().get(0).getInfo().getInfo(0).getValue());
+		assertEquals("98", gc.getDrawPolygons().get(0).getInfo().getInfo(1).getValue());
+	}
+
+	@Test
+	public final void duplicatesAndLimit() throws IOException {
+		GeoJsonStreamDecoder d = new GeoJsonStreamDecoder(new GeometryContainer());
+		HashSet<String> ids = new HashSet<>();
+		ids.add("p1");
+		d.setFeatureIds(ids);
+		d.setFeatureLimit(2);
+		d.decode(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(1, d.getDuplicateCount());
+		assertEquals(2, d.getFeatureCount());
+		assertTrue(d.isTruncated());
+		assertTrue(d.getContainer().getDrawPolygons().isEmpty());
+	}
+
+	@Test(expected = IOException.class)
+	public final void exceptionReport() throws IOException {
+		this.decode("<ows:ExceptionReport/>");
+	}
+
+}
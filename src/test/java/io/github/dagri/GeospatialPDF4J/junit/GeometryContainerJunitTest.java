@@ -0,0 +1,131 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.LineString;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.io.WKTReader;
+
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawLineString;
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.EClipMode;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.geo.OutlineNetwork;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+
+/**
+ * Junit test case to test the reduction of the level of detail and the
+ * clipping of a {@link GeometryContainer}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class GeometryContainerJunitTest {
+
+	@Test
+	public final void simplifiedCopy() throws Exception {
+		// A LINE WITH 1001 VERTICES ZIGZAGGING ABOUT 1 CM
+		Coordinate[] c = new Coordinate[1001];
+		for (int a = 0; a < c.length; a++)
+			c[a] = new Coordinate(a, a % 2 * 0.01);
+		AdditionalInfo info = new AdditionalInfo();
+		GeometryContainer container = new GeometryContainer();
+		container.addDrawLineString(new DrawLineString(new GeometryFactory().createLineString(c), info));
+		container.addDrawLineString(new DrawLineString((LineString) new WKTReader().read("LINESTRING (0 0, 0.1 0.1)"), new AdditionalInfo()));
+
+		GeometryContainer coarse = container.createSimplified(1, 1);
+		assertEquals(1, coarse.getDrawLineStrings().size());
+		assertEquals(2, coarse.getDrawLineStrings().get(0).getJtsGeometry().getNumPoints());
+		assertSame(info, coarse.getDrawLineStrings().get(0).getInfo());
+
+		// THE SOURCE IS NOT CHANGED AND CAN BE REDUCED AGAIN
+		assertEquals(2, container.getDrawLineStrings().size());
+		assertEquals(1003, container.countVertices());
+		GeometryContainer fine = container.createSimplified(0.001, 0);
+		assertEquals(2, fine.getDrawLineStrings().size());
+		assertEquals(1001, fine.getDrawLineStrings().get(0).getJtsGeometry().getNumPoints());
+	}
+
+	@Test
+	public final void clippedCopy() throws Exception {
+		AdditionalInfo info = new AdditionalInfo();
+		GeometryContainer container = new GeometryContainer();
+		container.addDrawLineString(new DrawLineString((LineString) new WKTReader().read("LINESTRING (0 5, 20 5)"), info));
+		container.addDrawLineString(new DrawLineString((LineString) new WKTReader().read("LINESTRING (1 1, 2 2)"), info));
+		container.addDrawLineString(new DrawLineString((LineString) new WKTReader().read("LINESTRING (50 50, 60 60)"), info));
+		BoundingBox bbox = new BoundingBox(CoordinateTransformer.getInstance().getUtmCrs(), 0.0, 0.0, 10.0, 10.0);
+
+		GeometryContainer clipped = container.createIntersection(bbox, EClipMode.GEOMETRIC);
+		assertEquals(2, clipped.getDrawLineStrings().size());
+		assertEquals(10.0, clipped.getDrawLineStrings().get(0).getJtsGeometry().getLength(), 1e-9);
+		assertSame(container.getDrawLineStrings().get(1), clipped.getDrawLineStrings().get(1));
+
+		// THE SOURCE IS NOT CHANGED AND CAN BE CLIPPED AGAIN
+		assertEquals(3, container.getDrawLineStrings().size());
+		assertEquals(20.0, container.getDrawLineStrings().get(0).getJtsGeometry().getLength(), 1e-9);
+		assertEquals(3, container.createIntersection(new BoundingBox(bbox.getCrs(), -100.0, -100.0, 100.0, 100.0), EClipMode.GEOMETRIC).getDrawLineStrings().size());
+	}
+
+	@Test
+	public final void sharedBorders() throws Exception {
+		// TWO SQUARES SHARING A BORDER ZIGZAGGING ABOUT 1 CM
+		Coordinate[] border = new Coordinate[101];
+		for (int a = 0; a < border.length; a++)
+			border[a] = new Coordinate(10 + a % 2 * 0.01, a * 0.1);
+		border[100] = new Coordinate(10, 10);
+		Coordinate[] left = new Coordinate[border.length + 4];
+		left[0] = new Coordinate(0, 0);
+		System.arraycopy(border, 0, left, 1, border.length);
+		left[border.length + 1] = new Coordinate(0, 10);
+		left[border.length + 2] = new Coordinate(0, 5);
+		left[border.length + 3] = new Coordinate(0, 0);
+		Coordinate[] right = new Coordinate[border.length + 3];
+		right[0] = new Coordinate(10, 0);
+		right[1] = new Coordinate(20, 0);
+		right[2] = new Coordinate(20, 10);
+		for (int a = 0; a < border.length; a++)
+			right[a + 3] = border[border.length - 1 - a];
+		// AN ISLAND WITHOUT JUNCTIONS
+		Coordinate[] island = new Coordinate[41];
+		for (int a = 0; a < 40; a++)
+			island[a] = new Coordinate(100 + 5 * Math.cos(a * Math.PI / 20), 100 + 5 * Math.sin(a * Math.PI / 20));
+		island[40] = island[0];
+
+		GeometryFactory factory = new GeometryFactory();
+		GeometryContainer container = new GeometryContainer();
+		container.addDrawPolygon(new DrawPolygon(factory.createPolygon(left), new AdditionalInfo()));
+		container.addDrawPolygon(new DrawPolygon(factory.createPolygon(right), new AdditionalInfo()));
+		container.addDrawPolygon(new DrawPolygon(factory.createPolygon(island), new AdditionalInfo()));
+
+		OutlineNetwork network = container.createOutlineNetwork().createSimplified(1);
+		GeometryContainer reduced = container.createSimplified(1, 0, network);
+		assertEquals(3, reduced.getDrawPolygons().size());
+
+		// EVERY VERTEX OF THE FILLS IS A VERTEX OF THE STROKED NETWORK
+		HashSet<Coordinate> outlines = new HashSet<>();
+		for (LineString ls : network.getLines())
+			for (Coordinate c : ls.getCoordinates())
+				outlines.add(c);
+		for (DrawPolygon dp : reduced.getDrawPolygons())
+			for (Coordinate c : dp.getJtsGeometry().getCoordinates())
+				assertTrue(c + " is not part of the network", outlines.contains(c));
+
+		// THE SHARED BORDER IS A STRAIGHT EDGE IN BOTH POLYGONS
+		assertEquals(5, reduced.getDrawPolygons().get(0).getJtsGeometry().getNumPoints());
+		assertEquals(5, reduced.getDrawPolygons().get(1).getJtsGeometry().getNumPoints());
+		Polygon p = reduced.getDrawPolygons().get(2).getJtsGeometry();
+		assertTrue(p.getNumPoints() >= 4 && p.getNumPoints() < 41);
+
+		// THE SOURCE IS NOT CHANGED
+		assertEquals(left.length + right.length + island.length, container.countVertices());
+	}
+}
@@ -0,0 +1,57 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.GmlChunkScanner;
+
+/**
+ * Junit test case to test the search of the member boundaries of a GML
+ * feature collection by the {@link GmlChunkScanner}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class GmlChunkScannerJunitTest {
+
+	private static final String	HEAD	= "<?xml version=\"1.0\"?><wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:app='http://example.org/app'>";
+
+	private static final String	MEMBER	= "<wfs:member><app:Parcel><app:member>x</app:member><app:geom/></app:Parcel></wfs:member>";
+
+	private GmlChunkScanner scan(String doc) {
+		// BYTE BY BYTE, SO EVERY TAG IS SPLIT BETWEEN CHUNKS
+		byte[] bytes = doc.getBytes(StandardCharsets.US_ASCII);
+		GmlChunkScanner scanner = new GmlChunkScanner(1);
+		for (int a = 0; a < bytes.length; a++)
+			scanner.scan(new byte[] { bytes[a] }, 1);
+		return scanner;
+	}
+
+	@Test
+	public final void nestedMembers() {
+		String doc = HEAD + MEMBER + "<app:member>y</app:member>" + MEMBER + "</wfs:FeatureCollection>";
+		GmlChunkScanner scanner = this.scan(doc);
+		assertTrue(scanner.canSplit());
+		assertEquals(HEAD.length(), scanner.getPrologEnd());
+		assertEquals(2, scanner.getChunkCount());
+		assertEquals(HEAD.length(), scanner.getChunkStart(0));
+		assertEquals(doc.lastIndexOf("<wfs:member>"), scanner.getChunkStart(1));
+		assertEquals(doc.lastIndexOf("</wfs:member>") + "</wfs:member>".length(), scanner.getChunkEnd(1));
+	}
+
+	@Test
+	public final void commentsAndCdata() {
+		String doc = HEAD + "<!-- <wfs:member> -> -->" + MEMBER + "<wfs:member><app:Parcel><app:note><![CDATA[</wfs:member><wfs:member>]]]></app:note>"
+				+ "</app:Parcel></wfs:member><!-- </wfs:member> --></wfs:FeatureCollection>";
+		GmlChunkScanner scanner = this.scan(doc);
+		assertTrue(scanner.canSplit());
+		assertEquals(2, scanner.getChunkCount());
+		assertEquals(doc.indexOf(MEMBER), scanner.getChunkStart(0));
+		assertEquals(doc.indexOf(MEMBER) + MEMBER.length(), scanner.getChunkStart(1));
+		assertEquals(doc.lastIndexOf("<!--"), scanner.getChunkEnd(1));
+	}
+}
@@ -0,0 +1,129 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Test;
+
+import com.vividsolutions.jts.geom.Polygon;
+
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.GmlStreamDecoder;
+
+/**
+ * Junit test case to test the decoding of GML features by the
+ * {@link GmlStreamDecoder}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class GmlStreamDecoderJunitTest {
+
+	private static final String GML = "<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\" xmlns:app=\"http://example.org/app\">"
+			+ "<wfs:member><app:Parcel gml:id=\"p1\"><app:name>A</app:name><app:geom><gml:Polygon>"
+			+ "<gml:exterior><gml:LinearRing><gml:posList>0 0 10 0 10 10 0 10 0 0</gml:posList></gml:LinearRing></gml:exterior>"
+			+ "<gml:interior><gml:LinearRing><gml:posList>2 2 4 2 4 4 2 2</gml:posList></gml:LinearRing></gml:interior>"
+			+ "</gml:Polygon></app:geom></app:Parcel></wfs:member>"
+			+ "<wfs:member><app:Road><app:geom><gml:LineString><gml:posList>1.5 2.5 3 4</gml:posList></gml:LineString></app:geom></app:Road></wfs:member>"
+			+ "<wfs:member><app:Tree><app:geom><gml:Point><gml:pos>7 8</gml:pos></gml:Point></app:geom></app:Tree></wfs:member>"
+			+ "</wfs:FeatureCollection>";
+
+	private static final String	HEAD	= "<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\" xmlns:app=\"http://example.org/app\">"
+			+ "<wfs:member><app:Parcel gml:id=\"p1\"><app:geom>";
+
+	private static final String	TAIL	= "</app:geom></app:Parcel></wfs:member></wfs:FeatureCollection>";
+
+	private static final String	PATCH	= "<gml:PolygonPatch><gml:exterior><gml:LinearRing><gml:posList>0 0 10 0 10 10 0 10 0 0</gml:posList></gml:LinearRing></gml:exterior>"
+			+ "<gml:interior><gml:LinearRing><gml:posList>2 2 4 2 4 4 2 2</gml:posList></gml:LinearRing></gml:interior></gml:PolygonPatch>";
+
+	private static final String	CURVE	= "<gml:Curve><gml:segments><gml:LineStringSegment><gml:posList>0 0 5 0</gml:posList></gml:LineStringSegment>"
+			+ "<gml:LineStringSegment><gml:posList>5 0 5 5</gml:posList></gml:LineStringSegment></gml:segments></gml:Curve>";
+
+	private GeometryContainer decode(String gml) throws XMLStreamException {
+		return this.decode(new GmlStreamDecoder(new GeometryContainer()), gml);
+	}
+
+	private GeometryContainer decode(GmlStreamDecoder decoder, String gml) throws XMLStreamException {
+		decoder.decode(new ByteArrayInputStream(gml.getBytes(StandardCharsets.UTF_8)));
+		return decoder.getContainer();
+	}
+
+	@Test
+	public final void geometries() throws XMLStreamException {
+		GeometryContainer gc = this.decode(GML);
+		assertEquals(1, gc.getDrawPolygons().size());
+		assertEquals(1, gc.getDrawLineStrings().size());
+		assertEquals(1, gc.getDrawPoints().size());
+		assertEquals(1.5, gc.getDrawLineStrings().get(0).getJtsGeometry().getCoordinates()[0].x, 0);
+		assertEquals(8, gc.getDrawPoints().get(0).getJtsGeometry().getCoordinate().y, 0);
+	}
+
+	@Test
+	public final void polygonWithHole() throws XMLStreamException {
+		Polygon p = this.decode(GML).getDrawPolygons().get(0).getJtsGeometry();
+		assertEquals(1, p.getNumInteriorRing());
+		assertEquals(98, p.getArea(), 0);
+	}
+
+	@Test
+	public final void attributes() throws XMLStreamException {
+		GeometryContainer gc = this.decode(GML);
+		assertEquals(1, gc.getDrawPolygons().get(0).getInfo().infoCount());
+		assertEquals("A", gc.getDrawPolygons().get(0).getInfo().getInfo(0).getValue());
+	}
+
+	@Test
+	public final void surface() throws XMLStreamException {
+		GeometryContainer gc = this.decode(HEAD + "<gml:Surface><gml:patches>" + PATCH + "</gml:patches></gml:Surface>" + TAIL);
+		assertEquals(1, gc.getDrawPolygons().size());
+		assertEquals(98, gc.getDrawPolygons().get(0).getJtsGeometry().getArea(), 0);
+	}
+
+	@Test
+	public final void curve() throws XMLStreamException {
+		GeometryContainer gc = this.decode(HEAD + CURVE + TAIL);
+		assertEquals(1, gc.getDrawLineStrings().size());
+		assertEquals(10, gc.getDrawLineStrings().get(0).getJtsGeometry().getLength(), 0);
+	}
+
+	@Test
+	public final void multiSurface() throws XMLStreamException {
+		GeometryContainer gc = this.decode(HEAD + "<gml:MultiSurface><gml:surfaceMember><gml:Surface><gml:patches>" + PATCH
+				+ "</gml:patches></gml:Surface></gml:surfaceMember><gml:surfaceMember><gml:Surface><gml:patches>" + PATCH + PATCH
+				+ "</gml:patches></gml:Surface></gml:surfaceMember></gml:MultiSurface>" + TAIL);
+		assertEquals(3, gc.getDrawPolygons().size());
+		assertSame(gc.getDrawPolygons().get(0).getInfo(), gc.getDrawPolygons().get(2).getInfo());
+	}
+
+	@Test
+	public final void multiCurve() throws XMLStreamException {
+		GeometryContainer gc = this.decode(HEAD + "<gml:MultiCurve><gml:curveMember>" + CURVE
+				+ "</gml:curveMember><gml:curveMember><gml:LineString><gml:posList>0 0 1 1</gml:posList></gml:LineString></gml:curveMember></gml:MultiCurve>" + TAIL);
+		assertEquals(2, gc.getDrawLineStrings().size());
+	}
+
+	@Test
+	public final void ringOfCurves() throws XMLStreamException {
+		GeometryContainer gc = this.decode(HEAD + "<gml:Polygon><gml:exterior><gml:Ring><gml:curveMember>" + CURVE
+				+ "</gml:curveMember><gml:curveMember><gml:LineString><gml:posList>5 5 0 0</gml:posList></gml:LineString></gml:curveMember></gml:Ring></gml:exterior></gml:Polygon>"
+				+ TAIL);
+		assertEquals(1, gc.getDrawPolygons().size());
+		assertEquals(12.5, gc.getDrawPolygons().get(0).getJtsGeometry().getArea(), 0);
+	}
+
+	@Test
+	public final void skipped() throws XMLStreamException {
+		GmlStreamDecoder decoder = new GmlStreamDecoder(new GeometryContainer());
+		GeometryContainer gc = this.decode(decoder, HEAD + "<gml:MultiCurve><gml:curveMember><gml:Curve><gml:segments><gml:Arc><gml:posList>0 0 1 1 2 0</gml:posList></gml:Arc>"
+				+ "</gml:segments></gml:Curve></gml:curveMember><gml:curveMember>" + CURVE + "</gml:curveMember></gml:MultiCurve>"
+				+ "<gml:Solid><gml:exterior><gml:Shell/></gml:exterior></gml:Solid>" + TAIL);
+		assertEquals(2, decoder.getSkippedCount());
+		assertEquals(1, gc.getDrawLineStrings().size());
+		assertEquals(1, decoder.getFeatureCount());
+	}
+}
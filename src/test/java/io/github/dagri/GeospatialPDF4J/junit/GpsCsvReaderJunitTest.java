@@ -0,0 +1,147 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.geotools.geometry.DirectPosition2D;
+import org.geotools.referencing.operation.transform.AbstractMathTransform;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opengis.referencing.operation.TransformException;
+
+import io.github.dagri.GeospatialPDF4J.map.layers.gps.GpsCsvReader;
+import io.github.dagri.GeospatialPDF4J.map.layers.gps.GpsTrack;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+
+/**
+ * Junit test case to test the reading of CSV-GPS-files in chunks by the
+ * {@link GpsCsvReader}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class GpsCsvReaderJunitTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public final void read() throws Exception {
+		StringBuilder sb = new StringBuilder("easting,northing,height\r\n");
+		for (int a = 0; a < 1000; a++)
+			sb.append(500000 + a * 0.25).append(',').append(5700000.125 - a).append(',').append(a % 7 == 0 ? "1.5e2" : "" + (a * 0.1)).append("\r\n");
+		sb.append("1,2\n\n");
+		sb.append("600000,5800000,-3");
+		File file = this.folder.newFile("track.csv");
+		Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+		// THE INTERNAL CRS: THE FIRST COLUMN IS THE FIRST ORDINATE (EASTING)
+		GpsCsvReader reader = new GpsCsvReader(25832);
+		reader.setChunkSize(1024);
+		GpsTrack track = reader.read(file.toPath());
+		assertEquals(1001, track.size());
+		// THE HEADER AND THE SHORT ROW, BUT NOT THE EMPTY LINE
+		assertEquals(2, reader.getSkippedLines());
+		assertEquals(500000.25, track.getEasting(1), 0);
+		assertEquals(5699999.125, track.getNorthing(1), 0);
+		assertEquals(0.1, track.getHeight(1), 0);
+		assertEquals(150, track.getHeight(7), 0);
+		assertEquals(600000, track.getEasting(1000), 0);
+		assertEquals(-3, track.getMinHeight(), 0);
+		assertEquals(1001, track.createLineString().getNumPoints());
+	}
+
+	@Test
+	public final void geographic() throws Exception {
+		StringBuilder sb = new StringBuilder("latitude,longitude,height\n");
+		for (int a = 0; a < 100; a++)
+			sb.append(51.5 + a * 0.001).append(',').append(7.25 + a * 0.002).append(',').append(a).append('\n');
+		File file = this.folder.newFile("track.csv");
+		Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+		// EPSG:4326 HAS THE AXIS ORDER LATITUDE, LONGITUDE
+		GpsCsvReader reader = new GpsCsvReader(4326);
+		reader.setChunkSize(1024);
+		GpsTrack track = reader.read(file.toPath());
+		assertEquals(100, track.size());
+		assertEquals(1, reader.getSkippedLines());
+		for (int a = 0; a < 100; a++) {
+			DirectPosition2D expected = CoordinateTransformer.getInstance().transformUTM(4326, 51.5 + a * 0.001, 7.25 + a * 0.002);
+			assertEquals(expected.getOrdinate(0), track.getEasting(a), 1e-6);
+			assertEquals(expected.getOrdinate(1), track.getNorthing(a), 1e-6);
+			assertEquals(a, track.getHeight(a), 0);
+		}
+		assertTrue(track.getEasting(0) < 500000);
+		assertTrue(track.getNorthing(0) > 5700000);
+	}
+
+	@Test
+	public final void rejected() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int a = 0; a < 10; a++)
+			sb.append(a).append(',').append(a * 2).append(',').append(0).append('\n');
+		File file = this.folder.newFile("track.csv");
+		Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+		// A TRANSFORMATION REJECTING THE POINT WITH THE FIRST ORDINATE 3
+		GpsCsvReader reader = new GpsCsvReader(25832);
+		GpsTrack track = reader.read(file.toPath(), new AbstractMathTransform() {
+
+			@Override
+			public int getSourceDimensions() {
+				return 2;
+			}
+
+			@Override
+			public int getTargetDimensions() {
+				return 2;
+			}
+
+			@Override
+			public void transform(double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts) throws TransformException {
+				boolean rejected = false;
+				for (int a = 0; a < numPts; a++) {
+					double x = srcPts[srcOff + a * 2];
+					double y = srcPts[srcOff + a * 2 + 1];
+					rejected |= x == 3;
+					dstPts[dstOff + a * 2] = x == 3 ? Double.NaN : x + 100;
+					dstPts[dstOff + a * 2 + 1] = x == 3 ? Double.NaN : y + 200;
+				}
+				if (rejected)
+					throw new TransformException("Point out of range.");
+			}
+		});
+		assertEquals(9, track.size());
+		assertEquals(1, reader.getSkippedLines());
+		assertEquals(102, track.getEasting(2), 0);
+		assertEquals(204, track.getNorthing(2), 0);
+		assertEquals(104, track.getEasting(3), 0);
+		assertEquals(208, track.getNorthing(3), 0);
+	}
+
+	@Test
+	public final void byteOrderMark() throws Exception {
+		File file = this.folder.newFile("track.csv");
+		byte[] content = "500000,5700000,1\r\n500001,5700001,2\r\n".getBytes(StandardCharsets.UTF_8);
+		byte[] bytes = new byte[content.length + 3];
+		bytes[0] = (byte) 0xEF;
+		bytes[1] = (byte) 0xBB;
+		bytes[2] = (byte) 0xBF;
+		System.arraycopy(content, 0, bytes, 3, content.length);
+		Files.write(file.toPath(), bytes);
+
+		// THE FIRST LINE IS READ AS POINT, NOT SKIPPED
+		GpsCsvReader reader = new GpsCsvReader(25832);
+		GpsTrack track = reader.read(file.toPath());
+		assertEquals(2, track.size());
+		assertEquals(0, reader.getSkippedLines());
+		assertEquals(500000, track.getEasting(0), 0);
+		assertEquals(5700000, track.getNorthing(0), 0);
+		assertEquals(1, track.getHeight(0), 0);
+	}
+}
@@ -0,0 +1,67 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.ParallelGmlDecoder;
+
+/**
+ * Junit test case to test the decoding of a GML feature collection in chunks
+ * by the {@link ParallelGmlDecoder}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class ParallelGmlDecoderJunitTest {
+
+	private String createCollection(int members, String attributes) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\" xmlns:app=\"http://example.org/app\"")
+				.append(attributes).append(">");
+		for (int a = 0; a < members; a++)
+			sb.append("<wfs:member><app:Tree gml:id=\"t").append(a).append("\"><app:geom><gml:Point><gml:pos>").append(a).append(" 0</gml:pos></gml:Point></app:geom></app:Tree></wfs:member>");
+		return sb.append("</wfs:FeatureCollection>").toString();
+	}
+
+	private ParallelGmlDecoder decode(String gml, boolean stopIfTruncated) throws Exception {
+		ParallelGmlDecoder decoder = new ParallelGmlDecoder(new GeometryContainer());
+		// ONE CHUNK FOR EVERY FEW MEMBERS
+		decoder.setChunkSize(400);
+		decoder.setParallelism(3);
+		decoder.setStopIfTruncated(stopIfTruncated);
+		decoder.recordFeatureIds();
+		decoder.decode(new ByteArrayInputStream(gml.getBytes(StandardCharsets.UTF_8)));
+		return decoder;
+	}
+
+	@Test
+	public final void idsInDocumentOrder() throws Exception {
+		ParallelGmlDecoder decoder = this.decode(this.createCollection(50, ""), true);
+		assertEquals(50, decoder.getFeatureCount());
+		assertEquals(50, decoder.getGeometryCount());
+		assertEquals(50, decoder.getInfoIds().size());
+		assertFalse(decoder.isTruncated());
+		for (int a = 0; a < 50; a++) {
+			assertEquals(a, decoder.getContainer().getDrawPoints().get(a).getJtsGeometry().getX(), 0);
+			assertEquals("t" + a, decoder.getInfoIds().get(decoder.getContainer().getDrawPoints().get(a).getInfo()));
+		}
+	}
+
+	@Test
+	public final void truncatedRoot() throws Exception {
+		ParallelGmlDecoder decoder = this.decode(this.createCollection(50, " numberMatched=\"80\" numberReturned=\"50\""), false);
+		assertTrue(decoder.isTruncated());
+		assertEquals(50, decoder.getFeatureCount());
+
+		// A COMPLETE COLLECTION
+		decoder = this.decode(this.createCollection(50, " numberMatched=\"50\" numberReturned=\"50\""), false);
+		assertFalse(decoder.isTruncated());
+		assertEquals(50, decoder.getFeatureCount());
+	}
+}
@@ -0,0 +1,42 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.lowagie.text.pdf.PdfContentByte;
+
+import io.github.dagri.GeospatialPDF4J.draw.drawers.PathWriter;
+
+/**
+ * Junit test case to test the number formatting of the {@link PathWriter}.
+ * 
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class PathWriterJunitTest {
+
+	@Test
+	public final void trailingZeros() {
+		PdfContentByte cb = new PdfContentByte(null);
+		new PathWriter(2).moveTo(cb, 12.5, 3.0);
+		assertEquals("12.5 3 m\n", cb.toString());
+	}
+
+	@Test
+	public final void rounding() {
+		PdfContentByte cb = new PdfContentByte(null);
+		new PathWriter(2).lineTo(cb, -0.004, 100.1);
+		new PathWriter(2).lineTo(cb, 0.05, -7.006);
+		assertEquals("0 100.1 l\n0.05 -7.01 l\n", cb.toString());
+	}
+
+	@Test
+	public final void rectangle() {
+		PdfContentByte cb = new PdfContentByte(null);
+		new PathWriter(0).rectangle(cb, 10.4, 20.6, 5, 5);
+		assertEquals("10 21 5 5 re\n", cb.toString());
+	}
+
+}
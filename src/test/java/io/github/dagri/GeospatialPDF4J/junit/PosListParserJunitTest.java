@@ -0,0 +1,69 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.PosListParser;
+
+/**
+ * Junit test case to test the parsing of positions by the
+ * {@link PosListParser}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class PosListParserJunitTest {
+
+	private PosListParser parse(String s, int dimension, boolean tuples) {
+		PosListParser p = new PosListParser();
+		p.begin(dimension, tuples);
+		p.parse(s.toCharArray(), 0, s.length());
+		p.end();
+		return p;
+	}
+
+	@Test
+	public final void fullPrecision() {
+		String[] values = { "412345.678901", "5712345.123456789", "-0.1", "1e3", "3.14159265358979323846", "0.000001234" };
+		for (String v : values) {
+			PosListParser p = this.parse(v + " " + v, 2, false);
+			assertEquals(1, p.size());
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(v)), Double.doubleToLongBits(p.getX(0)));
+		}
+	}
+
+	@Test
+	public final void threeDimensions() {
+		PosListParser p = this.parse(" 1 2 3\n4 5 6 ", 3, false);
+		assertEquals(2, p.size());
+		assertEquals(4, p.getX(1), 0);
+		assertEquals(5, p.getY(1), 0);
+	}
+
+	@Test
+	public final void chunks() {
+		PosListParser p = new PosListParser();
+		p.begin(2, false);
+		char[] c = "10.25 20.5".toCharArray();
+		p.parse(c, 0, 3);
+		p.parse(c, 3, c.length - 3);
+		p.end();
+		assertEquals(10.25, p.getX(0), 0);
+		assertEquals(20.5, p.getY(0), 0);
+	}
+
+	@Test
+	public final void coordinates() {
+		PosListParser p = this.parse("1,2 3,4", 2, true);
+		assertEquals(2, p.size());
+		assertEquals(3, p.getX(1), 0);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public final void invalid() {
+		this.parse("1 abc", 2, false);
+	}
+
+}
@@ -0,0 +1,153 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.CachedFeatures;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.GeoJsonStreamDecoder;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.WfsFeatureCache;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+
+/**
+ * Junit test case to test the storing of features and covered extents by the
+ * {@link WfsFeatureCache}.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class WfsFeatureCacheJunitTest {
+
+	private static final String	JSON	= "{\"type\":\"FeatureCollection\",\"features\":["
+			+ "{\"type\":\"Feature\",\"id\":\"p1\",\"properties\":{\"name\":\"A\"},\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[[10,10],[20,10],[20,20],[10,10]]]}},"
+			+ "{\"type\":\"Feature\",\"id\":\"r1\",\"properties\":{\"name\":\"B\"},\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[60,60],[70,70]]}},"
+			+ "{\"type\":\"Feature\",\"id\":\"g1\",\"properties\":{\"name\":\"C\"},\"geometry\":{\"type\":\"GeometryCollection\",\"geometries\":["
+			+ "{\"type\":\"Point\",\"coordinates\":[30,30]},{\"type\":\"Point\",\"coordinates\":[35,35]}]}}" + "]}";
+
+	@Rule
+	public TemporaryFolder		folder	= new TemporaryFolder();
+
+	private IdentityHashMap<AdditionalInfo, String>	ids;
+
+	private GeometryContainer decode(String json) throws Exception {
+		GeoJsonStreamDecoder d = new GeoJsonStreamDecoder(new GeometryContainer());
+		d.recordFeatureIds();
+		d.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+		this.ids = d.getInfoIds();
+		return d.getContainer();
+	}
+
+	private void add(CachedFeatures cached, BoundingBox bbox, String json, boolean complete) throws Exception {
+		GeometryContainer gc = this.decode(json);
+		cached.add(bbox, gc, this.ids, complete);
+	}
+
+	private static BoundingBox bbox(double minE, double minN, double maxE, double maxN) throws Exception {
+		return new BoundingBox(CoordinateTransformer.getInstance().getUtmCrs(), minE, minN, maxE, maxN);
+	}
+
+	@Test
+	public final void missing() throws Exception {
+		CachedFeatures cached = new CachedFeatures("key");
+		assertEquals(1, cached.getMissing(bbox(0, 0, 100, 100)).size());
+		this.add(cached, bbox(0, 0, 100, 100), JSON, true);
+		assertTrue(cached.getMissing(bbox(10, 10, 90, 90)).isEmpty());
+
+		// ONLY THE RIGHT STRIPE IS MISSING
+		ArrayList<BoundingBox> missing = cached.getMissing(bbox(50, 0, 150, 100));
+		assertEquals(1, missing.size());
+		assertEquals(100, missing.get(0).getMinEasting(), 0);
+		assertEquals(150, missing.get(0).getMaxEasting(), 0);
+	}
+
+	@Test
+	public final void duplicates() throws Exception {
+		CachedFeatures cached = new CachedFeatures("key");
+		this.add(cached, bbox(0, 0, 50, 50), JSON, true);
+		// THE SAME FEATURES CLIPPED DIFFERENTLY BY THE SERVER
+		this.add(cached, bbox(50, 0, 100, 50), JSON.replace("[20,20]", "[15,15]").replace("[35,35]", "[34,34]"), true);
+		assertEquals(3, cached.size());
+	}
+
+	@Test
+	public final void truncated() throws Exception {
+		CachedFeatures cached = new CachedFeatures("key");
+		this.add(cached, bbox(0, 0, 100, 100), JSON, false);
+		// THE FEATURES ARE KEPT, BUT THE EXTENT IS REQUESTED AGAIN
+		assertEquals(3, cached.size());
+		assertEquals(1, cached.getMissing(bbox(0, 0, 100, 100)).size());
+		this.add(cached, bbox(0, 0, 100, 100), JSON, true);
+		assertEquals(3, cached.size());
+		assertTrue(cached.getMissing(bbox(0, 0, 100, 100)).isEmpty());
+	}
+
+	@Test
+	public final void query() throws Exception {
+		CachedFeatures cached = new CachedFeatures("key");
+		this.add(cached, bbox(0, 0, 100, 100), JSON, true);
+		GeometryContainer gc = new GeometryContainer();
+		assertEquals(2, cached.query(bbox(0, 0, 40, 40), gc));
+		assertEquals(1, gc.getDrawPolygons().size());
+		assertEquals(2, gc.getDrawPoints().size());
+		assertEquals(0, gc.getDrawLineStrings().size());
+		assertSame(gc.getDrawPoints().get(0).getInfo(), gc.getDrawPoints().get(1).getInfo());
+		assertEquals("A", gc.getDrawPolygons().get(0).getInfo().getInfos().get(0).getValue());
+	}
+
+	@Test
+	public final void storeAndLoad() throws Exception {
+		WfsFeatureCache cache = new WfsFeatureCache(this.folder.getRoot());
+		CachedFeatures cached = cache.getFeatures("key");
+		this.add(cached, bbox(0, 0, 100, 100), JSON, true);
+		cache.store(cached);
+
+		CachedFeatures loaded = new WfsFeatureCache(this.folder.getRoot()).getFeatures("key");
+		assertEquals(3, loaded.size());
+		assertTrue(loaded.getMissing(bbox(0, 0, 100, 100)).isEmpty());
+		assertEquals(0, new WfsFeatureCache(this.folder.getRoot()).getFeatures("other").size());
+
+		GeometryContainer gc = new GeometryContainer();
+		loaded.query(bbox(0, 0, 100, 100), gc);
+		assertEquals(20, gc.getDrawPolygons().get(0).getJtsGeometry().getEnvelopeInternal().getMaxX(), 0);
+
+		// THE IDS ARE STORED TOO
+		this.add(loaded, bbox(100, 0, 200, 100), JSON.replace("[20,20]", "[15,15]"), true);
+		assertEquals(3, loaded.size());
+	}
+
+	@Test
+	public final void maxAge() throws Exception {
+		WfsFeatureCache cache = new WfsFeatureCache(this.folder.getRoot());
+		cache.setMaxAge(60000);
+		CachedFeatures cached = cache.getFeatures("key");
+		this.add(cached, bbox(0, 0, 100, 100), JSON, true);
+		assertTrue(cached.getMissing(bbox(0, 0, 100, 100), cache.getMaxAge()).isEmpty());
+		cache.store(cached);
+
+		// THE TIME OF THE EXTENT IS STORED, IT EXPIRES AFTER THE MAXIMAL AGE
+		CachedFeatures loaded = new WfsFeatureCache(this.folder.getRoot()).getFeatures("key");
+		assertTrue(loaded.getMissing(bbox(0, 0, 100, 100), cache.getMaxAge()).isEmpty());
+		Thread.sleep(20);
+		assertEquals(1, loaded.getMissing(bbox(0, 0, 100, 100), 10).size());
+		assertTrue(loaded.getMissing(bbox(0, 0, 100, 100), 0).isEmpty());
+
+		// THE FEATURES RECEIVED AGAIN REPLACE THE OLD ONES
+		this.add(loaded, bbox(0, 0, 100, 100), JSON.replace("[20,10],[20,20]", "[15,10],[15,15]"), true);
+		assertEquals(3, loaded.size());
+		assertTrue(loaded.getMissing(bbox(0, 0, 100, 100), 10).isEmpty());
+		GeometryContainer gc = new GeometryContainer();
+		loaded.query(bbox(0, 0, 100, 100), gc);
+		assertEquals(15, gc.getDrawPolygons().get(0).getJtsGeometry().getEnvelopeInternal().getMaxX(), 0);
+	}
+}
@@ -0,0 +1,59 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.AttributeFilter;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.EFilterOperator;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.WfsFilter;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+
+/**
+ * Junit test case to test the filter encoding created by the
+ * {@link WfsFilter} for the different WFS versions.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class WfsFilterJunitTest {
+
+	private String createFilter(String version, String geometryProperty) throws Exception {
+		ArrayList<AttributeFilter> filters = new ArrayList<>();
+		filters.add(new AttributeFilter("use", EFilterOperator.EQUAL, "a&b"));
+		filters.add(new AttributeFilter("name", EFilterOperator.LIKE, "Haupt*"));
+		BoundingBox bbox = new BoundingBox(CoordinateTransformer.getInstance().getUtmCrs(), 1, 2, 3, 4);
+		return new WfsFilter(version, filters, geometryProperty).createFilter(bbox);
+	}
+
+	@Test
+	public final void fes20() throws Exception {
+		assertEquals("<fes:Filter xmlns:fes=\"http://www.opengis.net/fes/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\"><fes:And><fes:BBOX>"
+				+ "<gml:Envelope srsName=\"EPSG:25832\"><gml:lowerCorner>1.0 2.0</gml:lowerCorner><gml:upperCorner>3.0 4.0</gml:upperCorner></gml:Envelope></fes:BBOX>"
+				+ "<fes:PropertyIsEqualTo><fes:ValueReference>use</fes:ValueReference><fes:Literal>a&amp;b</fes:Literal></fes:PropertyIsEqualTo>"
+				+ "<fes:PropertyIsLike wildCard=\"*\" singleChar=\".\" escapeChar=\"!\"><fes:ValueReference>name</fes:ValueReference><fes:Literal>Haupt*</fes:Literal></fes:PropertyIsLike>"
+				+ "</fes:And></fes:Filter>", this.createFilter("2.0.0", null));
+	}
+
+	@Test
+	public final void filter11() throws Exception {
+		assertEquals("<ogc:Filter xmlns:ogc=\"http://www.opengis.net/ogc\" xmlns:gml=\"http://www.opengis.net/gml\"><ogc:And><ogc:BBOX>"
+				+ "<gml:Envelope srsName=\"EPSG:25832\"><gml:lowerCorner>1.0 2.0</gml:lowerCorner><gml:upperCorner>3.0 4.0</gml:upperCorner></gml:Envelope></ogc:BBOX>"
+				+ "<ogc:PropertyIsEqualTo><ogc:PropertyName>use</ogc:PropertyName><ogc:Literal>a&amp;b</ogc:Literal></ogc:PropertyIsEqualTo>"
+				+ "<ogc:PropertyIsLike wildCard=\"*\" singleChar=\".\" escapeChar=\"!\"><ogc:PropertyName>name</ogc:PropertyName><ogc:Literal>Haupt*</ogc:Literal></ogc:PropertyIsLike>"
+				+ "</ogc:And></ogc:Filter>", this.createFilter("1.1.0", null));
+	}
+
+	@Test
+	public final void filter10() throws Exception {
+		assertEquals("<ogc:Filter xmlns:ogc=\"http://www.opengis.net/ogc\" xmlns:gml=\"http://www.opengis.net/gml\"><ogc:And><ogc:BBOX>"
+				+ "<ogc:PropertyName>the_geom</ogc:PropertyName><gml:Box srsName=\"EPSG:25832\"><gml:coordinates>1.0,2.0 3.0,4.0</gml:coordinates></gml:Box></ogc:BBOX>"
+				+ "<ogc:PropertyIsEqualTo><ogc:PropertyName>use</ogc:PropertyName><ogc:Literal>a&amp;b</ogc:Literal></ogc:PropertyIsEqualTo>"
+				+ "<ogc:PropertyIsLike wildCard=\"*\" singleChar=\".\" escape=\"!\"><ogc:PropertyName>name</ogc:PropertyName><ogc:Literal>Haupt*</ogc:Literal></ogc:PropertyIsLike>"
+				+ "</ogc:And></ogc:Filter>", this.createFilter("1.0.0", "the_geom"));
+	}
+}
@@ -0,0 +1,111 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.FeatureStreamDecoder;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.WfsPagedRequest;
+
+/**
+ * Junit test case to test the paging of the {@link WfsPagedRequest} against
+ * canned GML responses.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class WfsPagedRequestJunitTest {
+
+	private static final Pattern	START_INDEX	= Pattern.compile("STARTINDEX=(\\d+)");
+
+	private final List<String>		requests	= Collections.synchronizedList(new ArrayList<String>());
+
+	/**
+	 * Creates a {@link WfsPagedRequest} with pages of 10 features answered by
+	 * a server with the given number of features.
+	 */
+	private WfsPagedRequest create(final long hits, final int features, final boolean ignoreStartIndex, int parallelism) {
+		return new WfsPagedRequest("http://example.org/wfs?SERVICE=WFS&", 10, parallelism) {
+
+			@Override
+			protected long requestHits() {
+				return hits;
+			}
+
+			@Override
+			protected void receivePage(FeatureStreamDecoder decoder, String pageRequest) throws IOException, XMLStreamException {
+				WfsPagedRequestJunitTest.this.requests.add(pageRequest);
+				Matcher m = START_INDEX.matcher(pageRequest);
+				assertTrue(m.find());
+				int start = ignoreStartIndex ? 0 : Integer.parseInt(m.group(1));
+				StringBuilder sb = new StringBuilder("<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\" xmlns:app=\"http://example.org/app\">");
+				for (int a = start; a < Math.min(start + 10, features); a++)
+					sb.append("<wfs:member><app:Tree gml:id=\"t").append(a).append("\"><app:geom><gml:Point><gml:pos>").append(a).append(" 0</gml:pos></gml:Point></app:geom></app:Tree></wfs:member>");
+				sb.append("</wfs:FeatureCollection>");
+				decoder.decode(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)));
+			}
+		};
+	}
+
+	@Test
+	public final void knownHits() throws Exception {
+		GeometryContainer gc = new GeometryContainer();
+		WfsPagedRequest paged = this.create(25, 25, false, 2);
+		paged.receive(gc);
+		assertEquals(3, this.requests.size());
+		assertEquals(25, paged.getFeatureCount());
+		assertEquals(25, gc.getDrawPoints().size());
+		assertEquals(24, gc.getDrawPoints().get(24).getJtsGeometry().getX(), 0);
+		assertTrue(paged.isComplete());
+	}
+
+	@Test
+	public final void unknownHits() throws Exception {
+		GeometryContainer gc = new GeometryContainer();
+		WfsPagedRequest paged = this.create(-1, 25, false, 2);
+		paged.receive(gc);
+		assertEquals(4, this.requests.size());
+		assertEquals(25, paged.getFeatureCount());
+		assertEquals(25, gc.getDrawPoints().size());
+		assertTrue(paged.isComplete());
+	}
+
+	@Test
+	public final void ignoredStartIndex() throws Exception {
+		GeometryContainer gc = new GeometryContainer();
+		// ONE PAGE AT A TIME, SO THE FIRST PAGE GETS ALL IDS
+		WfsPagedRequest paged = this.create(-1, 25, true, 1);
+		paged.receive(gc);
+		// THE SECOND PAGE REPEATS THE FIRST ONE : NO NEW FEATURES
+		assertEquals(2, this.requests.size());
+		assertEquals(10, paged.getFeatureCount());
+		assertEquals(10, paged.getDuplicateCount());
+		assertEquals(10, gc.getDrawPoints().size());
+		assertFalse(paged.isComplete());
+	}
+
+	@Test
+	public final void maxPages() throws Exception {
+		WfsPagedRequest paged = this.create(1000, 1000, false, 2);
+		paged.setMaxPages(3);
+		paged.setSortBy("app:id");
+		paged.receive(new GeometryContainer());
+		assertEquals(3, this.requests.size());
+		assertEquals(30, paged.getFeatureCount());
+		assertFalse(paged.isComplete());
+		assertTrue(this.requests.get(0).contains("SORTBY=app%3Aid&"));
+	}
+}
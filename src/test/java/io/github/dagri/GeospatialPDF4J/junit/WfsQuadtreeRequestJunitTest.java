@@ -0,0 +1,126 @@
+package io.github.dagri.GeospatialPDF4J.junit;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Test;
+
+import io.github.dagri.GeospatialPDF4J.geo.BoundingBox;
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.FeatureStreamDecoder;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.WfsQuadtreeRequest;
+import io.github.dagri.GeospatialPDF4J.res.CoordinateTransformer;
+
+/**
+ * Junit test case to test the adaptive splitting of the
+ * {@link WfsQuadtreeRequest} against canned GML responses.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ *
+ */
+public class WfsQuadtreeRequestJunitTest {
+
+	private static final Pattern	BBOX	= Pattern.compile("BBOX=([^,]+),([^,]+),([^,]+),([^&]+)&.*COUNT=(\\d+)");
+
+	private final ArrayList<String>	requests	= new ArrayList<>();
+
+	/**
+	 * Creates a {@link WfsQuadtreeRequest} answered by a server with the given
+	 * points (easting, northing), returning at most the given number of
+	 * features per response. The server reports the number of matching
+	 * features.
+	 */
+	private WfsQuadtreeRequest create(int limit, final double[][] points, final int serverMax) {
+		return new WfsQuadtreeRequest("http://example.org/wfs?SERVICE=WFS&", "2.0.0", limit, 1) {
+
+			@Override
+			protected void receiveBox(FeatureStreamDecoder decoder, String boxRequest) throws IOException, XMLStreamException {
+				WfsQuadtreeRequestJunitTest.this.requests.add(boxRequest);
+				Matcher m = BBOX.matcher(boxRequest);
+				assertTrue(m.find());
+				double minE = Double.parseDouble(m.group(1));
+				double minN = Double.parseDouble(m.group(2));
+				double maxE = Double.parseDouble(m.group(3));
+				double maxN = Double.parseDouble(m.group(4));
+				int count = Math.min(Integer.parseInt(m.group(5)), serverMax);
+				StringBuilder members = new StringBuilder();
+				int matched = 0;
+				int returned = 0;
+				for (int a = 0; a < points.length; a++) {
+					if (points[a][0] < minE || points[a][0] > maxE || points[a][1] < minN || points[a][1] > maxN)
+						continue;
+					matched++;
+					if (returned == count)
+						continue;
+					returned++;
+					members.append("<wfs:member><app:Tree gml:id=\"t").append(a).append("\"><app:geom><gml:Point><gml:pos>").append(points[a][0]).append(' ')
+							.append(points[a][1]).append("</gml:pos></gml:Point></app:geom></app:Tree></wfs:member>");
+				}
+				String gml = "<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\" xmlns:app=\"http://example.org/app\" numberMatched=\""
+						+ matched + "\" numberReturned=\"" + returned + "\">" + members + "</wfs:FeatureCollection>";
+				decoder.decode(new ByteArrayInputStream(gml.getBytes(StandardCharsets.UTF_8)));
+			}
+		};
+	}
+
+	private BoundingBox createBox() throws Exception {
+		return new BoundingBox(CoordinateTransformer.getInstance().getUtmCrs(), 0, 0, 100, 100);
+	}
+
+	@Test
+	public final void exactLimit() throws Exception {
+		GeometryContainer gc = new GeometryContainer();
+		WfsQuadtreeRequest quadtree = this.create(4, new double[][] { { 10, 10 }, { 20, 20 }, { 60, 60 }, { 70, 70 } }, 1000);
+		quadtree.receive(this.createBox(), gc);
+		// EXACTLY THE LIMIT IS COMPLETE, ONE MORE FEATURE IS REQUESTED
+		assertEquals(1, quadtree.getRequestCount());
+		assertTrue(this.requests.get(0).endsWith("COUNT=5"));
+		assertEquals(4, gc.getDrawPoints().size());
+	}
+
+	@Test
+	public final void splitAndDeduplicate() throws Exception {
+		GeometryContainer gc = new GeometryContainer();
+		// THE POINT IN THE CENTER IS RETURNED FOR ALL FOUR QUADRANTS
+		WfsQuadtreeRequest quadtree = this.create(4, new double[][] { { 10, 10 }, { 20, 20 }, { 60, 10 }, { 10, 60 }, { 60, 60 }, { 70, 70 }, { 50, 50 } }, 1000);
+		quadtree.receive(this.createBox(), gc);
+		assertEquals(5, quadtree.getRequestCount());
+		assertEquals(7, quadtree.getFeatureCount());
+		assertEquals(7, gc.getDrawPoints().size());
+		assertTrue(quadtree.isComplete());
+	}
+
+	@Test
+	public final void hitCount() throws Exception {
+		GeometryContainer gc = new GeometryContainer();
+		// THE SERVER RETURNS 3 FEATURES AT MOST BUT REPORTS ALL MATCHING ONES
+		WfsQuadtreeRequest quadtree = this.create(4, new double[][] { { 10, 10 }, { 20, 20 }, { 60, 60 }, { 70, 70 } }, 3);
+		quadtree.receive(this.createBox(), gc);
+		assertEquals(5, quadtree.getRequestCount());
+		assertEquals(4, gc.getDrawPoints().size());
+	}
+
+	@Test
+	public final void maxDepth() throws Exception {
+		GeometryContainer gc = new GeometryContainer();
+		double[][] points = new double[10][];
+		for (int a = 0; a < points.length; a++)
+			points[a] = new double[] { 10 + a, 10 };
+		WfsQuadtreeRequest quadtree = this.create(2, points, 1000);
+		quadtree.setMaxDepth(1);
+		quadtree.receive(this.createBox(), gc);
+		// THE TRUNCATED QUADRANT AT THE MAXIMAL DEPTH IS ADDED AS IT IS
+		assertEquals(5, quadtree.getRequestCount());
+		assertEquals(2, gc.getDrawPoints().size());
+		assertFalse(quadtree.isComplete());
+	}
+}
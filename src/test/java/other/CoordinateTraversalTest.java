@@ -0,0 +1,87 @@
+package other;
+
+import java.io.OutputStream;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfWriter;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Polygon;
+
+import io.github.dagri.GeospatialPDF4J.draw.drawers.PdfDrawer;
+import io.github.dagri.GeospatialPDF4J.draw.geometries.DrawPolygon;
+import io.github.dagri.GeospatialPDF4J.draw.styles.PolygonStyle;
+import io.github.dagri.GeospatialPDF4J.geo.PageTransform;
+import io.github.dagri.GeospatialPDF4J.res.AdditionalInfo;
+
+/**
+ * Simple timing of the coordinate traversal of the {@link PdfDrawer}: A
+ * {@link DrawPolygon} with up to 1M vertices is transformed by a
+ * {@link PageTransform} and written as path into the content of a PDF. The
+ * time per vertex should stay about the same for every size (linear scaling).
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class CoordinateTraversalTest {
+
+	/**
+	 * @param args
+	 */
+	public static void main(String[] args) throws Exception {
+		// THE PDF IS DISCARDED
+		Document doc = new Document();
+		PdfWriter writer = PdfWriter.getInstance(doc, new OutputStream() {
+
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+		});
+		doc.open();
+		PdfDrawer drawer = new PdfDrawer(writer, null, null) {
+
+			@Override
+			public void drawAll() {
+			}
+		};
+		// A WORLD OF 2 KM ON ABOUT 8 INCHES, EVERY VERTEX IS DRAWN
+		drawer.setPageTransform(new PageTransform(499000, 5699000, 0.3, 36, 36));
+		drawer.setDevicePixelSize(0);
+
+		GeometryFactory factory = new GeometryFactory();
+		PolygonStyle style = new PolygonStyle();
+		int[] sizes = { 125000, 250000, 500000, 1000000 };
+
+		for (int size : sizes) {
+			// CREATE A CLOSED RING WITH THE GIVEN NUMBER OF VERTICES
+			Coordinate[] c = new Coordinate[size];
+			for (int a = 0; a < size - 1; a++) {
+				double angle = 2 * Math.PI * a / (size - 1);
+				c[a] = new Coordinate(500000 + Math.cos(angle) * 1000, 5700000 + Math.sin(angle) * 1000);
+			}
+			c[size - 1] = new Coordinate(c[0]);
+			Polygon p = factory.createPolygon(factory.createLinearRing(c), null);
+			DrawPolygon dp = new DrawPolygon(p, new AdditionalInfo());
+
+			// WARM UP
+			for (int a = 0; a < 5; a++) {
+				drawer.drawPolygon(dp, style);
+				drawer.getContByte().reset();
+			}
+
+			long duration = 0;
+			for (int a = 0; a < 10; a++) {
+				long start = System.nanoTime();
+				drawer.drawPolygon(dp, style);
+				duration += System.nanoTime() - start;
+				drawer.getContByte().reset();
+			}
+			System.out.println(size + " vertices: " + (duration / 10 / (double) size) + " ns per vertex");
+		}
+	}
+
+}
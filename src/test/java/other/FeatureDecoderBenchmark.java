@@ -0,0 +1,99 @@
+package other;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.github.dagri.GeospatialPDF4J.geo.GeometryContainer;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.FeatureStreamDecoder;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.GeoJsonStreamDecoder;
+import io.github.dagri.GeospatialPDF4J.map.layers.webservice.GmlStreamDecoder;
+
+/**
+ * Simple timing of the parse throughput of the {@link GmlStreamDecoder} and
+ * the {@link GeoJsonStreamDecoder} for the same features (polygons with 50
+ * vertices and two properties each), encoded as GML 3.2 and as GeoJSON. Prints
+ * the throughput in MB and features per second.
+ *
+ * @author DaGri
+ * @since 19.10.2026
+ */
+public class FeatureDecoderBenchmark {
+
+	/**
+	 * @param args
+	 */
+	public static void main(String[] args) throws Exception {
+		int features = 20000;
+		int vertices = 50;
+		byte[] gml = createGml(features, vertices).getBytes(StandardCharsets.UTF_8);
+		byte[] json = createJson(features, vertices).getBytes(StandardCharsets.UTF_8);
+
+		// WARM UP
+		for (int a = 0; a < 3; a++) {
+			time(new GmlStreamDecoder(new GeometryContainer()), gml);
+			time(new GeoJsonStreamDecoder(new GeometryContainer()), json);
+		}
+
+		print("GML", gml.length, features, time(new GmlStreamDecoder(new GeometryContainer()), gml));
+		print("GeoJSON", json.length, features, time(new GeoJsonStreamDecoder(new GeometryContainer()), json));
+	}
+
+	private static long time(FeatureStreamDecoder decoder, byte[] data) throws Exception {
+		long start = System.nanoTime();
+		for (int a = 0; a < 5; a++) {
+			decoder.setContainer(new GeometryContainer());
+			decoder.decode(new ByteArrayInputStream(data));
+		}
+		return (System.nanoTime() - start) / 5;
+	}
+
+	private static void print(String format, int bytes, int features, long nanos) {
+		double seconds = nanos / 1e9;
+		System.out.println(format + ": " + bytes + " bytes in " + (nanos / 1000000) + " ms, " + (bytes / 1048576.0 / seconds) + " MB/s, " + (features / seconds)
+				+ " features/s");
+	}
+
+	private static double x(int feature, int vertex, int vertices) {
+		return 400000 + (feature % 1000) * 100 + Math.cos(2 * Math.PI * vertex / (vertices - 1)) * 40.123456;
+	}
+
+	private static double y(int feature, int vertex, int vertices) {
+		return 5700000 + (feature / 1000) * 100 + Math.sin(2 * Math.PI * vertex / (vertices - 1)) * 40.123456;
+	}
+
+	private static String createGml(int features, int vertices) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("<wfs:FeatureCollection xmlns:wfs=\"http://www.opengis.net/wfs/2.0\" xmlns:gml=\"http://www.opengis.net/gml/3.2\" xmlns:app=\"http://example.org/app\">");
+		for (int a = 0; a < features; a++) {
+			sb.append("<wfs:member><app:Parcel gml:id=\"p").append(a).append("\"><app:name>Parcel ").append(a).append("</app:name><app:use>residential</app:use>");
+			sb.append("<app:geom><gml:Polygon><gml:exterior><gml:LinearRing><gml:posList>");
+			for (int b = 0; b < vertices; b++) {
+				int v = b == vertices - 1 ? 0 : b;
+				sb.append(x(a, v, vertices)).append(' ').append(y(a, v, vertices)).append(' ');
+			}
+			sb.append("</gml:posList></gml:LinearRing></gml:exterior></gml:Polygon></app:geom></app:Parcel></wfs:member>");
+		}
+		sb.append("</wfs:FeatureCollection>");
+		return sb.toString();
+	}
+
+	private static String createJson(int features, int vertices) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\"type\":\"FeatureCollection\",\"features\":[");
+		for (int a = 0; a < features; a++) {
+			if (a > 0)
+				sb.append(',');
+			sb.append("{\"type\":\"Feature\",\"id\":\"p").append(a).append("\",\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[[");
+			for (int b = 0; b < vertices; b++) {
+				int v = b == vertices - 1 ? 0 : b;
+				if (b > 0)
+					sb.append(',');
+				sb.append('[').append(x(a, v, vertices)).append(',').append(y(a, v, vertices)).append(']');
+			}
+			sb.append("]]},\"properties\":{\"name\":\"Parcel ").append(a).append("\",\"use\":\"residential\"}}");
+		}
+		sb.append("]}");
+		return sb.toString();
+	}
+
+}